@@ -0,0 +1,84 @@
+package com.example.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.OnlineBankacilik.dto.AccountResponseDto;
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.entity.FixedDepositAccount;
+import com.example.OnlineBankacilik.entity.FuturesAccount;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.service.impl.AccountServiceImpl;
+
+/**
+ * AccountServiceImpl.toDto: her hesap okuma/yazma cevabında çalışan entity -> DTO dönüşümü
+ * Metot private olduğundan üretim koduna dokunmadan MethodHandle ile çağrılır
+ * (toDto alan kullanmaz; servis bağımlılıkları null verilir).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountMappingBenchmark {
+
+	private static final MethodHandle TO_DTO;
+
+	static {
+		try {
+			TO_DTO = MethodHandles.privateLookupIn(AccountServiceImpl.class, MethodHandles.lookup())
+					.findVirtual(AccountServiceImpl.class, "toDto",
+							MethodType.methodType(AccountResponseDto.class, Account.class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@Param({ "VADESIZ", "VADELI" })
+	public String accountType;
+
+	private AccountServiceImpl service;
+	private Account account;
+
+	@Setup
+	public void setUp() {
+		service = new AccountServiceImpl(null, null, null, null, null, null, null, null, null, null);
+		if ("VADELI".equals(accountType)) {
+			FuturesAccount futures = new FuturesAccount();
+			futures.setInterestRate(new BigDecimal("0.05"));
+			futures.setMaturityMonth(12);
+			futures.setMaturityDate(LocalDate.of(2027, 3, 14));
+			account = futures;
+		} else {
+			account = new FixedDepositAccount();
+		}
+		account.setAccountNo("10017");
+		account.setCustomerId(42L);
+		account.setAmount(Money.of("11250.75"));
+		account.setOpeningDate(LocalDateTime.of(2026, 3, 14, 10, 15, 30));
+		account.setActive(true);
+	}
+
+	@Benchmark
+	public AccountResponseDto toDto() throws Throwable {
+		return (AccountResponseDto) TO_DTO.invokeExact(service, account);
+	}
+}
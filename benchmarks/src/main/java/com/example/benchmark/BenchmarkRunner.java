@@ -0,0 +1,41 @@
+package com.example.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark giriş noktası (java -jar benchmarks/target/benchmarks.jar)
+ * Varsayılanlar: GC profiler açık (gc.alloc.rate.norm = işlem başına byte) ve sonuçlar
+ * JSON olarak target/jmh-result.json dosyasına yazılır.
+ * Standart JMH argümanları geçerlidir ve varsayılanları ezer; örneğin:
+ * java -jar benchmarks/target/benchmarks.jar JwtValidationBenchmark -p extraClaims=8 -rff baseline.json
+ */
+public final class BenchmarkRunner {
+
+	static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine)
+				.addProfiler(GCProfiler.class);
+		if (!commandLine.getResult().hasValue()) {
+			Path resultFile = Path.of(DEFAULT_RESULT_FILE);
+			Files.createDirectories(resultFile.toAbsolutePath().getParent());
+			options.result(resultFile.toString());
+		}
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		new Runner(options.build()).run();
+	}
+}
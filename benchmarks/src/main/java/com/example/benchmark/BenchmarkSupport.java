@@ -0,0 +1,23 @@
+package com.example.benchmark;
+
+import java.lang.reflect.Field;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Spring context kurmadan bileşen hazırlamak için yardımcılar (@Value alanları vb.)
+ */
+final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	static void setField(Object target, String name, Object value) {
+		Field field = ReflectionUtils.findField(target.getClass(), name);
+		if (field == null) {
+			throw new IllegalArgumentException(target.getClass().getSimpleName() + " alanı bulunamadı: " + name);
+		}
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, target, value);
+	}
+}
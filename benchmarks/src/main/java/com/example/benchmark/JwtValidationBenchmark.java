@@ -0,0 +1,61 @@
+package com.example.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.gateway.util.JwtUtil;
+
+/**
+ * JwtUtil token doğrulama maliyeti; token boyutu ekstra claim sayısı ile parametrelenir.
+ * authenticate, AuthenticationFilter'ın her korumalı istekte yaptığı çağrı dizisidir
+ * (validateToken + getUsernameFromToken).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+	@Param({ "0", "8", "32" })
+	public int extraClaims;
+
+	private JwtUtil jwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil();
+		BenchmarkSupport.setField(jwtUtil, "secret", "benchmark-secret-key-that-is-at-least-256-bits-long!!");
+		BenchmarkSupport.setField(jwtUtil, "expiration", 86_400_000L);
+		Map<String, Object> claims = new HashMap<>();
+		for (int i = 0; i < extraClaims; i++) {
+			claims.put("claim" + i, "value-" + i);
+		}
+		token = jwtUtil.generateToken("benchmark-user", claims);
+	}
+
+	@Benchmark
+	public Boolean validateToken() {
+		return jwtUtil.validateToken(token);
+	}
+
+	@Benchmark
+	public String authenticate() {
+		return jwtUtil.validateToken(token) ? jwtUtil.getUsernameFromToken(token) : null;
+	}
+}
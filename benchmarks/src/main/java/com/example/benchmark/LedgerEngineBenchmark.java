@@ -0,0 +1,126 @@
+package com.example.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.entity.FixedDepositAccount;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
+import com.example.OnlineBankacilik.ledger.LedgerEntry;
+import com.example.OnlineBankacilik.ledger.LedgerStore;
+import com.example.OnlineBankacilik.money.Money;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Ledger motoru benchmark'ı: partition sayısına göre yatırma throughput'u ve onay gecikmesi
+ * DB tarafı bellekte tutulur (ölçülen yol ring + journal yazımı + onay); fsync=true gerçek disk
+ * gecikmesini içerir. Ölçeklenme için çok çekirdekli makinede -t ile thread sayısı artırılarak çalıştırılmalı.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LedgerEngineBenchmark {
+
+	private static final int ACCOUNTS = 1024;
+
+	@Param({ "1", "4" })
+	private int partitions;
+
+	@Param({ "false", "true" })
+	private boolean fsync;
+
+	private Path journalDir;
+	private LedgerEngine engine;
+	private String[] accountNos;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		journalDir = Files.createTempDirectory("ledger-bench");
+		Map<String, Account> accounts = new HashMap<>();
+		accountNos = new String[ACCOUNTS];
+		for (int i = 0; i < ACCOUNTS; i++) {
+			FixedDepositAccount account = new FixedDepositAccount();
+			account.setAccountNo(String.valueOf(100_000 + i));
+			account.setCustomerId(1L);
+			account.setAmount(Money.ZERO);
+			accounts.put(account.getAccountNo(), account);
+			accountNos[i] = account.getAccountNo();
+		}
+		engine = new LedgerEngine(new InMemoryStore(accounts), new SimpleMeterRegistry(), partitions, 8192, 256,
+				Duration.ofSeconds(5), journalDir.toString(), fsync, DataSize.ofMegabytes(64), 500);
+		engine.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		engine.stop();
+		try (Stream<Path> files = Files.walk(journalDir)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Benchmark
+	public Object deposit() {
+		String accountNo = accountNos[ThreadLocalRandom.current().nextInt(ACCOUNTS)];
+		return engine.deposit(accountNo, Money.ofMinor(100));
+	}
+
+	/**
+	 * Hesapları bellekten yükler, uygulanan kayıtları atar
+	 */
+	private static final class InMemoryStore implements LedgerStore {
+
+		private final Map<String, Account> accounts;
+
+		private InMemoryStore(Map<String, Account> accounts) {
+			this.accounts = accounts;
+		}
+
+		@Override
+		public Optional<Account> load(String accountNo) {
+			return Optional.ofNullable(accounts.get(accountNo));
+		}
+
+		@Override
+		public long checkpoint(int partition) {
+			return 0;
+		}
+
+		@Override
+		public void apply(int partition, List<LedgerEntry> entries) {
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+
+import com.example.gateway.filter.RequestResponseLoggingFilter;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * RequestResponseLoggingFilter gövde kopyalama maliyeti; gövde boyutu parametredir.
+ * request: gövdeli POST, filtre isteği birleştirip byte[]'a ve String'e kopyalar.
+ * response: GET, filtre cevap buffer'larını byte[]'a ve String'e kopyalayıp yeniden sarar.
+ * baseline aynı exchange/chain'i filtresiz çalıştırır; fark filtrenin maliyetidir.
+ * Log seviyesi WARN'dır (logback.xml): ölçülen, log yazımı değil kopyalamadır.
+ * Codec/session altyapısı paylaşılır; her exchange için yeniden kurulması ölçümü boğuyordu.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingFilterBenchmark {
+
+	private static final DefaultDataBufferFactory BUFFERS = DefaultDataBufferFactory.sharedInstance;
+	private static final byte[] SMALL_RESPONSE = "{\"status\":\"OK\"}".getBytes(StandardCharsets.UTF_8);
+	private static final ServerCodecConfigurer CODECS = ServerCodecConfigurer.create();
+	private static final DefaultWebSessionManager SESSIONS = new DefaultWebSessionManager();
+	private static final AcceptHeaderLocaleContextResolver LOCALES = new AcceptHeaderLocaleContextResolver();
+
+	@Param({ "request", "response" })
+	public String direction;
+
+	@Param({ "256", "4096", "65536" })
+	public int bodySize;
+
+	private RequestResponseLoggingFilter filter;
+	private GatewayFilterChain chain;
+	private byte[] body;
+
+	@Setup
+	public void setUp() {
+		filter = new RequestResponseLoggingFilter();
+		body = new byte[bodySize];
+		Arrays.fill(body, (byte) 'a');
+		if ("request".equals(direction)) {
+			// Downstream gibi istek gövdesini tüketip küçük bir cevap yazar
+			chain = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+					.doOnNext(DataBufferUtils::release)
+					.then(exchange.getResponse().writeWith(Flux.just(BUFFERS.wrap(SMALL_RESPONSE))));
+		} else {
+			chain = exchange -> exchange.getResponse().writeWith(Flux.just(BUFFERS.wrap(body)));
+		}
+	}
+
+	@Benchmark
+	public ServerWebExchange filter() {
+		ServerWebExchange exchange = exchange();
+		filter.filter(exchange, chain).block();
+		return exchange;
+	}
+
+	@Benchmark
+	public ServerWebExchange baseline() {
+		ServerWebExchange exchange = exchange();
+		chain.filter(exchange).block();
+		return exchange;
+	}
+
+	private ServerWebExchange exchange() {
+		ServerHttpRequest request;
+		if ("request".equals(direction)) {
+			request = MockServerHttpRequest.post("/account-service/accounts/postings/batch")
+					.contentType(MediaType.APPLICATION_JSON)
+					.contentLength(body.length)
+					.body(Flux.just(BUFFERS.wrap(body)));
+		} else {
+			request = MockServerHttpRequest.get("/account-service/accounts").build();
+		}
+		return new DefaultServerWebExchange(request, new MockServerHttpResponse(), SESSIONS, CODECS, LOCALES);
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Bakiye aritmetiği benchmark'ı: önceki BigDecimal yolu ile Money (long kuruş)
+ * Yatırma (bakiye + tutar), çekme (karşılaştırma + çıkarma) ve faiz (oran çarpımı + kuruşa yuvarlama)
+ * gc.alloc.rate.norm (BenchmarkRunner GC profiler ile çalıştırır) işlem başına ayrılan byte'ı gösterir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+	private BigDecimal decimalBalance;
+	private BigDecimal decimalAmount;
+	private BigDecimal interestRate;
+	private Money moneyBalance;
+	private Money moneyAmount;
+
+	@Setup
+	public void setUp() {
+		decimalBalance = new BigDecimal("10000.00");
+		decimalAmount = new BigDecimal("1250.75");
+		interestRate = new BigDecimal("0.0375");
+		moneyBalance = Money.of(decimalBalance);
+		moneyAmount = Money.of(decimalAmount);
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimalDeposit() {
+		return decimalBalance.add(decimalAmount);
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimalWithdraw() {
+		if (decimalBalance.compareTo(decimalAmount) < 0) {
+			throw new IllegalStateException();
+		}
+		return decimalBalance.subtract(decimalAmount);
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimalInterest() {
+		return decimalBalance.add(decimalBalance.multiply(interestRate)).setScale(2, RoundingMode.HALF_UP);
+	}
+
+	@Benchmark
+	public Money moneyDeposit() {
+		return moneyBalance.plus(moneyAmount);
+	}
+
+	@Benchmark
+	public Money moneyWithdraw() {
+		if (moneyBalance.isLessThan(moneyAmount)) {
+			throw new IllegalStateException();
+		}
+		return moneyBalance.minus(moneyAmount);
+	}
+
+	@Benchmark
+	public Money moneyInterest() {
+		return moneyBalance.plus(moneyBalance.multiply(interestRate, Money.INTEREST_ROUNDING));
+	}
+}
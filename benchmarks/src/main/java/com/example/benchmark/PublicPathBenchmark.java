@@ -0,0 +1,79 @@
+package com.example.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.gateway.filter.AuthenticationFilter;
+
+/**
+ * AuthenticationFilter.isPublicPath: gateway'den geçen her istekte çalışır.
+ * Üç durum ölçülür: actuator (erken dönüş), listedeki son public path (tam tarama + eşleşme)
+ * ve korumalı path (tam tarama, eşleşme yok). Public path sayısı parametredir.
+ * Metot private olduğundan MethodHandle ile çağrılır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicPathBenchmark {
+
+	private static final MethodHandle IS_PUBLIC_PATH;
+
+	static {
+		try {
+			IS_PUBLIC_PATH = MethodHandles.privateLookupIn(AuthenticationFilter.class, MethodHandles.lookup())
+					.findVirtual(AuthenticationFilter.class, "isPublicPath",
+							MethodType.methodType(boolean.class, String.class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@Param({ "4", "32" })
+	public int publicPathCount;
+
+	private AuthenticationFilter filter;
+	private String lastPublicPath;
+
+	@Setup
+	public void setUp() {
+		filter = new AuthenticationFilter(null);
+		String[] publicPaths = IntStream.range(0, publicPathCount)
+				.mapToObj(i -> "/public-" + i + "/")
+				.toArray(String[]::new);
+		BenchmarkSupport.setField(filter, "publicPaths", publicPaths);
+		lastPublicPath = publicPaths[publicPaths.length - 1] + "resource";
+	}
+
+	@Benchmark
+	public boolean actuatorPath() throws Throwable {
+		return (boolean) IS_PUBLIC_PATH.invokeExact(filter, "/customer-service/actuator/health");
+	}
+
+	@Benchmark
+	public boolean publicPath() throws Throwable {
+		return (boolean) IS_PUBLIC_PATH.invokeExact(filter, lastPublicPath);
+	}
+
+	@Benchmark
+	public boolean protectedPath() throws Throwable {
+		return (boolean) IS_PUBLIC_PATH.invokeExact(filter, "/account-service/accounts/10017/deposit");
+	}
+}
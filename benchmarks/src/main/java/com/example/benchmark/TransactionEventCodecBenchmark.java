@@ -0,0 +1,78 @@
+package com.example.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.OnlineBankacilik.codec.TransactionEventCodecs;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * TransactionProducer serileştirme yolu: TransactionEventCodecs.encode/decode (app.kafka.event-codec = json | binary)
+ * ObjectMapper Spring Boot varsayılanlarıyla (Jackson2ObjectMapperBuilder) kurulur.
+ * Event başına payload boyutu payloadBytes yardımcı sayacı olarak raporlanır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionEventCodecBenchmark {
+
+	@Param({ "json", "binary" })
+	public String codec;
+
+	private TransactionEventCodecs codecs;
+	private TransactionEvent event;
+	private byte[] payload;
+
+	@Setup
+	public void setUp() {
+		codecs = new TransactionEventCodecs(Jackson2ObjectMapperBuilder.json().build(), codec);
+		event = new TransactionEvent("TXN-20260314-000042", "10017", 42L, TransactionType.YATIRMA,
+				Money.of("1250.75"), Money.of("10000.00"), Money.of("11250.75"), true,
+				LocalDateTime.of(2026, 3, 14, 10, 15, 30, 123_456_000));
+		payload = codecs.encode(event);
+	}
+
+	@Benchmark
+	public byte[] encode(PayloadSize size) {
+		byte[] encoded = codecs.encode(event);
+		size.payloadBytes = encoded.length;
+		return encoded;
+	}
+
+	@Benchmark
+	public TransactionEvent decode() {
+		return codecs.decode(payload);
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PayloadSize {
+
+		public long payloadBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			payloadBytes = 0;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import com.example.OnlineBankacilik.client.CustomerDirectory;
+import com.example.OnlineBankacilik.dto.CustomerChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CustomerEventConsumer {
+
+	private final CustomerDirectory customerDirectory;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Müşteri değişiklik event'leri (customer-service)
+	 * Cache her instance'ta yerel olduğu için her instance tüm event'leri almalıdır: group ID instance'a özeldir
+	 * (host adından türetilir, restart'ta aynı kalır) ve ilk okuma en güncel offset'ten başlar.
+	 * Bozuk mesaj atlanır; ilgili entry TTL sonunda customer-service'ten yeniden yüklenir.
+	 */
+	@KafkaListener(
+		topics = "${app.kafka.customer-topic:customer-events}",
+		groupId = "${app.kafka.consumer-groups.customer-cache-group:"
+				+ "${spring.application.name}-customer-cache-${HOSTNAME:local}}",
+		properties = "auto.offset.reset=latest"
+	)
+	public void consume(byte[] payload) {
+		try {
+			customerDirectory.apply(objectMapper.readValue(payload, CustomerChangedEvent.class));
+		} catch (Exception e) {
+			log.warn("[CUSTOMER EVENT] Mesaj işlenemedi, atlanıyor", e);
+		}
+	}
+}
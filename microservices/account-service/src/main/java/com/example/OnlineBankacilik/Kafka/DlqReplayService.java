@@ -0,0 +1,232 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.OnlineBankacilik.dto.DlqReplayStatusDto;
+import com.example.OnlineBankacilik.enums.DlqReplayStatus;
+import com.example.OnlineBankacilik.exception.DlqReplayInProgressException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLQ replay
+ * DLQ'daki mesajlar ayrı bir consumer group ile okunur ve x-original-topic header'ındaki
+ * kaynak topic'e (yoksa transaction topic'ine) deneme sayacı sıfırlanmış olarak geri gönderilir.
+ * Gönderim hızı ratePerSecond ile sınırlandırılır; offset'ler sadece gönderimler onaylandıktan
+ * sonra commit edilir. Aynı anda tek bir replay çalışabilir.
+ * Replay arka plandaki tek bir thread'de çalışır; istek hemen döner, ilerleme status ile izlenir
+ * (son replay'in durumu bellekte tutulur).
+ */
+@Slf4j
+@Service
+public class DlqReplayService {
+
+	private static final int MAX_EMPTY_POLLS = 3;
+
+	private final ObjectProvider<ConsumerFactory<Object, Object>> consumerFactory;
+	private final KafkaTemplate<String, byte[]> kafkaTemplate;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final ExecutorService executor = Executors
+			.newSingleThreadExecutor(Thread.ofPlatform().name("dlq-replay").daemon().factory());
+	private volatile ReplayRun lastRun;
+
+	@Value("${app.kafka.dlq-topic:transaction-events-dlq}")
+	private String dlqTopic;
+
+	@Value("${app.kafka.transaction-topic:transaction-events}")
+	private String transactionTopic;
+
+	@Value("${app.kafka.consumer-groups.dlq-replay-group:dlq-replay-group}")
+	private String replayGroupId;
+
+	@Value("${app.kafka.retry.replay.default-rate-per-second:50}")
+	private int defaultRatePerSecond = 50;
+
+	@Value("${app.kafka.retry.replay.max-rate-per-second:500}")
+	private int maxRatePerSecond = 500;
+
+	@Value("${app.kafka.retry.replay.poll-timeout-ms:1000}")
+	private long pollTimeoutMs = 1000;
+
+	@Value("${app.kafka.retry.replay.send-timeout-ms:10000}")
+	private long sendTimeoutMs = 10000;
+
+	public DlqReplayService(ObjectProvider<ConsumerFactory<Object, Object>> consumerFactory,
+			KafkaTemplate<String, byte[]> kafkaTemplate) {
+		this.consumerFactory = consumerFactory;
+		this.kafkaTemplate = kafkaTemplate;
+	}
+
+	/**
+	 * Replay'i arka planda başlatır ve başlangıç durumunu döner
+	 */
+	public DlqReplayStatusDto replay(int maxMessages, Integer ratePerSecond) {
+		int rate = Math.min(Math.max(1, ratePerSecond != null ? ratePerSecond : defaultRatePerSecond), maxRatePerSecond);
+		if (!running.compareAndSet(false, true)) {
+			throw new DlqReplayInProgressException();
+		}
+		ReplayRun run = new ReplayRun(UUID.randomUUID().toString(), Math.max(0, maxMessages), rate);
+		lastRun = run;
+		try {
+			executor.submit(() -> execute(run));
+		} catch (RejectedExecutionException e) {
+			running.set(false);
+			throw e;
+		}
+		log.info("[DLQ REPLAY] Başlatıldı: id={}, max={}, hız={}/sn", run.replayId, run.maxMessages, rate);
+		return run.toDto();
+	}
+
+	public Optional<DlqReplayStatusDto> status(String replayId) {
+		ReplayRun run = lastRun;
+		return run != null && run.replayId.equals(replayId) ? Optional.of(run.toDto()) : Optional.empty();
+	}
+
+	private void execute(ReplayRun run) {
+		try (Consumer<Object, Object> consumer = consumerFactory.getObject().createConsumer(replayGroupId, "-replay")) {
+			consumer.subscribe(List.of(dlqTopic));
+			replay(consumer, run.maxMessages, run.ratePerSecond, run.replayed);
+			run.complete(DlqReplayStatus.COMPLETED, null);
+			log.info("[DLQ REPLAY] Tamamlandı: id={}, mesaj={}, hız={}/sn, süre={}ms", run.replayId,
+					run.replayed.get(), run.ratePerSecond, run.durationMs());
+		} catch (Exception e) {
+			run.complete(DlqReplayStatus.FAILED, e.getMessage());
+			log.error("[DLQ REPLAY] Başarısız: id={}, gönderilen={}", run.replayId, run.replayed.get(), e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	int replay(Consumer<Object, Object> consumer, int maxMessages, int ratePerSecond, AtomicInteger progress) {
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+		long nextSendAt = System.nanoTime();
+		int replayed = 0;
+		int emptyPolls = 0;
+
+		while (replayed < maxMessages && emptyPolls < MAX_EMPTY_POLLS && !Thread.currentThread().isInterrupted()) {
+			ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(pollTimeoutMs));
+			if (records.isEmpty()) {
+				emptyPolls++;
+				continue;
+			}
+			emptyPolls = 0;
+
+			Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+			List<CompletableFuture<?>> sends = new ArrayList<>();
+			for (ConsumerRecord<Object, Object> record : records) {
+				if (replayed >= maxMessages) {
+					// Limit aşıldı; commit edilmeyen kayıtlar bir sonraki replay'de tekrar okunur
+					break;
+				}
+				nextSendAt = throttle(nextSendAt, intervalNanos);
+				sends.add(kafkaTemplate.send(toOriginalTopic(record)));
+				offsets.put(new TopicPartition(record.topic(), record.partition()),
+						new OffsetAndMetadata(record.offset() + 1));
+				replayed++;
+			}
+
+			// Gönderimler onaylanmadan offset commit edilmez; hata durumunda mesajlar DLQ'da kalır
+			CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).orTimeout(sendTimeoutMs, TimeUnit.MILLISECONDS)
+					.join();
+			consumer.commitSync(offsets);
+			progress.set(replayed);
+		}
+		return replayed;
+	}
+
+	private ProducerRecord<String, byte[]> toOriginalTopic(ConsumerRecord<Object, Object> record) {
+		String originalTopic = NotificationRetryRouter.header(record.headers(),
+				NotificationRetryRouter.ORIGINAL_TOPIC_HEADER);
+		String target = originalTopic != null ? originalTopic : transactionTopic;
+		// Header'lar taşınmaz: deneme sayacı sıfırlanır, mesaj tekrar tüm retry kademelerinden geçebilir
+		return new ProducerRecord<>(target, (String) record.key(), (byte[]) record.value());
+	}
+
+	private static long throttle(long nextSendAt, long intervalNanos) {
+		long wait = nextSendAt - System.nanoTime();
+		if (wait > 0) {
+			LockSupport.parkNanos(wait);
+			return nextSendAt + intervalNanos;
+		}
+		// Geride kalındıysa birikmiş süre patlama (burst) olarak kullanılmaz
+		return System.nanoTime() + intervalNanos;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static final class ReplayRun {
+		private final String replayId;
+		private final int maxMessages;
+		private final int ratePerSecond;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startNanos = System.nanoTime();
+		private final AtomicInteger replayed = new AtomicInteger();
+		private volatile DlqReplayStatus status = DlqReplayStatus.RUNNING;
+		private volatile LocalDateTime completedAt;
+		private volatile long durationMs = -1;
+		private volatile String error;
+
+		private ReplayRun(String replayId, int maxMessages, int ratePerSecond) {
+			this.replayId = replayId;
+			this.maxMessages = maxMessages;
+			this.ratePerSecond = ratePerSecond;
+		}
+
+		private void complete(DlqReplayStatus result, String message) {
+			durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+			completedAt = LocalDateTime.now();
+			error = message;
+			status = result;
+		}
+
+		private long durationMs() {
+			long completed = durationMs;
+			return completed >= 0 ? completed : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		}
+
+		private DlqReplayStatusDto toDto() {
+			DlqReplayStatusDto dto = new DlqReplayStatusDto();
+			dto.setReplayId(replayId);
+			dto.setStatus(status);
+			dto.setMaxMessages(maxMessages);
+			dto.setReplayed(replayed.get());
+			dto.setRatePerSecond(ratePerSecond);
+			dto.setStartedAt(startedAt);
+			dto.setCompletedAt(completedAt);
+			dto.setDurationMs(durationMs());
+			dto.setError(error);
+			return dto;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retry topic consumer
+ * Kaydın x-not-before zamanı gelmemişse thread uyutulmaz: offset'e geri seek edilir, partition
+ * bekleme süresi kadar pause edilir ve süre dolunca resume edilir. Diğer partition'lar ve ana
+ * transaction topic'i bu sırada işlenmeye devam eder. Tekrar başarısız olan kayıt bir sonraki
+ * kademeye (veya DLQ'ya) yönlendirilir; yönlendirme onaylanmadan ack edilmez.
+ */
+@Slf4j
+@Service
+public class NotificationRetryConsumer extends AbstractConsumerSeekAware {
+
+	static final String LISTENER_ID = "notification-retry";
+
+	private final TransactionNotificationHandler handler;
+	private final NotificationRetryRouter router;
+	private final ObjectProvider<KafkaListenerEndpointRegistry> registry;
+	private final Map<TopicPartition, Long> waitingPartitions = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService resumeScheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("notification-retry-resume").daemon().factory());
+
+	public NotificationRetryConsumer(TransactionNotificationHandler handler, NotificationRetryRouter router,
+			ObjectProvider<KafkaListenerEndpointRegistry> registry) {
+		this.handler = handler;
+		this.router = router;
+		this.registry = registry;
+	}
+
+	@KafkaListener(
+		id = LISTENER_ID,
+		topics = "#{@notificationRetryRouter.tierTopics()}",
+		groupId = "${app.kafka.consumer-groups.retry-group:notification-retry-group}",
+		containerFactory = "retryKafkaListenerContainerFactory"
+	)
+	public void consume(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+		TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+		if (waitingPartitions.containsKey(partition)) {
+			// Aynı poll'dan gelen, beklemedeki partition'a ait kayıt; seek sonrası tekrar teslim edilecek
+			return;
+		}
+
+		long notBefore = NotificationRetryRouter.notBefore(record.headers());
+		long delay = notBefore - System.currentTimeMillis();
+		if (delay > 0) {
+			deferPartition(partition, record.offset(), delay);
+			return;
+		}
+
+		try {
+			handler.handle(record.value());
+			log.info("[RETRY] Mesaj tekrar denemede işlendi: topic={}, key={}, deneme={}", record.topic(),
+					record.key(), NotificationRetryRouter.attempt(record.headers()));
+		} catch (Exception e) {
+			log.error("[RETRY] Tekrar deneme başarısız: topic={}, key={}", record.topic(), record.key(), e);
+			// Yönlendirme başarısızsa exception yukarı çıkar, kayıt ack edilmeden tekrar teslim edilir
+			router.route(record, e);
+		}
+		acknowledgment.acknowledge();
+	}
+
+	private void deferPartition(TopicPartition partition, long offset, long delayMs) {
+		waitingPartitions.put(partition, offset);
+		ConsumerSeekCallback callback = getSeekCallbackFor(partition);
+		if (callback != null) {
+			callback.seek(partition.topic(), partition.partition(), offset);
+		}
+		MessageListenerContainer container = container();
+		if (container != null) {
+			container.pausePartition(partition);
+		}
+		resumeScheduler.schedule(() -> resumePartition(partition), delayMs, TimeUnit.MILLISECONDS);
+		log.debug("[RETRY] Partition beklemeye alındı: partition={}, offset={}, bekleme={}ms", partition, offset,
+				delayMs);
+	}
+
+	private void resumePartition(TopicPartition partition) {
+		if (waitingPartitions.remove(partition) == null) {
+			return;
+		}
+		MessageListenerContainer container = container();
+		if (container != null) {
+			container.resumePartition(partition);
+		}
+		log.debug("[RETRY] Partition devam ettirildi: partition={}", partition);
+	}
+
+	private MessageListenerContainer container() {
+		KafkaListenerEndpointRegistry endpointRegistry = registry.getIfAvailable();
+		return endpointRegistry != null ? endpointRegistry.getListenerContainer(LISTENER_ID) : null;
+	}
+
+	boolean isWaiting(TopicPartition partition) {
+		return waitingPartitions.containsKey(partition);
+	}
+
+	@Override
+	public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+		super.onPartitionsRevoked(partitions);
+		// Partition başka bir consumer'a geçti; bekleme durumunu o consumer kendi header'larından kurar.
+		// Pause isteği de kaldırılır, aksi halde partition geri atandığında pause'da kalır.
+		partitions.forEach(this::resumePartition);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		resumeScheduler.shutdownNow();
+	}
+}
@@ -0,0 +1,141 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kademeli retry topic yönlendiricisi
+ * Başarısız bir bildirim sırasıyla <transaction-topic>-retry-<kademe> topic'lerine (varsayılan 5s, 1m, 10m)
+ * gönderilir; kademeler tükendiğinde DLQ'ya düşer. Hata nedeni, deneme sayısı ve kaydın en erken
+ * işlenebileceği zaman header'larda taşınır, böylece ana consumer hiçbir zaman beklemez.
+ * Gönderim broker onayına kadar (send-timeout-ms) beklenir; onaylanmazsa exception fırlar ve çağıran
+ * consumer kaydı ack etmez, mesaj kaybolmaz.
+ */
+@Slf4j
+@Component
+public class NotificationRetryRouter {
+
+	public static final String ORIGINAL_TOPIC_HEADER = "x-original-topic";
+	public static final String EXCEPTION_CLASS_HEADER = "x-exception-class";
+	public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+	public static final String ATTEMPT_HEADER = "x-attempt";
+	public static final String NOT_BEFORE_HEADER = "x-not-before";
+
+	private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 512;
+
+	private final KafkaTemplate<String, byte[]> kafkaTemplate;
+	private final String dlqTopic;
+	private final List<String> tierTopics;
+	private final List<Duration> tierDelays;
+
+	@Value("${app.kafka.retry.send-timeout-ms:10000}")
+	private long sendTimeoutMs = 10000;
+
+	public NotificationRetryRouter(KafkaTemplate<String, byte[]> kafkaTemplate,
+			@Value("${app.kafka.transaction-topic:transaction-events}") String transactionTopic,
+			@Value("${app.kafka.dlq-topic:transaction-events-dlq}") String dlqTopic,
+			@Value("${app.kafka.retry.tiers:5s,1m,10m}") List<String> tiers) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.dlqTopic = dlqTopic;
+		this.tierTopics = tiers.stream().map(String::trim).map(tier -> transactionTopic + "-retry-" + tier).toList();
+		this.tierDelays = tiers.stream().map(String::trim).map(DurationStyle::detectAndParse).toList();
+	}
+
+	/**
+	 * Retry consumer'ın dinlediği topic'ler (@KafkaListener SpEL'inde kullanılır)
+	 */
+	public List<String> tierTopics() {
+		return tierTopics;
+	}
+
+	/**
+	 * Başarısız kaydı bir sonraki kademeye, kademeler bittiyse DLQ'ya gönderir.
+	 * Gönderim onaylanmazsa IllegalStateException fırlar; kayıt ack edilmemeli, tekrar teslim edilir.
+	 */
+	public void route(ConsumerRecord<String, byte[]> record, Exception error) {
+		int attempt = attempt(record.headers());
+		String target = attempt < tierTopics.size() ? tierTopics.get(attempt) : dlqTopic;
+		String originalTopic = header(record.headers(), ORIGINAL_TOPIC_HEADER);
+
+		ProducerRecord<String, byte[]> out = new ProducerRecord<>(target, record.key(), record.value());
+		Throwable cause = rootCause(error);
+		putHeader(out.headers(), ORIGINAL_TOPIC_HEADER, originalTopic != null ? originalTopic : record.topic());
+		putHeader(out.headers(), EXCEPTION_CLASS_HEADER, cause.getClass().getName());
+		putHeader(out.headers(), EXCEPTION_MESSAGE_HEADER, truncate(cause.getMessage()));
+		putHeader(out.headers(), ATTEMPT_HEADER, String.valueOf(attempt + 1));
+		if (attempt < tierDelays.size()) {
+			long notBefore = System.currentTimeMillis() + tierDelays.get(attempt).toMillis();
+			putHeader(out.headers(), NOT_BEFORE_HEADER, String.valueOf(notBefore));
+		}
+
+		try {
+			kafkaTemplate.send(out).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+			if (target.equals(dlqTopic)) {
+				log.warn("[DLQ] Retry kademeleri tükendi, mesaj DLQ'ya gönderildi: key={}, deneme={}", record.key(),
+						attempt + 1);
+			} else {
+				log.warn("[RETRY] Mesaj retry topic'ine gönderildi: topic={}, key={}, deneme={}", target, record.key(),
+						attempt + 1);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Mesaj yönlendirmesi kesildi: topic=" + target, e);
+		} catch (ExecutionException | TimeoutException e) {
+			log.error("[RETRY] Mesaj yönlendirilemedi, kayıt ack edilmeyecek: topic={}, key={}", target, record.key(),
+					e);
+			throw new IllegalStateException("Mesaj yönlendirilemedi: topic=" + target, e);
+		}
+	}
+
+	static int attempt(Headers headers) {
+		String value = header(headers, ATTEMPT_HEADER);
+		return value != null ? Integer.parseInt(value) : 0;
+	}
+
+	static long notBefore(Headers headers) {
+		String value = header(headers, NOT_BEFORE_HEADER);
+		return value != null ? Long.parseLong(value) : 0L;
+	}
+
+	static String header(Headers headers, String name) {
+		Header header = headers.lastHeader(name);
+		return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+	}
+
+	static void putHeader(Headers headers, String name, String value) {
+		headers.remove(name);
+		if (value != null) {
+			headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static Throwable rootCause(Throwable error) {
+		Throwable cause = error;
+		while (cause.getCause() != null && cause.getCause() != cause) {
+			cause = cause.getCause();
+		}
+		return cause;
+	}
+
+	private static String truncate(String message) {
+		if (message == null || message.length() <= MAX_EXCEPTION_MESSAGE_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+	}
+}
@@ -0,0 +1,186 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.entity.OutboxEvent;
+import com.example.OnlineBankacilik.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox relay
+ * Commit edilmiş outbox kayıtlarını batch'ler halinde transaction-events topic'ine gönderir.
+ * 1. Batch kısa bir transaction'da SKIP LOCKED ve hesap advisory kilidiyle seçilir, next_attempt_at lease'i
+ *    ile claim edilir; Kafka onayı beklenirken DB transaction'ı açık tutulmaz. Node çökerse lease dolunca
+ *    kayıtlar tekrar alınır.
+ * 2. Gönderimler asenkron başlatılır, onaylar id sırasıyla toplam send-timeout-ms içinde beklenir.
+ * 3. Sonuç ikinci bir kısa transaction'da yazılır: gönderilenler silinir, başarısız kayıt backoff ile
+ *    beklemeye alınır. Aynı hesabın batch'te başarısız kayıttan sonra gelen kayıtları gönderilmiş olsa da
+ *    silinmez; başarısız kayıttan sonra tekrar gönderilir, hesap sırası korunur (at-least-once).
+ * max-attempts'e ulaşan kayıt park edilir (dead letter) ve hesabın sonraki kayıtlarını bloklamaz.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final TransactionProducer transactionProducer;
+	private final TransactionTemplate transactionTemplate;
+	private final Counter parked;
+
+	@Value("${app.outbox.relay.batch-size:200}")
+	private int batchSize;
+
+	@Value("${app.outbox.relay.send-timeout-ms:10000}")
+	private long sendTimeoutMs;
+
+	@Value("${app.outbox.relay.max-attempts:20}")
+	private int maxAttempts;
+
+	@Value("${app.outbox.relay.retry-backoff-ms:1000}")
+	private long retryBackoffMs;
+
+	@Value("${app.outbox.relay.max-backoff-ms:60000}")
+	private long maxBackoffMs;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, TransactionProducer transactionProducer,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.transactionProducer = transactionProducer;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.parked = Counter.builder("outbox.events.parked")
+				.description("max-attempts'e ulaşıp relay'den çıkarılan outbox kayıtları")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:500}")
+	public void relay() {
+		int relayed;
+		do {
+			relayed = relayBatch();
+		} while (relayed == batchSize);
+	}
+
+	int relayBatch() {
+		List<OutboxEvent> batch = transactionTemplate.execute(status -> claim());
+		if (batch == null || batch.isEmpty()) {
+			return 0;
+		}
+
+		List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+		for (OutboxEvent event : batch) {
+			try {
+				futures.add(transactionProducer.send(event));
+			} catch (RuntimeException e) {
+				futures.add(CompletableFuture.failedFuture(e));
+			}
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+		List<Long> sentIds = new ArrayList<>(batch.size());
+		List<Long> releasedIds = new ArrayList<>();
+		List<OutboxEvent> failed = new ArrayList<>();
+		Set<String> blocked = new HashSet<>();
+		boolean interrupted = false;
+		for (int i = 0; i < batch.size(); i++) {
+			OutboxEvent event = batch.get(i);
+			if (interrupted || blocked.contains(event.getAggregateId())) {
+				// Hesabın önceki kaydı gönderilemedi; bu kayıt onun ardından tekrar gönderilir
+				releasedIds.add(event.getId());
+				continue;
+			}
+			try {
+				futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				sentIds.add(event.getId());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				interrupted = true;
+				releasedIds.add(event.getId());
+			} catch (Exception e) {
+				blocked.add(event.getAggregateId());
+				failed.add(event);
+				log.warn("Outbox event gönderilemedi, tekrar denenecek: id={}, hesapNo={}, deneme={}", event.getId(),
+						event.getAggregateId(), event.getAttempts() + 1, e);
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status -> complete(sentIds, releasedIds, failed));
+		log.debug("Outbox batch gönderildi: başarılı={}, başarısız={}, ertelenen={}", sentIds.size(), failed.size(),
+				releasedIds.size());
+		// Başarısız kayıt varsa döngü durur; kalan kayıtlar bir sonraki poll'da alınır
+		return failed.isEmpty() && !interrupted ? sentIds.size() : 0;
+	}
+
+	/**
+	 * Gönderim süresince kayıtlar lease ile ayrılır; lease gönderim süresinin iki katıdır.
+	 * Hesap advisory kilidiyle seçilen kayıtlar, kilit tutulurken tekrar kontrol edilir: başka bir relay hesabın
+	 * önceki kaydını az önce claim ettiyse sonraki kayıtlar bu batch'ten çıkarılır, iki relay aynı hesabı
+	 * paralel göndermez.
+	 */
+	private List<OutboxEvent> claim() {
+		LocalDateTime now = LocalDateTime.now();
+		List<OutboxEvent> batch = outboxEventRepository.findBatchForRelay(now, batchSize);
+		if (batch.isEmpty()) {
+			return batch;
+		}
+		Set<Long> blocked = new HashSet<>(
+				outboxEventRepository.findBlockedByEarlierLease(batch.stream().map(OutboxEvent::getId).toList(), now));
+		if (!blocked.isEmpty()) {
+			batch = batch.stream().filter(event -> !blocked.contains(event.getId())).toList();
+			log.debug("Outbox kayıtları başka relay'in claim'i nedeniyle ertelendi: {}", blocked);
+		}
+		if (!batch.isEmpty()) {
+			outboxEventRepository.reschedule(batch.stream().map(OutboxEvent::getId).toList(),
+					now.plusNanos(TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs * 2)));
+		}
+		return batch;
+	}
+
+	private void complete(List<Long> sentIds, List<Long> releasedIds, List<OutboxEvent> failed) {
+		if (!sentIds.isEmpty()) {
+			outboxEventRepository.deleteAllByIdInBatch(sentIds);
+		}
+		if (!releasedIds.isEmpty()) {
+			outboxEventRepository.reschedule(releasedIds, null);
+		}
+		LocalDateTime now = LocalDateTime.now();
+		for (OutboxEvent event : failed) {
+			int attempts = event.getAttempts() + 1;
+			event.setAttempts(attempts);
+			if (attempts >= maxAttempts) {
+				outboxEventRepository.park(event.getId(), attempts, now);
+				parked.increment();
+				log.error("Outbox event {} denemede gönderilemedi, park edildi: id={}, hesapNo={}", attempts,
+						event.getId(), event.getAggregateId());
+			} else {
+				outboxEventRepository.markFailed(event.getId(), attempts,
+						now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs(attempts))));
+			}
+		}
+	}
+
+	/**
+	 * Üstel backoff: retry-backoff-ms * 2^(deneme-1), max-backoff-ms ile sınırlı
+	 */
+	long backoffMs(int attempts) {
+		int shift = Math.min(attempts - 1, 30);
+		return Math.min(maxBackoffMs, retryBackoffMs << shift);
+	}
+}
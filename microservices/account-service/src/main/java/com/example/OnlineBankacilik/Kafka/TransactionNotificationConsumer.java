@@ -1,27 +1,44 @@
 package com.example.OnlineBankacilik.Kafka;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
-import com.example.OnlineBankacilik.dto.TransactionEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TransactionNotificationConsumer {
 
-	private final ObjectMapper objectMapper;
-	private final KafkaTemplate<String, String> kafkaTemplate;
-
-	@Value("${app.kafka.dlq-topic:transaction-events-dlq}")
-	private String dlqTopic;
+	private final TransactionNotificationHandler handler;
+	private final NotificationRetryRouter retryRouter;
+	private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+	private final Timer batchTimer;
+	private final DistributionSummary batchSize;
+	private final AtomicLong consumerLag = new AtomicLong();
 
 	@Value("${app.kafka.consumer-groups.notification-group:notification-group}")
 	private String notificationGroupId;
@@ -29,51 +46,128 @@ public class TransactionNotificationConsumer {
 	@Value("${app.kafka.consumer-groups.dlq-handler-group:dlq-handler-group}")
 	private String dlqHandlerGroupId;
 
+	@Value("${app.kafka.notification.worker-lanes:16}")
+	private int workerLanes = 16;
+
+	public TransactionNotificationConsumer(TransactionNotificationHandler handler, NotificationRetryRouter retryRouter,
+			MeterRegistry meterRegistry) {
+		this.handler = handler;
+		this.retryRouter = retryRouter;
+		this.batchTimer = Timer.builder("transaction.notifications.batch.duration")
+				.description("Bir poll batch'inin işlenme süresi")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder("transaction.notifications.batch.size")
+				.description("Batch başına kayıt sayısı")
+				.register(meterRegistry);
+		Gauge.builder("transaction.notifications.consumer.lag", consumerLag, AtomicLong::get)
+				.description("Son batch'teki partition'ların toplam consumer lag'i")
+				.register(meterRegistry);
+	}
+
 	/**
-	 * Transaction event consumer
+	 * Transaction event consumer (batch)
 	 * Consumer Group yönetimi ile mesajlar partition'lara göre dağıtılır
 	 * Aynı group ID'ye sahip consumer'lar mesajları paylaşır (load balancing)
+	 * Poll'daki kayıtlar accountNo anahtarına göre lane'lere ayrılır; her lane bir virtual thread'de
+	 * sırayla işlenir. Böylece aynı hesabın event sırası korunur, farklı hesaplar paralel işlenir.
+	 * Offset'ler batch tamamlandıktan sonra manuel commit edilir.
+	 * Başarısız kayıtlar beklemeden retry topic'lerine yönlendirilir (bkz. NotificationRetryRouter).
 	 */
 	@KafkaListener(
-		topics = "${app.kafka.transaction-topic:transaction-events}", 
-		groupId = "${app.kafka.consumer-groups.notification-group:notification-group}"
+		topics = "${app.kafka.transaction-topic:transaction-events}",
+		groupId = "${app.kafka.consumer-groups.notification-group:notification-group}",
+		containerFactory = "batchKafkaListenerContainerFactory"
 	)
-	public void consume(String message) {
-		try {
-			TransactionEvent event = objectMapper.readValue(message, TransactionEvent.class);
+	public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment,
+			Consumer<?, ?> consumer) {
+		long start = System.nanoTime();
+
+		List<List<ConsumerRecord<String, byte[]>>> lanes = partitionByKey(records);
+		List<Future<?>> futures = new ArrayList<>(lanes.size());
+		for (List<ConsumerRecord<String, byte[]>> lane : lanes) {
+			futures.add(workers.submit(() -> lane.forEach(this::process)));
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Notification batch işlemesi kesildi", e);
+			} catch (Exception e) {
+				// Commit edilmez; container batch'i tekrar teslim eder
+				throw new IllegalStateException("Notification batch işlenemedi", e);
+			}
+		}
+
+		acknowledgment.acknowledge();
+		batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		batchSize.record(records.size());
+		recordLag(records, consumer);
+		log.debug("[NOTIFICATION] Batch işlendi: kayıt={}, lane={}", records.size(), lanes.size());
+	}
 
-			log.info("[NOTIFICATION] Yeni işlem event'i alındı: id={}, hesapNo={}, müşteriId={}, tür={}, tutar={}, öncekiBakiye={}, yeniBakiye={}, başarılı={}, tarih={}",
-					event.getTransactionId(), event.getAccountNo(), event.getCustomerId(), event.getTransactionType(),
-					event.getAmount(), event.getPreviousBalance(), event.getNewBalance(), event.isSuccessful(),
-					event.getTransactionDate());
-			log.info("[NOTIFICATION] (Simülasyon) Müşteriye SMS/MAIL gönderildi.");
+	private List<List<ConsumerRecord<String, byte[]>>> partitionByKey(List<ConsumerRecord<String, byte[]>> records) {
+		int laneCount = Math.max(1, workerLanes);
+		Map<Integer, List<ConsumerRecord<String, byte[]>>> lanes = new HashMap<>();
+		for (ConsumerRecord<String, byte[]> record : records) {
+			// Anahtarsız (eski) kayıtlar partition'a göre dağıtılır; partition içi sıra yine korunur
+			int hash = record.key() != null ? record.key().hashCode() : record.partition();
+			int lane = Math.floorMod(hash, laneCount);
+			lanes.computeIfAbsent(lane, l -> new ArrayList<>()).add(record);
+		}
+		return new ArrayList<>(lanes.values());
+	}
+
+	private void recordLag(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+		if (consumer == null) {
+			return;
+		}
+		Set<TopicPartition> partitions = new HashSet<>();
+		for (ConsumerRecord<String, byte[]> record : records) {
+			partitions.add(new TopicPartition(record.topic(), record.partition()));
+		}
+		long total = 0;
+		for (TopicPartition partition : partitions) {
+			OptionalLong lag = consumer.currentLag(partition);
+			if (lag.isPresent()) {
+				total += lag.getAsLong();
+			}
+		}
+		consumerLag.set(total);
+	}
+
+	void process(ConsumerRecord<String, byte[]> record) {
+		try {
+			handler.handle(record.value());
 		} catch (Exception e) {
-			log.error("[NOTIFICATION] Mesaj parse edilemedi, DLQ'ya gönderiliyor, raw={}", message, e);
-			// Başarısız mesajı Dead Letter Queue'ya gönder
-			sendToDlq(message, e);
+			log.error("[NOTIFICATION] Mesaj işlenemedi, retry topic'ine yönlendiriliyor, raw={}",
+					handler.describe(record.value()), e);
+			retryRouter.route(record, e);
 		}
 	}
 
 	/**
 	 * Dead Letter Queue Handler
-	 * Başarısız mesajları DLQ topic'ine gönderir
+	 * Retry kademelerini tüketen mesajlar DLQ'ya düşer; hata nedeni header'lardan loglanır.
+	 * Düzeltme sonrası mesajlar /accounts/dlq/replay ile kaynak topic'e geri gönderilebilir.
 	 * Consumer Group yönetimi ile DLQ mesajları da dağıtılır
 	 */
 	@KafkaListener(
-		topics = "${app.kafka.dlq-topic:transaction-events-dlq}", 
+		topics = "${app.kafka.dlq-topic:transaction-events-dlq}",
 		groupId = "${app.kafka.consumer-groups.dlq-handler-group:dlq-handler-group}"
 	)
-	public void handleDlqMessage(String message) {
-		log.error("[DLQ HANDLER] Başarısız mesaj alındı - İnceleme gerekiyor: {}", message);
+	public void handleDlqMessage(ConsumerRecord<String, byte[]> record) {
+		log.error("[DLQ HANDLER] Başarısız mesaj alındı - İnceleme gerekiyor: deneme={}, hata={}: {}, mesaj={}",
+				NotificationRetryRouter.attempt(record.headers()),
+				NotificationRetryRouter.header(record.headers(), NotificationRetryRouter.EXCEPTION_CLASS_HEADER),
+				NotificationRetryRouter.header(record.headers(), NotificationRetryRouter.EXCEPTION_MESSAGE_HEADER),
+				handler.describe(record.value()));
 		// Production'da: Alert sistemi, monitoring, admin panel bildirimi vb. eklenebilir
 	}
 
-	private void sendToDlq(String message, Exception error) {
-		try {
-			kafkaTemplate.send(dlqTopic, message);
-			log.warn("[DLQ] Başarısız mesaj DLQ'ya gönderildi: topic={}", dlqTopic);
-		} catch (Exception e) {
-			log.error("[DLQ] DLQ'ya gönderme hatası", e);
-		}
+	@PreDestroy
+	void shutdown() {
+		workers.shutdown();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import org.springframework.stereotype.Component;
+
+import com.example.OnlineBankacilik.codec.TransactionEventCodecs;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transaction event bildirim iş mantığı
+ * Ana consumer ve retry consumer aynı işleyiciyi kullanır; hata durumunda exception fırlatır,
+ * yönlendirme (retry / DLQ) çağıran tarafın sorumluluğundadır.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionNotificationHandler {
+
+	private final TransactionEventCodecs codecs;
+
+	public void handle(byte[] payload) {
+		TransactionEvent event = codecs.decode(payload);
+
+		log.info("[NOTIFICATION] Yeni işlem event'i alındı: id={}, hesapNo={}, müşteriId={}, tür={}, tutar={}, öncekiBakiye={}, yeniBakiye={}, başarılı={}, tarih={}",
+				event.getTransactionId(), event.getAccountNo(), event.getCustomerId(), event.getTransactionType(),
+				event.getAmount(), event.getPreviousBalance(), event.getNewBalance(), event.isSuccessful(),
+				event.getTransactionDate());
+		if (event.getCounterpartyAccountNo() != null) {
+			log.info("[NOTIFICATION] Transfer karşı hesabı: hesapNo={}, müşteriId={}, öncekiBakiye={}, yeniBakiye={}",
+					event.getCounterpartyAccountNo(), event.getCounterpartyCustomerId(),
+					event.getCounterpartyPreviousBalance(), event.getCounterpartyNewBalance());
+		}
+		log.info("[NOTIFICATION] (Simülasyon) Müşteriye SMS/MAIL gönderildi.");
+	}
+
+	/**
+	 * Log/inceleme için payload'ın okunabilir hali
+	 */
+	public String describe(byte[] payload) {
+		return codecs.describe(payload);
+	}
+}
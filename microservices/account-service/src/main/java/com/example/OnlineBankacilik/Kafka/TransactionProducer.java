@@ -1,34 +1,144 @@
 package com.example.OnlineBankacilik.Kafka;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.OnlineBankacilik.codec.TransactionEventCodecs;
 import com.example.OnlineBankacilik.dto.TransactionEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.OnlineBankacilik.entity.OutboxEvent;
+import com.example.OnlineBankacilik.repository.OutboxEventRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TransactionProducer {
 
-	private final KafkaTemplate<String, String> kafkaTemplate;
-	private final ObjectMapper objectMapper;
+	private static final String INSERT_OUTBOX = "INSERT INTO transaction_outbox (aggregate_id, payload, attempts, created_at) VALUES (?, ?, 0, ?)";
+
+	private final KafkaTemplate<String, byte[]> kafkaTemplate;
+	private final TransactionEventCodecs codecs;
+	private final OutboxEventRepository outboxEventRepository;
+	private final Timer sendSuccessTimer;
+	private final Timer sendFailureTimer;
+	private final DistributionSummary payloadSize;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Value("${app.kafka.transaction-topic:transaction-events}")
 	private String transactionTopic;
 
+	public TransactionProducer(KafkaTemplate<String, byte[]> kafkaTemplate, TransactionEventCodecs codecs,
+			OutboxEventRepository outboxEventRepository, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.codecs = codecs;
+		this.outboxEventRepository = outboxEventRepository;
+		this.sendSuccessTimer = sendTimer(meterRegistry, "success");
+		this.sendFailureTimer = sendTimer(meterRegistry, "failure");
+		this.payloadSize = DistributionSummary.builder("transaction.events.payload.size")
+				.description("Kodlanmış transaction event boyutu")
+				.baseUnit("bytes")
+				.tag("codec", codecs.encoderName())
+				.register(meterRegistry);
+	}
+
+	private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+		return Timer.builder("transaction.events.send")
+				.description("Transaction event Kafka gönderim süresi (broker onayına kadar)")
+				.tag("result", result)
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Event'i bakiye güncellemesiyle aynı transaction içinde outbox tablosuna yazar.
+	 * Kafka'ya gönderim commit sonrası OutboxRelay tarafından yapılır; istek süresine Kafka eklenmez.
+	 * Payload app.kafka.event-codec ile seçilen formatta (json | binary) bir kez kodlanır; relay byte'ları
+	 * olduğu gibi gönderir. Kodlama hatası yutulmaz: event'siz bakiye değişikliği commit edilmesin diye iş
+	 * transaction'ı geri alınır.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
 	public void publish(TransactionEvent event) {
-		try {
-			String json = objectMapper.writeValueAsString(event);
-			log.info("Kafka transaction event gönderiliyor: {}", json);
-			kafkaTemplate.send(transactionTopic, json);
-		} catch (JsonProcessingException e) {
-			log.error("Kafka event serileştirme hatası", e);
+		OutboxEvent outboxEvent = new OutboxEvent();
+		outboxEvent.setAggregateId(event.getAccountNo());
+		byte[] payload = codecs.encode(event);
+		outboxEvent.setPayload(payload);
+		outboxEventRepository.save(outboxEvent);
+		payloadSize.record(payload.length);
+		log.debug("Transaction event outbox'a yazıldı: id={}, hesapNo={}", event.getTransactionId(),
+				event.getAccountNo());
+	}
+
+	/**
+	 * Toplu posting event'lerini tek bir JDBC batch INSERT ile outbox'a yazar.
+	 * Kayıtlar ardışık id'ler aldığı için relay bunları aynı turda, tek bir producer batch'i olarak gönderir.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publishAll(List<TransactionEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		List<Object[]> rows = new ArrayList<>(events.size());
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (TransactionEvent event : events) {
+			byte[] payload = codecs.encode(event);
+			payloadSize.record(payload.length);
+			rows.add(new Object[] { event.getAccountNo(), payload, now });
 		}
+		jdbcTemplate.batchUpdate(INSERT_OUTBOX, rows);
+		log.debug("Transaction event'leri outbox'a toplu yazıldı: adet={}", events.size());
+	}
+
+	/**
+	 * Transaction event'i dışındaki (özet vb.) event'leri outbox üzerinden verilen topic'e yayınlar
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publishToTopic(String topic, String key, byte[] payload) {
+		OutboxEvent outboxEvent = new OutboxEvent();
+		outboxEvent.setTopic(topic);
+		outboxEvent.setAggregateId(key);
+		outboxEvent.setPayload(payload);
+		outboxEventRepository.save(outboxEvent);
+	}
+
+	/**
+	 * Outbox kaydını Kafka'ya asenkron gönderir (OutboxRelay tarafından çağrılır)
+	 * Mesaj anahtarı accountNo'dur: aynı hesabın event'leri aynı partition'a düşer ve sırası korunur.
+	 * Tamamlanma callback'i başarı/hata sayısını ve gönderim gecikmesini metrik olarak kaydeder.
+	 */
+	public CompletableFuture<SendResult<String, byte[]>> send(OutboxEvent outboxEvent) {
+		long start = System.nanoTime();
+		String topic = outboxEvent.getTopic() != null ? outboxEvent.getTopic() : transactionTopic;
+		return kafkaTemplate.send(topic, outboxEvent.getAggregateId(), outboxEvent.getPayload())
+				.whenComplete((result, ex) -> {
+					long elapsed = System.nanoTime() - start;
+					if (ex == null) {
+						sendSuccessTimer.record(elapsed, TimeUnit.NANOSECONDS);
+						if (log.isDebugEnabled()) {
+							log.debug("Transaction event gönderildi: hesapNo={}, partition={}, offset={}",
+									outboxEvent.getAggregateId(), result.getRecordMetadata().partition(),
+									result.getRecordMetadata().offset());
+						}
+					} else {
+						sendFailureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+						log.warn("Transaction event gönderilemedi: hesapNo={}, outboxId={}", outboxEvent.getAggregateId(),
+								outboxEvent.getId(), ex);
+					}
+				});
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.example.OnlineBankacilik.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis pub/sub üzerinden diğer instance'lara gönderilen L1 invalidation mesajı
+ * key null ise cache'in tamamı temizlenir
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+	private String origin; // Mesajı yayınlayan instance ID'si
+	private String cacheName;
+	private String key;
+}
@@ -0,0 +1,180 @@
+package com.example.OnlineBankacilik.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * İki seviyeli cache: in-process Caffeine L1 + paylaşılan Redis L2
+ * Okumalar önce L1'e bakar, L1'de yoksa L2'den okunup L1'e yazılır.
+ * Yazma/silme işlemleri L2'ye uygulanır, yerel L1 güncellenir ve
+ * diğer instance'ların L1 kaydı pub/sub ile geçersiz kılınır.
+ */
+public class TwoLevelCache implements Cache {
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+	private final Cache l2;
+	private final TwoLevelCacheManager manager;
+
+	private final LongAdder l1Hits = new LongAdder();
+	private final LongAdder l2Hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+
+	TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> l1, Cache l2,
+			TwoLevelCacheManager manager) {
+		this.name = name;
+		this.l1 = l1;
+		this.l2 = l2;
+		this.manager = manager;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return l1;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		Object local = l1.getIfPresent(localKey);
+		if (local != null) {
+			l1Hits.increment();
+			return new SimpleValueWrapper(local);
+		}
+		ValueWrapper remote = l2.get(key);
+		if (remote != null && remote.get() != null) {
+			l2Hits.increment();
+			l1.put(localKey, remote.get());
+			return remote;
+		}
+		misses.increment();
+		return remote;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cache değeri beklenen tipte değil: " + type.getName());
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper != null && wrapper.get() != null) {
+			return (T) wrapper.get();
+		}
+		T value = l2.get(key, valueLoader);
+		if (value != null) {
+			l1.put(localKey(key), value);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		l2.put(key, value);
+		puts.increment();
+		if (value != null) {
+			l1.put(localKey(key), value);
+		} else {
+			l1.invalidate(localKey(key));
+		}
+		manager.publishInvalidation(name, localKey(key));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = l2.putIfAbsent(key, value);
+		l1.invalidate(localKey(key));
+		if (existing == null) {
+			puts.increment();
+			manager.publishInvalidation(name, localKey(key));
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		l2.evict(key);
+		l1.invalidate(localKey(key));
+		manager.publishInvalidation(name, localKey(key));
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean present = l2.evictIfPresent(key);
+		l1.invalidate(localKey(key));
+		manager.publishInvalidation(name, localKey(key));
+		return present;
+	}
+
+	@Override
+	public void clear() {
+		l2.clear();
+		l1.invalidateAll();
+		manager.publishInvalidation(name, null);
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean notEmpty = l2.invalidate();
+		l1.invalidateAll();
+		manager.publishInvalidation(name, null);
+		return notEmpty;
+	}
+
+	/**
+	 * Başka bir instance'tan gelen invalidation mesajı: sadece yerel L1 temizlenir
+	 */
+	void evictLocal(String key) {
+		if (key == null) {
+			l1.invalidateAll();
+		} else {
+			l1.invalidate(key);
+		}
+	}
+
+	long l1Hits() {
+		return l1Hits.sum();
+	}
+
+	long l2Hits() {
+		return l2Hits.sum();
+	}
+
+	long misses() {
+		return misses.sum();
+	}
+
+	long puts() {
+		return puts.sum();
+	}
+
+	long l1Size() {
+		return l1.estimatedSize();
+	}
+
+	long l1Evictions() {
+		return l1.stats().evictionCount();
+	}
+
+	// Redis anahtarları da String'e çevrildiği için L1 ve invalidation mesajları aynı anahtar formatını kullanır
+	private static String localKey(Object key) {
+		return String.valueOf(key);
+	}
+}
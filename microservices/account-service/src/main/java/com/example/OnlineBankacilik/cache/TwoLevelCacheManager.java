@@ -0,0 +1,107 @@
+package com.example.OnlineBankacilik.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * L1 (Caffeine) + L2 (RedisCacheManager) CacheManager
+ * Her instance kendi L1'ini tutar; bir entry güncellendiğinde veya silindiğinde
+ * invalidation mesajı Redis kanalına yayınlanır ve diğer instance'lar kendi L1 kaydını siler.
+ * Mesaj kaybına karşı L1 TTL'i L2'den kısa tutulur, böylece olası tutarsızlık süre ile sınırlanır.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+	private final CacheManager l2CacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final String channel;
+	private final long l1MaximumSize;
+	private final Duration l1Ttl;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	public TwoLevelCacheManager(CacheManager l2CacheManager, StringRedisTemplate redisTemplate,
+			ObjectMapper objectMapper, String channel, long l1MaximumSize, Duration l1Ttl) {
+		this.l2CacheManager = l2CacheManager;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.channel = channel;
+		this.l1MaximumSize = l1MaximumSize;
+		this.l1Ttl = l1Ttl;
+	}
+
+	public String getChannel() {
+		return channel;
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		return l2CacheManager.getCacheNames().stream().map(this::createCache).toList();
+	}
+
+	@Override
+	protected Cache getMissingCache(String name) {
+		Cache l2 = l2CacheManager.getCache(name);
+		return l2 != null ? createCache(name, l2) : null;
+	}
+
+	private Cache createCache(String name) {
+		return createCache(name, l2CacheManager.getCache(name));
+	}
+
+	private Cache createCache(String name, Cache l2) {
+		com.github.benmanes.caffeine.cache.Cache<String, Object> l1 = Caffeine.newBuilder()
+				.maximumSize(l1MaximumSize)
+				.expireAfterWrite(l1Ttl)
+				.recordStats()
+				.build();
+		return new TwoLevelCache(name, l1, l2, this);
+	}
+
+	void publishInvalidation(String cacheName, String key) {
+		try {
+			String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(instanceId, cacheName, key));
+			redisTemplate.convertAndSend(channel, payload);
+		} catch (Exception e) {
+			// Yayın hatası isteği bozmamalı; diğer instance'lar L1 TTL sonunda güncel veriyi görür
+			log.warn("Cache invalidation mesajı yayınlanamadı: cache={}, key={}", cacheName, key, e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			CacheInvalidationMessage invalidation = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+			if (instanceId.equals(invalidation.getOrigin())) {
+				return;
+			}
+			Cache cache = lookupCache(invalidation.getCacheName());
+			if (cache instanceof TransactionAwareCacheDecorator decorator) {
+				cache = decorator.getTargetCache();
+			}
+			if (cache instanceof TwoLevelCache twoLevelCache) {
+				twoLevelCache.evictLocal(invalidation.getKey());
+				log.debug("L1 invalidation uygulandı: cache={}, key={}", invalidation.getCacheName(),
+						invalidation.getKey());
+			}
+		} catch (Exception e) {
+			log.warn("Cache invalidation mesajı işlenemedi", e);
+		}
+	}
+}
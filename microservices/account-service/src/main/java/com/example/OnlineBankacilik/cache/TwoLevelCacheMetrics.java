@@ -0,0 +1,66 @@
+package com.example.OnlineBankacilik.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * TwoLevelCache için Micrometer metrikleri
+ * Standart cache.gets (hit/miss) metriği korunur; L1 ve L2 hit'leri ayrıca raporlanır
+ */
+public class TwoLevelCacheMetrics extends CacheMeterBinder<TwoLevelCache> {
+
+	public TwoLevelCacheMetrics(TwoLevelCache cache, Iterable<Tag> tags) {
+		super(cache, cache.getName(), Tags.of(tags));
+	}
+
+	@Override
+	protected Long size() {
+		TwoLevelCache cache = getCache();
+		return cache != null ? cache.l1Size() : null;
+	}
+
+	@Override
+	protected long hitCount() {
+		TwoLevelCache cache = getCache();
+		return cache != null ? cache.l1Hits() + cache.l2Hits() : 0L;
+	}
+
+	@Override
+	protected Long missCount() {
+		TwoLevelCache cache = getCache();
+		return cache != null ? cache.misses() : null;
+	}
+
+	@Override
+	protected Long evictionCount() {
+		TwoLevelCache cache = getCache();
+		return cache != null ? cache.l1Evictions() : null;
+	}
+
+	@Override
+	protected long putCount() {
+		TwoLevelCache cache = getCache();
+		return cache != null ? cache.puts() : 0L;
+	}
+
+	@Override
+	protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+		TwoLevelCache cache = getCache();
+		FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::l1Hits)
+				.tags(getTagsWithCacheName()).tag("level", "l1")
+				.description("L1 (in-process) cache hit sayısı")
+				.register(registry);
+		FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::l2Hits)
+				.tags(getTagsWithCacheName()).tag("level", "l2")
+				.description("L2 (Redis) cache hit sayısı")
+				.register(registry);
+		Gauge.builder("cache.l1.size", cache, TwoLevelCache::l1Size)
+				.tags(getTagsWithCacheName())
+				.description("L1 cache'teki tahmini entry sayısı")
+				.register(registry);
+	}
+}
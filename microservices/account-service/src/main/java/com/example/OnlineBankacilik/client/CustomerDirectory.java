@@ -0,0 +1,173 @@
+package com.example.OnlineBankacilik.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.OnlineBankacilik.dto.CustomerChangedEvent;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.enums.CustomerEventType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Yerel müşteri varlık cache'i
+ * Hesap açma ve müşteri hesapları sorgusu müşterinin varlığını buradan doğrular; customer-service'e
+ * (Feign) yalnızca cache'te olmayan müşteri için gidilir. Hem pozitif (müşteri var) hem negatif
+ * (müşteri yok) sonuçlar saklanır. customer-events topic'inden gelen create/update/delete event'leri
+ * entry'leri günceller, böylece uzak çağrı sıcak yoldan çıkar.
+ * Negatif entry'ler kısa TTL ile tutulur: kaybolan bir CREATED event'i yeni müşteriyi en fazla bu süre gizler.
+ * Uzak çağrı hata verirse (servis erişilemez) sonuç cache'lenmez ve hata çağırana iletilir.
+ * Toplu doğrulamada (existing) cache'te olmayan müşteriler tek bir uzak çağrıyla yüklenir.
+ */
+@Slf4j
+@Component
+public class CustomerDirectory {
+
+	private final CustomerServiceClient customerServiceClient;
+	private final Cache<Long, Entry> entries;
+
+	public CustomerDirectory(CustomerServiceClient customerServiceClient, MeterRegistry meterRegistry,
+			@Value("${app.customer-cache.maximum-size:100000}") long maximumSize,
+			@Value("${app.customer-cache.ttl:1h}") Duration ttl,
+			@Value("${app.customer-cache.negative-ttl:30s}") Duration negativeTtl) {
+		this.customerServiceClient = customerServiceClient;
+		this.entries = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new EntryExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, entries, "customerDirectory");
+	}
+
+	public boolean exists(Long customerId) {
+		return find(customerId).isPresent();
+	}
+
+	/**
+	 * Müşteri özeti; müşteri yoksa boş döner.
+	 */
+	public Optional<CustomerResponseDto> find(Long customerId) {
+		Entry entry = entries.get(customerId, this::load);
+		return Optional.ofNullable(entry.customer);
+	}
+
+	/**
+	 * Verilen müşterilerden mevcut olanlar; cache'te olmayanlar tek toplu çağrıyla yüklenir
+	 */
+	public Set<Long> existing(Collection<Long> customerIds) {
+		Map<Long, Entry> found = entries.getAll(customerIds, this::loadAll);
+		Set<Long> existing = new HashSet<>();
+		found.forEach((customerId, entry) -> {
+			if (entry.customer != null) {
+				existing.add(customerId);
+			}
+		});
+		return existing;
+	}
+
+	private Map<Long, Entry> loadAll(Set<? extends Long> customerIds) {
+		Set<Long> present = new HashSet<>(customerServiceClient.existingCustomerIds(Set.copyOf(customerIds)));
+		Map<Long, Entry> loaded = new HashMap<>();
+		for (Long customerId : customerIds) {
+			if (present.contains(customerId)) {
+				// Toplu cevap sadece id içerir; isim customer-events ile dolar
+				CustomerResponseDto customer = new CustomerResponseDto();
+				customer.setCustomerId(customerId);
+				loaded.put(customerId, Entry.positive(customer));
+			} else {
+				loaded.put(customerId, Entry.NEGATIVE);
+			}
+		}
+		log.debug("Müşteriler customer-service'ten toplu yüklendi: istenen={}, mevcut={}", customerIds.size(),
+				present.size());
+		return loaded;
+	}
+
+	private Entry load(Long customerId) {
+		// dismiss404: customer-service 404 döndüğünde Feign null verir
+		CustomerResponseDto customer = customerServiceClient.getCustomerById(customerId);
+		log.debug("Müşteri customer-service'ten yüklendi: müşteriId={}, mevcut={}", customerId, customer != null);
+		return customer != null ? Entry.positive(customer) : Entry.NEGATIVE;
+	}
+
+	/**
+	 * customer-service değişiklik event'ini uygular
+	 */
+	public void apply(CustomerChangedEvent event) {
+		if (event.getCustomerId() == null || event.getType() == null) {
+			return;
+		}
+		if (event.getType() == CustomerEventType.DELETED) {
+			entries.put(event.getCustomerId(), Entry.DELETED);
+		} else {
+			CustomerResponseDto customer = new CustomerResponseDto();
+			customer.setCustomerId(event.getCustomerId());
+			customer.setNameSurname(event.getNameSurname());
+			entries.put(event.getCustomerId(), Entry.positive(customer));
+		}
+		log.debug("Müşteri cache'i event ile güncellendi: tip={}, müşteriId={}", event.getType(), event.getCustomerId());
+	}
+
+	public void invalidate(Long customerId) {
+		entries.invalidate(customerId);
+	}
+
+	private static final class Entry {
+
+		// Uzak çağrıdan gelen "yok" cevabı (kısa TTL)
+		private static final Entry NEGATIVE = new Entry(null, true);
+		// DELETED event'i ile kesinleşmiş "yok" (uzun TTL)
+		private static final Entry DELETED = new Entry(null, false);
+
+		private final CustomerResponseDto customer;
+		private final boolean shortLived;
+
+		private Entry(CustomerResponseDto customer, boolean shortLived) {
+			this.customer = customer;
+			this.shortLived = shortLived;
+		}
+
+		private static Entry positive(CustomerResponseDto customer) {
+			return new Entry(customer, false);
+		}
+	}
+
+	private static final class EntryExpiry implements Expiry<Long, Entry> {
+
+		private final long ttlNanos;
+		private final long negativeTtlNanos;
+
+		private EntryExpiry(long ttlNanos, long negativeTtlNanos) {
+			this.ttlNanos = ttlNanos;
+			this.negativeTtlNanos = negativeTtlNanos;
+		}
+
+		@Override
+		public long expireAfterCreate(Long key, Entry value, long currentTime) {
+			return value.shortLived ? negativeTtlNanos : ttlNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(Long key, Entry value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long key, Entry value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -1,8 +1,13 @@
 package com.example.OnlineBankacilik.client;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.example.OnlineBankacilik.dto.CustomerResponseDto;
 
@@ -12,11 +17,16 @@ import com.example.OnlineBankacilik.dto.CustomerResponseDto;
  * Resilience4j ile Circuit Breaker, Retry ve Timeout desteği
  * Resilience4j yapılandırması application.yml'de tanımlıdır
  */
-@FeignClient(name = "customer-service", fallback = CustomerServiceClientFallback.class)
+// dismiss404: bulunamayan müşteri hata değil null döner (CustomerDirectory negatif entry olarak saklar)
+@FeignClient(name = "customer-service", fallback = CustomerServiceClientFallback.class, dismiss404 = true)
 public interface CustomerServiceClient {
 
     @GetMapping("/customers/{id}")
     CustomerResponseDto getCustomerById(@PathVariable("id") Long id);
 
+    // Toplu varlık kontrolü: verilen id'lerden mevcut olanlar
+    @PostMapping("/customers/existing-ids")
+    List<Long> existingCustomerIds(@RequestBody Collection<Long> ids);
+
 }
 
@@ -1,5 +1,8 @@
 package com.example.OnlineBankacilik.client;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import com.example.OnlineBankacilik.dto.CustomerResponseDto;
@@ -19,5 +22,10 @@ public class CustomerServiceClientFallback implements CustomerServiceClient {
 		log.error("Customer Service fallback triggered for customerId: {}", id);
 		throw new RuntimeException("Customer Service geçici olarak kullanılamıyor. Müşteri bilgisi alınamadı. Lütfen daha sonra tekrar deneyin.");
 	}
-}
 
+	@Override
+	public List<Long> existingCustomerIds(Collection<Long> ids) {
+		log.error("Customer Service fallback triggered for {} customerIds", ids.size());
+		throw new RuntimeException("Customer Service geçici olarak kullanılamıyor. Müşteri doğrulaması yapılamadı. Lütfen daha sonra tekrar deneyin.");
+	}
+}
@@ -0,0 +1,308 @@
+package com.example.OnlineBankacilik.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Kompakt binary codec
+ * Format (v1):
+ * <pre>
+ * [version:1][presence:1][flags:1]
+ * transactionId, accountNo : varint uzunluk + UTF-8
+ * customerId               : zigzag varlong
+ * transactionType          : ordinal (1 byte)
+ * amount, previousBalance,
+ * newBalance               : scale (1 byte) + zigzag varlong unscaled değer
+ *                            (yazarken scale her zaman 2, unscaled = kuruş; okurken herhangi bir scale kabul edilir)
+ * transactionDate          : zigzag varlong epoch mikro saniye (UTC kabul edilir)
+ * </pre>
+ * Format (v2, yalnızca karşı hesap alanları dolu olan TRANSFER event'leri): v1'e ek olarak flags'ten sonra
+ * [counterpartyPresence:1], v1 alanlarının ardından counterpartyAccountNo (string), counterpartyCustomerId
+ * (zigzag varlong), counterpartyPreviousBalance ve counterpartyNewBalance (decimal).
+ * Karşı hesabı olmayan event'ler v1 olarak yazılmaya devam eder.
+ * presence bitmask'i null alanları işaretler; null alan hiç yazılmaz.
+ * Enum ordinal'ları wire formatının parçasıdır: TransactionType'a yeni değerler sadece sona eklenmelidir.
+ * Format değişikliklerinde VERSION artırılır ve eski versiyonları okuma desteği korunur.
+ */
+public class BinaryTransactionEventCodec implements TransactionEventCodec {
+
+	public static final String NAME = "binary";
+	static final byte VERSION_1 = 1;
+	static final byte VERSION_2 = 2;
+
+	private static final int HAS_TRANSACTION_ID = 1;
+	private static final int HAS_ACCOUNT_NO = 1 << 1;
+	private static final int HAS_CUSTOMER_ID = 1 << 2;
+	private static final int HAS_TRANSACTION_TYPE = 1 << 3;
+	private static final int HAS_AMOUNT = 1 << 4;
+	private static final int HAS_PREVIOUS_BALANCE = 1 << 5;
+	private static final int HAS_NEW_BALANCE = 1 << 6;
+	private static final int HAS_TRANSACTION_DATE = 1 << 7;
+
+	private static final int HAS_COUNTERPARTY_ACCOUNT_NO = 1;
+	private static final int HAS_COUNTERPARTY_CUSTOMER_ID = 1 << 1;
+	private static final int HAS_COUNTERPARTY_PREVIOUS_BALANCE = 1 << 2;
+	private static final int HAS_COUNTERPARTY_NEW_BALANCE = 1 << 3;
+
+	private static final int FLAG_SUCCESSFUL = 1;
+
+	private static final int MAX_VARLONG_BYTES = 10;
+	private static final int MAX_DECIMAL_BYTES = 1 + MAX_VARLONG_BYTES;
+	private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte[] encode(TransactionEvent event) {
+		byte[] transactionId = utf8(event.getTransactionId());
+		byte[] accountNo = utf8(event.getAccountNo());
+		byte[] counterpartyAccountNo = utf8(event.getCounterpartyAccountNo());
+
+		int counterpartyPresence = 0;
+		counterpartyPresence |= counterpartyAccountNo != null ? HAS_COUNTERPARTY_ACCOUNT_NO : 0;
+		counterpartyPresence |= event.getCounterpartyCustomerId() != null ? HAS_COUNTERPARTY_CUSTOMER_ID : 0;
+		counterpartyPresence |= event.getCounterpartyPreviousBalance() != null ? HAS_COUNTERPARTY_PREVIOUS_BALANCE : 0;
+		counterpartyPresence |= event.getCounterpartyNewBalance() != null ? HAS_COUNTERPARTY_NEW_BALANCE : 0;
+		boolean paired = counterpartyPresence != 0;
+
+		int capacity = 3 + stringSize(transactionId) + stringSize(accountNo) + MAX_VARLONG_BYTES + 1
+				+ 3 * MAX_DECIMAL_BYTES + MAX_VARLONG_BYTES;
+		if (paired) {
+			capacity += 1 + stringSize(counterpartyAccountNo) + MAX_VARLONG_BYTES + 2 * MAX_DECIMAL_BYTES;
+		}
+		Writer out = new Writer(capacity);
+
+		int presence = 0;
+		presence |= transactionId != null ? HAS_TRANSACTION_ID : 0;
+		presence |= accountNo != null ? HAS_ACCOUNT_NO : 0;
+		presence |= event.getCustomerId() != null ? HAS_CUSTOMER_ID : 0;
+		presence |= event.getTransactionType() != null ? HAS_TRANSACTION_TYPE : 0;
+		presence |= event.getAmount() != null ? HAS_AMOUNT : 0;
+		presence |= event.getPreviousBalance() != null ? HAS_PREVIOUS_BALANCE : 0;
+		presence |= event.getNewBalance() != null ? HAS_NEW_BALANCE : 0;
+		presence |= event.getTransactionDate() != null ? HAS_TRANSACTION_DATE : 0;
+
+		out.writeByte(paired ? VERSION_2 : VERSION_1);
+		out.writeByte(presence);
+		out.writeByte(event.isSuccessful() ? FLAG_SUCCESSFUL : 0);
+		if (paired) {
+			out.writeByte(counterpartyPresence);
+		}
+		if (transactionId != null) {
+			out.writeBytes(transactionId);
+		}
+		if (accountNo != null) {
+			out.writeBytes(accountNo);
+		}
+		if (event.getCustomerId() != null) {
+			out.writeZigZag(event.getCustomerId());
+		}
+		if (event.getTransactionType() != null) {
+			out.writeByte(event.getTransactionType().ordinal());
+		}
+		writeDecimal(out, event.getAmount());
+		writeDecimal(out, event.getPreviousBalance());
+		writeDecimal(out, event.getNewBalance());
+		if (event.getTransactionDate() != null) {
+			out.writeZigZag(toEpochMicros(event.getTransactionDate()));
+		}
+		if (counterpartyAccountNo != null) {
+			out.writeBytes(counterpartyAccountNo);
+		}
+		if (event.getCounterpartyCustomerId() != null) {
+			out.writeZigZag(event.getCounterpartyCustomerId());
+		}
+		writeDecimal(out, event.getCounterpartyPreviousBalance());
+		writeDecimal(out, event.getCounterpartyNewBalance());
+		return out.toByteArray();
+	}
+
+	@Override
+	public TransactionEvent decode(byte[] payload) {
+		Reader in = new Reader(payload);
+		int version = in.readByte();
+		if (version != VERSION_1 && version != VERSION_2) {
+			throw new IllegalArgumentException("Desteklenmeyen TransactionEvent binary versiyonu: " + version);
+		}
+		int presence = in.readByte();
+		int flags = in.readByte();
+		int counterpartyPresence = version == VERSION_2 ? in.readByte() : 0;
+
+		TransactionEvent event = new TransactionEvent();
+		event.setSuccessful((flags & FLAG_SUCCESSFUL) != 0);
+		if ((presence & HAS_TRANSACTION_ID) != 0) {
+			event.setTransactionId(in.readString());
+		}
+		if ((presence & HAS_ACCOUNT_NO) != 0) {
+			event.setAccountNo(in.readString());
+		}
+		if ((presence & HAS_CUSTOMER_ID) != 0) {
+			event.setCustomerId(in.readZigZag());
+		}
+		if ((presence & HAS_TRANSACTION_TYPE) != 0) {
+			int ordinal = in.readByte();
+			if (ordinal >= TRANSACTION_TYPES.length) {
+				throw new IllegalArgumentException("Bilinmeyen TransactionType ordinal'ı: " + ordinal);
+			}
+			event.setTransactionType(TRANSACTION_TYPES[ordinal]);
+		}
+		if ((presence & HAS_AMOUNT) != 0) {
+			event.setAmount(in.readDecimal());
+		}
+		if ((presence & HAS_PREVIOUS_BALANCE) != 0) {
+			event.setPreviousBalance(in.readDecimal());
+		}
+		if ((presence & HAS_NEW_BALANCE) != 0) {
+			event.setNewBalance(in.readDecimal());
+		}
+		if ((presence & HAS_TRANSACTION_DATE) != 0) {
+			event.setTransactionDate(fromEpochMicros(in.readZigZag()));
+		}
+		if ((counterpartyPresence & HAS_COUNTERPARTY_ACCOUNT_NO) != 0) {
+			event.setCounterpartyAccountNo(in.readString());
+		}
+		if ((counterpartyPresence & HAS_COUNTERPARTY_CUSTOMER_ID) != 0) {
+			event.setCounterpartyCustomerId(in.readZigZag());
+		}
+		if ((counterpartyPresence & HAS_COUNTERPARTY_PREVIOUS_BALANCE) != 0) {
+			event.setCounterpartyPreviousBalance(in.readDecimal());
+		}
+		if ((counterpartyPresence & HAS_COUNTERPARTY_NEW_BALANCE) != 0) {
+			event.setCounterpartyNewBalance(in.readDecimal());
+		}
+		return event;
+	}
+
+	@Override
+	public boolean supports(byte[] payload) {
+		return payload.length > 0 && (payload[0] == VERSION_1 || payload[0] == VERSION_2);
+	}
+
+	private static void writeDecimal(Writer out, Money value) {
+		if (value == null) {
+			return;
+		}
+		out.writeByte(Money.SCALE);
+		out.writeZigZag(value.minorUnits());
+	}
+
+	static long toEpochMicros(LocalDateTime dateTime) {
+		return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+				dateTime.getNano() / 1_000);
+	}
+
+	static LocalDateTime fromEpochMicros(long micros) {
+		long seconds = Math.floorDiv(micros, 1_000_000L);
+		int nanos = (int) Math.floorMod(micros, 1_000_000L) * 1_000;
+		return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+	}
+
+	private static byte[] utf8(String value) {
+		return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	private static int stringSize(byte[] value) {
+		return value != null ? 5 + value.length : 0;
+	}
+
+	private static final class Writer {
+		private final byte[] buffer;
+		private int position;
+
+		private Writer(int capacity) {
+			this.buffer = new byte[capacity];
+		}
+
+		void writeByte(int value) {
+			buffer[position++] = (byte) value;
+		}
+
+		void writeBytes(byte[] value) {
+			writeVarLong(value.length);
+			System.arraycopy(value, 0, buffer, position, value.length);
+			position += value.length;
+		}
+
+		void writeZigZag(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeVarLong(long value) {
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+	}
+
+	private static final class Reader {
+		private final byte[] buffer;
+		private int position;
+
+		private Reader(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		int readByte() {
+			ensure(1);
+			return buffer[position++] & 0xFF;
+		}
+
+		String readString() {
+			long length = readVarLong();
+			if (length > buffer.length - position) {
+				throw new IllegalArgumentException("TransactionEvent binary payload'ı eksik");
+			}
+			String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+			position += (int) length;
+			return value;
+		}
+
+		Money readDecimal() {
+			int scale = readByte();
+			long unscaled = readZigZag();
+			try {
+				return Money.ofScaled(unscaled, scale);
+			} catch (ArithmeticException e) {
+				throw new IllegalArgumentException("TransactionEvent binary payload'ında geçersiz tutar", e);
+			}
+		}
+
+		long readZigZag() {
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				int b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("TransactionEvent binary payload'ında geçersiz varint");
+		}
+
+		private void ensure(int count) {
+			if (position + count > buffer.length) {
+				throw new IllegalArgumentException("TransactionEvent binary payload'ı eksik");
+			}
+		}
+	}
+}
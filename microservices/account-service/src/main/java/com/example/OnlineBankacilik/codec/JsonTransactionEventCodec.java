@@ -0,0 +1,54 @@
+package com.example.OnlineBankacilik.codec;
+
+import java.io.IOException;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson JSON codec (önceki format)
+ * Üretilen byte'lar eski String payload'ın UTF-8 karşılığıdır; JSON bekleyen consumer'larla uyumludur.
+ */
+public class JsonTransactionEventCodec implements TransactionEventCodec {
+
+	public static final String NAME = "json";
+
+	private final ObjectMapper objectMapper;
+
+	public JsonTransactionEventCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte[] encode(TransactionEvent event) {
+		try {
+			return objectMapper.writeValueAsBytes(event);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("TransactionEvent JSON'a çevrilemedi: " + event.getTransactionId(), e);
+		}
+	}
+
+	@Override
+	public TransactionEvent decode(byte[] payload) {
+		try {
+			return objectMapper.readValue(payload, TransactionEvent.class);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("TransactionEvent JSON'u çözülemedi", e);
+		}
+	}
+
+	@Override
+	public boolean supports(byte[] payload) {
+		for (byte b : payload) {
+			if (!Character.isWhitespace(b)) {
+				return b == '{';
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.OnlineBankacilik.codec;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+
+/**
+ * TransactionEvent wire formatı
+ * Outbox payload'ı ve Kafka mesaj değeri bu arayüzle üretilir/çözülür.
+ * supports(...) payload'ın ilk byte'larına bakarak formatı tanır; böylece topic'te
+ * farklı formatlarda yazılmış mesajlar bir arada bulunabilir.
+ */
+public interface TransactionEventCodec {
+
+	String name();
+
+	byte[] encode(TransactionEvent event);
+
+	TransactionEvent decode(byte[] payload);
+
+	boolean supports(byte[] payload);
+}
@@ -0,0 +1,65 @@
+package com.example.OnlineBankacilik.codec;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Codec seçimi
+ * Yazma tarafı app.kafka.event-codec (json | binary) ile seçilen codec'i kullanır.
+ * Okuma tarafı payload formatını tanıyarak çözer; codec değiştirilirken topic'teki eski
+ * mesajlar ve henüz güncellenmemiş instance'ların mesajları okunmaya devam eder.
+ */
+@Slf4j
+@Component
+public class TransactionEventCodecs {
+
+	private final List<TransactionEventCodec> codecs;
+	private final TransactionEventCodec encoder;
+
+	public TransactionEventCodecs(ObjectMapper objectMapper,
+			@Value("${app.kafka.event-codec:" + JsonTransactionEventCodec.NAME + "}") String encoderName) {
+		this.codecs = List.of(new BinaryTransactionEventCodec(), new JsonTransactionEventCodec(objectMapper));
+		this.encoder = codecs.stream().filter(codec -> codec.name().equalsIgnoreCase(encoderName.trim())).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Bilinmeyen event codec: " + encoderName));
+		log.info("TransactionEvent codec'i: {}", encoder.name());
+	}
+
+	public String encoderName() {
+		return encoder.name();
+	}
+
+	public byte[] encode(TransactionEvent event) {
+		return encoder.encode(event);
+	}
+
+	public TransactionEvent decode(byte[] payload) {
+		if (payload == null || payload.length == 0) {
+			throw new IllegalArgumentException("Boş TransactionEvent payload'ı");
+		}
+		for (TransactionEventCodec codec : codecs) {
+			if (codec.supports(payload)) {
+				return codec.decode(payload);
+			}
+		}
+		throw new IllegalArgumentException("TransactionEvent payload formatı tanınmadı");
+	}
+
+	/**
+	 * Log/inceleme için okunabilir gösterim; çözülemeyen payload Base64 olarak döner
+	 */
+	public String describe(byte[] payload) {
+		try {
+			return decode(payload).toString();
+		} catch (RuntimeException e) {
+			return payload == null ? "null" : "base64:" + Base64.getEncoder().encodeToString(payload);
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.example.OnlineBankacilik.concurrency;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.exception.ConcurrentUpdateException;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hesap bazlı eşzamanlılık yönetimi
+ * Aynı accountNo üzerindeki bakiye değişiklikleri striped (parçalı) bir kilit ile sıraya girer,
+ * farklı hesaplar farklı stripe'lara düştüğü için paralel ilerler.
+ * Kilit transaction commit'ini de kapsar; başka node'lardan gelen çakışmalar ise
+ * Account.version (optimistic locking) ile yakalanır ve sınırlı sayıda yeniden denenir.
+ * Ledger modu açıksa işlem, hesapların ledger partition'ları DB'ye işlenip durdurulmuşken çalışır.
+ * Tek hesaplı işlemde kilidin beklenmesi, sayım açıksa (trackContention) hesap bazında sayılır (drainContention);
+ * sıcak hesap değerlendirmesi (HotAccountBalances) bu sayaçlarla hesabı slot'lu bakiyeye alır. Stripe'lar
+ * hesaplar arasında paylaşıldığı için yalnızca stripe'ı aynı hesap tutarken bekleyen işlemler sayılır; aynı
+ * stripe'a düşen soğuk hesaplar komşularının yükü yüzünden sıcak moda alınmaz.
+ */
+@Slf4j
+@Component
+public class AccountLockManager {
+
+	private final TransactionTemplate transactionTemplate;
+	private final ReentrantLock[] stripes;
+	private final int mask;
+	private final int maxRetries;
+	private final boolean stripedLocksEnabled;
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+	private final ConcurrentHashMap<String, LongAdder> contention = new ConcurrentHashMap<>();
+	// stripe index -> kilidi tutan tek hesaplı işlemin hesabı (toplu işlemde null)
+	private final AtomicReferenceArray<String> holders;
+	private volatile boolean contentionTracking;
+
+	public AccountLockManager(PlatformTransactionManager transactionManager,
+			@Value("${app.account.concurrency.stripes:1024}") int stripeCount,
+			@Value("${app.account.concurrency.max-retries:3}") int maxRetries,
+			@Value("${app.account.concurrency.striped-locks-enabled:true}") boolean stripedLocksEnabled,
+			ObjectProvider<LedgerEngine> ledgerEngine) {
+		this.ledgerEngine = ledgerEngine;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+		this.holders = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.maxRetries = Math.max(0, maxRetries);
+		this.stripedLocksEnabled = stripedLocksEnabled;
+		log.info("AccountLockManager hazır: stripes={}, maxRetries={}, stripedLocks={}", size, this.maxRetries,
+				stripedLocksEnabled);
+	}
+
+	/**
+	 * Verilen işlemi hesabın kilidi altında, kendi transaction'ı içinde çalıştırır.
+	 * Version çakışmasında işlem en fazla maxRetries kez yeniden denenir.
+	 */
+	public <T> T executeLocked(String accountNo, Supplier<T> action) {
+		if (!stripedLocksEnabled) {
+			return executeExclusive(List.of(accountNo), accountNo, action);
+		}
+		int index = stripeIndex(accountNo);
+		ReentrantLock lock = stripes[index];
+		if (!lock.tryLock()) {
+			recordContention(index, accountNo);
+			lock.lock();
+		}
+		holders.set(index, accountNo);
+		try {
+			return executeExclusive(List.of(accountNo), accountNo, action);
+		} finally {
+			holders.set(index, null);
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Birden fazla hesabı kapsayan işlem (toplu posting)
+	 * Stripe'lar her zaman artan index sırasıyla alınır; aynı anda çalışan iki toplu işlem
+	 * birbirini kilitlenmeye (deadlock) sokamaz. Tek hesaplı işlemler tek stripe tuttuğu için sırayı bozmaz.
+	 */
+	public <T> T executeLocked(Collection<String> accountNos, Supplier<T> action) {
+		String label = accountNos.size() == 1 ? accountNos.iterator().next() : accountNos.size() + " hesap";
+		if (!stripedLocksEnabled) {
+			return executeExclusive(accountNos, label, action);
+		}
+		int[] indexes = accountNos.stream().mapToInt(this::stripeIndex).distinct().sorted().toArray();
+		int locked = 0;
+		try {
+			for (int index : indexes) {
+				stripes[index].lock();
+				locked++;
+			}
+			return executeExclusive(accountNos, label, action);
+		} finally {
+			for (int i = locked - 1; i >= 0; i--) {
+				stripes[indexes[i]].unlock();
+			}
+		}
+	}
+
+	/**
+	 * Kilit almadan, kendi transaction'ı içinde ve version çakışmasında yeniden deneyerek çalıştırır.
+	 * Sıcak hesabın slot'larına yatırma gibi satır kilidi ve atomik UPDATE ile korunan yollar içindir.
+	 */
+	public <T> T executeUnlocked(String accountNo, Supplier<T> action) {
+		return executeWithRetry(accountNo, action);
+	}
+
+	/**
+	 * Kilit bekleme sayımını açar/kapatır; sıcak hesap modu kapalıyken sayaç tutulmaz
+	 */
+	public void trackContention(boolean enabled) {
+		this.contentionTracking = enabled;
+		if (!enabled) {
+			contention.clear();
+		}
+	}
+
+	/**
+	 * Son çağrıdan bu yana kilidi beklenen tek hesaplı işlem sayıları; sayaçlar sıfırlanır
+	 */
+	public Map<String, Long> drainContention() {
+		Map<String, Long> drained = new HashMap<>();
+		for (String accountNo : contention.keySet()) {
+			LongAdder waits = contention.remove(accountNo);
+			if (waits != null) {
+				drained.put(accountNo, waits.sum());
+			}
+		}
+		return drained;
+	}
+
+	// Ledger partition'ları stripe kilitlerinden sonra durdurulur; ledger thread'leri stripe kilidi almaz
+	private <T> T executeExclusive(Collection<String> accountNos, String label, Supplier<T> action) {
+		LedgerEngine ledger = ledgerEngine.getIfAvailable();
+		if (ledger == null) {
+			return executeWithRetry(label, action);
+		}
+		return ledger.exclusive(accountNos, () -> executeWithRetry(label, action));
+	}
+
+	private <T> T executeWithRetry(String accountNo, Supplier<T> action) {
+		int attempt = 0;
+		while (true) {
+			try {
+				return transactionTemplate.execute(status -> action.get());
+			} catch (OptimisticLockingFailureException e) {
+				if (attempt >= maxRetries) {
+					log.error("Version çakışması tekrar denemelere rağmen çözülemedi: hesapNo={}, deneme={}", accountNo,
+							attempt + 1);
+					throw new ConcurrentUpdateException(accountNo);
+				}
+				attempt++;
+				log.warn("Version çakışması, işlem tekrar deneniyor: hesapNo={}, deneme={}", accountNo, attempt);
+				backoff(accountNo, attempt);
+			}
+		}
+	}
+
+	// Stripe başka bir hesabın ya da toplu işlemin elindeyse bekleme stripe paylaşımındandır, sayılmaz
+	private void recordContention(int index, String accountNo) {
+		if (contentionTracking && accountNo.equals(holders.get(index))) {
+			contention.computeIfAbsent(accountNo, k -> new LongAdder()).increment();
+		}
+	}
+
+	private int stripeIndex(String accountNo) {
+		int h = accountNo.hashCode();
+		h ^= (h >>> 16);
+		return h & mask;
+	}
+
+	private void backoff(String accountNo, int attempt) {
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(1, 10L * attempt + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConcurrentUpdateException(accountNo);
+		}
+	}
+}
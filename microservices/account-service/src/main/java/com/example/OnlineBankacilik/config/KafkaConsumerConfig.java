@@ -0,0 +1,50 @@
+package com.example.OnlineBankacilik.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+public class KafkaConsumerConfig {
+
+	/**
+	 * Batch listener container factory
+	 * Listener her poll'daki kayıtları (max-poll-records) tek seferde alır;
+	 * offset'ler sadece batch tamamlandığında manuel olarak commit edilir.
+	 * Kafka auto-config kapalıyken (testler) consumer factory olmadan oluşturulur ve kullanılmaz.
+	 */
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+			ObjectProvider<ConcurrentKafkaListenerContainerFactoryConfigurer> configurer,
+			ObjectProvider<ConsumerFactory<Object, Object>> consumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.ifAvailable(c -> consumerFactory.ifAvailable(cf -> c.configure(factory, cf)));
+		factory.setBatchListener(true);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+		log.info("Batch Kafka listener container factory oluşturuldu (manual ack)");
+		return factory;
+	}
+
+	/**
+	 * Retry topic listener container factory
+	 * Kayıt bazlı (record) listener; zamanı gelmemiş kayıtlar ack edilmez, offset'e geri seek edilir.
+	 */
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> retryKafkaListenerContainerFactory(
+			ObjectProvider<ConcurrentKafkaListenerContainerFactoryConfigurer> configurer,
+			ObjectProvider<ConsumerFactory<Object, Object>> consumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.ifAvailable(c -> consumerFactory.ifAvailable(cf -> c.configure(factory, cf)));
+		factory.setBatchListener(false);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+		log.info("Retry Kafka listener container factory oluşturuldu (manual ack)");
+		return factory;
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.OnlineBankacilik.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import com.example.OnlineBankacilik.Kafka.NotificationRetryRouter;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+public class KafkaTopicConfig {
+
+	/**
+	 * Retry kademe topic'leri ve DLQ
+	 * Broker'da auto-create kapalı olsa da KafkaAdmin açılışta eksik topic'leri oluşturur.
+	 * Kafka auto-config kapalıyken (testler) KafkaAdmin olmadığı için bean kullanılmaz.
+	 */
+	@Bean
+	public KafkaAdmin.NewTopics notificationRetryTopics(NotificationRetryRouter router,
+			@Value("${app.kafka.dlq-topic:transaction-events-dlq}") String dlqTopic,
+			@Value("${app.kafka.retry.topic-partitions:3}") int partitions,
+			@Value("${app.kafka.retry.topic-replicas:1}") int replicas) {
+		List<NewTopic> topics = new ArrayList<>();
+		for (String topic : router.tierTopics()) {
+			topics.add(TopicBuilder.name(topic).partitions(partitions).replicas(replicas).build());
+		}
+		topics.add(TopicBuilder.name(dlqTopic).partitions(partitions).replicas(replicas).build());
+		log.info("Retry/DLQ topic tanımları: {}", topics.stream().map(NewTopic::name).toList());
+		return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+	}
+}
@@ -1,7 +1,10 @@
 package com.example.OnlineBankacilik.config;
 
 import java.time.Duration;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -10,10 +13,16 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.OnlineBankacilik.cache.TwoLevelCache;
+import com.example.OnlineBankacilik.cache.TwoLevelCacheManager;
+import com.example.OnlineBankacilik.cache.TwoLevelCacheMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +32,18 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = false)
 public class RedisConfig {
 
+	@Value("${app.cache.l1.enabled:true}")
+	private boolean l1Enabled;
+
+	@Value("${app.cache.l1.maximum-size:10000}")
+	private long l1MaximumSize;
+
+	@Value("${app.cache.l1.ttl:30s}")
+	private Duration l1Ttl;
+
+	@Value("${app.cache.invalidation-channel:account-cache-invalidation}")
+	private String invalidationChannel;
+
 	// Spring Boot'un otomatik yapılandırdığı ObjectMapper bean'ini kullan
 	// Bu, Spring Boot'un tüm otomatik yapılandırmalarını içerir (JavaTimeModule dahil)
 	@Bean
@@ -46,7 +67,8 @@ public class RedisConfig {
 	@Bean
 	public CacheManager cacheManager(
 			RedisConnectionFactory connectionFactory,
-			ObjectMapper objectMapper) {
+			ObjectMapper objectMapper,
+			StringRedisTemplate stringRedisTemplate) {
 		log.info("RedisCacheManager oluşturuluyor...");
 		
 		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
@@ -57,13 +79,48 @@ public class RedisConfig {
 				.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
 				.disableCachingNullValues();
 		
-		RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory)
+		// Cache'ler başlangıçta oluşturulur ki actuator cache metrikleri (hit/miss) cache adına göre bağlanabilsin
+		RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
 				.cacheDefaults(cacheConfig)
-				.transactionAware()
-				.build();
-		
-		log.info("RedisCacheManager başarıyla oluşturuldu (Spring Boot ObjectMapper ile)");
+				.initialCacheNames(Set.of("account", "customerAccounts"))
+				.enableStatistics();
+
+		if (!l1Enabled) {
+			RedisCacheManager cacheManager = builder.transactionAware().build();
+			log.info("RedisCacheManager başarıyla oluşturuldu (Spring Boot ObjectMapper ile)");
+			return cacheManager;
+		}
+
+		// L2 transaction-aware değil; transaction senkronizasyonu iki seviyeyi birlikte kapsayacak şekilde üst katmanda yapılır
+		RedisCacheManager redisCacheManager = builder.build();
+		redisCacheManager.afterPropertiesSet();
+		TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+				objectMapper, invalidationChannel, l1MaximumSize, l1Ttl);
+		cacheManager.setTransactionAware(true);
+		log.info("İki seviyeli CacheManager oluşturuldu: L1 maxSize={}, L1 ttl={}, kanal={}", l1MaximumSize, l1Ttl,
+				invalidationChannel);
 		return cacheManager;
 	}
-}
 
+	/**
+	 * Diğer instance'lardan gelen L1 invalidation mesajlarını dinler
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "app.cache.l1.enabled", havingValue = "true", matchIfMissing = true)
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+			RedisConnectionFactory connectionFactory,
+			CacheManager cacheManager) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+			container.addMessageListener(twoLevelCacheManager, new ChannelTopic(twoLevelCacheManager.getChannel()));
+			log.info("Cache invalidation kanalı dinleniyor: {}", twoLevelCacheManager.getChannel());
+		}
+		return container;
+	}
+
+	@Bean
+	public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+		return TwoLevelCacheMetrics::new;
+	}
+}
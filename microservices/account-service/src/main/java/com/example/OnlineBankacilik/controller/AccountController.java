@@ -9,12 +9,17 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.OnlineBankacilik.dto.AccountPageDto;
 import com.example.OnlineBankacilik.dto.AccountRequestDto;
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.idempotency.IdempotencyStore;
 import com.example.OnlineBankacilik.service.AccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 public class AccountController {
 
 	private final AccountService accountService;
+	private final IdempotencyStore idempotencyStore;
 
 	@PostMapping
 	public ResponseEntity<AccountResponseDto> openAnAcoount(@Valid @RequestBody AccountRequestDto dto) {
@@ -32,8 +38,9 @@ public class AccountController {
 	}
 
 	@GetMapping
-	public ResponseEntity<List<AccountResponseDto>> getAllAccounts() {
-		return ResponseEntity.ok(accountService.allAccounts());
+	public ResponseEntity<AccountPageDto> getAllAccounts(@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "50") int limit) {
+		return ResponseEntity.ok(accountService.accountsPage(after, limit));
 	}
 
 	@GetMapping("/{accountNo}")
@@ -54,14 +61,26 @@ public class AccountController {
 
 	@PostMapping("/{accountNo}/deposit")
 	public ResponseEntity<AccountResponseDto> deposit(@PathVariable String accountNo,
+			@RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
 			@Valid @RequestBody TransactionRequestDto request) {
-		return ResponseEntity.ok(accountService.deposit(accountNo, request));
+		if (idempotencyKey == null) {
+			return ResponseEntity.ok(accountService.deposit(accountNo, request));
+		}
+		return ResponseEntity.ok(idempotencyStore.execute(idempotencyKey, TransactionType.YATIRMA, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.deposit(accountNo, request, idempotencyKey)));
 	}
 
 	@PostMapping("/{accountNo}/withdraw")
 	public ResponseEntity<AccountResponseDto> withdraw(@PathVariable String accountNo,
+			@RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
 			@Valid @RequestBody TransactionRequestDto request) {
-		return ResponseEntity.ok(accountService.withdraw(accountNo, request));
+		if (idempotencyKey == null) {
+			return ResponseEntity.ok(accountService.withdraw(accountNo, request));
+		}
+		return ResponseEntity.ok(idempotencyStore.execute(idempotencyKey, TransactionType.CEKME, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.withdraw(accountNo, request, idempotencyKey)));
 	}
 
 	@PostMapping("/{accountNo}/interest")
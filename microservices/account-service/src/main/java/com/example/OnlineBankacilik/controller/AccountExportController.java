@@ -0,0 +1,26 @@
+package com.example.OnlineBankacilik.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.OnlineBankacilik.service.AccountExportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/export")
+@RequiredArgsConstructor
+public class AccountExportController {
+
+	private final AccountExportService accountExportService;
+
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export() {
+		StreamingResponseBody body = accountExportService::exportNdjson;
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.OnlineBankacilik.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.dto.AccountBalanceDto;
+import com.example.OnlineBankacilik.service.AccountHistoryService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/{accountNo}/balance")
+@RequiredArgsConstructor
+public class AccountHistoryController {
+
+	private final AccountHistoryService accountHistoryService;
+
+	/**
+	 * Olay akışından bakiye; at verilirse o andaki bakiye (ISO tarih-saat), verilmezse güncel bakiye
+	 */
+	@GetMapping
+	public ResponseEntity<AccountBalanceDto> balance(@PathVariable String accountNo,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+		return accountHistoryService.balance(accountNo, at).map(ResponseEntity::ok)
+				.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Hesap bakiyesini olay akışından yeniden kurar (bozulma sonrası kurtarma)
+	 */
+	@PostMapping("/rebuild")
+	public ResponseEntity<AccountBalanceDto> rebuild(@PathVariable String accountNo) {
+		return ResponseEntity.ok(accountHistoryService.rebuild(accountNo));
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.OnlineBankacilik.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.dto.AccountImportReportDto;
+import com.example.OnlineBankacilik.service.AccountImportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/imports")
+@RequiredArgsConstructor
+public class AccountImportController {
+
+	private final AccountImportService accountImportService;
+
+	// Gövde bellekte toplanmaz; istek akışı satır satır okunur
+	@PostMapping(consumes = "text/csv")
+	public ResponseEntity<AccountImportReportDto> importCsv(InputStream body) throws IOException {
+		return ResponseEntity.ok(accountImportService.importCsv(body));
+	}
+}
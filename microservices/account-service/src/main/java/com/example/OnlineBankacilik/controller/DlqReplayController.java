@@ -0,0 +1,38 @@
+package com.example.OnlineBankacilik.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.Kafka.DlqReplayService;
+import com.example.OnlineBankacilik.dto.DlqReplayStatusDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/dlq")
+@RequiredArgsConstructor
+public class DlqReplayController {
+
+	private final DlqReplayService dlqReplayService;
+
+	/**
+	 * Replay'i arka planda başlatır; ilerleme GET /accounts/dlq/replay/{replayId} ile izlenir
+	 */
+	@PostMapping("/replay")
+	public ResponseEntity<DlqReplayStatusDto> replay(@RequestParam(defaultValue = "1000") int max,
+			@RequestParam(required = false) Integer ratePerSecond) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(dlqReplayService.replay(max, ratePerSecond));
+	}
+
+	@GetMapping("/replay/{replayId}")
+	public ResponseEntity<DlqReplayStatusDto> status(@PathVariable String replayId) {
+		return dlqReplayService.status(replayId).map(ResponseEntity::ok)
+				.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+}
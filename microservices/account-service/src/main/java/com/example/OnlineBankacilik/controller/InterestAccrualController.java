@@ -0,0 +1,42 @@
+package com.example.OnlineBankacilik.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.dto.InterestAccrualStatusDto;
+import com.example.OnlineBankacilik.service.InterestAccrualService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/interest/accruals")
+@RequiredArgsConstructor
+public class InterestAccrualController {
+
+	private final InterestAccrualService interestAccrualService;
+
+	/**
+	 * Dönem için toplu faiz tahakkukunu başlatır (veya checkpoint'ten devam ettirir); iş arka planda çalışır
+	 */
+	@PostMapping
+	public ResponseEntity<InterestAccrualStatusDto> start(
+			@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth period) {
+		YearMonth runPeriod = period != null ? period : YearMonth.now();
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(interestAccrualService.start(runPeriod));
+	}
+
+	@GetMapping("/{runId}")
+	public ResponseEntity<InterestAccrualStatusDto> status(@PathVariable String runId) {
+		return interestAccrualService.status(runId).map(ResponseEntity::ok)
+				.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.OnlineBankacilik.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.dto.MaturityRunStatusDto;
+import com.example.OnlineBankacilik.service.MaturityService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/maturities")
+@RequiredArgsConstructor
+public class MaturityController {
+
+	private final MaturityService maturityService;
+
+	/**
+	 * Vade tarihine kadar vadesi gelen hesaplar için çalıştırmayı planlar (planlanmışsa başarısız shard'ları
+	 * yeniden kuyruğa alır); shard'lar arka planda, sahiplenen node'larda işlenir
+	 */
+	@PostMapping
+	public ResponseEntity<MaturityRunStatusDto> plan(
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+		LocalDate maturityDate = date != null ? date : LocalDate.now();
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(maturityService.plan(maturityDate));
+	}
+
+	@GetMapping("/{date}")
+	public ResponseEntity<MaturityRunStatusDto> status(
+			@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+		return maturityService.status(date).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+	}
+}
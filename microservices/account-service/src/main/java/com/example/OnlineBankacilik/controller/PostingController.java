@@ -0,0 +1,27 @@
+package com.example.OnlineBankacilik.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.dto.BatchPostingRequestDto;
+import com.example.OnlineBankacilik.dto.BatchPostingResponseDto;
+import com.example.OnlineBankacilik.service.BatchPostingService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/postings")
+@RequiredArgsConstructor
+public class PostingController {
+
+	private final BatchPostingService batchPostingService;
+
+	@PostMapping("/batch")
+	public ResponseEntity<BatchPostingResponseDto> postBatch(@Valid @RequestBody BatchPostingRequestDto request) {
+		return ResponseEntity.ok(batchPostingService.post(request));
+	}
+}
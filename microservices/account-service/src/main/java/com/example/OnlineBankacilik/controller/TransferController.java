@@ -0,0 +1,39 @@
+package com.example.OnlineBankacilik.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.idempotency.IdempotencyStore;
+import com.example.OnlineBankacilik.service.TransferService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/accounts/transfers")
+@RequiredArgsConstructor
+public class TransferController {
+
+	private final TransferService transferService;
+	private final IdempotencyStore idempotencyStore;
+
+	@PostMapping
+	public ResponseEntity<TransferResponseDto> transfer(
+			@RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+			@Valid @RequestBody TransferRequestDto request) {
+		if (idempotencyKey == null) {
+			return ResponseEntity.ok(transferService.transfer(request, null));
+		}
+		return ResponseEntity.ok(idempotencyStore.execute(idempotencyKey, TransactionType.TRANSFER,
+				IdempotencyStore.transferScope(request.getFromAccountNo(), request.getToAccountNo()),
+				request.getAmount(), TransferResponseDto.class,
+				() -> transferService.transfer(request, idempotencyKey)));
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.OnlineBankacilik.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * readOnly transaction içinde olsa da primary'den okunması gereken sorgular
+ * Cache'e yazılan sonuçlar (@Cacheable yüklemeleri) replikasyon gecikmesiyle eski bakiyeyi Redis/L1'e taşımasın
+ * diye primary'den okunur. Bağlantı LazyConnectionDataSourceProxy ile ilk sorguda alındığından işaret metot
+ * gövdesinde konulması yeterlidir.
+ */
+public final class PrimaryReads {
+
+	private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+	private PrimaryReads() {
+	}
+
+	public static <T> T call(Supplier<T> read) {
+		Boolean previous = FORCED.get();
+		FORCED.set(Boolean.TRUE);
+		try {
+			return read.get();
+		} finally {
+			if (previous == null) {
+				FORCED.remove();
+			} else {
+				FORCED.set(previous);
+			}
+		}
+	}
+
+	public static boolean forced() {
+		return Boolean.TRUE.equals(FORCED.get());
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class AccountBalanceDto {
+
+	private String accountNo;
+	private BigDecimal balance;
+	private LocalDateTime at; // null: güncel bakiye
+	private long snapshotSeq; // Başlangıç alınan snapshot
+	private long lastSeq; // Bakiyeye dahil edilen son olay
+	private int replayedEvents; // Snapshot üzerine uygulanan olay sayısı
+	private Boolean corrected; // Sadece yeniden kurma: hesap bakiyesi olay akışına göre düzeltildi mi
+}
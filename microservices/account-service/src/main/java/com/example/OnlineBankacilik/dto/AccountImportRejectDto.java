@@ -0,0 +1,15 @@
+package com.example.OnlineBankacilik.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportRejectDto {
+
+	private int line; // CSV'deki satır numarası (1'den başlar, başlık dahil)
+	private String error;
+	private String message;
+}
@@ -0,0 +1,22 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportReportDto {
+
+	private long total;
+	private long imported;
+	private long rejected;
+	private String loadMethod; // COPY ya da BATCH_INSERT; hiç satır yazılmadıysa null
+	private long durationMs;
+	private double rowsPerSecond; // İşlenen (açılan + reddedilen) satır/sn
+	private List<AccountImportRejectDto> rejects;
+	private boolean rejectsTruncated; // Red listesi app.account.import.max-rejects ile sınırlandı
+}
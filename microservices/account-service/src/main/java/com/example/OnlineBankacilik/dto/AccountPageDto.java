@@ -0,0 +1,20 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GET /accounts keyset sayfası
+ * nextCursor bir sonraki sayfa için ?after= parametresine verilir; son sayfada null'dır.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountPageDto {
+
+	private List<AccountResponseDto> items;
+	private String nextCursor;
+}
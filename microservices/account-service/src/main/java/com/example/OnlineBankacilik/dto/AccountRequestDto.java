@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import com.example.OnlineBankacilik.enums.AccountType;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -17,6 +18,7 @@ public class AccountRequestDto {
 	private AccountType accountType;
 	@NotNull
 	@DecimalMin(value = "0.0", inclusive = false)
+	@Digits(integer = 17, fraction = 2) // Money (kuruş) ile birebir temsil edilebilmeli
 	private BigDecimal firstAmount;
 
 	// only for VADELI
@@ -0,0 +1,16 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class BatchPostingRequestDto {
+
+	@NotEmpty
+	@Size(max = 10000)
+	private List<@Valid PostingRequestDto> postings;
+}
@@ -0,0 +1,18 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPostingResponseDto {
+
+	private int total;
+	private int succeeded;
+	private int failed;
+	private List<PostingResultDto> results;
+}
@@ -0,0 +1,23 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.CustomerEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * customer-service'in yayınladığı müşteri değişiklik event'i (customer-events topic'i)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerChangedEvent {
+
+	private CustomerEventType type;
+	private Long customerId;
+	private String nameSurname;
+	private LocalDateTime occurredAt;
+}
@@ -0,0 +1,21 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.DlqReplayStatus;
+
+import lombok.Data;
+
+@Data
+public class DlqReplayStatusDto {
+
+	private String replayId;
+	private DlqReplayStatus status;
+	private int maxMessages; // İstenen üst sınır
+	private int replayed; // Kaynak topic'e geri gönderilen mesaj sayısı (çalışırken güncellenir)
+	private int ratePerSecond; // Uygulanan gönderim hızı
+	private LocalDateTime startedAt;
+	private LocalDateTime completedAt;
+	private long durationMs; // Başlangıçtan bu yana (tamamlandıysa toplam) süre
+	private String error; // FAILED ise hata mesajı
+}
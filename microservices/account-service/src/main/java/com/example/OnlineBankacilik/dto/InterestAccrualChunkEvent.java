@@ -0,0 +1,25 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu faiz tahakkukunda her chunk için yayınlanan özet event
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestAccrualChunkEvent {
+
+	private String runId; // Dönem (yyyy-MM)
+	private long chunkNo;
+	private String firstAccountNo;
+	private String lastAccountNo;
+	private int accountCount;
+	private BigDecimal totalInterest; // Chunk'ta işlenen toplam faiz
+	private LocalDateTime processedAt;
+}
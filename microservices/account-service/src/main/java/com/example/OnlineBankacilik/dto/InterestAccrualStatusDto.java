@@ -0,0 +1,23 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.AccrualStatus;
+
+import lombok.Data;
+
+@Data
+public class InterestAccrualStatusDto {
+
+	private String runId;
+	private AccrualStatus status;
+	private String lastAccountNo;
+	private long processedAccounts;
+	private long chunks;
+	private BigDecimal totalInterest;
+	private LocalDateTime startedAt;
+	private LocalDateTime updatedAt;
+	private LocalDateTime completedAt;
+	private double accountsPerSecond; // Başlangıçtan (veya devamdan) bu yana ortalama
+}
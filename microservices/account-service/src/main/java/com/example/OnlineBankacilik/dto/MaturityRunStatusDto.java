@@ -0,0 +1,26 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.OnlineBankacilik.enums.MaturityStatus;
+
+import lombok.Data;
+
+@Data
+public class MaturityRunStatusDto {
+
+	private String runId;
+	private LocalDate maturityDate;
+	private MaturityStatus status; // Shard durumlarından türetilir
+	private long totalAccounts;
+	private long processedAccounts;
+	private int shardCount;
+	private int completedShards;
+	private BigDecimal totalInterest;
+	private LocalDateTime createdAt;
+	private double accountsPerSecond; // Çalışan shard'ların toplam hızı
+	private List<MaturityShardStatusDto> shards;
+}
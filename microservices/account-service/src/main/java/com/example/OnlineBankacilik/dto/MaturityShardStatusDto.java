@@ -0,0 +1,26 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.MaturityStatus;
+
+import lombok.Data;
+
+@Data
+public class MaturityShardStatusDto {
+
+	private int shardNo;
+	private String lowerAccountNo; // Hariç
+	private String upperAccountNo; // Dahil
+	private MaturityStatus status;
+	private String owner;
+	private long expectedAccounts;
+	private long processedAccounts;
+	private String lastAccountNo;
+	private BigDecimal totalInterest;
+	private LocalDateTime startedAt;
+	private LocalDateTime updatedAt;
+	private LocalDateTime completedAt;
+	private double accountsPerSecond; // Shard başlangıcından bu yana ortalama
+}
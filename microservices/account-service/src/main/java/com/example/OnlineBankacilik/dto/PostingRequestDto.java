@@ -0,0 +1,24 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+
+import com.example.OnlineBankacilik.enums.TransactionType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class PostingRequestDto {
+
+	private String reference; // İstemcinin kalem referansı (opsiyonel, sonuçta geri döner)
+
+	@NotBlank
+	private String accountNo;
+
+	@NotNull
+	private TransactionType transactionType; // YATIRMA / CEKME
+
+	private BigDecimal amount;
+	private String explanation;
+}
@@ -0,0 +1,23 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+
+import com.example.OnlineBankacilik.enums.TransactionType;
+
+import lombok.Data;
+
+@Data
+public class PostingResultDto {
+
+	private int index; // İstekteki sıra
+	private String reference;
+	private String accountNo;
+	private TransactionType transactionType;
+	private BigDecimal amount;
+	private boolean success;
+	private BigDecimal newBalance; // Başarılı kalemde işlem sonrası bakiye
+
+	// Başarısız kalemde hata türü ve mesajı
+	private String error;
+	private String message;
+}
@@ -1,9 +1,11 @@
 package com.example.OnlineBankacilik.dto;
 
 import java.io.Serializable;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.example.OnlineBankacilik.money.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,10 +20,28 @@ public class TransactionEvent implements Serializable {
 	private String transactionId; // Process.transactionCode
 	private String accountNo; // İşlemin yapıldığı hesap numarası
 	private Long customerId; // İşlemi yapan müşteri ID
-	private com.example.OnlineBankacilik.enums.TransactionType transactionType; // YATIRMA / CEKME
-	private BigDecimal amount; // İşlem tutarı
-	private BigDecimal previousBalance; // Eski bakiye
-	private BigDecimal newBalance; // Yeni bakiye
+	private com.example.OnlineBankacilik.enums.TransactionType transactionType; // YATIRMA / CEKME / FAIZ_ISLEME / TRANSFER
+	private Money amount; // İşlem tutarı
+	private Money previousBalance; // Eski bakiye
+	private Money newBalance; // Yeni bakiye
 	private boolean successful; // İşlem başarılı mı?
 	private LocalDateTime transactionDate; // Zaman damgası
+
+	// TRANSFER: tek (eşli) event; yukarıdaki alanlar borçlanan hesabın, aşağıdakiler alacaklanan hesabın.
+	// Diğer işlemlerde null'dır ve JSON'a yazılmaz (payload değişmez)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String counterpartyAccountNo;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long counterpartyCustomerId;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Money counterpartyPreviousBalance;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Money counterpartyNewBalance;
+
+	public TransactionEvent(String transactionId, String accountNo, Long customerId,
+			com.example.OnlineBankacilik.enums.TransactionType transactionType, Money amount, Money previousBalance,
+			Money newBalance, boolean successful, LocalDateTime transactionDate) {
+		this(transactionId, accountNo, customerId, transactionType, amount, previousBalance, newBalance, successful,
+				transactionDate, null, null, null, null);
+	}
 }
\ No newline at end of file
@@ -1,12 +1,12 @@
 package com.example.OnlineBankacilik.dto;
 
-import java.math.BigDecimal;
+import com.example.OnlineBankacilik.money.Money;
 
 import lombok.Data;
 
 @Data
 public class TransactionRequestDto {
-    private BigDecimal amount;
+    private Money amount;
     private String explanation;
 }
 
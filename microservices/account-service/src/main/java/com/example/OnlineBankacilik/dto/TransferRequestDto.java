@@ -0,0 +1,19 @@
+package com.example.OnlineBankacilik.dto;
+
+import com.example.OnlineBankacilik.money.Money;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class TransferRequestDto {
+
+	@NotBlank
+	private String fromAccountNo; // Borçlanan hesap
+
+	@NotBlank
+	private String toAccountNo; // Alacaklanan hesap
+
+	private Money amount;
+	private String explanation;
+}
@@ -0,0 +1,23 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class TransferResponseDto {
+
+	private String transferId; // Eşli event'in ve iki hesabın olay kayıtlarının ortak transactionId'si
+	private String fromAccountNo;
+	private Long fromCustomerId;
+	private String toAccountNo;
+	private Long toCustomerId;
+	private BigDecimal amount;
+	private BigDecimal fromPreviousBalance;
+	private BigDecimal fromNewBalance;
+	private BigDecimal toPreviousBalance;
+	private BigDecimal toNewBalance;
+	private String explanation;
+	private LocalDateTime transactionDate;
+}
@@ -1,24 +1,30 @@
 package com.example.OnlineBankacilik.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.example.OnlineBankacilik.money.Money;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
 @Getter
 @Setter
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = { @Index(name = "idx_accounts_customer_id", columnList = "customer_id"),
+		@Index(name = "idx_accounts_maturity_date", columnList = "maturity_date, account_no") })
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "account_type", length = 20)
 public abstract class Account {
@@ -31,7 +37,7 @@ public abstract class Account {
 	private Long customerId;
 
 	@Column(name = "amount", precision = 19, scale = 2, nullable = false)
-	private BigDecimal amount = BigDecimal.ZERO;
+	private Money amount = Money.ZERO; // MoneyConverter (autoApply) ile NUMERIC(19,2)
 	
 	@Column(name = "opening_date", nullable = false)
 	private LocalDateTime openingDate;
@@ -39,6 +45,12 @@ public abstract class Account {
 	@Column(name = "active", nullable = false)
 	private boolean active = true;
 
+	// Optimistic locking: farklı node'lardan gelen eşzamanlı güncellemeleri yakalar
+	@Version
+	@ColumnDefault("0")
+	@Column(name = "version", nullable = false)
+	private Long version = 0L;
+
 	@PrePersist
 	protected void onCreate() {
 		if (openingDate == null) {
@@ -54,7 +66,7 @@ public abstract class Account {
 		}
 	}
 
-	public abstract void deposit(BigDecimal amount);
+	public abstract void deposit(Money amount);
 
-	public abstract void withdraw(BigDecimal amount);
+	public abstract void withdraw(Money amount);
 }
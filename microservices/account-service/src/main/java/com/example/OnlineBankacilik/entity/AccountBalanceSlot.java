@@ -0,0 +1,54 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.io.Serializable;
+
+import com.example.OnlineBankacilik.money.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Sıcak hesap bakiyesinin bir parçası
+ * Hesabın toplam bakiyesi accounts.amount ile slot'ların toplamıdır; slot'lar henüz olay akışına
+ * işlenmemiş yatırmaları tutar (HotAccountBalances).
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "account_balance_slots")
+@IdClass(AccountBalanceSlot.Key.class)
+public class AccountBalanceSlot {
+
+	@Id
+	@Column(name = "account_no", length = 50)
+	private String accountNo;
+
+	@Id
+	@Column(name = "slot")
+	private Integer slot;
+
+	@Column(name = "amount", precision = 19, scale = 2, nullable = false)
+	private Money amount;
+
+	@Column(name = "deposits", nullable = false)
+	private Long deposits;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String accountNo;
+		private Integer slot;
+	}
+}
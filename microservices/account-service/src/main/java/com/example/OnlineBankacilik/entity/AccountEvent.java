@@ -0,0 +1,65 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Hesap olay akışının bir kaydı (yalnızca ekleme yapılır)
+ * seq hesap başına artan sıradır; bakiye, seq'ten önceki son snapshot + sonraki delta'ların toplamıdır
+ * (AccountEventStore).
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "account_events")
+@IdClass(AccountEvent.Key.class)
+public class AccountEvent {
+
+	@Id
+	@Column(name = "account_no", length = 50)
+	private String accountNo;
+
+	@Id
+	@Column(name = "seq")
+	private Long seq;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", length = 20, nullable = false)
+	private TransactionType eventType;
+
+	@Column(name = "delta", precision = 19, scale = 2, nullable = false)
+	private Money delta; // Çekmede negatif
+
+	@Column(name = "transaction_id", length = 50)
+	private String transactionId;
+
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String accountNo;
+		private Long seq;
+	}
+}
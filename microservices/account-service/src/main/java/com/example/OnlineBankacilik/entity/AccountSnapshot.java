@@ -0,0 +1,57 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.money.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Hesap olay akışının periyodik bakiye snapshot'ı
+ * seq 0 açılış (veya geçiş öncesi mevcut) bakiyesidir; sonrakiler her app.account.events.snapshot-interval
+ * olayda bir, olayla aynı transaction'da yazılır.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "account_snapshots",
+		indexes = @Index(name = "idx_account_snapshots_as_of", columnList = "account_no, as_of"))
+@IdClass(AccountSnapshot.Key.class)
+public class AccountSnapshot {
+
+	@Id
+	@Column(name = "account_no", length = 50)
+	private String accountNo;
+
+	@Id
+	@Column(name = "seq")
+	private Long seq;
+
+	@Column(name = "balance", precision = 19, scale = 2, nullable = false)
+	private Money balance; // seq dahil tüm olaylardan sonraki bakiye
+
+	@Column(name = "as_of", nullable = false)
+	private LocalDateTime asOf; // seq'teki olayın zamanı
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String accountNo;
+		private Long seq;
+	}
+}
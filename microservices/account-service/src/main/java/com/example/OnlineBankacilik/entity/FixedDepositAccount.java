@@ -1,6 +1,6 @@
 package com.example.OnlineBankacilik.entity;
 
-import java.math.BigDecimal;
+import com.example.OnlineBankacilik.money.Money;
 
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
@@ -12,12 +12,12 @@ import lombok.EqualsAndHashCode;
 public class FixedDepositAccount extends Account {
 
 	@Override
-	public void deposit(BigDecimal amount) {
-		setAmount(getAmount().add(amount));
+	public void deposit(Money amount) {
+		setAmount(getAmount().plus(amount));
 	}
 
 	@Override
-	public void withdraw(BigDecimal amount) {
-		setAmount(getAmount().subtract(amount));
+	public void withdraw(Money amount) {
+		setAmount(getAmount().minus(amount));
 	}
 }
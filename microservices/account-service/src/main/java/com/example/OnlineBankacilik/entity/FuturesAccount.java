@@ -3,6 +3,8 @@ package com.example.OnlineBankacilik.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import com.example.OnlineBankacilik.money.Money;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
@@ -28,18 +30,25 @@ public class FuturesAccount extends Account {
 
 	public void interestProcessing() {
 		if (interestRate != null) {
-			BigDecimal increase = getAmount().multiply(interestRate);
-			setAmount(getAmount().add(increase));
+			setAmount(getAmount().plus(interestFor(getAmount(), interestRate)));
 		}
 	}
 
+	/**
+	 * Tek dönemlik faiz tutarı, Money.INTEREST_ROUNDING ile kuruşa yuvarlanır
+	 * (toplu tahakkuk da aynı hesabı kullanır)
+	 */
+	public static Money interestFor(Money amount, BigDecimal interestRate) {
+		return amount.multiply(interestRate, Money.INTEREST_ROUNDING);
+	}
+
 	@Override
-	public void deposit(BigDecimal amount) {
-		setAmount(getAmount().add(amount));
+	public void deposit(Money amount) {
+		setAmount(getAmount().plus(amount));
 	}
 
 	@Override
-	public void withdraw(BigDecimal amount) {
-		setAmount(getAmount().subtract(amount));
+	public void withdraw(Money amount) {
+		setAmount(getAmount().minus(amount));
 	}
 }
@@ -0,0 +1,57 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.IdempotencyStatus;
+import com.example.OnlineBankacilik.enums.TransactionType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key ile yapılmış yatırma/çekme işleminin kaydı
+ * Bakiye değişikliğiyle aynı transaction'da yazılır; aynı anahtarla gelen tekrar istek işlemi yeniden
+ * yapmak yerine saklanan cevabı alır. Ledger yolunda kayıt işlemden önce PENDING olarak ayrılır.
+ * Süresi dolan kayıtlar IdempotencyStore tarafından silinir.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+	@Id
+	@Column(name = "idempotency_key", length = 100)
+	private String idempotencyKey;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "transaction_type", nullable = false, length = 20)
+	private TransactionType transactionType;
+
+	@Column(name = "account_no", nullable = false, length = 50)
+	private String accountNo;
+
+	@Column(precision = 19, scale = 2)
+	private BigDecimal amount; // İstek tutarı (aynı anahtarın farklı istekle kullanımını yakalamak için)
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private IdempotencyStatus status; // PENDING: ledger yolunda ayrılmış, cevap henüz yazılmamış
+
+	@Column(length = 4000)
+	private String response; // İlk cevabın JSON hali
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,59 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.AccrualStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Toplu faiz tahakkuku çalıştırması ve checkpoint'i
+ * Her chunk'ın bakiye güncellemeleri ile lastAccountNo/sayaç güncellemesi aynı transaction'da commit edilir;
+ * yeniden başlatılan çalıştırma lastAccountNo'dan devam eder ve hiçbir hesaba iki kez faiz işlenmez.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "interest_accrual_runs")
+public class InterestAccrualRun {
+
+	@Id
+	@Column(name = "run_id", length = 20)
+	private String runId; // Dönem (yyyy-MM)
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	private AccrualStatus status;
+
+	@Column(name = "last_account_no", length = 50)
+	private String lastAccountNo; // Son commit edilen chunk'ın son hesabı (keyset checkpoint)
+
+	@Column(name = "processed_accounts", nullable = false)
+	private long processedAccounts;
+
+	@Column(name = "chunks", nullable = false)
+	private long chunks;
+
+	@Column(name = "total_interest", precision = 19, scale = 2, nullable = false)
+	private BigDecimal totalInterest = BigDecimal.ZERO;
+
+	@Column(name = "owner", length = 100)
+	private String owner; // Çalıştırmayı yürüten instance
+
+	@Column(name = "started_at", nullable = false)
+	private LocalDateTime startedAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Column(name = "completed_at")
+	private LocalDateTime completedAt;
+}
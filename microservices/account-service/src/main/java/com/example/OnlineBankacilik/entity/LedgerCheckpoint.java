@@ -0,0 +1,32 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Ledger partition'ının DB'ye uygulanmış son journal sırası
+ * Bakiye farkları ve event'lerle aynı transaction'da ilerler; açılışta journal'ın bu sıradan sonraki
+ * kayıtları DB'ye uygulanır (JdbcLedgerStore).
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "ledger_checkpoints")
+public class LedgerCheckpoint {
+
+	@Id
+	@Column(name = "partition_id")
+	private Integer partitionId;
+
+	@Column(name = "applied_seq", nullable = false)
+	private long appliedSeq;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
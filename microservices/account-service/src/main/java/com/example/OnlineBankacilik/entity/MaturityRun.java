@@ -0,0 +1,39 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Vade işleme çalıştırması (vade tarihi başına bir kayıt)
+ * Planlama anında vadesi gelmiş hesaplar account_no aralıklarına (MaturityShard) bölünür;
+ * çalıştırmanın durumu shard'ların durumundan türetilir.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "maturity_runs")
+public class MaturityRun {
+
+	@Id
+	@Column(name = "run_id", length = 20)
+	private String runId; // Vade tarihi (yyyy-MM-dd)
+
+	@Column(name = "maturity_date", nullable = false)
+	private LocalDate maturityDate;
+
+	@Column(name = "shard_count", nullable = false)
+	private int shardCount;
+
+	@Column(name = "total_accounts", nullable = false)
+	private long totalAccounts; // Planlama anında vadesi gelmiş hesap sayısı
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
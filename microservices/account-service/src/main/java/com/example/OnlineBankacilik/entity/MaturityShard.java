@@ -0,0 +1,88 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.MaturityStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Vade işleme shard'ı ve checkpoint'i: (lowerAccountNo, upperAccountNo] aralığındaki vadesi gelmiş hesaplar
+ * Shard'ı owner alanını koşullu UPDATE ile yazan instance sahiplenir; her chunk'ın bakiye güncellemeleri ile
+ * lastAccountNo/sayaç güncellemesi aynı transaction'da commit edilir, böylece hiçbir hesap iki kez işlenmez.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "maturity_shards",
+		indexes = @Index(name = "idx_maturity_shards_status", columnList = "status, updated_at"))
+@IdClass(MaturityShard.Key.class)
+public class MaturityShard {
+
+	@Id
+	@Column(name = "run_id", length = 20)
+	private String runId;
+
+	@Id
+	@Column(name = "shard_no")
+	private Integer shardNo;
+
+	@Column(name = "lower_account_no", length = 50)
+	private String lowerAccountNo; // Hariç; null ise baştan
+
+	@Column(name = "upper_account_no", length = 50)
+	private String upperAccountNo; // Dahil; null ise sona kadar
+
+	@Column(name = "expected_accounts", nullable = false)
+	private long expectedAccounts;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	private MaturityStatus status;
+
+	@Column(name = "owner", length = 100)
+	private String owner; // Shard'ı yürüten instance
+
+	@Column(name = "last_account_no", length = 50)
+	private String lastAccountNo; // Son commit edilen chunk'ın son hesabı (keyset checkpoint)
+
+	@Column(name = "processed_accounts", nullable = false)
+	private long processedAccounts;
+
+	@Column(name = "total_interest", precision = 19, scale = 2, nullable = false)
+	private BigDecimal totalInterest = BigDecimal.ZERO;
+
+	@Column(name = "started_at")
+	private LocalDateTime startedAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Column(name = "completed_at")
+	private LocalDateTime completedAt;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String runId;
+		private Integer shardNo;
+	}
+}
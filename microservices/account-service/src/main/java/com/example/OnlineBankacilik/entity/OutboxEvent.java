@@ -0,0 +1,61 @@
+package com.example.OnlineBankacilik.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Transactional outbox kaydı
+ * Bakiye güncellemesiyle aynı transaction içinde yazılır; OutboxRelay commit edilmiş kayıtları
+ * Kafka'ya gönderip siler. Böylece rollback olan işlemler event üretmez.
+ * Gönderilemeyen kayıt nextAttemptAt'e kadar beklemeye alınır; max-attempts'e ulaşınca parkedAt ile relay'den çıkar.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "transaction_outbox",
+		indexes = @Index(name = "idx_transaction_outbox_aggregate", columnList = "aggregate_id, id"))
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+
+	@Column(name = "aggregate_id", length = 50, nullable = false)
+	private String aggregateId; // accountNo
+
+	@Column(name = "topic", length = 100)
+	private String topic; // null: transaction topic'i
+
+	@Column(name = "payload", length = 4000, nullable = false)
+	private byte[] payload; // TransactionEventCodecs ile kodlanmış event (json | binary)
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at")
+	private LocalDateTime nextAttemptAt; // null: hemen alınabilir; gönderim sırasında claim lease'i
+
+	@Column(name = "parked_at")
+	private LocalDateTime parkedAt; // null değilse relay bu kaydı almaz
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@PrePersist
+	protected void onCreate() {
+		if (createdAt == null) {
+			createdAt = LocalDateTime.now();
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.enums;
+
+public enum CustomerEventType {
+
+	CREATED,
+	UPDATED,
+	DELETED
+}
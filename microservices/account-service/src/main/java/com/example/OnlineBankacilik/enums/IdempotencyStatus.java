@@ -0,0 +1,5 @@
+package com.example.OnlineBankacilik.enums;
+
+public enum IdempotencyStatus {
+	PENDING, COMPLETED
+}
@@ -0,0 +1,5 @@
+package com.example.OnlineBankacilik.enums;
+
+public enum MaturityStatus {
+	PENDING, RUNNING, COMPLETED, FAILED
+}
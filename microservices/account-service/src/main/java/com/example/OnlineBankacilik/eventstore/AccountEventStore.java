@@ -0,0 +1,203 @@
+package com.example.OnlineBankacilik.eventstore;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.money.Money;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hesap başına yalnızca ekleme yapılan bakiye olay akışı ve periyodik snapshot'lar
+ * Olaylar bakiye güncellemesiyle aynı transaction'da yazılır; her snapshot-interval'inci olay aynı anda bir
+ * snapshot üretir. Bakiye (güncel ya da geçmiş tarihli) en yakın snapshot + sonraki olaylardan hesaplanır;
+ * okunan olay sayısı geçmişin uzunluğundan bağımsız olarak snapshot aralığıyla sınırlıdır.
+ *
+ * Sıra numarası hesabın son olayının üzerine verilir. Yazıcılar hesap kilidi altında çalıştığı için çakışma
+ * beklenmez; farklı node'lardan aynı seq gelirse birincil anahtar ihlali version çakışması gibi tekrar denenir.
+ */
+@Slf4j
+@Component
+public class AccountEventStore {
+
+	private static final String SELECT_HEADS = "SELECT a.account_no, "
+			+ "(SELECT MAX(e.seq) FROM account_events e WHERE e.account_no = a.account_no) AS head "
+			+ "FROM accounts a WHERE a.account_no IN (:accountNos)";
+	private static final String INSERT_EVENT = "INSERT INTO account_events "
+			+ "(account_no, seq, event_type, delta, transaction_id, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_SNAPSHOT = "INSERT INTO account_snapshots (account_no, seq, balance, as_of) "
+			+ "VALUES (?, ?, ?, ?)";
+	private static final String SELECT_LATEST_SNAPSHOT = "SELECT seq, balance FROM account_snapshots "
+			+ "WHERE account_no = ? ORDER BY seq DESC LIMIT 1";
+	private static final String SELECT_SNAPSHOT_AT = "SELECT seq, balance FROM account_snapshots "
+			+ "WHERE account_no = ? AND as_of <= ? ORDER BY as_of DESC, seq DESC LIMIT 1";
+	private static final String SELECT_NEXT_SNAPSHOT = "SELECT MIN(seq) FROM account_snapshots "
+			+ "WHERE account_no = ? AND seq > ?";
+	private static final String SELECT_TAIL = "SELECT COUNT(*) AS events, SUM(delta) AS total, MAX(seq) AS last_seq "
+			+ "FROM account_events WHERE account_no = ? AND seq > ?";
+	private static final String SELECT_TAIL_AT = SELECT_TAIL + " AND seq <= ? AND occurred_at <= ?";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final int snapshotInterval;
+	private final Timer replayTimer;
+	private final DistributionSummary replayedEvents;
+
+	public AccountEventStore(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+			@Value("${app.account.events.snapshot-interval:100}") int snapshotInterval) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.snapshotInterval = Math.max(1, snapshotInterval);
+		this.replayTimer = Timer.builder("account.events.replay")
+				.description("Snapshot + kuyruktan bakiye hesaplama süresi")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		this.replayedEvents = DistributionSummary.builder("account.events.replay.size")
+				.description("Bakiye hesaplamasında snapshot üzerine uygulanan olay sayısı")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Yeni hesabın akışını açılış bakiyesiyle (seq 0 snapshot'ı) başlatır
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void open(Account account) {
+		jdbcTemplate.getJdbcTemplate().update(INSERT_SNAPSHOT, account.getAccountNo(), 0L,
+				account.getAmount().toBigDecimal(), Timestamp.valueOf(account.getOpeningDate()));
+	}
+
+	/**
+	 * Toplu açılan hesapların seq 0 snapshot'ları (tek JDBC batch)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void openAll(List<Account> accounts) {
+		jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SNAPSHOT, accounts, accounts.size(), (ps, account) -> {
+			ps.setString(1, account.getAccountNo());
+			ps.setLong(2, 0L);
+			ps.setBigDecimal(3, account.getAmount().toBigDecimal());
+			ps.setTimestamp(4, Timestamp.valueOf(account.getOpeningDate()));
+		});
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(TransactionEvent event) {
+		appendAll(List.of(event));
+	}
+
+	/**
+	 * Olayları liste sırasıyla hesaplarının akışına ekler (tek JDBC batch); delta = yeni - eski bakiye
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendAll(List<TransactionEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		Map<String, Long> heads = heads(events);
+		List<Object[]> eventRows = new ArrayList<>(events.size());
+		List<Object[]> snapshotRows = new ArrayList<>();
+		for (TransactionEvent event : events) {
+			long seq = heads.merge(event.getAccountNo(), 1L, Long::sum);
+			Timestamp occurredAt = Timestamp.valueOf(event.getTransactionDate());
+			eventRows.add(new Object[] { event.getAccountNo(), seq, event.getTransactionType().name(),
+					event.getNewBalance().minus(event.getPreviousBalance()).toBigDecimal(), event.getTransactionId(),
+					occurredAt });
+			if (seq % snapshotInterval == 0) {
+				snapshotRows.add(new Object[] { event.getAccountNo(), seq, event.getNewBalance().toBigDecimal(),
+						occurredAt });
+			}
+		}
+		try {
+			jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_EVENT, eventRows);
+			if (!snapshotRows.isEmpty()) {
+				jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SNAPSHOT, snapshotRows);
+			}
+		} catch (DuplicateKeyException e) {
+			throw new OptimisticLockingFailureException("Hesap olay akışı eşzamanlı güncellendi", e);
+		}
+		log.debug("Hesap olayları eklendi: olay={}, snapshot={}", eventRows.size(), snapshotRows.size());
+	}
+
+	// Her hesabın son seq'i birincil anahtar indeksinden tek adımda okunur (akışın uzunluğundan bağımsız)
+	private Map<String, Long> heads(List<TransactionEvent> events) {
+		TreeSet<String> accountNos = new TreeSet<>();
+		events.forEach(event -> accountNos.add(event.getAccountNo()));
+		Map<String, Long> heads = new HashMap<>();
+		jdbcTemplate.query(SELECT_HEADS, Map.of("accountNos", accountNos), rs -> {
+			long head = rs.getLong("head");
+			heads.put(rs.getString("account_no"), rs.wasNull() ? 0L : head);
+		});
+		return heads;
+	}
+
+	/**
+	 * Güncel bakiye: son snapshot + sonraki olaylar
+	 */
+	public Optional<BalanceReplay> currentBalance(String accountNo) {
+		long start = System.nanoTime();
+		Optional<BalanceReplay> replay = jdbcTemplate.getJdbcTemplate()
+				.query(SELECT_LATEST_SNAPSHOT, (rs, i) -> new Snapshot(rs.getLong("seq"), Money.of(rs.getBigDecimal("balance"))),
+						accountNo)
+				.stream().findFirst()
+				.map(snapshot -> replay(accountNo, snapshot, SELECT_TAIL, accountNo, snapshot.seq));
+		record(start, replay);
+		return replay;
+	}
+
+	/**
+	 * at anındaki bakiye: at'ten önceki son snapshot + snapshot'tan sonra at'e kadar olan olaylar
+	 * Kuyruk bir sonraki snapshot'ın sırasıyla sınırlanır. at hesabın akış başlangıcından önceyse boş döner.
+	 */
+	public Optional<BalanceReplay> balanceAt(String accountNo, LocalDateTime at) {
+		long start = System.nanoTime();
+		Timestamp until = Timestamp.valueOf(at);
+		Optional<BalanceReplay> replay = jdbcTemplate.getJdbcTemplate()
+				.query(SELECT_SNAPSHOT_AT, (rs, i) -> new Snapshot(rs.getLong("seq"), Money.of(rs.getBigDecimal("balance"))),
+						accountNo, until)
+				.stream().findFirst()
+				.map(snapshot -> {
+					Long next = jdbcTemplate.getJdbcTemplate().queryForObject(SELECT_NEXT_SNAPSHOT, Long.class, accountNo,
+							snapshot.seq);
+					return replay(accountNo, snapshot, SELECT_TAIL_AT, accountNo, snapshot.seq,
+							next != null ? next : Long.MAX_VALUE, until);
+				});
+		record(start, replay);
+		return replay;
+	}
+
+	private BalanceReplay replay(String accountNo, Snapshot snapshot, String tailSql, Object... args) {
+		return jdbcTemplate.getJdbcTemplate().queryForObject(tailSql, (rs, i) -> {
+			int events = rs.getInt("events");
+			if (events == 0) {
+				return new BalanceReplay(accountNo, snapshot.balance, snapshot.seq, snapshot.seq, 0);
+			}
+			Money balance = snapshot.balance.plus(Money.of(rs.getBigDecimal("total")));
+			return new BalanceReplay(accountNo, balance, snapshot.seq, rs.getLong("last_seq"), events);
+		}, args);
+	}
+
+	private void record(long start, Optional<BalanceReplay> replay) {
+		replayTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		replay.ifPresent(r -> replayedEvents.record(r.replayedEvents()));
+	}
+
+	private record Snapshot(long seq, Money balance) {
+	}
+}
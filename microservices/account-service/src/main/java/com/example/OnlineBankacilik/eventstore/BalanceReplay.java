@@ -0,0 +1,13 @@
+package com.example.OnlineBankacilik.eventstore;
+
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Snapshot + kuyruk ile hesaplanan bakiye
+ *
+ * @param snapshotSeq başlangıç alınan snapshot'ın sırası
+ * @param lastSeq bakiyeye dahil edilen son olayın sırası
+ * @param replayedEvents snapshot üzerine uygulanan olay sayısı
+ */
+public record BalanceReplay(String accountNo, Money balance, long snapshotSeq, long lastSeq, int replayedEvents) {
+}
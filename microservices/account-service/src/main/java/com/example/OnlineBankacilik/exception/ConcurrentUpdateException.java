@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+	public ConcurrentUpdateException(String accountNo) {
+		super("Hesap eşzamanlı olarak güncellendi, lütfen tekrar deneyin: " + accountNo);
+	}
+
+}
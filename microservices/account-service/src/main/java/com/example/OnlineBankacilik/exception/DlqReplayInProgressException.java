@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.exception;
+
+public class DlqReplayInProgressException extends RuntimeException {
+	public DlqReplayInProgressException() {
+		super("DLQ replay zaten çalışıyor, lütfen tamamlanmasını bekleyin");
+	}
+
+}
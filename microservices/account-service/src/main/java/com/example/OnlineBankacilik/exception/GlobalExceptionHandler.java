@@ -50,6 +50,60 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
 	}
 
+	@ExceptionHandler(ConcurrentUpdateException.class)
+	public ResponseEntity<Map<String, Object>> handleConcurrentUpdate(ConcurrentUpdateException ex) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hata", ex.getClass().getSimpleName());
+		body.put("mesaj", ex.getMessage());
+		body.put("zaman", LocalDateTime.now());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+	}
+
+	@ExceptionHandler(DlqReplayInProgressException.class)
+	public ResponseEntity<Map<String, Object>> handleDlqReplayInProgress(DlqReplayInProgressException ex) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hata", ex.getClass().getSimpleName());
+		body.put("mesaj", ex.getMessage());
+		body.put("zaman", LocalDateTime.now());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+	}
+
+	@ExceptionHandler(InterestAccrualInProgressException.class)
+	public ResponseEntity<Map<String, Object>> handleInterestAccrualInProgress(InterestAccrualInProgressException ex) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hata", ex.getClass().getSimpleName());
+		body.put("mesaj", ex.getMessage());
+		body.put("zaman", LocalDateTime.now());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+	}
+
+	@ExceptionHandler(InvalidTransferException.class)
+	public ResponseEntity<Map<String, Object>> handleInvalidTransfer(InvalidTransferException ex) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hata", ex.getClass().getSimpleName());
+		body.put("mesaj", ex.getMessage());
+		body.put("zaman", LocalDateTime.now());
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+	}
+
+	@ExceptionHandler(IdempotencyKeyConflictException.class)
+	public ResponseEntity<Map<String, Object>> handleIdempotencyKeyConflict(IdempotencyKeyConflictException ex) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hata", ex.getClass().getSimpleName());
+		body.put("mesaj", ex.getMessage());
+		body.put("zaman", LocalDateTime.now());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+	}
+
+	@ExceptionHandler(InvalidIdempotencyKeyException.class)
+	public ResponseEntity<Map<String, Object>> handleInvalidIdempotencyKey(InvalidIdempotencyKeyException ex) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hata", ex.getClass().getSimpleName());
+		body.put("mesaj", ex.getMessage());
+		body.put("zaman", LocalDateTime.now());
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
 		Map<String, Object> body = new LinkedHashMap<>();
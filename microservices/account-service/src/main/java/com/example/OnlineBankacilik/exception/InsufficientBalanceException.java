@@ -1,9 +1,9 @@
 package com.example.OnlineBankacilik.exception;
 
-import java.math.BigDecimal;
+import com.example.OnlineBankacilik.money.Money;
 
 public class InsufficientBalanceException extends RuntimeException {
-	public InsufficientBalanceException(BigDecimal available, BigDecimal desired) {
+	public InsufficientBalanceException(Money available, Money desired) {
 		super("Bakiye yetersiz.Mevcut: " + available + ", istenen: " + desired);
 	}
 
@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.exception;
+
+public class InterestAccrualInProgressException extends RuntimeException {
+	public InterestAccrualInProgressException(String runId) {
+		super("Faiz tahakkuku zaten çalışıyor: " + runId);
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+	public InvalidIdempotencyKeyException() {
+		super("Idempotency-Key boş olamaz ve en fazla 100 karakter olabilir");
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.exception;
+
+public class InvalidTransferException extends RuntimeException {
+	public InvalidTransferException(String message) {
+		super(message);
+	}
+
+}
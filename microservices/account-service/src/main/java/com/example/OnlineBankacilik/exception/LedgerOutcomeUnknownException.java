@@ -0,0 +1,11 @@
+package com.example.OnlineBankacilik.exception;
+
+/**
+ * Ledger komutunun sonucu beklenemedi (zaman aşımı, kesilme); komut yine de uygulanmış olabilir
+ */
+public class LedgerOutcomeUnknownException extends IllegalStateException {
+	public LedgerOutcomeUnknownException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -0,0 +1,215 @@
+package com.example.OnlineBankacilik.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cluster-safe hesap numarası üreteci (hi/lo)
+ * Her node veritabanı sequence'ından blockSize büyüklüğünde bir numara aralığı rezerve eder
+ * (sequence INCREMENT BY blockSize) ve aralığı bellekten lock-free dağıtır.
+ * Farklı node'lar farklı bloklar aldığı için çakışma olmaz; hesap başına DB round trip'i yoktur.
+ * Üretilen numaranın sonuna Luhn kontrol hanesi eklenir.
+ * Toplu açılışta (nextAccountNos) gereken tüm bloklar tek sorguda rezerve edilir.
+ * Blok [nextval, nextval + blockSize) olarak hesaplandığından sequence'ın INCREMENT değeri blockSize'a eşit
+ * olmalıdır; açılışta kontrol edilir, farklıysa (ör. block-size sonradan değiştirildi) uygulama başlamaz.
+ */
+@Slf4j
+@Component
+public class AccountNumberGenerator {
+
+	static final String SEQUENCE_NAME = "account_no_seq";
+	private static final long DEFAULT_START = 1001;
+
+	private static final String SELECT_INCREMENT = "SELECT increment FROM information_schema.sequences "
+			+ "WHERE LOWER(sequence_schema) = LOWER(current_schema()) AND LOWER(sequence_name) = ?";
+	private static final String NEXTVAL = "SELECT nextval('account_no_seq')";
+	private static final String NEXTVAL_BLOCKS = "SELECT nextval('account_no_seq') FROM generate_series(1, ?)";
+	private static final String MAX_ACCOUNT_NO = "SELECT MAX(CAST(account_no AS BIGINT)) FROM accounts";
+	private static final String CREATE_SEQUENCE = "CREATE SEQUENCE IF NOT EXISTS account_no_seq START WITH %d "
+			+ "INCREMENT BY %d";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int blockSize;
+	private final boolean checkDigitEnabled;
+
+	private final ReentrantLock refillLock = new ReentrantLock();
+	private volatile Block current;
+	private volatile boolean sequenceReady;
+
+	public AccountNumberGenerator(JdbcTemplate jdbcTemplate,
+			@Value("${app.account.number.block-size:100}") int blockSize,
+			@Value("${app.account.number.check-digit-enabled:true}") boolean checkDigitEnabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.blockSize = Math.max(1, blockSize);
+		this.checkDigitEnabled = checkDigitEnabled;
+	}
+
+	/**
+	 * Sequence açılışta oluşturulur/doğrulanır; INCREMENT uyuşmazlığı ilk hesap açılışında değil burada fark edilir
+	 */
+	@PostConstruct
+	void verifySequence() {
+		ensureSequenceReady();
+	}
+
+	public String nextAccountNo() {
+		while (true) {
+			Block block = current;
+			if (block != null) {
+				long value = block.next.getAndIncrement();
+				if (value < block.end) {
+					return format(value);
+				}
+			}
+			refill(block);
+		}
+	}
+
+	/**
+	 * count adet numara; önce mevcut blok tüketilir, kalanı için gereken bloklar tek round trip'te alınır.
+	 * Son bloğun artan numaraları tekil açılışlar için mevcut blok olur (numara boşa harcanmaz).
+	 */
+	public List<String> nextAccountNos(int count) {
+		List<String> numbers = new ArrayList<>(count);
+		refillLock.lock();
+		try {
+			drain(current, numbers, count);
+			int remaining = count - numbers.size();
+			if (remaining > 0) {
+				Block last = null;
+				for (Block block : allocateBlocks((remaining + blockSize - 1) / blockSize)) {
+					drain(block, numbers, count);
+					last = block;
+				}
+				current = last;
+			}
+		} finally {
+			refillLock.unlock();
+		}
+		return numbers;
+	}
+
+	private void drain(Block block, List<String> numbers, int count) {
+		while (block != null && numbers.size() < count) {
+			long value = block.next.getAndIncrement();
+			if (value >= block.end) {
+				return;
+			}
+			numbers.add(format(value));
+		}
+	}
+
+	private void refill(Block exhausted) {
+		refillLock.lock();
+		try {
+			// Başka bir thread bu arada yeni blok almış olabilir
+			if (current == exhausted) {
+				current = allocateBlock();
+			}
+		} finally {
+			refillLock.unlock();
+		}
+	}
+
+	private Block allocateBlock() {
+		ensureSequenceReady();
+		Long start = jdbcTemplate.queryForObject(NEXTVAL, Long.class);
+		log.info("Hesap numarası bloğu rezerve edildi: [{}, {})", start, start + blockSize);
+		return new Block(start, start + blockSize);
+	}
+
+	private List<Block> allocateBlocks(int blocks) {
+		ensureSequenceReady();
+		List<Long> starts = jdbcTemplate.queryForList(NEXTVAL_BLOCKS, Long.class, blocks);
+		log.info("Hesap numarası blokları rezerve edildi: blok={}, numara={}", starts.size(),
+				(long) starts.size() * blockSize);
+		return starts.stream().map(start -> new Block(start, start + blockSize)).toList();
+	}
+
+	private void ensureSequenceReady() {
+		if (!sequenceReady) {
+			ensureSequence();
+			sequenceReady = true;
+		}
+	}
+
+	/**
+	 * Sequence yoksa oluşturur, varsa INCREMENT değerini blockSize ile karşılaştırır.
+	 * Başlangıç değeri mevcut en büyük hesap numarasından hesaplanır; bu tarama sadece sequence ilk
+	 * oluşturulurken bir kez yapılır. Şema ve ad karşılaştırması büyük/küçük harf duyarsızdır (H2 / PostgreSQL).
+	 */
+	private void ensureSequence() {
+		List<String> increments = jdbcTemplate.queryForList(SELECT_INCREMENT, String.class, SEQUENCE_NAME);
+		if (!increments.isEmpty()) {
+			long increment = Long.parseLong(increments.get(0).trim());
+			if (increment != blockSize) {
+				throw new IllegalStateException("account_no_seq INCREMENT (" + increment
+						+ ") app.account.number.block-size (" + blockSize + ") ile aynı değil; bloklar çakışır. "
+						+ "Sequence'ı ALTER SEQUENCE ile güncelleyin ya da block-size'ı eski değerine döndürün");
+			}
+			return;
+		}
+		Long max = jdbcTemplate.queryForObject(MAX_ACCOUNT_NO, Long.class);
+		long start = max == null || max < DEFAULT_START ? DEFAULT_START : max + 1;
+		jdbcTemplate.execute(String.format(CREATE_SEQUENCE, start, blockSize));
+		log.info("Hesap numarası sequence'ı oluşturuldu: başlangıç={}, blok={}", start, blockSize);
+	}
+
+	private String format(long value) {
+		if (!checkDigitEnabled) {
+			return String.valueOf(value);
+		}
+		String base = String.valueOf(value);
+		return base + luhnCheckDigit(base);
+	}
+
+	/**
+	 * Luhn (mod 10) kontrol hanesi
+	 */
+	static int luhnCheckDigit(String digits) {
+		int sum = 0;
+		boolean doubleIt = true;
+		for (int i = digits.length() - 1; i >= 0; i--) {
+			int d = digits.charAt(i) - '0';
+			if (doubleIt) {
+				d *= 2;
+				if (d > 9) {
+					d -= 9;
+				}
+			}
+			sum += d;
+			doubleIt = !doubleIt;
+		}
+		return (10 - (sum % 10)) % 10;
+	}
+
+	/**
+	 * Kontrol hanesi dahil numaranın Luhn doğrulaması
+	 */
+	public static boolean isValid(String accountNo) {
+		if (accountNo == null || accountNo.length() < 2 || !accountNo.chars().allMatch(Character::isDigit)) {
+			return false;
+		}
+		String base = accountNo.substring(0, accountNo.length() - 1);
+		return luhnCheckDigit(base) == accountNo.charAt(accountNo.length() - 1) - '0';
+	}
+
+	private static final class Block {
+		private final AtomicLong next;
+		private final long end;
+
+		private Block(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+	}
+}
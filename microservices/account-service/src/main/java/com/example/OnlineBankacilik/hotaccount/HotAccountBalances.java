@@ -0,0 +1,337 @@
+package com.example.OnlineBankacilik.hotaccount;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
+import com.example.OnlineBankacilik.money.Money;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sıcak hesap modu (app.account.hot.enabled=true)
+ * Saniyede binlerce yatırma alan tahsilat hesaplarında her yatırma aynı accounts satırını ve aynı stripe
+ * kilidini bekler. Sıcak hesabın bakiyesi accounts.amount ile N slot satırına (account_balance_slots)
+ * bölünür: yatırma kilit almadan rastgele bir slot'a atomik UPDATE ile eklenir, eşzamanlı yatırmalar
+ * farklı satırlara düşer.
+ *
+ * accounts.amount her zaman olay akışıyla tutarlıdır; slot'lar henüz akışa işlenmemiş yatırmaları tutar.
+ * Çekme, transfer ve toplu posting hesap kilidi altında slot'ları SELECT ... FOR UPDATE ile kilitleyip
+ * accounts.amount'a katlar (consolidate): yetersiz bakiye kontrolü tutarlı toplam üzerinden yapılır, katma
+ * sırasında gelen yatırma commit'e kadar bekler. Katılan tutar akışa tek YATIRMA olayı olarak yazılır;
+ * periyodik süpürme (sweep-interval) akışın ve accounts.amount'un gerisinde kalma süresini sınırlar.
+ * Okumalar accounts.amount'a slot toplamını tek sorguda ekler.
+ *
+ * Hesaplar kilit bekleme sayısına göre (AccountLockManager.drainContention) sıcak moda alınır, küme genelindeki
+ * yatırma sayısı düşünce normal moda döner. Sıcak hesap kümesi slot satırlarından okunur; her node kendi
+ * görünümünü değerlendirme turunda yeniler. Bu görünüm yalnızca yatırma yolu için ipucudur: başka bir node
+ * hesabı az önce sıcak moda almış olabilir, bu yüzden mod açıkken katma ve okumalar slot'lara her zaman bakar.
+ * Yalnızca vadesiz hesaplar sıcak moda alınır (faiz ve vade işleme accounts.amount'u okur); ledger modu açıksa
+ * devre dışıdır (ledger aynı sorunu tek yazıcıyla çözer).
+ */
+@Slf4j
+@Component
+public class HotAccountBalances {
+
+	private static final String SELECT_ACCOUNT = "SELECT account_type, active FROM accounts WHERE account_no = ?";
+	private static final String INSERT_SLOT = "INSERT INTO account_balance_slots (account_no, slot, amount, deposits) "
+			+ "VALUES (?, ?, 0, 0)";
+	private static final String CREDIT_SLOT = "UPDATE account_balance_slots SET amount = amount + ?, "
+			+ "deposits = deposits + 1 WHERE account_no = ? AND slot = ?";
+	private static final String SELECT_PENDING = "SELECT COALESCE(SUM(amount), 0) FROM account_balance_slots "
+			+ "WHERE account_no = ?";
+	private static final String SELECT_BALANCE = "SELECT a.amount + COALESCE((SELECT SUM(s.amount) "
+			+ "FROM account_balance_slots s WHERE s.account_no = a.account_no), 0) "
+			+ "FROM accounts a WHERE a.account_no = ?";
+	private static final String SELECT_SLOTS_FOR_UPDATE = "SELECT amount FROM account_balance_slots "
+			+ "WHERE account_no = ? ORDER BY slot FOR UPDATE";
+	private static final String SELECT_MAIN_FOR_UPDATE = "SELECT customer_id, amount FROM accounts "
+			+ "WHERE account_no = ? FOR UPDATE";
+	private static final String SELECT_HOT = "SELECT account_no, COUNT(*) AS slots, SUM(deposits) AS deposits "
+			+ "FROM account_balance_slots GROUP BY account_no";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AccountLockManager accountLockManager;
+	private final AccountEventStore accountEventStore;
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+	private final boolean enabled;
+	private final int slots;
+	private final long promoteThreshold;
+	private final long demoteThreshold;
+	// accountNo -> slot sayısı
+	private final ConcurrentHashMap<String, Integer> hot = new ConcurrentHashMap<>();
+	// Son değerlendirme turundaki küme geneli yatırma sayısı
+	private final ConcurrentHashMap<String, Long> lastDeposits = new ConcurrentHashMap<>();
+	private final Counter promotions;
+	private final Counter demotions;
+
+	public HotAccountBalances(JdbcTemplate jdbcTemplate, AccountLockManager accountLockManager,
+			AccountEventStore accountEventStore, ObjectProvider<LedgerEngine> ledgerEngine, MeterRegistry meterRegistry,
+			@Value("${app.account.hot.enabled:false}") boolean enabled,
+			@Value("${app.account.hot.slots:8}") int slots,
+			@Value("${app.account.hot.promote-threshold:50}") long promoteThreshold,
+			@Value("${app.account.hot.demote-threshold:100}") long demoteThreshold) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.accountLockManager = accountLockManager;
+		this.accountEventStore = accountEventStore;
+		this.ledgerEngine = ledgerEngine;
+		this.enabled = enabled;
+		this.slots = Math.max(2, slots);
+		this.promoteThreshold = Math.max(1, promoteThreshold);
+		this.demoteThreshold = Math.max(0, demoteThreshold);
+		accountLockManager.trackContention(enabled);
+		Gauge.builder("account.hot.accounts", hot, Map::size)
+				.description("Bakiyesi slot'lara bölünmüş sıcak hesap sayısı")
+				.register(meterRegistry);
+		this.promotions = meterRegistry.counter("account.hot.transitions", "direction", "promote");
+		this.demotions = meterRegistry.counter("account.hot.transitions", "direction", "demote");
+	}
+
+	/**
+	 * Hesap bu node'un görünümünde sıcak mı; yatırmanın slot'a yönlendirilmesi için ipucu
+	 */
+	public boolean isHot(String accountNo) {
+		return !hot.isEmpty() && hot.containsKey(accountNo);
+	}
+
+	/**
+	 * Sıcak hesap modu açık mı (ledger kapalı); açıksa herhangi bir hesabın slot'larında bekleyen tutar olabilir
+	 */
+	public boolean active() {
+		return enabled && ledgerEngine.getIfAvailable() == null;
+	}
+
+	/**
+	 * Yatırmayı rastgele bir slot'a ekler; çağıranın transaction'ında, hesap kilidi olmadan çalışır.
+	 * Hesabın yatırma dahil toplam bakiyesini döner; hesap bu arada normal moda döndüyse boş döner.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public Optional<Money> credit(String accountNo, Money amount) {
+		Integer slotCount = hot.get(accountNo);
+		if (slotCount == null) {
+			return Optional.empty();
+		}
+		int slot = ThreadLocalRandom.current().nextInt(slotCount);
+		if (jdbcTemplate.update(CREDIT_SLOT, amount.toBigDecimal(), accountNo, slot) == 0) {
+			hot.remove(accountNo);
+			return Optional.empty();
+		}
+		return Optional.of(queryBalance(accountNo));
+	}
+
+	/**
+	 * accounts.amount ile slot toplamı; tek sorguda okunur, ayrı okumalar arasında commit edilen katma (fold)
+	 * tutarı iki kez ya da hiç saymaz
+	 */
+	public Money balance(String accountNo) {
+		return queryBalance(accountNo);
+	}
+
+	/**
+	 * Slot'larda bekleyen (accounts.amount'a henüz katılmamış) tutar; kilitsiz okunur
+	 */
+	public Money pending(String accountNo) {
+		if (!active()) {
+			return Money.ZERO;
+		}
+		return Money.of(jdbcTemplate.queryForObject(SELECT_PENDING, BigDecimal.class, accountNo));
+	}
+
+	/**
+	 * Slot'ları accounts.amount'a katar; çağıran hesap kilidini tutmalıdır.
+	 * Slot satırları commit'e kadar kilitli kalır, bu sürede gelen yatırmalar bekler. Yerel görünüme bakılmaz;
+	 * sıcak olmayan hesapta slot okuması account_no index'inde boş döner.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void consolidate(String accountNo) {
+		if (active()) {
+			fold(accountNo);
+		}
+	}
+
+	/**
+	 * Çok hesaplı işlemler için; accountNos sıralı olmalıdır (slot kilitleri hesap sırasıyla alınır)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void consolidate(Collection<String> accountNos) {
+		if (!active()) {
+			return;
+		}
+		for (String accountNo : accountNos) {
+			consolidate(accountNo);
+		}
+	}
+
+	/**
+	 * Hesabı sıcak moda alır (bakiye accounts.amount'ta kalır, slot'lar sıfırla açılır)
+	 */
+	public boolean promote(String accountNo) {
+		if (!active()) {
+			return false;
+		}
+		int slotCount = accountLockManager.executeLocked(accountNo, () -> doPromote(accountNo));
+		if (slotCount == 0) {
+			return false;
+		}
+		if (hot.put(accountNo, slotCount) == null) {
+			lastDeposits.put(accountNo, 0L);
+			promotions.increment();
+			log.info("Hesap sıcak moda alındı: hesapNo={}, slot={}", accountNo, slotCount);
+		}
+		return true;
+	}
+
+	/**
+	 * Slot'ları accounts.amount'a katıp siler; sonraki yatırmalar hesap satırına yazılır
+	 */
+	public void demote(String accountNo) {
+		accountLockManager.executeLocked(accountNo, () -> {
+			fold(accountNo);
+			return jdbcTemplate.update("DELETE FROM account_balance_slots WHERE account_no = ?", accountNo);
+		});
+		hot.remove(accountNo);
+		lastDeposits.remove(accountNo);
+		demotions.increment();
+		log.info("Hesap normal moda döndü: hesapNo={}", accountNo);
+	}
+
+	/**
+	 * Slot'lardaki yatırmaları periyodik olarak accounts.amount'a ve olay akışına işler
+	 */
+	@Scheduled(fixedDelayString = "${app.account.hot.sweep-interval:1s}")
+	public void sweep() {
+		for (String accountNo : hot.keySet()) {
+			try {
+				accountLockManager.executeLocked(accountNo, () -> {
+					consolidate(accountNo);
+					return null;
+				});
+			} catch (RuntimeException e) {
+				log.warn("Sıcak hesap süpürmesi başarısız: hesapNo={}, hata={}", accountNo, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Sıcak hesap kümesini DB'den yeniler; kilit beklemesi eşiği aşan hesapları sıcak moda alır, son turdan bu
+	 * yana küme genelinde az yatırma alan sıcak hesapları normal moda döndürür
+	 */
+	@Scheduled(fixedDelayString = "${app.account.hot.evaluation-interval:30s}")
+	public void evaluate() {
+		// Sayaçlar mod kapalı olsa da boşaltılır; ledger açıkken birikmez
+		Map<String, Long> contended = accountLockManager.drainContention();
+		if (!active()) {
+			return;
+		}
+		Map<String, Long> deposits = new HashMap<>();
+		Map<String, Integer> current = new HashMap<>();
+		jdbcTemplate.query(SELECT_HOT, rs -> {
+			current.put(rs.getString("account_no"), rs.getInt("slots"));
+			deposits.put(rs.getString("account_no"), rs.getLong("deposits"));
+		});
+		hot.keySet().retainAll(current.keySet());
+		hot.putAll(current);
+		lastDeposits.keySet().retainAll(current.keySet());
+
+		for (Map.Entry<String, Long> entry : deposits.entrySet()) {
+			Long previous = lastDeposits.put(entry.getKey(), entry.getValue());
+			if (previous != null && entry.getValue() - previous < demoteThreshold) {
+				demoteQuietly(entry.getKey());
+			}
+		}
+		contended.forEach((accountNo, waits) -> {
+			if (waits >= promoteThreshold && !hot.containsKey(accountNo)) {
+				log.info("Hesapta kilit çekişmesi: hesapNo={}, bekleme={}", accountNo, waits);
+				promoteQuietly(accountNo);
+			}
+		});
+	}
+
+	private void promoteQuietly(String accountNo) {
+		try {
+			promote(accountNo);
+		} catch (RuntimeException e) {
+			log.warn("Hesap sıcak moda alınamadı: hesapNo={}, hata={}", accountNo, e.getMessage());
+		}
+	}
+
+	private void demoteQuietly(String accountNo) {
+		try {
+			demote(accountNo);
+		} catch (RuntimeException e) {
+			log.warn("Sıcak hesap normal moda döndürülemedi: hesapNo={}, hata={}", accountNo, e.getMessage());
+		}
+	}
+
+	// Başka node sıcak moda aldıysa mevcut slot sayısı kullanılır; uygun olmayan hesap için 0
+	private int doPromote(String accountNo) {
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_ACCOUNT, accountNo);
+		if (rows.isEmpty() || !AccountType.VADESIZ.name().equals(rows.get(0).get("account_type"))
+				|| !Boolean.TRUE.equals(rows.get(0).get("active"))) {
+			log.debug("Hesap sıcak moda uygun değil: hesapNo={}", accountNo);
+			return 0;
+		}
+		Integer existing = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM account_balance_slots WHERE account_no = ?", Integer.class, accountNo);
+		if (existing != null && existing > 0) {
+			return existing;
+		}
+		List<Object[]> rowsToInsert = new ArrayList<>(slots);
+		for (int slot = 0; slot < slots; slot++) {
+			rowsToInsert.add(new Object[] { accountNo, slot });
+		}
+		jdbcTemplate.batchUpdate(INSERT_SLOT, rowsToInsert);
+		return slots;
+	}
+
+	private Money queryBalance(String accountNo) {
+		return Money.of(jdbcTemplate.queryForObject(SELECT_BALANCE, BigDecimal.class, accountNo));
+	}
+
+	private void fold(String accountNo) {
+		Money pending = jdbcTemplate.queryForList(SELECT_SLOTS_FOR_UPDATE, BigDecimal.class, accountNo).stream()
+				.map(Money::of)
+				.reduce(Money.ZERO, Money::plus);
+		if (pending.isZero()) {
+			return;
+		}
+		jdbcTemplate.update("UPDATE account_balance_slots SET amount = 0 WHERE account_no = ? AND amount <> 0",
+				accountNo);
+		MainBalance main = jdbcTemplate.queryForObject(SELECT_MAIN_FOR_UPDATE,
+				(rs, i) -> new MainBalance(rs.getLong("customer_id"), Money.of(rs.getBigDecimal("amount"))), accountNo);
+		Money folded = main.amount.plus(pending);
+		jdbcTemplate.update("UPDATE accounts SET amount = ?, version = version + 1 WHERE account_no = ?",
+				folded.toBigDecimal(), accountNo);
+		accountEventStore.append(new TransactionEvent(UUID.randomUUID().toString(), accountNo, main.customerId,
+				TransactionType.YATIRMA, pending, main.amount, folded, true, LocalDateTime.now()));
+		log.debug("Sıcak hesap slot'ları katıldı: hesapNo={}, tutar={}, bakiye={}", accountNo, pending, folded);
+	}
+
+	private record MainBalance(Long customerId, Money amount) {
+	}
+}
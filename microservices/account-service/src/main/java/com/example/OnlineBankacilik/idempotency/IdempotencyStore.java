@@ -0,0 +1,233 @@
+package com.example.OnlineBankacilik.idempotency;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.OnlineBankacilik.enums.IdempotencyStatus;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.exception.IdempotencyKeyConflictException;
+import com.example.OnlineBankacilik.exception.InvalidIdempotencyKeyException;
+import com.example.OnlineBankacilik.money.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key ile gelen yatırma/çekme/transfer isteklerinin tekilleştirilmesi
+ * Sıcak katman sınırlı boyutlu, TTL'li bir Caffeine cache'idir: tekrar istek (ör. process-service'in
+ * timeout sonrası retry'ı) mikro saniyeler içinde saklanan cevabı alır. Kalıcı katman idempotency_keys
+ * tablosudur; kayıt bakiye değişikliğiyle aynı transaction'da yazıldığı için commit edilmiş her işlemin
+ * kaydı vardır, restart ya da başka node'a düşen tekrar istek de yeniden işlenmez.
+ * Yeni anahtar için işlemden önce DB okunmaz: aynı anahtar DB'de varsa INSERT birincil anahtar ihlaliyle
+ * transaction'ı geri alır ve saklanan cevap döner. Aynı node'da aynı anda gelen ikinci istek 409 alır.
+ * Kaydı işlemle aynı transaction'da yazılamayan ledger yolu anahtarı önce PENDING olarak ayırır (reserve),
+ * journal onayından sonra cevapla tamamlar (complete). PENDING anahtarla gelen tekrar istek yeniden işlenmez,
+ * 409 alır.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	static final int MAX_KEY_LENGTH = 100;
+
+	private static final String INSERT = "INSERT INTO idempotency_keys (idempotency_key, transaction_type, account_no, "
+			+ "amount, status, response, created_at, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String COMPLETE = "UPDATE idempotency_keys SET status = ?, response = ? "
+			+ "WHERE idempotency_key = ? AND status = ?";
+	private static final String RELEASE = "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status = ?";
+	private static final String SELECT = "SELECT transaction_type, account_no, amount, response FROM idempotency_keys "
+			+ "WHERE idempotency_key = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+	private final Cache<String, Entry> hot;
+	private final ConcurrentHashMap<String, Boolean> inFlight = new ConcurrentHashMap<>();
+	private final Counter executed;
+	private final Counter replayed;
+	private final Counter conflicts;
+
+	public IdempotencyStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+			@Value("${app.account.idempotency.maximum-size:100000}") long maximumSize,
+			@Value("${app.account.idempotency.ttl:24h}") Duration ttl) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.ttl = ttl;
+		this.hot = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, hot, "idempotencyKeys");
+		this.executed = meterRegistry.counter("account.idempotency.requests", "result", "executed");
+		this.replayed = meterRegistry.counter("account.idempotency.requests", "result", "replayed");
+		this.conflicts = meterRegistry.counter("account.idempotency.requests", "result", "conflict");
+	}
+
+	/**
+	 * Transfer kaydının hesap alanı: anahtarın başka bir hedef hesapla tekrar kullanımı da çakışma sayılır
+	 */
+	public static String transferScope(String fromAccountNo, String toAccountNo) {
+		return fromAccountNo + ">" + toAccountNo;
+	}
+
+	/**
+	 * Anahtar daha önce kullanılmışsa saklanan cevabı döner, yoksa işlemi çalıştırır.
+	 * İşlem kaydı record ile kendi transaction'ında yazmalıdır.
+	 */
+	public <T> T execute(String key, TransactionType type, String accountNo, Money amount, Class<T> responseType,
+			Supplier<T> action) {
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new InvalidIdempotencyKeyException();
+		}
+		Entry cached = hot.getIfPresent(key);
+		if (cached != null) {
+			return replay(key, cached, type, accountNo, amount, responseType);
+		}
+		if (inFlight.putIfAbsent(key, Boolean.TRUE) != null) {
+			conflicts.increment();
+			throw new IdempotencyKeyConflictException("Bu Idempotency-Key ile işlem hâlâ sürüyor: " + key);
+		}
+		try {
+			T response = action.get();
+			hot.put(key, new Entry(type, accountNo, amount, response));
+			executed.increment();
+			return response;
+		} catch (DuplicateKeyException e) {
+			Entry stored = load(key, responseType).orElseThrow(() -> e);
+			if (stored.response != null) {
+				hot.put(key, stored);
+			}
+			return replay(key, stored, type, accountNo, amount, responseType);
+		} finally {
+			inFlight.remove(key);
+		}
+	}
+
+	/**
+	 * İşlemin kaydını yazar; çağıranın transaction'ına katılır (yoksa kendi transaction'ını açar).
+	 * Anahtar zaten varsa DuplicateKeyException fırlar ve transaction geri alınır.
+	 */
+	@Transactional
+	public void record(String key, TransactionType type, String accountNo, Money amount, Object response) {
+		insert(key, type, accountNo, amount, IdempotencyStatus.COMPLETED, toJson(response));
+	}
+
+	/**
+	 * Kaydı işlemle aynı transaction'da yazılamayan yollar (ledger) için anahtarı işlemden önce PENDING olarak
+	 * ayırır; ayırma hemen commit edilir. Anahtar DB'de varsa DuplicateKeyException fırlar, execute saklanan
+	 * cevabı döner.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void reserve(String key, TransactionType type, String accountNo, Money amount) {
+		insert(key, type, accountNo, amount, IdempotencyStatus.PENDING, null);
+	}
+
+	/**
+	 * Ayrılmış anahtarı işlemin cevabıyla tamamlar; tekrar istek artık bu cevabı alır
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void complete(String key, Object response) {
+		jdbcTemplate.update(COMPLETE, IdempotencyStatus.COMPLETED.name(), toJson(response), key,
+				IdempotencyStatus.PENDING.name());
+	}
+
+	/**
+	 * İşlem kesin olarak uygulanmadıysa (ör. yetersiz bakiye) ayırmayı siler; aynı anahtarla tekrar denenebilir
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void release(String key) {
+		jdbcTemplate.update(RELEASE, key, IdempotencyStatus.PENDING.name());
+	}
+
+	/**
+	 * Süresi dolan kayıtların temizliği; sıcak katman kendi TTL'i ile boşalır.
+	 * Temizlenene kadar süresi dolmuş anahtar tekrar istekte yine saklanan cevabı döndürür.
+	 */
+	@Scheduled(fixedDelayString = "${app.account.idempotency.cleanup-interval:10m}")
+	public void purgeExpired() {
+		int deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?",
+				Timestamp.valueOf(LocalDateTime.now()));
+		if (deleted > 0) {
+			log.debug("Süresi dolan idempotency kayıtları silindi: {}", deleted);
+		}
+	}
+
+	private void insert(String key, TransactionType type, String accountNo, Money amount, IdempotencyStatus status,
+			String response) {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(INSERT, key, type.name(), accountNo, amount == null ? null : amount.toBigDecimal(),
+				status.name(), response, Timestamp.valueOf(now), Timestamp.valueOf(now.plus(ttl)));
+	}
+
+	private <T> T replay(String key, Entry entry, TransactionType type, String accountNo, Money amount,
+			Class<T> responseType) {
+		if (entry.type != type || !entry.accountNo.equals(accountNo) || !Objects.equals(entry.amount, amount)) {
+			conflicts.increment();
+			log.warn("Idempotency-Key farklı bir istekle tekrar kullanıldı: key={}, hesapNo={}", key, accountNo);
+			throw new IdempotencyKeyConflictException("Idempotency-Key farklı bir istek için kullanılmış: " + key);
+		}
+		if (entry.response == null) {
+			// PENDING: işlem sürüyor ya da sonucu belirsiz; yeniden işlemek çift kayıt riski taşır
+			conflicts.increment();
+			throw new IdempotencyKeyConflictException("Bu Idempotency-Key ile işlem hâlâ sürüyor: " + key);
+		}
+		replayed.increment();
+		log.debug("Tekrar istek, saklanan cevap dönüyor: key={}, hesapNo={}", key, accountNo);
+		return responseType.cast(entry.response);
+	}
+
+	private Optional<Entry> load(String key, Class<?> responseType) {
+		return jdbcTemplate.query(SELECT, rs -> {
+			if (!rs.next()) {
+				return Optional.empty();
+			}
+			BigDecimal amount = rs.getBigDecimal("amount");
+			String response = rs.getString("response");
+			return Optional.of(new Entry(TransactionType.valueOf(rs.getString("transaction_type")),
+					rs.getString("account_no"), amount == null ? null : Money.of(amount),
+					response == null ? null : fromJson(response, responseType)));
+		}, key);
+	}
+
+	private String toJson(Object response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Idempotency cevabı serileştirilemedi", e);
+		}
+	}
+
+	private Object fromJson(String json, Class<?> responseType) {
+		try {
+			return objectMapper.readValue(json, responseType);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Idempotency cevabı okunamadı", e);
+		}
+	}
+
+	private record Entry(TransactionType type, String accountNo, Money amount, Object response) {
+	}
+}
@@ -0,0 +1,133 @@
+package com.example.OnlineBankacilik.importer;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.entity.FuturesAccount;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+
+/**
+ * Toplu hesap açmada hesap satırlarının yazımı
+ * Bağlantı PostgreSQL ise satırlar COPY ... FROM STDIN ile tek akışta yüklenir; satır başına INSERT
+ * ayrıştırma/planlama ve round trip maliyeti olmaz. Diğer veritabanlarında (H2 testleri) ya da COPY
+ * kapalıysa JDBC batch INSERT kullanılır. Her hesabın olay akışı seq 0 snapshot'ı da aynı yöntemle yazılır.
+ * Çağıranın transaction'ına katılır; COPY de aynı bağlantıda çalıştığı için rollback ile geri alınır.
+ */
+@Component
+public class AccountBulkWriter {
+
+	public enum Method {
+		COPY, BATCH_INSERT
+	}
+
+	private static final String ACCOUNT_COLUMNS = "account_no, account_type, customer_id, amount, opening_date, active, "
+			+ "version, interest_rate, maturity_month, maturity_date";
+	private static final String COPY_ACCOUNTS = "COPY accounts (" + ACCOUNT_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+	private static final String COPY_SNAPSHOTS = "COPY account_snapshots (account_no, seq, balance, as_of) "
+			+ "FROM STDIN WITH (FORMAT csv)";
+	private static final String INSERT_ACCOUNT = "INSERT INTO accounts (" + ACCOUNT_COLUMNS + ") "
+			+ "VALUES (?, ?, ?, ?, ?, TRUE, 0, ?, ?, ?)";
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AccountEventStore accountEventStore;
+	private final boolean copyEnabled;
+
+	public AccountBulkWriter(JdbcTemplate jdbcTemplate, AccountEventStore accountEventStore,
+			@Value("${app.account.import.copy-enabled:true}") boolean copyEnabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.accountEventStore = accountEventStore;
+		this.copyEnabled = copyEnabled;
+	}
+
+	/**
+	 * Hesapları ve seq 0 snapshot'larını yazar; kullanılan yöntemi döner
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public Method write(List<Account> accounts) {
+		if (copyEnabled && Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+			if (!con.isWrapperFor(PGConnection.class)) {
+				return false;
+			}
+			copy(con.unwrap(PGConnection.class), accounts);
+			return true;
+		}))) {
+			return Method.COPY;
+		}
+		jdbcTemplate.batchUpdate(INSERT_ACCOUNT, accounts, accounts.size(), AccountBulkWriter::bind);
+		accountEventStore.openAll(accounts);
+		return Method.BATCH_INSERT;
+	}
+
+	private static void copy(PGConnection connection, List<Account> accounts) throws SQLException {
+		try {
+			try (Writer out = copyWriter(connection, COPY_ACCOUNTS)) {
+				for (Account account : accounts) {
+					FuturesAccount futures = account instanceof FuturesAccount fa ? fa : null;
+					out.append(account.getAccountNo()).append(',')
+							.append(typeOf(account).name()).append(',')
+							.append(String.valueOf(account.getCustomerId())).append(',')
+							.append(account.getAmount().toBigDecimal().toPlainString()).append(',')
+							.append(account.getOpeningDate().toString()).append(",t,0,")
+							.append(futures == null ? "" : futures.getInterestRate().toPlainString()).append(',')
+							.append(futures == null ? "" : String.valueOf(futures.getMaturityMonth())).append(',')
+							.append(futures == null ? "" : futures.getMaturityDate().toString()).append('\n');
+				}
+			}
+			try (Writer out = copyWriter(connection, COPY_SNAPSHOTS)) {
+				for (Account account : accounts) {
+					out.append(account.getAccountNo()).append(",0,")
+							.append(account.getAmount().toBigDecimal().toPlainString()).append(',')
+							.append(account.getOpeningDate().toString()).append('\n');
+				}
+			}
+		} catch (IOException e) {
+			// PGCopyOutputStream sunucu hatasını close() sırasında IOException olarak iletir
+			throw new SQLException("COPY ile hesap yükleme başarısız: " + e.getMessage(), e);
+		}
+	}
+
+	private static Writer copyWriter(PGConnection connection, String sql) throws SQLException {
+		return new OutputStreamWriter(new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE), StandardCharsets.UTF_8);
+	}
+
+	private static void bind(PreparedStatement ps, Account account) throws SQLException {
+		ps.setString(1, account.getAccountNo());
+		ps.setString(2, typeOf(account).name());
+		ps.setLong(3, account.getCustomerId());
+		ps.setBigDecimal(4, account.getAmount().toBigDecimal());
+		ps.setTimestamp(5, Timestamp.valueOf(account.getOpeningDate()));
+		if (account instanceof FuturesAccount futures) {
+			ps.setBigDecimal(6, futures.getInterestRate());
+			ps.setInt(7, futures.getMaturityMonth());
+			ps.setObject(8, futures.getMaturityDate());
+		} else {
+			ps.setNull(6, Types.NUMERIC);
+			ps.setNull(7, Types.INTEGER);
+			ps.setNull(8, Types.DATE);
+		}
+	}
+
+	// Discriminator değerleri AccountType isimleriyle aynıdır
+	private static AccountType typeOf(Account account) {
+		return account instanceof FuturesAccount ? AccountType.VADELI : AccountType.VADESIZ;
+	}
+}
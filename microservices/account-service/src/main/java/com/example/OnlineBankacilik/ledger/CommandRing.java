@@ -0,0 +1,95 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sabit kapasiteli, çok üreticili / tek tüketicili ring buffer
+ * Üreticiler slot'u tail üzerinde CAS ile sahiplenip komutu yazar; tek tüketici (partition writer'ı)
+ * slot'ları sırayla boşaltır. Kuyruk kilidi yoktur; dolu ring offer'da false döner (geri basınç).
+ * Tüketici boşta park eder, üreticiler yalnızca tüketici park etmişse onu uyandırır.
+ */
+final class CommandRing<T> {
+
+	private final AtomicReferenceArray<T> slots;
+	private final int capacity;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head;
+	private volatile Thread consumer;
+	private volatile boolean sleeping;
+
+	CommandRing(int requestedCapacity) {
+		this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+		this.mask = capacity - 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+	}
+
+	void bindConsumer(Thread thread) {
+		this.consumer = thread;
+	}
+
+	boolean offer(T item) {
+		long claimed;
+		do {
+			claimed = tail.get();
+			if (claimed - head >= capacity) {
+				return false;
+			}
+		} while (!tail.compareAndSet(claimed, claimed + 1));
+		slots.set((int) (claimed & mask), item);
+		if (sleeping) {
+			Thread thread = consumer;
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sıradaki (yazımı tamamlanmış) komutları en fazla max adet aktarır; sadece tüketici thread çağırır.
+	 * Sahiplenilmiş ama henüz yazılmamış bir slot'ta durur, kalan komutlar bir sonraki turda alınır.
+	 */
+	int drainTo(List<T> target, int max) {
+		long position = head;
+		int drained = 0;
+		while (drained < max) {
+			int index = (int) (position & mask);
+			T item = slots.get(index);
+			if (item == null) {
+				break;
+			}
+			slots.set(index, null);
+			target.add(item);
+			position++;
+			drained++;
+		}
+		head = position;
+		return drained;
+	}
+
+	boolean isEmpty() {
+		return tail.get() == head;
+	}
+
+	/**
+	 * Ring boşsa en fazla maxNanos park eder; park öncesi tekrar kontrol, uyandırma kaybını önler
+	 */
+	void await(long maxNanos) {
+		sleeping = true;
+		try {
+			if (isEmpty()) {
+				LockSupport.parkNanos(this, maxNanos);
+			}
+		} finally {
+			sleeping = false;
+		}
+	}
+
+	int size() {
+		return (int) (tail.get() - head);
+	}
+}
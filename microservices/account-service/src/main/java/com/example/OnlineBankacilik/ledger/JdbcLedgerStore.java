@@ -0,0 +1,109 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.repository.AccountRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ledger'ın DB tarafı
+ * Bir grup journal kaydı hesap başına toplanmış tek bir "amount = amount + fark" güncellemesine dönüşür
+ * (sıcak hesapta yüzlerce işlem tek UPDATE olur). Event'ler outbox'a ve hesap olay akışına, checkpoint
+ * ledger_checkpoints'e aynı transaction'da yazılır. Checkpoint yalnızca kesintisiz ilerleyebilir
+ * (applied_seq = ilk seq - 1); böylece aynı kayıtların iki kez uygulanması ya da arada kayıt atlanması commit edilemez.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.account.ledger.enabled", havingValue = "true")
+public class JdbcLedgerStore implements LedgerStore {
+
+	private static final String UPDATE_BALANCE = "UPDATE accounts SET amount = amount + ?, version = version + 1 "
+			+ "WHERE account_no = ?";
+	private static final String SELECT_CHECKPOINT = "SELECT applied_seq FROM ledger_checkpoints WHERE partition_id = ?";
+	private static final String INSERT_CHECKPOINT = "INSERT INTO ledger_checkpoints (partition_id, applied_seq, updated_at) "
+			+ "VALUES (?, 0, ?)";
+	private static final String UPDATE_CHECKPOINT = "UPDATE ledger_checkpoints SET applied_seq = ?, updated_at = ? "
+			+ "WHERE partition_id = ? AND applied_seq = ?";
+
+	private final AccountRepository accountRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionProducer transactionProducer;
+	private final AccountEventStore accountEventStore;
+	private final TransactionTemplate transactionTemplate;
+
+	public JdbcLedgerStore(AccountRepository accountRepository, JdbcTemplate jdbcTemplate,
+			TransactionProducer transactionProducer, AccountEventStore accountEventStore,
+			PlatformTransactionManager transactionManager) {
+		this.accountRepository = accountRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionProducer = transactionProducer;
+		this.accountEventStore = accountEventStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public Optional<Account> load(String accountNo) {
+		return accountRepository.findById(accountNo);
+	}
+
+	@Override
+	public long checkpoint(int partition) {
+		List<Long> applied = jdbcTemplate.queryForList(SELECT_CHECKPOINT, Long.class, partition);
+		if (!applied.isEmpty()) {
+			return applied.get(0);
+		}
+		jdbcTemplate.update(INSERT_CHECKPOINT, partition, Timestamp.valueOf(LocalDateTime.now()));
+		return 0;
+	}
+
+	@Override
+	public void apply(int partition, List<LedgerEntry> entries) {
+		long first = entries.get(0).seq();
+		long last = entries.get(entries.size() - 1).seq();
+		transactionTemplate.executeWithoutResult(status -> {
+			// Hesap sırasıyla güncellenir: diğer toplu yazıcılarla aynı satır kilidi sırası
+			Map<String, Long> deltas = new TreeMap<>();
+			for (LedgerEntry entry : entries) {
+				deltas.merge(entry.accountNo(), entry.delta(), Long::sum);
+			}
+			List<Object[]> rows = new ArrayList<>(deltas.size());
+			deltas.forEach((accountNo, delta) -> rows.add(new Object[] { Money.ofMinor(delta).toBigDecimal(), accountNo }));
+			int[] counts = jdbcTemplate.batchUpdate(UPDATE_BALANCE, rows);
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] == 0) {
+					log.error("Ledger kaydının hesabı DB'de bulunamadı: hesapNo={}", rows.get(i)[1]);
+				}
+			}
+
+			List<TransactionEvent> events = entries.stream().map(LedgerEntry::toEvent).toList();
+			transactionProducer.publishAll(events);
+			accountEventStore.appendAll(events);
+
+			int updated = jdbcTemplate.update(UPDATE_CHECKPOINT, last, Timestamp.valueOf(LocalDateTime.now()), partition,
+					first - 1);
+			if (updated == 0) {
+				throw new IllegalStateException("Ledger checkpoint'i ilerletilemedi: partition=" + partition
+						+ ", seq=" + first + "-" + last + " (kayıtlar zaten uygulanmış ya da başka bir yazıcı var)");
+			}
+		});
+		log.debug("Ledger kayıtları DB'ye uygulandı: partition={}, seq={}-{}", partition, first, last);
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.util.Arrays;
+
+import com.example.OnlineBankacilik.entity.Account;
+
+/**
+ * Partition'ın bellekteki bakiye defteri: hesap numarası (long) → bakiye (kuruş, long)
+ * Açık adresleme + lineer yoklama; anahtar ve bakiyeler primitive dizilerde tutulur, kutulama yoktur.
+ * Hesabın değişmeyen alanları (müşteri, tip, açılış tarihi vb.) yüklenen Account anlık görüntüsünden okunur.
+ * Thread-safe değildir; yalnızca partition writer thread'i erişir.
+ */
+final class LedgerBook {
+
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+	private long[] keys;
+	private long[] balances;
+	private Account[] accounts;
+	private int mask;
+	private int shift;
+	private int size;
+
+	LedgerBook(int initialCapacity) {
+		allocate(Integer.highestOneBit(Math.max(16, initialCapacity - 1) << 1));
+	}
+
+	int indexOf(long key) {
+		int index = slot(key);
+		while (accounts[index] != null) {
+			if (keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	int insert(long key, Account account, long balance) {
+		if ((size + 1) * 4 > keys.length * 3) {
+			resize();
+		}
+		int index = slot(key);
+		while (accounts[index] != null) {
+			if (keys[index] == key) {
+				break;
+			}
+			index = (index + 1) & mask;
+		}
+		if (accounts[index] == null) {
+			size++;
+		}
+		keys[index] = key;
+		balances[index] = balance;
+		accounts[index] = account;
+		return index;
+	}
+
+	long balance(int index) {
+		return balances[index];
+	}
+
+	void setBalance(int index, long balance) {
+		balances[index] = balance;
+	}
+
+	Account account(int index) {
+		return accounts[index];
+	}
+
+	/**
+	 * Silme sonrası yoklama zinciri kopmasın diye takip eden girişler geri kaydırılır (tombstone yok)
+	 */
+	void remove(long key) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return;
+		}
+		size--;
+		int gap = index;
+		int next = (gap + 1) & mask;
+		while (accounts[next] != null) {
+			int home = slot(keys[next]);
+			// next'in ev slot'u (gap, next] aralığında değilse gap'e taşınabilir
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				balances[gap] = balances[next];
+				accounts[gap] = accounts[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		accounts[gap] = null;
+	}
+
+	void clear() {
+		Arrays.fill(accounts, null);
+		size = 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private int slot(long key) {
+		return (int) ((key * GOLDEN) >>> shift);
+	}
+
+	private void resize() {
+		long[] oldKeys = keys;
+		long[] oldBalances = balances;
+		Account[] oldAccounts = accounts;
+		allocate(oldKeys.length << 1);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldAccounts[i] != null) {
+				insert(oldKeys[i], oldAccounts[i], oldBalances[i]);
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		balances = new long[capacity];
+		accounts = new Account[capacity];
+		mask = capacity - 1;
+		shift = Long.numberOfLeadingZeros(capacity - 1L);
+	}
+}
@@ -0,0 +1,311 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.exception.LedgerOutcomeUnknownException;
+import com.example.OnlineBankacilik.money.Money;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bellek içi ledger motoru (app.account.ledger.enabled=true)
+ * Hesaplar numaralarına göre partition'lara dağıtılır; her partition'ın tek bir writer thread'i vardır ve
+ * komutları ring buffer'dan alır. Yatırma/çekme bellekteki defterde uygulanır, journal'a fsync'lenir ve
+ * ardından onaylanır; DB (bakiye + outbox + checkpoint) journal'dan asenkron güncellenir.
+ * Aynı hesabın işlemleri hep aynı writer'dan geçtiği için kilit ve version çakışması yoktur; throughput
+ * partition sayısıyla ölçeklenir.
+ *
+ * DB'ye doğrudan yazan diğer yollar (kapatma, faiz, toplu posting, toplu tahakkuk) exclusive ile
+ * ilgili partition'ları durdurur: partition önce DB'yi günceller, hesapları defterden çıkarır ve iş
+ * bitene kadar bekler. Tek writer varsayımı nedeniyle ledger modu tek instance (ya da hesap bazlı
+ * yönlendirme) gerektirir.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.account.ledger.enabled", havingValue = "true")
+public class LedgerEngine {
+
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+	private static final int MAX_KEY_DIGITS = 18;
+	private static final long OFFER_RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+	private static final String PARTITION_DIR_PREFIX = "partition-";
+
+	private final LedgerStore store;
+	private final LedgerPartition[] partitions;
+	private final Path journalDirectory;
+	private final long segmentBytes;
+	private final int dbBatchSize;
+	private final long commandTimeoutNanos;
+	private final Timer depositTimer;
+	private final Timer withdrawTimer;
+
+	public LedgerEngine(LedgerStore store, MeterRegistry meterRegistry,
+			@Value("${app.account.ledger.partitions:4}") int partitionCount,
+			@Value("${app.account.ledger.ring-size:8192}") int ringSize,
+			@Value("${app.account.ledger.max-batch:256}") int maxBatch,
+			@Value("${app.account.ledger.command-timeout:5s}") Duration commandTimeout,
+			@Value("${app.account.ledger.journal.directory:ledger-journal}") String journalDirectory,
+			@Value("${app.account.ledger.journal.fsync:true}") boolean fsync,
+			@Value("${app.account.ledger.journal.segment-size:64MB}") DataSize segmentSize,
+			@Value("${app.account.ledger.db.batch-size:500}") int dbBatchSize) throws IOException {
+		this.store = store;
+		this.journalDirectory = Path.of(journalDirectory);
+		this.segmentBytes = segmentSize.toBytes();
+		this.dbBatchSize = dbBatchSize;
+		this.commandTimeoutNanos = commandTimeout.toNanos();
+		DistributionSummary batchSize = DistributionSummary.builder("ledger.journal.batch.size")
+				.description("Tek journal yazımında (group commit) onaylanan işlem sayısı")
+				.register(meterRegistry);
+		this.partitions = new LedgerPartition[Math.max(1, partitionCount)];
+		for (int i = 0; i < partitions.length; i++) {
+			LedgerJournal journal = new LedgerJournal(this.journalDirectory.resolve(PARTITION_DIR_PREFIX + i),
+					segmentBytes, fsync);
+			partitions[i] = new LedgerPartition(i, ringSize, maxBatch, dbBatchSize, journal, store, batchSize);
+			Gauge.builder("ledger.db.lag", partitions[i], LedgerPartition::dbLag)
+					.description("Journal'a yazılmış ama DB'ye henüz uygulanmamış kayıt sayısı")
+					.tag("partition", String.valueOf(i))
+					.register(meterRegistry);
+			Gauge.builder("ledger.ring.queued", partitions[i], LedgerPartition::queued)
+					.description("Partition ring buffer'ında bekleyen komut sayısı")
+					.tag("partition", String.valueOf(i))
+					.register(meterRegistry);
+		}
+		this.depositTimer = commandTimer(meterRegistry, "deposit");
+		this.withdrawTimer = commandTimer(meterRegistry, "withdraw");
+	}
+
+	private static Timer commandTimer(MeterRegistry meterRegistry, String type) {
+		return Timer.builder("ledger.command.duration")
+				.description("Ledger komutunun kuyruğa girişinden journal onayına kadar geçen süre")
+				.tag("type", type)
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		try {
+			replayOrphanPartitions();
+			for (LedgerPartition partition : partitions) {
+				partition.start();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Ledger journal'ı açılamadı: " + journalDirectory, e);
+		}
+		log.info("Ledger motoru hazır: partitions={}, journal={}", partitions.length, journalDirectory.toAbsolutePath());
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		for (LedgerPartition partition : partitions) {
+			partition.stop(TimeUnit.SECONDS.toMillis(10));
+		}
+		log.info("Ledger motoru durduruldu");
+	}
+
+	/**
+	 * Hesap numarası ledger anahtarına (long) çevrilebiliyorsa true; diğer hesaplar DB yolunda kalır
+	 */
+	public boolean supports(String accountNo) {
+		return key(accountNo) >= 0;
+	}
+
+	public LedgerPosting deposit(String accountNo, Money amount) {
+		return post(accountNo, TransactionType.YATIRMA, amount, depositTimer);
+	}
+
+	public LedgerPosting withdraw(String accountNo, Money amount) {
+		return post(accountNo, TransactionType.CEKME, amount, withdrawTimer);
+	}
+
+	/**
+	 * Hesap defterde yüklüyse onaylanmış (journal'a yazılmış) güncel bakiyesi; DB bu değerin gerisinde olabilir
+	 */
+	public Optional<Money> residentBalance(String accountNo) {
+		long key = key(accountNo);
+		if (key < 0) {
+			return Optional.empty();
+		}
+		CompletableFuture<Optional<Money>> result = new CompletableFuture<>();
+		submit(partitionFor(key), new LedgerPartition.Lookup(key, result));
+		return await(result);
+	}
+
+	/**
+	 * Verilen hesapların partition'ları DB'ye işlenip durdurulmuşken action'ı çalıştırır.
+	 * Partition'lar artan sırada durdurulur; iki exclusive çağrı birbirini kilitleyemez.
+	 */
+	public <T> T exclusive(Collection<String> accountNos, Supplier<T> action) {
+		Map<Integer, List<Long>> groups = new TreeMap<>();
+		for (String accountNo : accountNos) {
+			long key = key(accountNo);
+			if (key >= 0) {
+				groups.computeIfAbsent(partitionFor(key).id(), p -> new ArrayList<>()).add(key);
+			}
+		}
+		if (groups.isEmpty()) {
+			return action.get();
+		}
+		List<CompletableFuture<Void>> releases = new ArrayList<>(groups.size());
+		try {
+			for (Map.Entry<Integer, List<Long>> group : groups.entrySet()) {
+				long[] keys = group.getValue().stream().mapToLong(Long::longValue).toArray();
+				park(partitions[group.getKey()], keys, releases);
+			}
+			return action.get();
+		} finally {
+			releases.forEach(released -> released.complete(null));
+		}
+	}
+
+	/**
+	 * Tüm partition'lar durdurulup defterler boşaltılmışken action'ı çalıştırır (hesap kümesi önceden bilinmeyen
+	 * toplu işler için, örn. faiz tahakkuku chunk'ı)
+	 */
+	public <T> T exclusiveAll(Supplier<T> action) {
+		List<CompletableFuture<Void>> releases = new ArrayList<>(partitions.length);
+		try {
+			for (LedgerPartition partition : partitions) {
+				park(partition, null, releases);
+			}
+			return action.get();
+		} finally {
+			releases.forEach(released -> released.complete(null));
+		}
+	}
+
+	int partitionCount() {
+		return partitions.length;
+	}
+
+	private void park(LedgerPartition partition, long[] keys, List<CompletableFuture<Void>> releases) {
+		LedgerPartition.Fence fence = new LedgerPartition.Fence(keys, new CompletableFuture<>(),
+				new CompletableFuture<>());
+		releases.add(fence.released());
+		submit(partition, fence);
+		await(fence.parked());
+	}
+
+	private LedgerPosting post(String accountNo, TransactionType type, Money amount, Timer timer) {
+		long start = System.nanoTime();
+		long key = key(accountNo);
+		if (key < 0) {
+			throw new AccountNotFoundException(accountNo);
+		}
+		CompletableFuture<LedgerPosting> result = new CompletableFuture<>();
+		submit(partitionFor(key), new LedgerPartition.Posting(key, accountNo, type, amount.minorUnits(),
+				UUID.randomUUID(), result));
+		LedgerPosting posting = await(result);
+		timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return posting;
+	}
+
+	// Ring doluysa command-timeout boyunca kısa aralıklarla tekrar denenir (geri basınç)
+	private void submit(LedgerPartition partition, LedgerPartition.Command command) {
+		long deadline = System.nanoTime() + commandTimeoutNanos;
+		while (!partition.offer(command)) {
+			if (!partition.isRunning()) {
+				throw new IllegalStateException("Ledger motoru çalışmıyor");
+			}
+			if (System.nanoTime() - deadline > 0) {
+				throw new IllegalStateException("Ledger kuyruğu dolu: partition=" + partition.id());
+			}
+			LockSupport.parkNanos(OFFER_RETRY_NANOS);
+		}
+	}
+
+	/**
+	 * Zaman aşımı komutu iptal etmez; komut daha sonra uygulanabilir (sonuç bilinmiyor)
+	 */
+	private <T> T await(CompletableFuture<T> result) {
+		try {
+			return result.get(commandTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException("Ledger komutu başarısız", e.getCause());
+		} catch (TimeoutException e) {
+			throw new LedgerOutcomeUnknownException("Ledger komutu zaman aşımına uğradı", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new LedgerOutcomeUnknownException("Ledger komutu beklenirken kesildi", e);
+		}
+	}
+
+	private LedgerPartition partitionFor(long key) {
+		return partitions[Math.floorMod(Long.hashCode(key * GOLDEN), partitions.length)];
+	}
+
+	/**
+	 * Hesap numarasının long karşılığı; sıfırla başlayan ya da sayısal olmayan numaralar için -1
+	 */
+	static long key(String accountNo) {
+		if (accountNo == null || accountNo.isEmpty() || accountNo.length() > MAX_KEY_DIGITS
+				|| (accountNo.charAt(0) == '0')) {
+			return -1;
+		}
+		long value = 0;
+		for (int i = 0; i < accountNo.length(); i++) {
+			char c = accountNo.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Partition sayısı azaltıldıysa artık kullanılmayan partition dizinlerindeki uygulanmamış kayıtlar
+	 * açılışta DB'ye işlenir
+	 */
+	private void replayOrphanPartitions() throws IOException {
+		if (!Files.isDirectory(journalDirectory)) {
+			return;
+		}
+		try (DirectoryStream<Path> dirs = Files.newDirectoryStream(journalDirectory, PARTITION_DIR_PREFIX + "*")) {
+			for (Path dir : dirs) {
+				int id = Integer.parseInt(dir.getFileName().toString().substring(PARTITION_DIR_PREFIX.length()));
+				if (id < partitions.length) {
+					continue;
+				}
+				try (LedgerJournal journal = new LedgerJournal(dir, segmentBytes, false)) {
+					long checkpoint = store.checkpoint(id);
+					journal.recover(checkpoint, dbBatchSize, entries -> store.apply(id, entries));
+				}
+				log.warn("Kullanılmayan ledger partition journal'ı DB'ye uygulandı: {}", dir);
+			}
+		}
+	}
+}
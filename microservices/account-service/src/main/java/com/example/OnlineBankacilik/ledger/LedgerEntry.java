@@ -0,0 +1,35 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Journal'a yazılan tek bakiye hareketi
+ * Tutarlar kuruş (Money.minorUnits) cinsindendir; seq partition içinde kesintisiz artar.
+ */
+public record LedgerEntry(long seq, long accountKey, long customerId, TransactionType type, long amount,
+		long balanceAfter, UUID transactionId, long timestamp) {
+
+	public String accountNo() {
+		return Long.toString(accountKey);
+	}
+
+	/**
+	 * DB bakiyesine eklenecek fark (çekmede negatif)
+	 */
+	public long delta() {
+		return type == TransactionType.CEKME ? -amount : amount;
+	}
+
+	public TransactionEvent toEvent() {
+		return new TransactionEvent(transactionId.toString(), accountNo(), customerId, type, Money.ofMinor(amount),
+				Money.ofMinor(balanceAfter - delta()), Money.ofMinor(balanceAfter), true,
+				LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()));
+	}
+}
@@ -0,0 +1,268 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import com.example.OnlineBankacilik.enums.TransactionType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Partition journal'ı (write-ahead log)
+ * Kayıtlar sabit uzunlukludur ve segment dosyalarına (ilk seq ile adlandırılır) eklenir. Writer bir grup
+ * kaydı tek write + force ile diske indirir (group commit); komutlar ancak bundan sonra onaylanır.
+ * DB'ye uygulanmış segment'ler silinir. Açılışta yarım yazılmış son kayıt (CRC tutmayan kuyruk) kesilir.
+ *
+ * Kayıt: seq(8) hesap(8) müşteri(8) tip(1) tutar(8) sonBakiye(8) txId(16) zaman(8) crc32c(4)
+ */
+@Slf4j
+final class LedgerJournal implements Closeable {
+
+	static final int RECORD_SIZE = 69;
+	private static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+	private static final String SUFFIX = ".journal";
+
+	private final Path directory;
+	private final long segmentBytes;
+	private final boolean fsync;
+	private final ReentrantLock segmentsLock = new ReentrantLock();
+	private final TreeMap<Long, Path> segments = new TreeMap<>();
+	private final CRC32C crc = new CRC32C();
+	private ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 256);
+	private FileChannel active;
+	private long activeSize;
+	private long lastSeq;
+
+	LedgerJournal(Path directory, long segmentBytes, boolean fsync) throws IOException {
+		this.directory = Files.createDirectories(directory);
+		this.segmentBytes = Math.max(RECORD_SIZE, segmentBytes);
+		this.fsync = fsync;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				segments.put(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), file);
+			}
+		}
+	}
+
+	/**
+	 * Tüm segment'leri okur, afterSeq'ten büyük kayıtları batchSize'lık gruplar halinde sink'e verir
+	 * ve son segment'i ekleme için açar. Dönen değer journal'daki son seq'tir (boşsa 0).
+	 */
+	long recover(long afterSeq, int batchSize, Consumer<List<LedgerEntry>> sink) throws IOException {
+		List<LedgerEntry> batch = new ArrayList<>(batchSize);
+		ByteBuffer chunk = ByteBuffer.allocate(RECORD_SIZE * 1024);
+		long previous = 0;
+		for (Iterator<Map.Entry<Long, Path>> it = segments.entrySet().iterator(); it.hasNext();) {
+			Path file = it.next().getValue();
+			boolean last = !it.hasNext();
+			long valid = 0;
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				long size = channel.size();
+				chunk.clear();
+				while (true) {
+					int read = channel.read(chunk);
+					chunk.flip();
+					boolean torn = false;
+					while (chunk.remaining() >= RECORD_SIZE) {
+						LedgerEntry entry = decode(chunk);
+						if (entry == null || (previous != 0 && entry.seq() != previous + 1)) {
+							torn = true;
+							break;
+						}
+						previous = entry.seq();
+						valid += RECORD_SIZE;
+						if (entry.seq() > afterSeq) {
+							batch.add(entry);
+							if (batch.size() == batchSize) {
+								sink.accept(List.copyOf(batch));
+								batch.clear();
+							}
+						}
+					}
+					if (torn || read < 0) {
+						break;
+					}
+					chunk.compact();
+				}
+				if (valid < size) {
+					if (!last) {
+						throw new IOException("Journal bozuk (son segment dışında): " + file + ", geçerli=" + valid);
+					}
+					log.warn("Journal kuyruğu kesiliyor (yarım kayıt): dosya={}, boyut={}, geçerli={}", file, size, valid);
+					channel.truncate(valid);
+					channel.force(true);
+				}
+			}
+			if (last) {
+				active = FileChannel.open(file, StandardOpenOption.WRITE);
+				activeSize = valid;
+			}
+		}
+		if (!batch.isEmpty()) {
+			sink.accept(List.copyOf(batch));
+		}
+		lastSeq = previous;
+		return lastSeq;
+	}
+
+	/**
+	 * Kayıtları tek seferde yazar (fsync açıksa diske indirir). Hata durumunda segment yazım öncesi
+	 * boyuta geri kesilir; çağıran bellekteki etkiyi geri alır.
+	 */
+	void append(List<LedgerEntry> entries) throws IOException {
+		int bytes = entries.size() * RECORD_SIZE;
+		if (active == null || (activeSize > 0 && activeSize + bytes > segmentBytes)) {
+			roll(entries.get(0).seq());
+		}
+		if (buffer.capacity() < bytes) {
+			buffer = ByteBuffer.allocate(Integer.highestOneBit(bytes - 1) << 1);
+		}
+		buffer.clear();
+		for (LedgerEntry entry : entries) {
+			encode(entry);
+		}
+		buffer.flip();
+		long position = activeSize;
+		try {
+			while (buffer.hasRemaining()) {
+				active.write(buffer, position + buffer.position());
+			}
+			if (fsync) {
+				active.force(false);
+			}
+		} catch (IOException e) {
+			try {
+				active.truncate(position);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+		activeSize += bytes;
+		lastSeq = entries.get(entries.size() - 1).seq();
+	}
+
+	/**
+	 * appliedSeq'e kadar tamamen DB'ye uygulanmış (aktif olmayan) segment'leri siler
+	 */
+	void release(long appliedSeq) {
+		segmentsLock.lock();
+		try {
+			while (segments.size() > 1) {
+				Map.Entry<Long, Path> first = segments.firstEntry();
+				Long nextStart = segments.higherKey(first.getKey());
+				if (nextStart - 1 > appliedSeq) {
+					return;
+				}
+				Files.deleteIfExists(first.getValue());
+				segments.pollFirstEntry();
+				log.debug("Journal segment'i silindi: {}", first.getValue());
+			}
+		} catch (IOException e) {
+			log.warn("Journal segment'i silinemedi: dizin={}", directory, e);
+		} finally {
+			segmentsLock.unlock();
+		}
+	}
+
+	long lastSeq() {
+		return lastSeq;
+	}
+
+	int segmentCount() {
+		segmentsLock.lock();
+		try {
+			return segments.size();
+		} finally {
+			segmentsLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (active != null) {
+			active.close();
+			active = null;
+		}
+	}
+
+	private void roll(long firstSeq) throws IOException {
+		close();
+		Path file = directory.resolve(String.format("%020d%s", firstSeq, SUFFIX));
+		active = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		activeSize = 0;
+		segmentsLock.lock();
+		try {
+			segments.put(firstSeq, file);
+		} finally {
+			segmentsLock.unlock();
+		}
+	}
+
+	private void encode(LedgerEntry entry) {
+		int start = buffer.position();
+		buffer.putLong(entry.seq())
+				.putLong(entry.accountKey())
+				.putLong(entry.customerId())
+				.put(typeCode(entry.type()))
+				.putLong(entry.amount())
+				.putLong(entry.balanceAfter())
+				.putLong(entry.transactionId().getMostSignificantBits())
+				.putLong(entry.transactionId().getLeastSignificantBits())
+				.putLong(entry.timestamp());
+		crc.reset();
+		crc.update(buffer.array(), start, PAYLOAD_SIZE);
+		buffer.putInt((int) crc.getValue());
+	}
+
+	private LedgerEntry decode(ByteBuffer in) {
+		int start = in.position();
+		crc.reset();
+		crc.update(in.array(), start, PAYLOAD_SIZE);
+		int expected = in.getInt(start + PAYLOAD_SIZE);
+		if ((int) crc.getValue() != expected) {
+			return null;
+		}
+		LedgerEntry entry = new LedgerEntry(in.getLong(), in.getLong(), in.getLong(), type(in.get()), in.getLong(),
+				in.getLong(), new UUID(in.getLong(), in.getLong()), in.getLong());
+		in.getInt();
+		return entry;
+	}
+
+	// Enum sırasına bağlı kalmamak için sabit kodlar
+	private static byte typeCode(TransactionType type) {
+		return switch (type) {
+		case YATIRMA -> 1;
+		case CEKME -> 2;
+		case FAIZ_ISLEME -> 3;
+		case TRANSFER -> 4;
+		};
+	}
+
+	private static TransactionType type(byte code) {
+		return switch (code) {
+		case 1 -> TransactionType.YATIRMA;
+		case 2 -> TransactionType.CEKME;
+		case 3 -> TransactionType.FAIZ_ISLEME;
+		case 4 -> TransactionType.TRANSFER;
+		default -> throw new IllegalStateException("Bilinmeyen journal kayıt tipi: " + code);
+		};
+	}
+}
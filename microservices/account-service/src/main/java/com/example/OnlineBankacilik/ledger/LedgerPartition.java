@@ -0,0 +1,350 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.exception.InvalidAmountException;
+import com.example.OnlineBankacilik.money.Money;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tek yazıcılı ledger partition'ı
+ * writer thread: ring'den komut grubunu alır, bellekteki defterde uygular, grubu journal'a tek
+ * write + fsync ile yazar ve ancak sonra komutları onaylar. Defter yalnızca bu thread'e aittir; kilit yoktur.
+ * applier thread: journal'a yazılmış grupları sırayla DB'ye uygular (LedgerStore.apply) ve checkpoint'i ilerletir.
+ * DB hatasında aynı grup geri çekilmeden tekrar denenir; kayıtlar journal'da durduğu için kaybolmaz.
+ */
+@Slf4j
+final class LedgerPartition {
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long MAX_DB_BACKOFF_MS = 5_000;
+
+	sealed interface Command permits Posting, Lookup, Fence {
+	}
+
+	record Posting(long key, String accountNo, TransactionType type, long amount, UUID transactionId,
+			CompletableFuture<LedgerPosting> result) implements Command {
+	}
+
+	record Lookup(long key, CompletableFuture<Optional<Money>> result) implements Command {
+	}
+
+	/**
+	 * Partition'ı DB'yi güncel hale getirip durdurur: keys null ise tüm defter, değilse sadece verilen hesaplar
+	 * defterden çıkarılır (sonraki komut DB'den yeniden yükler). parked tamamlanınca çağıran DB'ye yazabilir;
+	 * released tamamlanana kadar partition komut işlemez.
+	 */
+	record Fence(long[] keys, CompletableFuture<Void> parked, CompletableFuture<Void> released) implements Command {
+	}
+
+	private record DbWork(List<LedgerEntry> entries, CompletableFuture<Void> flushed) {
+	}
+
+	// Grup journal'a yazılınca verilecek cevap; yazım başarısızsa aynı future hata ile tamamlanır
+	private record Completion<T>(CompletableFuture<T> future, T value) {
+
+		void succeed() {
+			future.complete(value);
+		}
+
+		void fail(Throwable failure) {
+			future.completeExceptionally(failure);
+		}
+	}
+
+	private final int id;
+	private final CommandRing<Command> ring;
+	private final LedgerBook book = new LedgerBook(1024);
+	private final LedgerJournal journal;
+	private final LedgerStore store;
+	private final int maxBatch;
+	private final int dbBatchSize;
+	private final DistributionSummary batchSize;
+	private final BlockingQueue<DbWork> dbQueue = new LinkedBlockingQueue<>();
+	private final Thread writer;
+	private final Thread applier;
+	private volatile boolean running;
+	private long nextSeq;
+	private volatile long journaledSeq;
+	private volatile long appliedSeq;
+
+	LedgerPartition(int id, int ringSize, int maxBatch, int dbBatchSize, LedgerJournal journal, LedgerStore store,
+			DistributionSummary batchSize) {
+		this.id = id;
+		this.ring = new CommandRing<>(ringSize);
+		this.maxBatch = Math.max(1, maxBatch);
+		this.dbBatchSize = Math.max(1, dbBatchSize);
+		this.journal = journal;
+		this.store = store;
+		this.batchSize = batchSize;
+		this.writer = Thread.ofPlatform().name("ledger-writer-" + id).daemon().unstarted(this::runWriter);
+		this.applier = Thread.ofPlatform().name("ledger-db-" + id).daemon().unstarted(this::runApplier);
+		ring.bindConsumer(writer);
+	}
+
+	/**
+	 * Journal'da olup DB'ye uygulanmamış kayıtları uygular, ardından thread'leri başlatır
+	 */
+	void start() throws IOException {
+		long checkpoint = store.checkpoint(id);
+		long[] replayed = new long[1];
+		long last = journal.recover(checkpoint, dbBatchSize, entries -> {
+			store.apply(id, entries);
+			replayed[0] += entries.size();
+		});
+		nextSeq = Math.max(last, checkpoint) + 1;
+		journaledSeq = nextSeq - 1;
+		appliedSeq = nextSeq - 1;
+		journal.release(appliedSeq);
+		if (replayed[0] > 0) {
+			log.info("Ledger partition journal'dan DB'ye uygulandı: partition={}, kayıt={}, sonSeq={}", id, replayed[0],
+					appliedSeq);
+		}
+		running = true;
+		writer.start();
+		applier.start();
+	}
+
+	boolean offer(Command command) {
+		return running && ring.offer(command);
+	}
+
+	/**
+	 * Yeni komut kabulünü keser; ring'deki komutlar ve DB kuyruğu boşaltılınca thread'ler biter
+	 */
+	void stop(long timeoutMs) throws InterruptedException {
+		running = false;
+		writer.join(timeoutMs);
+		applier.join(timeoutMs);
+		try {
+			journal.close();
+		} catch (IOException e) {
+			log.warn("Ledger journal kapatılamadı: partition={}", id, e);
+		}
+	}
+
+	int id() {
+		return id;
+	}
+
+	boolean isRunning() {
+		return running;
+	}
+
+	long dbLag() {
+		return journaledSeq - appliedSeq;
+	}
+
+	int queued() {
+		return ring.size();
+	}
+
+	private void runWriter() {
+		List<Command> batch = new ArrayList<>(maxBatch);
+		List<LedgerEntry> entries = new ArrayList<>(maxBatch);
+		List<Completion<?>> completions = new ArrayList<>(maxBatch);
+		while (running || !ring.isEmpty()) {
+			if (ring.drainTo(batch, maxBatch) == 0) {
+				ring.await(IDLE_PARK_NANOS);
+				continue;
+			}
+			for (Command command : batch) {
+				try {
+					switch (command) {
+					case Posting posting -> post(posting, entries, completions);
+					case Lookup lookup -> lookup(lookup, completions);
+					case Fence fence -> {
+						commit(entries, completions);
+						fence(fence);
+					}
+					}
+				} catch (RuntimeException e) {
+					log.error("Ledger komutu işlenemedi: partition={}", id, e);
+					fail(command, e);
+				}
+			}
+			commit(entries, completions);
+			batch.clear();
+		}
+	}
+
+	private void post(Posting posting, List<LedgerEntry> entries, List<Completion<?>> completions) {
+		int index = book.indexOf(posting.key());
+		if (index < 0) {
+			Optional<Account> loaded = store.load(posting.accountNo());
+			if (loaded.isEmpty()) {
+				posting.result().completeExceptionally(new AccountNotFoundException(posting.accountNo()));
+				return;
+			}
+			index = book.insert(posting.key(), loaded.get(), loaded.get().getAmount().minorUnits());
+		}
+		Account account = book.account(index);
+		boolean withdraw = posting.type() == TransactionType.CEKME;
+		if (!account.isActive()) {
+			posting.result().completeExceptionally(new RuntimeException(
+					withdraw ? "Kapalı hesaptan işlem yapılamaz" : "Kapalı hesaba işlem yapılamaz"));
+			return;
+		}
+		long balance = book.balance(index);
+		long after;
+		if (withdraw) {
+			if (balance < posting.amount()) {
+				posting.result().completeExceptionally(
+						new InsufficientBalanceException(Money.ofMinor(balance), Money.ofMinor(posting.amount())));
+				return;
+			}
+			after = balance - posting.amount();
+		} else {
+			try {
+				after = Math.addExact(balance, posting.amount());
+			} catch (ArithmeticException e) {
+				posting.result().completeExceptionally(new InvalidAmountException());
+				return;
+			}
+		}
+		book.setBalance(index, after);
+		entries.add(new LedgerEntry(nextSeq++, posting.key(), account.getCustomerId(), posting.type(),
+				posting.amount(), after, posting.transactionId(), System.currentTimeMillis()));
+		LedgerPosting result = new LedgerPosting(account, Money.ofMinor(after));
+		completions.add(new Completion<>(posting.result(), result));
+	}
+
+	// Okuma da grubun journal'a yazılmasını bekler: onaylanmamış bakiye dışarı verilmez
+	private void lookup(Lookup lookup, List<Completion<?>> completions) {
+		int index = book.indexOf(lookup.key());
+		Optional<Money> balance = index < 0 ? Optional.empty() : Optional.of(Money.ofMinor(book.balance(index)));
+		completions.add(new Completion<>(lookup.result(), balance));
+	}
+
+	private void commit(List<LedgerEntry> entries, List<Completion<?>> completions) {
+		if (!entries.isEmpty()) {
+			try {
+				journal.append(entries);
+			} catch (IOException e) {
+				log.error("Ledger journal'a yazılamadı, grup geri alınıyor: partition={}, kayıt={}", id, entries.size(), e);
+				rollback(entries);
+				RuntimeException failure = new IllegalStateException("Ledger journal'a yazılamadı", e);
+				completions.forEach(completion -> completion.fail(failure));
+				completions.clear();
+				entries.clear();
+				return;
+			}
+			batchSize.record(entries.size());
+			journaledSeq = entries.get(entries.size() - 1).seq();
+			dbQueue.add(new DbWork(List.copyOf(entries), null));
+			entries.clear();
+		}
+		completions.forEach(Completion::succeed);
+		completions.clear();
+	}
+
+	private void rollback(List<LedgerEntry> entries) {
+		for (int i = entries.size() - 1; i >= 0; i--) {
+			LedgerEntry entry = entries.get(i);
+			int index = book.indexOf(entry.accountKey());
+			if (index >= 0) {
+				book.setBalance(index, entry.balanceAfter() - entry.delta());
+			}
+		}
+		nextSeq = entries.get(0).seq();
+	}
+
+	private void fence(Fence fence) {
+		CompletableFuture<Void> flushed = new CompletableFuture<>();
+		dbQueue.add(new DbWork(List.of(), flushed));
+		flushed.join();
+		if (fence.keys() == null) {
+			book.clear();
+		} else {
+			for (long key : fence.keys()) {
+				book.remove(key);
+			}
+		}
+		fence.parked().complete(null);
+		fence.released().join();
+	}
+
+	private void fail(Command command, RuntimeException e) {
+		switch (command) {
+		case Posting posting -> posting.result().completeExceptionally(e);
+		case Lookup lookup -> lookup.result().completeExceptionally(e);
+		case Fence fence -> fence.parked().completeExceptionally(e);
+		}
+	}
+
+	private void runApplier() {
+		List<LedgerEntry> entries = new ArrayList<>(dbBatchSize);
+		List<CompletableFuture<Void>> flushes = new ArrayList<>();
+		while (running || writer.isAlive() || !dbQueue.isEmpty()) {
+			DbWork work;
+			try {
+				work = dbQueue.poll(100, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (work == null) {
+				continue;
+			}
+			collect(work, entries, flushes);
+			while (entries.size() < dbBatchSize && (work = dbQueue.poll()) != null) {
+				collect(work, entries, flushes);
+			}
+			if (!entries.isEmpty() && !applyWithRetry(entries)) {
+				return;
+			}
+			flushes.forEach(flushed -> flushed.complete(null));
+			entries.clear();
+			flushes.clear();
+		}
+	}
+
+	private void collect(DbWork work, List<LedgerEntry> entries, List<CompletableFuture<Void>> flushes) {
+		entries.addAll(work.entries());
+		if (work.flushed() != null) {
+			flushes.add(work.flushed());
+		}
+	}
+
+	private boolean applyWithRetry(List<LedgerEntry> entries) {
+		long backoff = 100;
+		while (true) {
+			try {
+				store.apply(id, entries);
+				appliedSeq = entries.get(entries.size() - 1).seq();
+				journal.release(appliedSeq);
+				return true;
+			} catch (RuntimeException e) {
+				if (!running && !writer.isAlive()) {
+					// Kapanışta vazgeçilir; kayıtlar journal'da, açılışta uygulanır
+					log.warn("Ledger DB güncellemesi kapanışta yarım kaldı: partition={}, uygulanan={}, journal={}", id,
+							appliedSeq, journaledSeq);
+					return false;
+				}
+				log.error("Ledger DB güncellemesi başarısız, tekrar denenecek: partition={}, kayıt={}, bekleme={}ms", id,
+						entries.size(), backoff, e);
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+				backoff = Math.min(backoff * 2, MAX_DB_BACKOFF_MS);
+			}
+		}
+	}
+}
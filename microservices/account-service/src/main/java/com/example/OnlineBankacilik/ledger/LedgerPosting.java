@@ -0,0 +1,11 @@
+package com.example.OnlineBankacilik.ledger;
+
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Journal'a yazılıp onaylanmış işlemin sonucu
+ * account, ledger'a yüklendiği andaki anlık görüntüdür (bakiyesi güncel değildir); güncel bakiye balance'tadır.
+ */
+public record LedgerPosting(Account account, Money balance) {
+}
@@ -0,0 +1,28 @@
+package com.example.OnlineBankacilik.ledger;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.example.OnlineBankacilik.entity.Account;
+
+/**
+ * Ledger'ın kalıcı taraf (DB) ile sözleşmesi
+ */
+public interface LedgerStore {
+
+	/**
+	 * Hesabı ledger'a ilk kez alınırken okur
+	 */
+	Optional<Account> load(String accountNo);
+
+	/**
+	 * Partition'ın DB'ye uygulanmış son journal sırası; kayıt yoksa 0 ile oluşturulur
+	 */
+	long checkpoint(int partition);
+
+	/**
+	 * Journal kayıtlarını tek transaction'da uygular: bakiye farkları, transaction event'leri (outbox)
+	 * ve partition checkpoint'i birlikte commit edilir. Checkpoint'in gerisindeki kayıtlar tekrar uygulanamaz.
+	 */
+	void apply(int partition, List<LedgerEntry> entries);
+}
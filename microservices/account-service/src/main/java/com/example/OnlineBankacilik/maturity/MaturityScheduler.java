@@ -0,0 +1,39 @@
+package com.example.OnlineBankacilik.maturity;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.OnlineBankacilik.service.MaturityService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vade işleme zamanlayıcısı
+ * Her gün günün çalıştırmasını planlar (tüm node'lar dener, planı tek node oluşturur) ve her turda
+ * boş worker'ları kadar shard sahiplenir; böylece ayın sonu yığılmaları tüm node'lara dağılır.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.account.maturity.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class MaturityScheduler {
+
+	private final MaturityService maturityService;
+
+	@Scheduled(cron = "${app.account.maturity.scheduler.cron:0 5 0 * * *}")
+	public void planToday() {
+		maturityService.plan(LocalDate.now());
+	}
+
+	@Scheduled(fixedDelayString = "${app.account.maturity.scheduler.poll-interval:10s}")
+	public void claimShards() {
+		int claimed = maturityService.processAvailableShards();
+		if (claimed > 0) {
+			log.debug("Vade shard'ları sahiplenildi: {}", claimed);
+		}
+	}
+}
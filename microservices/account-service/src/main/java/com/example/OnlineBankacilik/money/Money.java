@@ -0,0 +1,169 @@
+package com.example.OnlineBankacilik.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Sabit noktalı para tutarı (TL, 2 ondalık hane)
+ * Tutar kuruş cinsinden tek bir long olarak tutulur; toplama/çıkarma/karşılaştırma BigDecimal
+ * ayırmadan yapılır ve taşma ArithmeticException ile yakalanır (sessizce sarmaz).
+ * Veritabanında NUMERIC(19,2) (MoneyConverter), JSON'da sayı (MoneyJson) olarak temsil edilir;
+ * her iki format da BigDecimal dönemindekiyle aynıdır.
+ * 2'den fazla anlamlı ondalık hane içeren girdi reddedilir; yuvarlama yalnızca faiz gibi
+ * oran çarpımlarında açıkça verilen RoundingMode ile yapılır.
+ */
+@JsonSerialize(using = MoneyJson.Serializer.class)
+@JsonDeserialize(using = MoneyJson.Deserializer.class)
+public final class Money implements Comparable<Money>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final int SCALE = 2;
+	public static final Money ZERO = new Money(0);
+
+	// Faiz tutarı kuruşa yuvarlanırken kullanılan politika (NUMERIC(19,2) yazımıyla aynı: yarımı yukarı)
+	public static final RoundingMode INTEREST_ROUNDING = RoundingMode.HALF_UP;
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+			10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+			10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 1_000_000_000_000_000_000L };
+
+	private final long minorUnits;
+
+	private Money(long minorUnits) {
+		this.minorUnits = minorUnits;
+	}
+
+	public static Money ofMinor(long minorUnits) {
+		return minorUnits == 0 ? ZERO : new Money(minorUnits);
+	}
+
+	/**
+	 * BigDecimal'dan birebir dönüşüm; kuruştan küçük anlamlı hane varsa ArithmeticException.
+	 */
+	public static Money of(BigDecimal amount) {
+		return ofMinor(amount.movePointRight(SCALE).longValueExact());
+	}
+
+	public static Money of(String amount) {
+		return of(new BigDecimal(amount));
+	}
+
+	/**
+	 * unscaled × 10^-scale değerinden dönüşüm (binary codec); kuruştan küçük kalan varsa ArithmeticException.
+	 */
+	public static Money ofScaled(long unscaled, int scale) {
+		if (scale == SCALE) {
+			return ofMinor(unscaled);
+		}
+		if (scale < SCALE) {
+			return ofMinor(Math.multiplyExact(unscaled, pow10(SCALE - scale)));
+		}
+		long divisor = pow10(scale - SCALE);
+		if (unscaled % divisor != 0) {
+			throw new ArithmeticException("Tutar kuruştan küçük hane içeriyor: " + unscaled + "e-" + scale);
+		}
+		return ofMinor(unscaled / divisor);
+	}
+
+	public long minorUnits() {
+		return minorUnits;
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(minorUnits, SCALE);
+	}
+
+	public Money plus(Money other) {
+		return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+	}
+
+	public Money minus(Money other) {
+		return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+	}
+
+	/**
+	 * Oran çarpımı (faiz): sonuç kuruşa verilen RoundingMode ile yuvarlanır.
+	 * Oran ve çarpım long'a sığdığı sürece hesap tamamen long aritmetiği ile yapılır.
+	 */
+	public Money multiply(BigDecimal rate, RoundingMode rounding) {
+		if (rate.scale() >= 0 && rate.scale() < POWERS_OF_TEN.length && rate.precision() <= 18) {
+			long unscaledRate = rate.unscaledValue().longValue();
+			long high = Math.multiplyHigh(minorUnits, unscaledRate);
+			long product = minorUnits * unscaledRate;
+			// Çarpım 64 bit'e sığıyorsa yüksek kelime düşük kelimenin işaret uzantısıdır
+			if ((high == 0 && product >= 0) || (high == -1 && product < 0)) {
+				return ofMinor(divide(product, POWERS_OF_TEN[rate.scale()], rounding));
+			}
+		}
+		return of(toBigDecimal().multiply(rate).setScale(SCALE, rounding));
+	}
+
+	public boolean isPositive() {
+		return minorUnits > 0;
+	}
+
+	public boolean isNegative() {
+		return minorUnits < 0;
+	}
+
+	public boolean isZero() {
+		return minorUnits == 0;
+	}
+
+	public boolean isLessThan(Money other) {
+		return minorUnits < other.minorUnits;
+	}
+
+	@Override
+	public int compareTo(Money other) {
+		return Long.compare(minorUnits, other.minorUnits);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof Money other && other.minorUnits == minorUnits;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(minorUnits);
+	}
+
+	@Override
+	public String toString() {
+		return toBigDecimal().toPlainString();
+	}
+
+	private static long pow10(int exponent) {
+		if (exponent >= POWERS_OF_TEN.length) {
+			throw new ArithmeticException("Ölçek desteklenmiyor: 10^" + exponent);
+		}
+		return POWERS_OF_TEN[exponent];
+	}
+
+	private static long divide(long dividend, long divisor, RoundingMode rounding) {
+		long quotient = dividend / divisor;
+		long remainder = dividend % divisor;
+		if (remainder == 0) {
+			return quotient;
+		}
+		int sign = dividend < 0 ? -1 : 1;
+		long twiceRemainder = Math.abs(remainder) * 2;
+		boolean increment = switch (rounding) {
+		case UP -> true;
+		case DOWN -> false;
+		case CEILING -> sign > 0;
+		case FLOOR -> sign < 0;
+		case HALF_UP -> twiceRemainder >= divisor;
+		case HALF_DOWN -> twiceRemainder > divisor;
+		case HALF_EVEN -> twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0);
+		case UNNECESSARY -> throw new ArithmeticException("Yuvarlama gerekli: " + dividend + "/" + divisor);
+		};
+		return increment ? quotient + sign : quotient;
+	}
+}
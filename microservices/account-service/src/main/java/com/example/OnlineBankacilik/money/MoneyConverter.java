@@ -0,0 +1,23 @@
+package com.example.OnlineBankacilik.money;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Money <-> NUMERIC(19,2); kolon tipi ve değerleri BigDecimal dönemindekiyle aynı kalır
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+	@Override
+	public BigDecimal convertToDatabaseColumn(Money money) {
+		return money != null ? money.toBigDecimal() : null;
+	}
+
+	@Override
+	public Money convertToEntityAttribute(BigDecimal value) {
+		return value != null ? Money.of(value) : null;
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.OnlineBankacilik.money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Money JSON temsili: BigDecimal ile aynı sayı ("amount": 1250.75)
+ * Girdi olarak sayı veya sayısal string kabul edilir; kuruştan küçük hane içeren tutar 400 ile reddedilir.
+ */
+public final class MoneyJson {
+
+	private MoneyJson() {
+	}
+
+	public static class Serializer extends StdScalarSerializer<Money> {
+
+		private static final long serialVersionUID = 1L;
+
+		public Serializer() {
+			super(Money.class);
+		}
+
+		@Override
+		public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			gen.writeNumber(value.toBigDecimal());
+		}
+	}
+
+	public static class Deserializer extends StdScalarDeserializer<Money> {
+
+		private static final long serialVersionUID = 1L;
+
+		public Deserializer() {
+			super(Money.class);
+		}
+
+		@Override
+		public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+			BigDecimal amount;
+			if (p.currentToken() == JsonToken.VALUE_STRING) {
+				String text = p.getText().trim();
+				try {
+					amount = new BigDecimal(text);
+				} catch (NumberFormatException e) {
+					return (Money) ctxt.handleWeirdStringValue(Money.class, text, "Geçersiz tutar");
+				}
+			} else if (p.currentToken().isNumeric()) {
+				amount = p.getDecimalValue();
+			} else {
+				return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+			}
+			try {
+				return Money.of(amount);
+			} catch (ArithmeticException e) {
+				return (Money) ctxt.handleWeirdNumberValue(Money.class, amount, "Tutar en fazla 2 ondalık hane içerebilir");
+			}
+		}
+	}
+}
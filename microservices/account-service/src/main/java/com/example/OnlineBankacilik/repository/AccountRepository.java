@@ -2,15 +2,17 @@ package com.example.OnlineBankacilik.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 
 import com.example.OnlineBankacilik.entity.Account;
 
 public interface AccountRepository extends JpaRepository<Account, String> {
 
 	List<Account> findByCustomerId(Long customerId);
-	
-	@Query("SELECT MAX(CAST(a.accountNo AS long)) FROM Account a")
-	Long findMaxAccountNo();
+
+	// Keyset sayfalama: account_no (PK) indeksi üzerinden OFFSET'siz okuma
+	List<Account> findAllByOrderByAccountNoAsc(Limit limit);
+
+	List<Account> findByAccountNoGreaterThanOrderByAccountNoAsc(String after, Limit limit);
 }
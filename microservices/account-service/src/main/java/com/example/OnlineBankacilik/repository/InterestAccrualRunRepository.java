@@ -0,0 +1,18 @@
+package com.example.OnlineBankacilik.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import com.example.OnlineBankacilik.entity.InterestAccrualRun;
+
+import jakarta.persistence.LockModeType;
+
+public interface InterestAccrualRunRepository extends JpaRepository<InterestAccrualRun, String> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT r FROM InterestAccrualRun r WHERE r.runId = :runId")
+	Optional<InterestAccrualRun> findByIdForUpdate(String runId);
+}
@@ -0,0 +1,8 @@
+package com.example.OnlineBankacilik.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.OnlineBankacilik.entity.MaturityRun;
+
+public interface MaturityRunRepository extends JpaRepository<MaturityRun, String> {
+}
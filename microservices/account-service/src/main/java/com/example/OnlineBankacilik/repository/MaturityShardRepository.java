@@ -0,0 +1,12 @@
+package com.example.OnlineBankacilik.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.OnlineBankacilik.entity.MaturityShard;
+
+public interface MaturityShardRepository extends JpaRepository<MaturityShard, MaturityShard.Key> {
+
+	List<MaturityShard> findByRunIdOrderByShardNo(String runId);
+}
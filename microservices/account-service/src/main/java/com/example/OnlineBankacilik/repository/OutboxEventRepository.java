@@ -0,0 +1,52 @@
+package com.example.OnlineBankacilik.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.OnlineBankacilik.entity.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * Gönderilebilir kayıtlar (id sırasıyla). Aynı hesabın daha önceki bir kaydı beklemedeyse (claim edilmiş ya da
+	 * backoff'ta) sonraki kayıtları alınmaz; hesap sırası korunur. SKIP LOCKED: birden fazla relay instance'ı aynı
+	 * kayıtları almaz. Hesap başına transaction advisory kilidi alınır: başka bir relay'in henüz commit edilmemiş
+	 * claim'i sürerken aynı hesabın kayıtları atlanır, kilit claim commit'inde bırakılır.
+	 */
+	@Query(value = "SELECT o.* FROM transaction_outbox o WHERE o.parked_at IS NULL "
+			+ "AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= :now) "
+			+ "AND NOT EXISTS (SELECT 1 FROM transaction_outbox p WHERE p.aggregate_id = o.aggregate_id "
+			+ "AND p.id < o.id AND p.parked_at IS NULL AND p.next_attempt_at > :now) "
+			+ "AND pg_try_advisory_xact_lock(hashtext(o.aggregate_id)) "
+			+ "ORDER BY o.id LIMIT :limit FOR UPDATE OF o SKIP LOCKED", nativeQuery = true)
+	List<OutboxEvent> findBatchForRelay(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	/**
+	 * Claim edilen kayıtlardan, hesabın daha önceki bir kaydı beklemede olanlar. findBatchForRelay'in snapshot'ı
+	 * advisory kilit alınmadan önce açılır; kilidi yeni bırakan relay'in lease'i o snapshot'ta görünmeyebilir.
+	 * Kilit tutulurken çalışan bu sorgu yeni snapshot ile (READ COMMITTED) tekrar bakar.
+	 */
+	@Query(value = "SELECT o.id FROM transaction_outbox o WHERE o.id IN (:ids) "
+			+ "AND EXISTS (SELECT 1 FROM transaction_outbox p WHERE p.aggregate_id = o.aggregate_id "
+			+ "AND p.id < o.id AND p.parked_at IS NULL AND p.next_attempt_at > :now)", nativeQuery = true)
+	List<Long> findBlockedByEarlierLease(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("UPDATE OutboxEvent o SET o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+	int reschedule(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+	@Modifying
+	@Query("UPDATE OutboxEvent o SET o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt WHERE o.id = :id")
+	int markFailed(@Param("id") Long id, @Param("attempts") int attempts,
+			@Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+	@Modifying
+	@Query("UPDATE OutboxEvent o SET o.attempts = :attempts, o.parkedAt = :parkedAt WHERE o.id = :id")
+	int park(@Param("id") Long id, @Param("attempts") int attempts, @Param("parkedAt") LocalDateTime parkedAt);
+}
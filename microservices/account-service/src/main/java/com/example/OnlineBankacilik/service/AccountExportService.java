@@ -0,0 +1,14 @@
+package com.example.OnlineBankacilik.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface AccountExportService {
+
+	/**
+	 * Tüm hesapları account_no sırasıyla NDJSON (satır başına bir JSON) olarak yazar.
+	 *
+	 * @return yazılan hesap sayısı
+	 */
+	long exportNdjson(OutputStream out) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.example.OnlineBankacilik.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.example.OnlineBankacilik.dto.AccountBalanceDto;
+
+public interface AccountHistoryService {
+
+	Optional<AccountBalanceDto> balance(String accountNo, LocalDateTime at);
+
+	AccountBalanceDto rebuild(String accountNo);
+}
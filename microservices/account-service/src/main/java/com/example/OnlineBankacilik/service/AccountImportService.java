@@ -0,0 +1,11 @@
+package com.example.OnlineBankacilik.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.example.OnlineBankacilik.dto.AccountImportReportDto;
+
+public interface AccountImportService {
+
+	AccountImportReportDto importCsv(InputStream csv) throws IOException;
+}
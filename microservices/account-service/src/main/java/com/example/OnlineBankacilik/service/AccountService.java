@@ -2,6 +2,7 @@ package com.example.OnlineBankacilik.service;
 
 import java.util.List;
 
+import com.example.OnlineBankacilik.dto.AccountPageDto;
 import com.example.OnlineBankacilik.dto.AccountRequestDto;
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
@@ -10,7 +11,7 @@ public interface AccountService {
 
 	AccountResponseDto accountOpen(AccountRequestDto dto);
 
-	List<AccountResponseDto> allAccounts();
+	AccountPageDto accountsPage(String after, int limit);
 
 	AccountResponseDto getAccount(String accountNo);
 
@@ -20,7 +21,14 @@ public interface AccountService {
 
 	AccountResponseDto deposit(String accountNo, TransactionRequestDto request);
 
+	/**
+	 * idempotencyKey verilirse işlemin kaydı bakiye değişikliğiyle aynı transaction'da yazılır (IdempotencyStore)
+	 */
+	AccountResponseDto deposit(String accountNo, TransactionRequestDto request, String idempotencyKey);
+
 	AccountResponseDto withdraw(String accountNo, TransactionRequestDto request);
 
+	AccountResponseDto withdraw(String accountNo, TransactionRequestDto request, String idempotencyKey);
+
 	AccountResponseDto processInterest(String accountNo);
 }
@@ -0,0 +1,9 @@
+package com.example.OnlineBankacilik.service;
+
+import com.example.OnlineBankacilik.dto.BatchPostingRequestDto;
+import com.example.OnlineBankacilik.dto.BatchPostingResponseDto;
+
+public interface BatchPostingService {
+
+	BatchPostingResponseDto post(BatchPostingRequestDto request);
+}
@@ -0,0 +1,13 @@
+package com.example.OnlineBankacilik.service;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import com.example.OnlineBankacilik.dto.InterestAccrualStatusDto;
+
+public interface InterestAccrualService {
+
+	InterestAccrualStatusDto start(YearMonth period);
+
+	Optional<InterestAccrualStatusDto> status(String runId);
+}
@@ -0,0 +1,15 @@
+package com.example.OnlineBankacilik.service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.example.OnlineBankacilik.dto.MaturityRunStatusDto;
+
+public interface MaturityService {
+
+	MaturityRunStatusDto plan(LocalDate maturityDate);
+
+	Optional<MaturityRunStatusDto> status(LocalDate maturityDate);
+
+	int processAvailableShards();
+}
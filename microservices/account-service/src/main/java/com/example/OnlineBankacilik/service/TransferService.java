@@ -0,0 +1,12 @@
+package com.example.OnlineBankacilik.service;
+
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
+
+public interface TransferService {
+
+	/**
+	 * idempotencyKey verilirse işlemin kaydı bakiye değişikliğiyle aynı transaction'da yazılır (IdempotencyStore)
+	 */
+	TransferResponseDto transfer(TransferRequestDto request, String idempotencyKey);
+}
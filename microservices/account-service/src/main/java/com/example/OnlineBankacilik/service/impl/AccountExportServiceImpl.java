@@ -0,0 +1,107 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.dto.AccountResponseDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.service.AccountExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hesapların NDJSON dışa aktarımı
+ * Satırlar forward-only JDBC cursor'ı ile fetchSize'lık parçalar halinde okunur ve her satır
+ * okunduğu anda yanıta yazılır; entity/DTO listesi biriktirilmediği için bellek kullanımı tablo
+ * boyutundan bağımsızdır. PostgreSQL sürücüsü cursor'ı yalnızca autocommit kapalıyken kullandığından
+ * okuma read-only bir transaction içinde yapılır.
+ */
+@Slf4j
+@Service
+public class AccountExportServiceImpl implements AccountExportService {
+
+	// Sıcak hesapların slot'larında bekleyen yatırmalar bakiyeye eklenir (slot tablosu sıcak hesap sayısı kadar küçük)
+	private static final String SELECT_ALL = "SELECT a.account_no, a.customer_id, a.account_type, "
+			+ "a.amount + COALESCE(s.pending, 0) AS amount, a.opening_date, a.active, a.interest_rate, "
+			+ "a.maturity_month, a.maturity_date FROM accounts a LEFT JOIN (SELECT account_no, SUM(amount) AS pending "
+			+ "FROM account_balance_slots GROUP BY account_no) s ON s.account_no = a.account_no ORDER BY a.account_no";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectWriter writer;
+	private final int fetchSize;
+
+	public AccountExportServiceImpl(DataSource dataSource, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper, @Value("${app.account.export.fetch-size:1000}") int fetchSize) {
+		this.fetchSize = Math.max(1, fetchSize);
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(this.fetchSize);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		// Her satırda flush yapılmaz; tampon fetchSize satırda bir boşaltılır
+		this.writer = objectMapper.writerFor(AccountResponseDto.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	@Override
+	public long exportNdjson(OutputStream out) throws IOException {
+		long start = System.nanoTime();
+		long[] count = new long[1];
+		try (JsonGenerator generator = writer.createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(SELECT_ALL, rs -> {
+				try {
+					writer.writeValue(generator, toDto(rs));
+					generator.writeRaw('\n');
+					if (++count[0] % fetchSize == 0) {
+						generator.flush();
+					}
+				} catch (IOException e) {
+					// İstemci bağlantıyı kapattı; cursor ve transaction kapatılır
+					throw new UncheckedIOException(e);
+				}
+			}));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		log.info("Hesap dışa aktarımı tamamlandı: hesap={}, süre={} ms", count[0],
+				(System.nanoTime() - start) / 1_000_000);
+		return count[0];
+	}
+
+	private AccountResponseDto toDto(ResultSet rs) throws SQLException {
+		AccountResponseDto dto = new AccountResponseDto();
+		dto.setAccountNo(rs.getString("account_no"));
+		dto.setCustomerId(rs.getLong("customer_id"));
+		dto.setAccountType(AccountType.valueOf(rs.getString("account_type")));
+		dto.setAmount(rs.getBigDecimal("amount"));
+		Timestamp openingDate = rs.getTimestamp("opening_date");
+		dto.setOpeningDate(openingDate != null ? openingDate.toLocalDateTime() : null);
+		dto.setActive(rs.getBoolean("active"));
+		if (dto.getAccountType() == AccountType.VADELI) {
+			dto.setInterestRate(rs.getBigDecimal("interest_rate"));
+			int maturityMonth = rs.getInt("maturity_month");
+			dto.setMaturityMonth(rs.wasNull() ? null : maturityMonth);
+			Date maturityDate = rs.getDate("maturity_date");
+			dto.setMaturityDate(maturityDate != null ? maturityDate.toLocalDate() : null);
+		}
+		return dto;
+	}
+}
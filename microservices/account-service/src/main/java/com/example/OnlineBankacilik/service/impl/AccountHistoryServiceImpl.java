@@ -0,0 +1,103 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.dto.AccountBalanceDto;
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.eventstore.BalanceReplay;
+import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.hotaccount.HotAccountBalances;
+import com.example.OnlineBankacilik.repository.AccountRepository;
+import com.example.OnlineBankacilik.service.AccountHistoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Olay akışından bakiye sorguları (GET /accounts/{accountNo}/balance?at=...) ve
+ * hesap bakiyesinin olay akışından yeniden kurulması
+ * Ledger modunda akış DB'ye uygulanmış journal kayıtlarını içerir; güncel bakiye birkaç milisaniye geride olabilir.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountHistoryServiceImpl implements AccountHistoryService {
+
+	private final AccountEventStore accountEventStore;
+	private final AccountRepository accountRepository;
+	private final AccountLockManager accountLockManager;
+	private final CacheManager cacheManager;
+	private final HotAccountBalances hotAccounts;
+
+	// Akış bakiyesi ile slot toplamı aynı snapshot'tan okunur; arada commit edilen katma (fold) iki kez sayılmaz
+	@Override
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public Optional<AccountBalanceDto> balance(String accountNo, LocalDateTime at) {
+		if (at != null) {
+			return accountEventStore.balanceAt(accountNo, at).map(r -> toDto(r, at));
+		}
+		// Sıcak hesabın slot'larındaki yatırmalar akışa katılana kadar güncel bakiyeye ayrıca eklenir
+		return accountEventStore.currentBalance(accountNo).map(r -> toDto(r, null)).map(dto -> {
+			dto.setBalance(dto.getBalance().add(hotAccounts.pending(accountNo).toBigDecimal()));
+			return dto;
+		});
+	}
+
+	/**
+	 * Hesap kilidi altında bakiyeyi olay akışından hesaplar; hesap satırı farklıysa akışa göre düzeltir
+	 */
+	@Override
+	public AccountBalanceDto rebuild(String accountNo) {
+		AccountBalanceDto result = accountLockManager.executeLocked(accountNo, () -> doRebuild(accountNo));
+		if (result.getCorrected()) {
+			evictCaches(accountNo);
+		}
+		return result;
+	}
+
+	private AccountBalanceDto doRebuild(String accountNo) {
+		Account account = accountRepository.findById(accountNo).orElseThrow(() -> new AccountNotFoundException(accountNo));
+		BalanceReplay replay = accountEventStore.currentBalance(accountNo)
+				.orElseThrow(() -> new IllegalStateException("Hesabın olay akışı yok: " + accountNo));
+		AccountBalanceDto dto = toDto(replay, null);
+		dto.setCorrected(!account.getAmount().equals(replay.balance()));
+		if (dto.getCorrected()) {
+			log.warn("Hesap bakiyesi olay akışından farklı, düzeltiliyor: hesapNo={}, kayıtlı={}, akış={}, sonSeq={}",
+					accountNo, account.getAmount(), replay.balance(), replay.lastSeq());
+			account.setAmount(replay.balance());
+			accountRepository.save(account);
+		}
+		return dto;
+	}
+
+	private void evictCaches(String accountNo) {
+		Cache accountCache = cacheManager.getCache("account");
+		if (accountCache != null) {
+			accountCache.evict(accountNo);
+		}
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		if (customerAccountsCache != null) {
+			accountRepository.findById(accountNo).ifPresent(account -> customerAccountsCache.evict(account.getCustomerId()));
+		}
+	}
+
+	private static AccountBalanceDto toDto(BalanceReplay replay, LocalDateTime at) {
+		AccountBalanceDto dto = new AccountBalanceDto();
+		dto.setAccountNo(replay.accountNo());
+		dto.setBalance(replay.balance().toBigDecimal());
+		dto.setAt(at);
+		dto.setSnapshotSeq(replay.snapshotSeq());
+		dto.setLastSeq(replay.lastSeq());
+		dto.setReplayedEvents(replay.replayedEvents());
+		return dto;
+	}
+}
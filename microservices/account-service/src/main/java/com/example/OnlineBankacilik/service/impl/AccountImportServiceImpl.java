@@ -0,0 +1,318 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.client.CustomerDirectory;
+import com.example.OnlineBankacilik.dto.AccountImportRejectDto;
+import com.example.OnlineBankacilik.dto.AccountImportReportDto;
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.entity.FixedDepositAccount;
+import com.example.OnlineBankacilik.entity.FuturesAccount;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.generator.AccountNumberGenerator;
+import com.example.OnlineBankacilik.importer.AccountBulkWriter;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.service.AccountImportService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV'den toplu hesap açma
+ * Satır biçimi: customerId,accountType,firstAmount[,interestRate,maturityMonth] (ilk satır başlık olabilir).
+ * İstek gövdesi satır satır okunur ve chunk'lar halinde işlenir, bellek kullanımı dosya boyutundan bağımsızdır:
+ * 1. Satır doğrulanır (hesap açma ile aynı kurallar); hatalı satır sadece kendisi reddedilir
+ * 2. Chunk'taki müşteriler CustomerDirectory üzerinden tek toplu çağrıyla doğrulanır
+ * 3. Hesap numaraları chunk için blok halinde alınır (AccountNumberGenerator.nextAccountNos)
+ * 4. Hesaplar ve seq 0 snapshot'ları tek transaction'da AccountBulkWriter ile (PostgreSQL'de COPY) yazılır
+ * Yazımı başarısız olan chunk'ın satırları reddedilir, sonraki chunk'larla devam edilir.
+ */
+@Slf4j
+@Service
+public class AccountImportServiceImpl implements AccountImportService {
+
+	private static final String HEADER_PREFIX = "customerid";
+	private static final BigDecimal DEFAULT_INTEREST_RATE = new BigDecimal("0.05");
+	private static final BigDecimal MAX_INTEREST_RATE = BigDecimal.TEN; // interest_rate NUMERIC(5,4)
+	private static final int DEFAULT_MATURITY_MONTH = 12;
+
+	private final CustomerDirectory customerDirectory;
+	private final AccountNumberGenerator accountNumberGenerator;
+	private final AccountBulkWriter accountBulkWriter;
+	private final TransactionTemplate transactionTemplate;
+	private final CacheManager cacheManager;
+	private final Counter importedRows;
+	private final Counter rejectedRows;
+	private final MeterRegistry meterRegistry;
+	private final int chunkSize;
+	private final int maxRejects;
+
+	public AccountImportServiceImpl(CustomerDirectory customerDirectory, AccountNumberGenerator accountNumberGenerator,
+			AccountBulkWriter accountBulkWriter, PlatformTransactionManager transactionManager,
+			CacheManager cacheManager, MeterRegistry meterRegistry,
+			@Value("${app.account.import.chunk-size:5000}") int chunkSize,
+			@Value("${app.account.import.max-rejects:1000}") int maxRejects) {
+		this.customerDirectory = customerDirectory;
+		this.accountNumberGenerator = accountNumberGenerator;
+		this.accountBulkWriter = accountBulkWriter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.cacheManager = cacheManager;
+		this.meterRegistry = meterRegistry;
+		this.importedRows = Counter.builder("account.import.rows").tag("result", "imported")
+				.description("Toplu içe aktarımla açılan hesap sayısı").register(meterRegistry);
+		this.rejectedRows = Counter.builder("account.import.rows").tag("result", "rejected")
+				.description("Toplu içe aktarımda reddedilen satır sayısı").register(meterRegistry);
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxRejects = Math.max(0, maxRejects);
+	}
+
+	@Override
+	public AccountImportReportDto importCsv(InputStream csv) throws IOException {
+		long start = System.nanoTime();
+		ImportProgress progress = new ImportProgress(maxRejects);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+		List<PendingAccount> chunk = new ArrayList<>(chunkSize);
+		String line;
+		int lineNo = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNo++;
+			if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+				line = line.substring(1); // UTF-8 BOM
+			}
+			if (line.isBlank() || (lineNo == 1 && line.trim().toLowerCase(Locale.ROOT).startsWith(HEADER_PREFIX))) {
+				continue;
+			}
+			progress.total++;
+			Account account = parse(lineNo, line, progress);
+			if (account != null) {
+				chunk.add(new PendingAccount(lineNo, account));
+				if (chunk.size() == chunkSize) {
+					importChunk(chunk, progress);
+					chunk.clear();
+				}
+			}
+		}
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, progress);
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+		double rowsPerSecond = elapsedNanos == 0 ? 0 : progress.total * 1_000_000_000d / elapsedNanos;
+		log.info("Toplu hesap içe aktarımı tamamlandı: satır={}, açılan={}, reddedilen={}, yöntem={}, süre={}ms, "
+				+ "satır/sn={}", progress.total, progress.imported, progress.rejected, progress.method,
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rowsPerSecond));
+		return new AccountImportReportDto(progress.total, progress.imported, progress.rejected,
+				progress.method == null ? null : progress.method.name(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+				rowsPerSecond, progress.rejects, progress.rejected > progress.rejects.size());
+	}
+
+	/**
+	 * Satırı hesaba çevirir (numara ve açılış zamanı henüz atanmamış); geçersizse reddedip null döner
+	 */
+	private Account parse(int lineNo, String line, ImportProgress progress) {
+		String[] columns = line.split(",", -1);
+		if (columns.length < 3 || columns.length > 5) {
+			progress.reject(lineNo, "InvalidFormat",
+					"Beklenen kolonlar: customerId,accountType,firstAmount[,interestRate,maturityMonth]");
+			return null;
+		}
+		Long customerId = parseLong(columns[0]);
+		if (customerId == null || customerId <= 0) {
+			progress.reject(lineNo, "InvalidFormat", "Geçersiz müşteri id: " + columns[0].trim());
+			return null;
+		}
+		AccountType accountType;
+		try {
+			accountType = AccountType.valueOf(columns[1].trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			progress.reject(lineNo, "InvalidAccountType", "Geçersiz hesap tipi: " + columns[1].trim());
+			return null;
+		}
+		Money amount = parseMoney(columns[2]);
+		if (amount == null || !amount.isPositive()) {
+			progress.reject(lineNo, "InvalidAmountException",
+					"Miktar 0'dan büyük ve en fazla 2 ondalık haneli olmalıdır");
+			return null;
+		}
+
+		Account account;
+		if (accountType == AccountType.VADESIZ) {
+			account = new FixedDepositAccount();
+		} else {
+			BigDecimal interestRate = optional(columns, 3) == null ? DEFAULT_INTEREST_RATE : parseDecimal(columns[3]);
+			if (interestRate == null || interestRate.signum() < 0 || interestRate.scale() > 4
+					|| interestRate.compareTo(MAX_INTEREST_RATE) >= 0) {
+				progress.reject(lineNo, "InvalidInterestRate",
+						"Faiz oranı 0 ile 10 arasında, en fazla 4 ondalık haneli olmalıdır");
+				return null;
+			}
+			Long maturityMonth = optional(columns, 4) == null ? Long.valueOf(DEFAULT_MATURITY_MONTH)
+					: parseLong(columns[4]);
+			if (maturityMonth == null || maturityMonth <= 0 || maturityMonth > 1200) {
+				progress.reject(lineNo, "InvalidMaturityMonth", "Vade ayı 1 ile 1200 arasında olmalıdır");
+				return null;
+			}
+			FuturesAccount futures = new FuturesAccount();
+			futures.setInterestRate(interestRate);
+			futures.setMaturityMonth(maturityMonth.intValue());
+			futures.setMaturityDate(LocalDate.now().plusMonths(maturityMonth));
+			account = futures;
+		}
+		account.setCustomerId(customerId);
+		account.setAmount(amount);
+		return account;
+	}
+
+	private void importChunk(List<PendingAccount> chunk, ImportProgress progress) {
+		long start = System.nanoTime();
+		Set<Long> customerIds = new HashSet<>();
+		chunk.forEach(pending -> customerIds.add(pending.account.getCustomerId()));
+		Set<Long> existing;
+		try {
+			existing = customerDirectory.existing(customerIds);
+		} catch (Exception e) {
+			log.error("Toplu müşteri doğrulama hatası: satır={}, müşteri={}", chunk.size(), customerIds.size(), e);
+			chunk.forEach(pending -> progress.reject(pending.line, "CustomerLookupFailed",
+					"Müşteri doğrulaması yapılamadı, satır tekrar gönderilmeli"));
+			return;
+		}
+
+		List<PendingAccount> accepted = new ArrayList<>(chunk.size());
+		for (PendingAccount pending : chunk) {
+			if (existing.contains(pending.account.getCustomerId())) {
+				accepted.add(pending);
+			} else {
+				progress.reject(pending.line, "CustomerNotFound",
+						"Müşteri bulunamadı: " + pending.account.getCustomerId());
+			}
+		}
+		if (accepted.isEmpty()) {
+			return;
+		}
+
+		List<String> accountNos = accountNumberGenerator.nextAccountNos(accepted.size());
+		LocalDateTime openingDate = LocalDateTime.now();
+		List<Account> accounts = new ArrayList<>(accepted.size());
+		for (int i = 0; i < accepted.size(); i++) {
+			Account account = accepted.get(i).account;
+			account.setAccountNo(accountNos.get(i));
+			account.setOpeningDate(openingDate);
+			accounts.add(account);
+		}
+
+		AccountBulkWriter.Method method;
+		try {
+			method = transactionTemplate.execute(status -> accountBulkWriter.write(accounts));
+		} catch (DataAccessException e) {
+			// Ayrılan numaralar kullanılmadan kalır; numara dizisinde boşluk oluşması sorun değildir
+			log.error("Toplu hesap yazımı başarısız: satır={}", accounts.size(), e);
+			String message = "Hesaplar yazılamadı: " + e.getMostSpecificCause().getMessage();
+			accepted.forEach(pending -> progress.reject(pending.line, "WriteFailed", message));
+			return;
+		}
+		progress.method = method;
+		progress.imported += accounts.size();
+		importedRows.increment(accounts.size());
+		evictCustomerAccounts(customerIds);
+		Timer.builder("account.import.chunk")
+				.description("Toplu içe aktarım chunk süresi (doğrulama + numara + yazım)")
+				.tag("method", method.name())
+				.register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		log.debug("İçe aktarım chunk'ı yazıldı: hesap={}, yöntem={}", accounts.size(), method);
+	}
+
+	private void evictCustomerAccounts(Set<Long> customerIds) {
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		if (customerAccountsCache != null) {
+			customerIds.forEach(customerAccountsCache::evict);
+		}
+	}
+
+	private static String optional(String[] columns, int index) {
+		return index < columns.length && !columns[index].isBlank() ? columns[index] : null;
+	}
+
+	private static Long parseLong(String value) {
+		try {
+			return Long.valueOf(value.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static BigDecimal parseDecimal(String value) {
+		try {
+			return new BigDecimal(value.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	// Kuruştan küçük hane içeren ya da sınırı aşan tutar geçersizdir (null döner)
+	private static Money parseMoney(String value) {
+		BigDecimal amount = parseDecimal(value);
+		if (amount == null) {
+			return null;
+		}
+		try {
+			return Money.of(amount);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+
+	private final class ImportProgress {
+		private final int maxRejects;
+		private final List<AccountImportRejectDto> rejects = new ArrayList<>();
+		private long total;
+		private long imported;
+		private long rejected;
+		private AccountBulkWriter.Method method;
+
+		private ImportProgress(int maxRejects) {
+			this.maxRejects = maxRejects;
+		}
+
+		private void reject(int line, String error, String message) {
+			rejected++;
+			rejectedRows.increment();
+			if (rejects.size() < maxRejects) {
+				rejects.add(new AccountImportRejectDto(line, error, message));
+			}
+		}
+	}
+
+	private static final class PendingAccount {
+		private final int line;
+		private final Account account;
+
+		private PendingAccount(int line, Account account) {
+			this.line = line;
+			this.account = account;
+		}
+	}
+}
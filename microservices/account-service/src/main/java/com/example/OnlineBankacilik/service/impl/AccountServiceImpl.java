@@ -4,26 +4,45 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.client.CustomerDirectory;
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.datasource.PrimaryReads;
+import com.example.OnlineBankacilik.dto.AccountPageDto;
 import com.example.OnlineBankacilik.dto.AccountRequestDto;
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
-import com.example.OnlineBankacilik.dto.CustomerResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionEvent;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
 import com.example.OnlineBankacilik.entity.Account;
 import com.example.OnlineBankacilik.entity.FixedDepositAccount;
 import com.example.OnlineBankacilik.entity.FuturesAccount;
 import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
 import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.generator.AccountNumberGenerator;
+import com.example.OnlineBankacilik.hotaccount.HotAccountBalances;
+import com.example.OnlineBankacilik.idempotency.IdempotencyStore;
 import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
 import com.example.OnlineBankacilik.exception.InvalidAmountException;
+import com.example.OnlineBankacilik.exception.LedgerOutcomeUnknownException;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
+import com.example.OnlineBankacilik.ledger.LedgerPosting;
+import com.example.OnlineBankacilik.money.Money;
 import com.example.OnlineBankacilik.repository.AccountRepository;
 import com.example.OnlineBankacilik.service.AccountService;
 import com.example.OnlineBankacilik.Kafka.TransactionProducer;
@@ -37,32 +56,18 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AccountServiceImpl implements AccountService {
 
+	static final int MAX_PAGE_SIZE = 500;
+
 	private final AccountRepository accountRepository;
-	private final CustomerServiceClient customerServiceClient;
+	private final CustomerDirectory customerDirectory;
 	private final TransactionProducer transactionProducer;
-
-	private static final AtomicLong COUNTER = new AtomicLong(0);
-	private static volatile boolean initialized = false;
-
-	private String newAccountNo() {
-		// İlk çağrıda database'den en büyük account_no'yu al ve COUNTER'ı ayarla
-		if (!initialized) {
-			synchronized (AccountServiceImpl.class) {
-				if (!initialized) {
-					Long maxAccountNo = accountRepository.findMaxAccountNo();
-					if (maxAccountNo != null && maxAccountNo > 0) {
-						COUNTER.set(maxAccountNo);
-						log.info("Account number counter initialized from database: {}", maxAccountNo);
-					} else {
-						COUNTER.set(1000); // İlk hesap için 1000'den başla
-						log.info("Account number counter initialized to default: 1000");
-					}
-					initialized = true;
-				}
-			}
-		}
-		return String.valueOf(COUNTER.incrementAndGet());
-	}
+	private final AccountEventStore accountEventStore;
+	private final AccountLockManager accountLockManager;
+	private final CacheManager cacheManager;
+	private final AccountNumberGenerator accountNumberGenerator;
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+	private final IdempotencyStore idempotencyStore;
+	private final HotAccountBalances hotAccounts;
 
 	private AccountResponseDto toDto(Account ac) {
 
@@ -70,7 +75,7 @@ public class AccountServiceImpl implements AccountService {
 
 		dt.setAccountNo(ac.getAccountNo());
 		dt.setCustomerId(ac.getCustomerId());
-		dt.setAmount(ac.getAmount());
+		dt.setAmount(ac.getAmount().toBigDecimal());
 		dt.setActive(ac.isActive());
 		dt.setOpeningDate(ac.getOpeningDate());
 		if (ac instanceof FixedDepositAccount) {
@@ -86,21 +91,65 @@ public class AccountServiceImpl implements AccountService {
 
 	}
 
+	// Ledger sonucu: değişmeyen alanlar yüklenen hesaptan, bakiye journal'a yazılmış güncel değerden
+	private AccountResponseDto toDto(LedgerPosting posting) {
+		AccountResponseDto dto = toDto(posting.account());
+		dto.setAmount(posting.balance().toBigDecimal());
+		return dto;
+	}
+
+	/**
+	 * Ledger modunda DB bakiyesi journal'ın birkaç milisaniye gerisinde olabilir;
+	 * hesap ledger'da yüklüyse onaylanmış bakiye döner (read-your-writes)
+	 */
+	private AccountResponseDto withLedgerBalance(AccountResponseDto dto) {
+		LedgerEngine ledger = ledgerEngine.getIfAvailable();
+		if (ledger != null) {
+			ledger.residentBalance(dto.getAccountNo()).ifPresent(balance -> dto.setAmount(balance.toBigDecimal()));
+		}
+		return dto;
+	}
+
+	/**
+	 * Sıcak hesap modu açıksa slot'larda bekleyen yatırmalar bakiyeye eklenir. Hesap satırı ayrı okunduğu için
+	 * bakiye slot'larla birlikte tek sorguda yeniden okunur; hesabı başka bir node sıcak moda almış olabileceğinden
+	 * yerel görünüme (isHot) bakılmaz.
+	 */
+	private AccountResponseDto withPendingDeposits(AccountResponseDto dto) {
+		if (hotAccounts.active()) {
+			dto.setAmount(hotAccounts.balance(dto.getAccountNo()).toBigDecimal());
+		}
+		return dto;
+	}
+
+	private static void requirePositive(String accountNo, TransactionRequestDto request) {
+		if (request.getAmount() == null || !request.getAmount().isPositive()) {
+			log.warn("Geçersiz tutar: hesapNo={}, tutar={}", accountNo, request.getAmount());
+			throw new InvalidAmountException();
+		}
+	}
+
+	private void requireCustomer(Long customerId) {
+		boolean exists;
+		try {
+			exists = customerDirectory.exists(customerId);
+		} catch (Exception e) {
+			log.error("Müşteri doğrulama hatası: müşteriId={}", customerId, e);
+			throw new RuntimeException("Müşteri bulunamadı: " + customerId);
+		}
+		if (!exists) {
+			throw new RuntimeException("Müşteri bulunamadı: " + customerId);
+		}
+	}
+
 	@Override
+	@Caching(put = @CachePut(value = "account", key = "#result.accountNo"),
+			evict = @CacheEvict(value = "customerAccounts", key = "#result.customerId"))
 	public AccountResponseDto accountOpen(AccountRequestDto dto) {
 		log.info("Hesap açma işlemi başlatıldı: müşteriId={}, hesapTipi={}", dto.getCustomerId(), dto.getAccountType());
 		
-		// Customer'ın var olduğunu doğrula (customer-service'ten)
-		try {
-			CustomerResponseDto customer = customerServiceClient.getCustomerById(dto.getCustomerId());
-			if (customer == null) {
-				throw new RuntimeException("Müşteri bulunamadı: " + dto.getCustomerId());
-			}
-			log.info("Müşteri doğrulandı: müşteriId={}, adSoyad={}", dto.getCustomerId(), customer.getNameSurname());
-		} catch (Exception e) {
-			log.error("Müşteri doğrulama hatası: müşteriId={}", dto.getCustomerId(), e);
-			throw new RuntimeException("Müşteri bulunamadı: " + dto.getCustomerId());
-		}
+		// Customer'ın var olduğunu doğrula (yerel cache, yoksa customer-service)
+		requireCustomer(dto.getCustomerId());
 
 		Account acc;
 		if (dto.getAccountType() == AccountType.VADESIZ) {
@@ -113,57 +162,68 @@ public class AccountServiceImpl implements AccountService {
 			fa.setMaturityDate(LocalDate.now().plusMonths(fa.getMaturityMonth()));
 			acc = fa;
 		}
-		acc.setAccountNo(newAccountNo());
-		acc.setAmount(dto.getFirstAmount());
+		acc.setAccountNo(accountNumberGenerator.nextAccountNo());
+		acc.setAmount(Money.of(dto.getFirstAmount()));
 		acc.setCustomerId(dto.getCustomerId());
 		// openingDate'i manuel olarak set et (@PrePersist sadece INSERT'te çalışır)
 		if (acc.getOpeningDate() == null) {
 			acc.setOpeningDate(LocalDateTime.now());
 		}
 		Account saved = accountRepository.save(acc);
+		accountEventStore.open(saved);
 		log.info("Hesap başarıyla açıldı: hesapNo={}, müşteriId={}, bakiye={}", 
 				saved.getAccountNo(), saved.getCustomerId(), saved.getAmount());
 		return toDto(saved);
 	}
 
+	/**
+	 * Keyset (account_no) sayfalama: after'dan büyük ilk limit hesap döner.
+	 * Sonraki sayfanın varlığı limit + 1 satır okunarak anlaşılır; OFFSET taraması yapılmaz.
+	 */
 	@Override
-	public List<AccountResponseDto> allAccounts() {
-		List<Account> accounts = accountRepository.findAll();
-		if (accounts.isEmpty()) {
-			throw new com.example.OnlineBankacilik.exception.AccountNotFoundException("Hesap bulunamdı");
-		}
+	@Transactional(readOnly = true)
+	public AccountPageDto accountsPage(String after, int limit) {
+		int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+		List<Account> accounts = after == null || after.isBlank()
+				? accountRepository.findAllByOrderByAccountNoAsc(Limit.of(size + 1))
+				: accountRepository.findByAccountNoGreaterThanOrderByAccountNoAsc(after, Limit.of(size + 1));
 
-		return accounts.stream().map(this::toDto).toList();
+		boolean hasMore = accounts.size() > size;
+		List<AccountResponseDto> items = accounts.stream().limit(size).map(this::toDto).map(this::withPendingDeposits)
+				.toList();
+		String nextCursor = hasMore ? items.get(items.size() - 1).getAccountNo() : null;
+		return new AccountPageDto(items, nextCursor);
 	}
 
 	@Override
 	@Cacheable(value = "account", key = "#accountNo")
+	@Transactional(readOnly = true)
 	public AccountResponseDto getAccount(String accountNo) {
 		log.debug("Account bilgisi DB'den alınıyor: accountNo={}", accountNo);
-		return accountRepository.findById(accountNo).map(this::toDto)
-				.orElseThrow(() -> new AccountNotFoundException(accountNo));
+		// Sonuç cache'e yazılır; replica gecikmesiyle eski bakiye cache'lenmesin diye primary'den okunur
+		return PrimaryReads.call(() -> accountRepository.findById(accountNo).map(this::toDto)
+				.map(this::withLedgerBalance).map(this::withPendingDeposits)
+				.orElseThrow(() -> new AccountNotFoundException(accountNo)));
 	}
 
 	@Override
 	@Cacheable(value = "customerAccounts", key = "#customerId")
+	@Transactional(readOnly = true)
 	public List<AccountResponseDto> customerAccounts(Long customerId) {
 		// Customer'ın var olduğunu doğrula
-		try {
-			CustomerResponseDto customer = customerServiceClient.getCustomerById(customerId);
-			if (customer == null) {
-				throw new RuntimeException("Müşteri bulunamadı: " + customerId);
-			}
-		} catch (Exception e) {
-			log.error("Müşteri doğrulama hatası: müşteriId={}", customerId, e);
-			throw new RuntimeException("Müşteri bulunamadı: " + customerId);
-		}
+		requireCustomer(customerId);
 		log.debug("Müşteri hesapları DB'den alınıyor: customerId={}", customerId);
-		return accountRepository.findByCustomerId(customerId).stream().map(this::toDto).toList();
+		return PrimaryReads.call(() -> accountRepository.findByCustomerId(customerId).stream().map(this::toDto)
+				.map(this::withLedgerBalance).map(this::withPendingDeposits).toList());
 	}
 
 	@Override
-	@CacheEvict(value = {"account", "customerAccounts"}, allEntries = true)
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public void closeAccount(String accountNo) {
+		accountLockManager.executeLocked(accountNo, () -> doCloseAccount(accountNo));
+	}
+
+	private AccountResponseDto doCloseAccount(String accountNo) {
 		log.info("Hesap kapatma işlemi başlatıldı: hesapNo={}", accountNo);
 		Account acc = accountRepository.findById(accountNo).orElseThrow(() -> new AccountNotFoundException(accountNo));
 		if (!acc.isActive()) {
@@ -171,13 +231,152 @@ public class AccountServiceImpl implements AccountService {
 			throw new RuntimeException("Hesap zaten kapalı");
 		}
 		acc.setActive(false);
-		accountRepository.save(acc);
+		Account saved = accountRepository.save(acc);
 		log.info("Hesap başarıyla kapatıldı: hesapNo={}", accountNo);
+		return refreshCaches(toDto(saved));
 	}
 
+	/**
+	 * Write-through cache bakımı: güncel hesap DTO'su account cache'ine yazılır,
+	 * sadece hesabın sahibi olan müşterinin customerAccounts kaydı silinir.
+	 * Hesap kilidi altındaki transaction'da çağrılır; cache'ler transaction-aware olduğu için yazma commit'te,
+	 * kilit bırakılmadan yapılır. Aynı hesabın işlemleri cache'e commit sırasıyla yazar, eski DTO yenisini ezemez.
+	 */
+	private AccountResponseDto refreshCaches(AccountResponseDto dto) {
+		Cache accountCache = cacheManager.getCache("account");
+		if (accountCache != null) {
+			accountCache.put(dto.getAccountNo(), dto);
+		}
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		if (customerAccountsCache != null) {
+			customerAccountsCache.evict(dto.getCustomerId());
+		}
+		return dto;
+	}
+
+	/**
+	 * Kilitsiz yollar (sıcak hesap slot'u, ledger) cevaplarını sırasız tamamlar; cache'e yazmak yerine silinir,
+	 * sonraki okuma güncel bakiyeyi yükler
+	 */
+	private AccountResponseDto evictCaches(AccountResponseDto dto) {
+		Cache accountCache = cacheManager.getCache("account");
+		if (accountCache != null) {
+			accountCache.evict(dto.getAccountNo());
+		}
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		if (customerAccountsCache != null) {
+			customerAccountsCache.evict(dto.getCustomerId());
+		}
+		return dto;
+	}
+
+	// Transaction, AccountLockManager içinde kilit alındıktan sonra açılır;
+	// böylece kilit commit'i ve cache yazmasını da kapsar
 	@Override
-	@CacheEvict(value = {"account", "customerAccounts"}, allEntries = true)
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public AccountResponseDto deposit(String accountNo, TransactionRequestDto request) {
+		return deposit(accountNo, request, null);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public AccountResponseDto deposit(String accountNo, TransactionRequestDto request, String idempotencyKey) {
+		LedgerEngine ledger = ledgerEngine.getIfAvailable();
+		if (ledger != null && ledger.supports(accountNo)) {
+			requirePositive(accountNo, request);
+			return postToLedger(idempotencyKey, TransactionType.YATIRMA, accountNo, request,
+					() -> ledger.deposit(accountNo, request.getAmount()));
+		}
+		if (hotAccounts.isHot(accountNo)) {
+			requirePositive(accountNo, request);
+			return accountLockManager.executeUnlocked(accountNo,
+					() -> doHotDeposit(accountNo, request, idempotencyKey));
+		}
+		// Hesabı başka bir node sıcak moda almış olabilir; slot'lar katılır, cache'e yazılan bakiye toplamı içerir
+		return accountLockManager.executeLocked(accountNo, () -> {
+			hotAccounts.consolidate(accountNo);
+			return doDeposit(accountNo, request, idempotencyKey);
+		});
+	}
+
+	/**
+	 * Sıcak hesaba yatırma: hesap kilidi alınmaz, tutar rastgele bir slot'a eklenir (HotAccountBalances).
+	 * Olay akışına slot'lar katılırken yazılır; bildirimdeki bakiyeler yatırma anındaki toplamla hesaplanır.
+	 * Eşzamanlı yatırmaların cevapları sırasız tamamlanır; account cache'i güncellenmez, silinir.
+	 */
+	private AccountResponseDto doHotDeposit(String accountNo, TransactionRequestDto request, String idempotencyKey) {
+		Account account = accountRepository.findById(accountNo)
+				.orElseThrow(() -> new AccountNotFoundException(accountNo));
+		if (!account.isActive()) {
+			log.warn("Kapalı hesaba para yatırma denemesi: hesapNo={}", accountNo);
+			throw new RuntimeException("Kapalı hesaba işlem yapılamaz");
+		}
+		Optional<Money> balance = hotAccounts.credit(accountNo, request.getAmount());
+		if (balance.isEmpty()) {
+			// Hesap bu arada normal moda döndü; hesap satırı version kontrolüyle güncellenir
+			return doDeposit(accountNo, request, idempotencyKey);
+		}
+		Money newBalance = balance.get();
+		Money previousBalance = newBalance.minus(request.getAmount());
+		transactionProducer.publish(new TransactionEvent(java.util.UUID.randomUUID().toString(), accountNo,
+				account.getCustomerId(), TransactionType.YATIRMA, request.getAmount(), previousBalance, newBalance,
+				true, LocalDateTime.now()));
+		log.debug("Para yatırma sıcak hesap slot'una işlendi: hesapNo={}, yeniBakiye={}", accountNo, newBalance);
+		AccountResponseDto response = toDto(account);
+		response.setAmount(newBalance.toBigDecimal());
+		return recorded(idempotencyKey, TransactionType.YATIRMA, request, evictCaches(response));
+	}
+
+	/**
+	 * Ledger yolunda kayıt bakiye değişikliğiyle aynı transaction'da yazılamaz: anahtar işlemden önce PENDING
+	 * olarak ayrılır, journal onayından sonra cevapla tamamlanır. Kesin başarısızlıkta (yetersiz bakiye, journal
+	 * hatası) ayırma silinir; sonucu belirsiz kalan ya da tamamlanamayan anahtarla gelen tekrar istek 409 alır,
+	 * işlem ikinci kez uygulanmaz.
+	 */
+	private AccountResponseDto postToLedger(String idempotencyKey, TransactionType type, String accountNo,
+			TransactionRequestDto request, Supplier<LedgerPosting> post) {
+		if (idempotencyKey != null) {
+			idempotencyStore.reserve(idempotencyKey, type, accountNo, request.getAmount());
+		}
+		LedgerPosting posting;
+		try {
+			posting = post.get();
+		} catch (LedgerOutcomeUnknownException e) {
+			log.error("Ledger işleminin sonucu bilinmiyor, idempotency anahtarı PENDING kaldı: hesapNo={}, key={}",
+					accountNo, idempotencyKey, e);
+			throw e;
+		} catch (RuntimeException e) {
+			if (idempotencyKey != null) {
+				idempotencyStore.release(idempotencyKey);
+			}
+			throw e;
+		}
+		// İstek başına INFO log mikro saniyelik yolu domine eder; ledger yolunda debug
+		log.debug("{} ledger'a işlendi: hesapNo={}, yeniBakiye={}", type, accountNo, posting.balance());
+		AccountResponseDto response = evictCaches(toDto(posting));
+		if (idempotencyKey != null) {
+			try {
+				idempotencyStore.complete(idempotencyKey, response);
+			} catch (RuntimeException e) {
+				// İşlem journal'da; tekrar istek PENDING anahtar nedeniyle yeniden işlenmez
+				log.error("Idempotency anahtarı tamamlanamadı: hesapNo={}, key={}", accountNo, idempotencyKey, e);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * DB yolunda kayıt işlemin transaction'ına katılır ve anahtar çakışması tüm işlemi geri alır
+	 */
+	private AccountResponseDto recorded(String idempotencyKey, TransactionType type, TransactionRequestDto request,
+			AccountResponseDto response) {
+		if (idempotencyKey != null) {
+			idempotencyStore.record(idempotencyKey, type, response.getAccountNo(), request.getAmount(), response);
+		}
+		return response;
+	}
+
+	private AccountResponseDto doDeposit(String accountNo, TransactionRequestDto request, String idempotencyKey) {
 		log.info("Para yatırma işlemi başlatıldı: hesapNo={}, tutar={}", accountNo, request.getAmount());
 		Account account = accountRepository.findById(accountNo)
 				.orElseThrow(() -> new AccountNotFoundException(accountNo));
@@ -187,36 +386,56 @@ public class AccountServiceImpl implements AccountService {
 			throw new RuntimeException("Kapalı hesaba işlem yapılamaz");
 		}
 		
-		if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+		if (request.getAmount() == null || !request.getAmount().isPositive()) {
 			log.warn("Geçersiz tutar: hesapNo={}, tutar={}", accountNo, request.getAmount());
 			throw new InvalidAmountException();
 		}
 		
-		BigDecimal previousBalance = account.getAmount();
+		Money previousBalance = account.getAmount();
 		account.deposit(request.getAmount());
 		Account saved = accountRepository.save(account);
 		
-		// Kafka notification
-		transactionProducer.publish(new TransactionEvent(
+		// Kafka notification + hesap olay akışı
+		TransactionEvent event = new TransactionEvent(
 				java.util.UUID.randomUUID().toString(),
 				saved.getAccountNo(),
 				saved.getCustomerId(),
-				com.example.OnlineBankacilik.enums.TransactionType.YATIRMA,
+				TransactionType.YATIRMA,
 				request.getAmount(),
 				previousBalance,
 				saved.getAmount(),
 				true,
 				LocalDateTime.now()
-		));
+		);
+		transactionProducer.publish(event);
+		accountEventStore.append(event);
 
 		log.info("Para yatırma işlemi başarılı: hesapNo={}, yeniBakiye={}", accountNo, saved.getAmount());
-		return toDto(saved);
+		return recorded(idempotencyKey, TransactionType.YATIRMA, request, refreshCaches(toDto(saved)));
 	}
 
 	@Override
-	@CacheEvict(value = {"account", "customerAccounts"}, allEntries = true)
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public AccountResponseDto withdraw(String accountNo, TransactionRequestDto request) {
+		return withdraw(accountNo, request, null);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public AccountResponseDto withdraw(String accountNo, TransactionRequestDto request, String idempotencyKey) {
+		LedgerEngine ledger = ledgerEngine.getIfAvailable();
+		if (ledger != null && ledger.supports(accountNo)) {
+			requirePositive(accountNo, request);
+			return postToLedger(idempotencyKey, TransactionType.CEKME, accountNo, request,
+					() -> ledger.withdraw(accountNo, request.getAmount()));
+		}
+		return accountLockManager.executeLocked(accountNo, () -> doWithdraw(accountNo, request, idempotencyKey));
+	}
+
+	private AccountResponseDto doWithdraw(String accountNo, TransactionRequestDto request, String idempotencyKey) {
 		log.info("Para çekme işlemi başlatıldı: hesapNo={}, tutar={}", accountNo, request.getAmount());
+		// Sıcak hesapta slot'lar kilitlenip hesap satırına katılır; bakiye kontrolü tutarlı toplamla yapılır
+		hotAccounts.consolidate(accountNo);
 		Account account = accountRepository.findById(accountNo)
 				.orElseThrow(() -> new AccountNotFoundException(accountNo));
 		
@@ -225,41 +444,47 @@ public class AccountServiceImpl implements AccountService {
 			throw new RuntimeException("Kapalı hesaptan işlem yapılamaz");
 		}
 		
-		if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+		if (request.getAmount() == null || !request.getAmount().isPositive()) {
 			log.warn("Geçersiz tutar: hesapNo={}, tutar={}", accountNo, request.getAmount());
 			throw new InvalidAmountException();
 		}
 		
-		if (account.getAmount().compareTo(request.getAmount()) < 0) {
+		if (account.getAmount().isLessThan(request.getAmount())) {
 			log.warn("Yetersiz bakiye: hesapNo={}, mevcut={}, istenen={}", 
 					accountNo, account.getAmount(), request.getAmount());
 			throw new InsufficientBalanceException(account.getAmount(), request.getAmount());
 		}
 		
-		BigDecimal previousBalance = account.getAmount();
+		Money previousBalance = account.getAmount();
 		account.withdraw(request.getAmount());
 		Account saved = accountRepository.save(account);
 
-		// Kafka notification
-		transactionProducer.publish(new TransactionEvent(
+		// Kafka notification + hesap olay akışı
+		TransactionEvent event = new TransactionEvent(
 				java.util.UUID.randomUUID().toString(),
 				saved.getAccountNo(),
 				saved.getCustomerId(),
-				com.example.OnlineBankacilik.enums.TransactionType.CEKME,
+				TransactionType.CEKME,
 				request.getAmount(),
 				previousBalance,
 				saved.getAmount(),
 				true,
 				LocalDateTime.now()
-		));
+		);
+		transactionProducer.publish(event);
+		accountEventStore.append(event);
 
 		log.info("Para çekme işlemi başarılı: hesapNo={}, yeniBakiye={}", accountNo, saved.getAmount());
-		return toDto(saved);
+		return recorded(idempotencyKey, TransactionType.CEKME, request, refreshCaches(toDto(saved)));
 	}
 
 	@Override
-	@CacheEvict(value = {"account", "customerAccounts"}, allEntries = true)
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public AccountResponseDto processInterest(String accountNo) {
+		return accountLockManager.executeLocked(accountNo, () -> doProcessInterest(accountNo));
+	}
+
+	private AccountResponseDto doProcessInterest(String accountNo) {
 		log.info("Faiz işlemi başlatıldı: hesapNo={}", accountNo);
 		Account account = accountRepository.findById(accountNo)
 				.orElseThrow(() -> new AccountNotFoundException(accountNo));
@@ -275,10 +500,16 @@ public class AccountServiceImpl implements AccountService {
 		}
 		
 		FuturesAccount futuresAccount = (FuturesAccount) account;
+		Money previousBalance = futuresAccount.getAmount();
 		futuresAccount.interestProcessing();
 		Account saved = accountRepository.save(futuresAccount);
+		if (!saved.getAmount().equals(previousBalance)) {
+			accountEventStore.append(new TransactionEvent(java.util.UUID.randomUUID().toString(), saved.getAccountNo(),
+					saved.getCustomerId(), TransactionType.FAIZ_ISLEME, saved.getAmount().minus(previousBalance),
+					previousBalance, saved.getAmount(), true, LocalDateTime.now()));
+		}
 		log.info("Faiz işlemi başarılı: hesapNo={}, yeniBakiye={}", accountNo, saved.getAmount());
-		return toDto(saved);
+		return refreshCaches(toDto(saved));
 	}
 
 }
@@ -0,0 +1,276 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.dto.BatchPostingRequestDto;
+import com.example.OnlineBankacilik.dto.BatchPostingResponseDto;
+import com.example.OnlineBankacilik.dto.PostingRequestDto;
+import com.example.OnlineBankacilik.dto.PostingResultDto;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.hotaccount.HotAccountBalances;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.service.BatchPostingService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Toplu yatırma/çekme (posting)
+ * Kalemler chunk'lara bölünür; her chunk tek transaction'da işlenir:
+ * 1. Chunk'taki hesapların stripe kilitleri artan sırayla alınır (AccountLockManager)
+ * 2. Hesap satırları account_no sırasıyla SELECT ... FOR UPDATE ile kilitlenir (node'lar arası deadlock önlenir);
+ *    sıcak hesapların slot'ları önce hesap satırına katılır
+ * 3. Kalemler istek sırasıyla bellekte uygulanır; hatalı kalem sadece kendisi başarısız olur
+ * 4. Değişen bakiyeler tek JDBC batch UPDATE ile (hesap başına bir satır, version kontrolüyle) yazılır
+ * 5. Event'ler aynı transaction içinde tek JDBC batch ile outbox'a ve hesap olay akışına yazılır
+ * 6. Chunk commit edilince bakiyesi değişen hesapların cache kayıtları silinir
+ * Bir chunk hata ile geri alınırsa (eşzamanlı güncelleme, DB hatası) işlem durur: commit edilmiş chunk'ların
+ * sonuçları döner, geri alınan ve işlenmeyen kalemler başarısız olarak işaretlenir; istemci sadece bunları
+ * tekrar gönderir.
+ */
+@Slf4j
+@Service
+public class BatchPostingServiceImpl implements BatchPostingService {
+
+	private static final String SELECT_FOR_UPDATE = "SELECT account_no, customer_id, amount, active, version FROM accounts "
+			+ "WHERE account_no IN (:accountNos) ORDER BY account_no FOR UPDATE";
+	private static final String UPDATE_BALANCE = "UPDATE accounts SET amount = ?, version = version + 1 "
+			+ "WHERE account_no = ? AND version = ?";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final AccountLockManager accountLockManager;
+	private final TransactionProducer transactionProducer;
+	private final AccountEventStore accountEventStore;
+	private final CacheManager cacheManager;
+	private final HotAccountBalances hotAccounts;
+	private final int chunkSize;
+
+	public BatchPostingServiceImpl(NamedParameterJdbcTemplate jdbcTemplate, AccountLockManager accountLockManager,
+			TransactionProducer transactionProducer, AccountEventStore accountEventStore, CacheManager cacheManager,
+			HotAccountBalances hotAccounts, @Value("${app.account.posting.chunk-size:500}") int chunkSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.accountLockManager = accountLockManager;
+		this.transactionProducer = transactionProducer;
+		this.accountEventStore = accountEventStore;
+		this.cacheManager = cacheManager;
+		this.hotAccounts = hotAccounts;
+		this.chunkSize = Math.max(1, chunkSize);
+	}
+
+	@Override
+	public BatchPostingResponseDto post(BatchPostingRequestDto request) {
+		long start = System.nanoTime();
+		List<PostingRequestDto> postings = request.getPostings();
+		List<PostingResultDto> results = new ArrayList<>(postings.size());
+		int touched = 0;
+
+		// Aynı hesabın kalemleri chunk'lar sırayla işlendiği için istek sırasıyla uygulanır
+		for (int from = 0; from < postings.size(); from += chunkSize) {
+			int to = Math.min(from + chunkSize, postings.size());
+			try {
+				ChunkOutcome outcome = applyChunk(postings, from, to);
+				results.addAll(outcome.results);
+				touched += outcome.touched.size();
+			} catch (RuntimeException e) {
+				// Sonraki chunk'lar aynı hesapların önceki kalemlerine bağlı olabileceği için işlenmez
+				log.error("Toplu posting chunk'ı geri alındı, kalan kalemler işlenmedi: kalem={}-{}, toplam={}", from,
+						to - 1, postings.size(), e);
+				for (int i = from; i < postings.size(); i++) {
+					results.add(i < to
+							? fail(result(i, postings.get(i)), e.getClass().getSimpleName(),
+									"Kalemin chunk'ı geri alındı: " + e.getMessage())
+							: fail(result(i, postings.get(i)), "NotProcessed",
+									"Önceki chunk geri alındığı için işlenmedi"));
+				}
+				break;
+			}
+		}
+
+		int succeeded = (int) results.stream().filter(PostingResultDto::isSuccess).count();
+		log.info("Toplu posting tamamlandı: kalem={}, başarılı={}, başarısız={}, hesap={}, süre={}ms", postings.size(),
+				succeeded, postings.size() - succeeded, touched,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return new BatchPostingResponseDto(postings.size(), succeeded, postings.size() - succeeded, results);
+	}
+
+	private ChunkOutcome applyChunk(List<PostingRequestDto> postings, int from, int to) {
+		TreeSet<String> accountNos = new TreeSet<>();
+		for (int i = from; i < to; i++) {
+			accountNos.add(postings.get(i).getAccountNo());
+		}
+		return accountLockManager.executeLocked(accountNos, () -> doApplyChunk(postings, from, to, accountNos));
+	}
+
+	private ChunkOutcome doApplyChunk(List<PostingRequestDto> postings, int from, int to, TreeSet<String> accountNos) {
+		hotAccounts.consolidate(accountNos);
+		Map<String, AccountBalance> accounts = loadForUpdate(accountNos);
+		List<PostingResultDto> results = new ArrayList<>(to - from);
+		List<TransactionEvent> events = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			PostingRequestDto posting = postings.get(i);
+			results.add(apply(i, posting, accounts.get(posting.getAccountNo()), events));
+		}
+
+		List<AccountBalance> changed = accounts.values().stream().filter(a -> a.changed).toList();
+		if (!changed.isEmpty()) {
+			int[][] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_BALANCE, changed, changed.size(),
+					(ps, account) -> {
+						ps.setBigDecimal(1, account.amount.toBigDecimal());
+						ps.setString(2, account.accountNo);
+						ps.setLong(3, account.version);
+					});
+			// Satırlar FOR UPDATE ile kilitli olduğundan çakışma beklenmez; yine de version ile doğrulanır
+			if (Arrays.stream(counts).flatMapToInt(Arrays::stream).anyMatch(count -> count == 0)) {
+				throw new OptimisticLockingFailureException("Toplu posting sırasında hesap eşzamanlı güncellendi");
+			}
+		}
+		transactionProducer.publishAll(events);
+		accountEventStore.appendAll(events);
+
+		Map<String, Long> touched = new HashMap<>();
+		changed.forEach(account -> touched.put(account.accountNo, account.customerId));
+		// Cache'ler transaction-aware: silme bu chunk'ın commit'inde, kilit bırakılmadan yapılır; sonraki chunk
+		// başarısız olsa da bu chunk'ın cache'i silinir. Elle afterCommit kaydı kullanılmaz, orada çağrılan
+		// transaction-aware evict yeni bir senkronizasyona ertelenir ve hiç çalışmaz.
+		evictCaches(touched);
+		return new ChunkOutcome(results, touched);
+	}
+
+	private Map<String, AccountBalance> loadForUpdate(TreeSet<String> accountNos) {
+		Map<String, AccountBalance> accounts = new TreeMap<>();
+		jdbcTemplate.query(SELECT_FOR_UPDATE, Map.of("accountNos", accountNos), rs -> {
+			AccountBalance account = new AccountBalance(rs.getString("account_no"), rs.getLong("customer_id"),
+					Money.of(rs.getBigDecimal("amount")), rs.getBoolean("active"), rs.getLong("version"));
+			accounts.put(account.accountNo, account);
+		});
+		return accounts;
+	}
+
+	private PostingResultDto apply(int index, PostingRequestDto posting, AccountBalance account,
+			List<TransactionEvent> events) {
+		PostingResultDto result = result(index, posting);
+		if (account == null) {
+			return fail(result, "AccountNotFoundException", "hesap bulunamadı: " + posting.getAccountNo());
+		}
+		if (!account.active) {
+			return fail(result, "AccountClosed", "Kapalı hesapta işlem yapılamaz");
+		}
+		Money amount = toMoney(posting.getAmount());
+		if (amount == null || !amount.isPositive()) {
+			return fail(result, "InvalidAmountException", "Miktar 0'dan büyük ve en fazla 2 ondalık haneli olmalıdır");
+		}
+
+		Money previousBalance = account.amount;
+		if (posting.getTransactionType() == TransactionType.YATIRMA) {
+			account.amount = previousBalance.plus(amount);
+		} else if (posting.getTransactionType() == TransactionType.CEKME) {
+			if (previousBalance.isLessThan(amount)) {
+				return fail(result, "InsufficientBalanceException",
+						"Bakiye yetersiz.Mevcut: " + previousBalance + ", istenen: " + amount);
+			}
+			account.amount = previousBalance.minus(amount);
+		} else {
+			return fail(result, "InvalidTransactionType",
+					"Toplu posting sadece YATIRMA ve CEKME destekler: " + posting.getTransactionType());
+		}
+		account.changed = true;
+
+		events.add(new TransactionEvent(UUID.randomUUID().toString(), account.accountNo, account.customerId,
+				posting.getTransactionType(), amount, previousBalance, account.amount, true, LocalDateTime.now()));
+		result.setSuccess(true);
+		result.setNewBalance(account.amount.toBigDecimal());
+		return result;
+	}
+
+	private static PostingResultDto result(int index, PostingRequestDto posting) {
+		PostingResultDto result = new PostingResultDto();
+		result.setIndex(index);
+		result.setReference(posting.getReference());
+		result.setAccountNo(posting.getAccountNo());
+		result.setTransactionType(posting.getTransactionType());
+		result.setAmount(posting.getAmount());
+		return result;
+	}
+
+	// Kuruştan küçük hane içeren tutar geçersizdir (null döner)
+	private static Money toMoney(BigDecimal amount) {
+		if (amount == null) {
+			return null;
+		}
+		try {
+			return Money.of(amount);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+
+	private static PostingResultDto fail(PostingResultDto result, String error, String message) {
+		result.setSuccess(false);
+		result.setError(error);
+		result.setMessage(message);
+		return result;
+	}
+
+	/**
+	 * Bakiyesi değişen hesapların cache kayıtları chunk commit'i sonrası silinir; sonraki okuma DB'den yükler
+	 */
+	private void evictCaches(Map<String, Long> touched) {
+		Cache accountCache = cacheManager.getCache("account");
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		touched.forEach((accountNo, customerId) -> {
+			if (accountCache != null) {
+				accountCache.evict(accountNo);
+			}
+			if (customerAccountsCache != null) {
+				customerAccountsCache.evict(customerId);
+			}
+		});
+	}
+
+	private static final class AccountBalance {
+		private final String accountNo;
+		private final Long customerId;
+		private Money amount;
+		private final boolean active;
+		private final long version;
+		private boolean changed;
+
+		private AccountBalance(String accountNo, Long customerId, Money amount, boolean active, long version) {
+			this.accountNo = accountNo;
+			this.customerId = customerId;
+			this.amount = amount;
+			this.active = active;
+			this.version = version;
+		}
+	}
+
+	private static final class ChunkOutcome {
+		private final List<PostingResultDto> results;
+		private final Map<String, Long> touched;
+
+		private ChunkOutcome(List<PostingResultDto> results, Map<String, Long> touched) {
+			this.results = results;
+			this.touched = touched;
+		}
+	}
+}
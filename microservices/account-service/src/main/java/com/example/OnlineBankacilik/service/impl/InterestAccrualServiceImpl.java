@@ -0,0 +1,362 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.dto.InterestAccrualChunkEvent;
+import com.example.OnlineBankacilik.dto.InterestAccrualStatusDto;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.entity.FuturesAccount;
+import com.example.OnlineBankacilik.entity.InterestAccrualRun;
+import com.example.OnlineBankacilik.enums.AccrualStatus;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.exception.InterestAccrualInProgressException;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.repository.InterestAccrualRunRepository;
+import com.example.OnlineBankacilik.service.InterestAccrualService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Toplu faiz tahakkuku (VADELI hesaplar)
+ * Hesaplar account_no üzerinden keyset sayfalama ile chunk chunk okunur (SELECT ... FOR UPDATE),
+ * faiz ForkJoin havuzunda paralel hesaplanır ve bakiyeler tek JDBC batch UPDATE ile yazılır.
+ * Aynı transaction içinde checkpoint (lastAccountNo, sayaçlar) güncellenir ve chunk özet event'i
+ * outbox'a yazılır; böylece yeniden başlatılan çalıştırma kaldığı yerden devam eder.
+ * Checkpoint güncellemesi owner kontrolü yapar: sahipliği devralınmış (stale) bir çalıştırmanın chunk'ı rollback olur.
+ */
+@Slf4j
+@Service
+public class InterestAccrualServiceImpl implements InterestAccrualService {
+
+	private static final String SELECT_CHUNK = "SELECT account_no, customer_id, amount, interest_rate, version FROM accounts "
+			+ "WHERE account_type = 'VADELI' AND active = TRUE AND interest_rate IS NOT NULL AND account_no > ? "
+			+ "ORDER BY account_no LIMIT ? FOR UPDATE";
+	private static final String UPDATE_BALANCE = "UPDATE accounts SET amount = ?, version = version + 1 "
+			+ "WHERE account_no = ? AND version = ?";
+	private static final String UPDATE_CHECKPOINT = "UPDATE interest_accrual_runs SET last_account_no = ?, "
+			+ "processed_accounts = processed_accounts + ?, chunks = chunks + 1, total_interest = total_interest + ?, "
+			+ "updated_at = ? WHERE run_id = ? AND owner = ?";
+	private static final String UPDATE_STATUS = "UPDATE interest_accrual_runs SET status = ?, completed_at = ?, "
+			+ "updated_at = ? WHERE run_id = ? AND owner = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final InterestAccrualRunRepository runRepository;
+	private final TransactionProducer transactionProducer;
+	private final AccountEventStore accountEventStore;
+	private final CacheManager cacheManager;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+	private final String instanceId = UUID.randomUUID().toString();
+	private final ExecutorService coordinator = Executors
+			.newSingleThreadExecutor(Thread.ofPlatform().name("interest-accrual").daemon().factory());
+	private final ForkJoinPool computePool;
+	private final Counter accountsCounter;
+	private final Timer chunkTimer;
+	private final AtomicLong throughput = new AtomicLong();
+
+	@Value("${app.account.interest-accrual.chunk-size:1000}")
+	private int chunkSize = 1000;
+
+	@Value("${app.account.interest-accrual.stale-after:5m}")
+	private Duration staleAfter = Duration.ofMinutes(5);
+
+	@Value("${app.kafka.interest-accrual-topic:interest-accrual-events}")
+	private String summaryTopic = "interest-accrual-events";
+
+	public InterestAccrualServiceImpl(JdbcTemplate jdbcTemplate, InterestAccrualRunRepository runRepository,
+			TransactionProducer transactionProducer, AccountEventStore accountEventStore, CacheManager cacheManager,
+			ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${app.account.interest-accrual.parallelism:0}") int parallelism,
+			ObjectProvider<LedgerEngine> ledgerEngine) {
+		this.ledgerEngine = ledgerEngine;
+		this.jdbcTemplate = jdbcTemplate;
+		this.runRepository = runRepository;
+		this.transactionProducer = transactionProducer;
+		this.accountEventStore = accountEventStore;
+		this.cacheManager = cacheManager;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.computePool = new ForkJoinPool(
+				parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		this.accountsCounter = Counter.builder("interest.accrual.accounts")
+				.description("Toplu tahakkukta faizi işlenen hesap sayısı")
+				.register(meterRegistry);
+		this.chunkTimer = Timer.builder("interest.accrual.chunk.duration")
+				.description("Bir tahakkuk chunk'ının (okuma + hesaplama + yazma + commit) süresi")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		Gauge.builder("interest.accrual.throughput", throughput, AtomicLong::get)
+				.description("Son chunk'taki işleme hızı (hesap/sn)")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public InterestAccrualStatusDto start(YearMonth period) {
+		String runId = period.toString();
+		InterestAccrualRun run;
+		try {
+			run = transactionTemplate.execute(status -> claim(runId));
+		} catch (DataIntegrityViolationException e) {
+			// Başka bir instance aynı anda ilk kaydı oluşturdu
+			throw new InterestAccrualInProgressException(runId);
+		}
+		if (run.getStatus() == AccrualStatus.COMPLETED) {
+			log.info("Faiz tahakkuku bu dönem için zaten tamamlanmış: dönem={}", runId);
+			return toDto(run);
+		}
+		String startAfter = run.getLastAccountNo();
+		long completedChunks = run.getChunks();
+		coordinator.submit(() -> execute(runId, startAfter, completedChunks));
+		log.info("Faiz tahakkuku başlatıldı: dönem={}, devamNoktası={}", runId, startAfter);
+		return toDto(run);
+	}
+
+	@Override
+	public Optional<InterestAccrualStatusDto> status(String runId) {
+		return runRepository.findById(runId).map(this::toDto);
+	}
+
+	private InterestAccrualRun claim(String runId) {
+		LocalDateTime now = LocalDateTime.now();
+		Optional<InterestAccrualRun> existing = runRepository.findByIdForUpdate(runId);
+		InterestAccrualRun run;
+		if (existing.isEmpty()) {
+			run = new InterestAccrualRun();
+			run.setRunId(runId);
+			run.setStartedAt(now);
+		} else {
+			run = existing.get();
+			if (run.getStatus() == AccrualStatus.COMPLETED) {
+				return run;
+			}
+			if (run.getStatus() == AccrualStatus.RUNNING && run.getUpdatedAt().isAfter(now.minus(staleAfter))) {
+				throw new InterestAccrualInProgressException(runId);
+			}
+		}
+		run.setStatus(AccrualStatus.RUNNING);
+		run.setOwner(instanceId);
+		run.setUpdatedAt(now);
+		return runRepository.saveAndFlush(run);
+	}
+
+	void execute(String runId, String startAfter, long completedChunks) {
+		String cursor = startAfter != null ? startAfter : "";
+		long chunkNo = completedChunks;
+		try {
+			while (true) {
+				long start = System.nanoTime();
+				String after = cursor;
+				long next = chunkNo + 1;
+				ChunkResult chunk = inLedgerPause(
+						() -> transactionTemplate.execute(status -> processChunk(runId, after, next)));
+				if (chunk == null || chunk.accountCount == 0) {
+					break;
+				}
+				long elapsed = System.nanoTime() - start;
+				chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+				accountsCounter.increment(chunk.accountCount);
+				throughput.set(chunk.accountCount * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsed));
+				evictCaches(chunk.touched);
+				cursor = chunk.lastAccountNo;
+				chunkNo = next;
+				log.debug("Faiz tahakkuku chunk'ı işlendi: dönem={}, chunk={}, hesap={}, sonHesap={}", runId, chunkNo,
+						chunk.accountCount, cursor);
+			}
+			finish(runId, AccrualStatus.COMPLETED);
+			log.info("Faiz tahakkuku tamamlandı: dönem={}, chunk={}", runId, chunkNo);
+		} catch (OwnershipLostException e) {
+			log.warn("Faiz tahakkuku sahipliği başka instance'a geçti, durduruluyor: dönem={}", runId);
+		} catch (Exception e) {
+			log.error("Faiz tahakkuku hata ile durdu, checkpoint'ten devam ettirilebilir: dönem={}, sonHesap={}", runId,
+					cursor, e);
+			finish(runId, AccrualStatus.FAILED);
+		}
+	}
+
+	/**
+	 * Ledger modunda chunk'ın hesapları önceden bilinmediği için tüm partition'lar chunk süresince durdurulur;
+	 * bellekteki bakiyeler DB'ye işlenmiş olur ve chunk sonrası DB'den (faizli) yeniden yüklenir
+	 */
+	private <T> T inLedgerPause(Supplier<T> action) {
+		LedgerEngine ledger = ledgerEngine.getIfAvailable();
+		return ledger == null ? action.get() : ledger.exclusiveAll(action);
+	}
+
+	private ChunkResult processChunk(String runId, String afterAccountNo, long chunkNo) {
+		List<AccrualRow> rows = jdbcTemplate.query(SELECT_CHUNK,
+				(rs, i) -> new AccrualRow(rs.getString("account_no"), rs.getLong("customer_id"),
+						Money.of(rs.getBigDecimal("amount")), rs.getBigDecimal("interest_rate"), rs.getLong("version")),
+				afterAccountNo, chunkSize);
+		if (rows.isEmpty()) {
+			return ChunkResult.EMPTY;
+		}
+
+		computePool.submit(() -> rows.parallelStream().forEach(AccrualRow::accrue)).join();
+
+		int[][] counts = jdbcTemplate.batchUpdate(UPDATE_BALANCE, rows, rows.size(), (ps, row) -> {
+			ps.setBigDecimal(1, row.newAmount.toBigDecimal());
+			ps.setString(2, row.accountNo);
+			ps.setLong(3, row.version);
+		});
+		// Satırlar FOR UPDATE ile kilitli olduğundan çakışma beklenmez; yine de version ile doğrulanır
+		if (Arrays.stream(counts).flatMapToInt(Arrays::stream).anyMatch(count -> count == 0)) {
+			throw new OptimisticLockingFailureException("Faiz tahakkuku sırasında hesap eşzamanlı güncellendi");
+		}
+		LocalDateTime now = LocalDateTime.now();
+		// Hesap başına olay Kafka'ya gönderilmez (chunk özeti yeterli) ama bakiye olay akışına işlenir
+		accountEventStore.appendAll(rows.stream().filter(row -> row.interest.isPositive())
+				.map(row -> new TransactionEvent(UUID.randomUUID().toString(), row.accountNo, row.customerId,
+						TransactionType.FAIZ_ISLEME, row.interest, row.amount, row.newAmount, true, now))
+				.toList());
+
+		BigDecimal totalInterest = rows.stream().map(row -> row.interest).reduce(Money.ZERO, Money::plus).toBigDecimal();
+		String first = rows.get(0).accountNo;
+		String last = rows.get(rows.size() - 1).accountNo;
+		int updated = jdbcTemplate.update(UPDATE_CHECKPOINT, last, rows.size(), totalInterest, Timestamp.valueOf(now),
+				runId, instanceId);
+		if (updated == 0) {
+			throw new OwnershipLostException();
+		}
+		publishSummary(new InterestAccrualChunkEvent(runId, chunkNo, first, last, rows.size(), totalInterest, now));
+
+		Map<String, Long> touched = new HashMap<>();
+		rows.forEach(row -> touched.put(row.accountNo, row.customerId));
+		return new ChunkResult(rows.size(), last, touched);
+	}
+
+	private void publishSummary(InterestAccrualChunkEvent event) {
+		try {
+			transactionProducer.publishToTopic(summaryTopic, event.getRunId(), objectMapper.writeValueAsBytes(event));
+		} catch (Exception e) {
+			throw new IllegalStateException("Faiz tahakkuku özet event'i yazılamadı: " + event.getRunId(), e);
+		}
+	}
+
+	private void finish(String runId, AccrualStatus status) {
+		LocalDateTime now = LocalDateTime.now();
+		transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.update(UPDATE_STATUS, status.name(),
+				status == AccrualStatus.COMPLETED ? Timestamp.valueOf(now) : null, Timestamp.valueOf(now), runId,
+				instanceId));
+	}
+
+	/**
+	 * Faizi işlenen hesapların cache kayıtları chunk commit'inden sonra silinir
+	 */
+	private void evictCaches(Map<String, Long> touched) {
+		Cache accountCache = cacheManager.getCache("account");
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		touched.forEach((accountNo, customerId) -> {
+			if (accountCache != null) {
+				accountCache.evict(accountNo);
+			}
+			if (customerAccountsCache != null) {
+				customerAccountsCache.evict(customerId);
+			}
+		});
+	}
+
+	private InterestAccrualStatusDto toDto(InterestAccrualRun run) {
+		InterestAccrualStatusDto dto = new InterestAccrualStatusDto();
+		dto.setRunId(run.getRunId());
+		dto.setStatus(run.getStatus());
+		dto.setLastAccountNo(run.getLastAccountNo());
+		dto.setProcessedAccounts(run.getProcessedAccounts());
+		dto.setChunks(run.getChunks());
+		dto.setTotalInterest(run.getTotalInterest());
+		dto.setStartedAt(run.getStartedAt());
+		dto.setUpdatedAt(run.getUpdatedAt());
+		dto.setCompletedAt(run.getCompletedAt());
+		long seconds = Duration.between(run.getStartedAt(), run.getUpdatedAt()).toSeconds();
+		dto.setAccountsPerSecond(seconds > 0 ? (double) run.getProcessedAccounts() / seconds : 0);
+		return dto;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		coordinator.shutdownNow();
+		computePool.shutdown();
+	}
+
+	private static final class AccrualRow {
+		private final String accountNo;
+		private final Long customerId;
+		private final Money amount;
+		private final BigDecimal interestRate;
+		private final long version;
+		private Money newAmount;
+		private Money interest;
+
+		private AccrualRow(String accountNo, Long customerId, Money amount, BigDecimal interestRate,
+				long version) {
+			this.accountNo = accountNo;
+			this.customerId = customerId;
+			this.amount = amount;
+			this.interestRate = interestRate;
+			this.version = version;
+		}
+
+		// Faiz kuruşa yuvarlanmış olarak hesaplanır (tek hesap faiz işlemiyle aynı kural)
+		void accrue() {
+			interest = FuturesAccount.interestFor(amount, interestRate);
+			newAmount = amount.plus(interest);
+		}
+	}
+
+	private static final class ChunkResult {
+		private static final ChunkResult EMPTY = new ChunkResult(0, null, Map.of());
+
+		private final int accountCount;
+		private final String lastAccountNo;
+		private final Map<String, Long> touched;
+
+		private ChunkResult(int accountCount, String lastAccountNo, Map<String, Long> touched) {
+			this.accountCount = accountCount;
+			this.lastAccountNo = lastAccountNo;
+			this.touched = touched;
+		}
+	}
+
+	private static final class OwnershipLostException extends RuntimeException {
+		private OwnershipLostException() {
+			super("Faiz tahakkuku sahipliği kaybedildi");
+		}
+	}
+}
@@ -0,0 +1,474 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.dto.MaturityRunStatusDto;
+import com.example.OnlineBankacilik.dto.MaturityShardStatusDto;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.entity.FuturesAccount;
+import com.example.OnlineBankacilik.entity.MaturityRun;
+import com.example.OnlineBankacilik.entity.MaturityShard;
+import com.example.OnlineBankacilik.enums.MaturityStatus;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.repository.MaturityRunRepository;
+import com.example.OnlineBankacilik.repository.MaturityShardRepository;
+import com.example.OnlineBankacilik.service.MaturityService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vadeli hesapların vade işleme (settlement) alt sistemi
+ * Planlama: vade tarihine kadar vadesi gelmiş hesaplar (maturity_date, account_no) index'i üzerinden sayılır ve
+ * shard-size hesaplık account_no aralıklarına bölünür; her aralık bir maturity_shards satırıdır.
+ * Sahiplenme: her node boş worker sayısı kadar PENDING (ya da stale RUNNING) shard'ı koşullu UPDATE ile
+ * kendine yazar; UPDATE'i kazanan node shard'ı işler, böylece bir shard aynı anda tek node'da çalışır.
+ * İşleme: shard aralığı keyset chunk'larla okunur (SELECT ... FOR UPDATE), vade faizi eklenir ve vade tarihi
+ * bir dönem (maturity_month) ileri alınır (otomatik yenileme); bakiyeler tek JDBC batch UPDATE ile yazılır.
+ * Aynı transaction'da FAIZ_ISLEME event'leri outbox'a ve olay akışına yazılır, shard checkpoint'i owner
+ * kontrolüyle güncellenir; devralınmış (stale) shard'ın chunk'ı rollback olur. İlerleme shard bazında
+ * maturity_shards'ta tutulur (GET /accounts/maturities/{date}).
+ */
+@Slf4j
+@Service
+public class MaturityServiceImpl implements MaturityService {
+
+	private static final int DEFAULT_MATURITY_MONTH = 12;
+	private static final String DUE = "account_type = 'VADELI' AND active = TRUE AND maturity_date <= ?";
+	private static final String COUNT_DUE = "SELECT COUNT(*) FROM accounts WHERE " + DUE;
+	// Her shard-size'ıncı hesap bir shard'ın (dahil) üst sınırıdır
+	private static final String SELECT_BOUNDARIES = "SELECT account_no FROM (SELECT account_no, "
+			+ "ROW_NUMBER() OVER (ORDER BY account_no) AS rn FROM accounts WHERE " + DUE + ") due "
+			+ "WHERE MOD(rn, ?) = 0 ORDER BY account_no";
+	private static final String SELECT_CHUNK = "SELECT account_no, customer_id, amount, interest_rate, maturity_month, "
+			+ "maturity_date, version FROM accounts WHERE " + DUE + " AND account_no > ? AND account_no <= ? "
+			+ "ORDER BY account_no LIMIT ? FOR UPDATE";
+	private static final String SELECT_LAST_CHUNK = "SELECT account_no, customer_id, amount, interest_rate, "
+			+ "maturity_month, maturity_date, version FROM accounts WHERE " + DUE + " AND account_no > ? "
+			+ "ORDER BY account_no LIMIT ? FOR UPDATE";
+	private static final String UPDATE_ACCOUNT = "UPDATE accounts SET amount = ?, maturity_date = ?, "
+			+ "version = version + 1 WHERE account_no = ? AND version = ?";
+	private static final String INSERT_SHARD = "INSERT INTO maturity_shards (run_id, shard_no, lower_account_no, "
+			+ "upper_account_no, expected_accounts, status, processed_accounts, total_interest, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, 'PENDING', 0, 0, ?)";
+	private static final String SELECT_CLAIMABLE = "SELECT run_id, shard_no FROM maturity_shards "
+			+ "WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < ?) ORDER BY run_id, shard_no LIMIT ?";
+	private static final String CLAIM_SHARD = "UPDATE maturity_shards SET status = 'RUNNING', owner = ?, "
+			+ "started_at = COALESCE(started_at, ?), updated_at = ? WHERE run_id = ? AND shard_no = ? "
+			+ "AND (status = 'PENDING' OR (status = 'RUNNING' AND updated_at < ?))";
+	private static final String RESET_FAILED = "UPDATE maturity_shards SET status = 'PENDING', updated_at = ? "
+			+ "WHERE run_id = ? AND status = 'FAILED'";
+	private static final String UPDATE_CHECKPOINT = "UPDATE maturity_shards SET last_account_no = ?, "
+			+ "processed_accounts = processed_accounts + ?, total_interest = total_interest + ?, updated_at = ? "
+			+ "WHERE run_id = ? AND shard_no = ? AND owner = ?";
+	private static final String UPDATE_STATUS = "UPDATE maturity_shards SET status = ?, completed_at = ?, "
+			+ "updated_at = ? WHERE run_id = ? AND shard_no = ? AND owner = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MaturityRunRepository runRepository;
+	private final MaturityShardRepository shardRepository;
+	private final TransactionProducer transactionProducer;
+	private final AccountEventStore accountEventStore;
+	private final CacheManager cacheManager;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+	private final String instanceId = UUID.randomUUID().toString();
+	private final ExecutorService workers;
+	private final int workerCount;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final Counter accountsCounter;
+	private final Timer chunkTimer;
+
+	@Value("${app.account.maturity.shard-size:10000}")
+	private int shardSize = 10000;
+
+	@Value("${app.account.maturity.chunk-size:500}")
+	private int chunkSize = 500;
+
+	@Value("${app.account.maturity.stale-after:5m}")
+	private Duration staleAfter = Duration.ofMinutes(5);
+
+	public MaturityServiceImpl(JdbcTemplate jdbcTemplate, MaturityRunRepository runRepository,
+			MaturityShardRepository shardRepository, TransactionProducer transactionProducer,
+			AccountEventStore accountEventStore, CacheManager cacheManager,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${app.account.maturity.workers:2}") int workerCount, ObjectProvider<LedgerEngine> ledgerEngine) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.runRepository = runRepository;
+		this.shardRepository = shardRepository;
+		this.transactionProducer = transactionProducer;
+		this.accountEventStore = accountEventStore;
+		this.cacheManager = cacheManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.ledgerEngine = ledgerEngine;
+		this.workerCount = Math.max(1, workerCount);
+		this.workers = Executors.newFixedThreadPool(this.workerCount,
+				Thread.ofPlatform().name("maturity-worker-", 0).daemon().factory());
+		this.accountsCounter = Counter.builder("maturity.settled.accounts")
+				.description("Vade işlemesi yapılan hesap sayısı")
+				.register(meterRegistry);
+		this.chunkTimer = Timer.builder("maturity.chunk.duration")
+				.description("Bir vade chunk'ının (okuma + faiz + yazma + commit) süresi")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		Gauge.builder("maturity.shards.in-flight", inFlight, AtomicInteger::get)
+				.description("Bu instance'ta işlenmekte olan shard sayısı")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public MaturityRunStatusDto plan(LocalDate maturityDate) {
+		String runId = maturityDate.toString();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				if (runRepository.existsById(runId)) {
+					int reset = jdbcTemplate.update(RESET_FAILED, Timestamp.valueOf(LocalDateTime.now()), runId);
+					log.info("Vade çalıştırması zaten planlanmış: tarih={}, yenidenKuyruğaAlınanShard={}", runId, reset);
+				} else {
+					createRun(runId, maturityDate);
+				}
+			});
+		} catch (DataIntegrityViolationException e) {
+			// Başka bir instance aynı anda planladı
+			log.info("Vade çalıştırması başka instance tarafından planlandı: tarih={}", runId);
+		}
+		processAvailableShards();
+		return status(maturityDate).orElseThrow();
+	}
+
+	private void createRun(String runId, LocalDate maturityDate) {
+		LocalDateTime now = LocalDateTime.now();
+		Date due = Date.valueOf(maturityDate);
+		long total = jdbcTemplate.queryForObject(COUNT_DUE, Long.class, due);
+		List<String> boundaries = new ArrayList<>(
+				jdbcTemplate.queryForList(SELECT_BOUNDARIES, String.class, due, Math.max(1, shardSize)));
+		if (!boundaries.isEmpty() && (long) boundaries.size() * shardSize == total) {
+			// Son sınır son hesapsa boş bir shard oluşmasın; son shard'ın üst sınırı açık kalır
+			boundaries.remove(boundaries.size() - 1);
+		}
+		int shardCount = total == 0 ? 0 : boundaries.size() + 1;
+
+		MaturityRun run = new MaturityRun();
+		run.setRunId(runId);
+		run.setMaturityDate(maturityDate);
+		run.setShardCount(shardCount);
+		run.setTotalAccounts(total);
+		run.setCreatedAt(now);
+		runRepository.saveAndFlush(run);
+
+		List<Object[]> shards = new ArrayList<>(shardCount);
+		for (int i = 0; i < shardCount; i++) {
+			String lower = i == 0 ? null : boundaries.get(i - 1);
+			String upper = i < boundaries.size() ? boundaries.get(i) : null;
+			long expected = upper != null ? shardSize : total - (long) boundaries.size() * shardSize;
+			shards.add(new Object[] { runId, i, lower, upper, expected, Timestamp.valueOf(now) });
+		}
+		jdbcTemplate.batchUpdate(INSERT_SHARD, shards);
+		log.info("Vade çalıştırması planlandı: tarih={}, hesap={}, shard={}", runId, total, shardCount);
+	}
+
+	/**
+	 * Boş worker sayısı kadar shard sahiplenir ve işlemeye başlar; sahiplenilen shard sayısını döner
+	 */
+	@Override
+	public int processAvailableShards() {
+		int free = workerCount - inFlight.get();
+		if (free <= 0) {
+			return 0;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		Timestamp staleBefore = Timestamp.valueOf(now.minus(staleAfter));
+		List<MaturityShard.Key> candidates = jdbcTemplate.query(SELECT_CLAIMABLE,
+				(rs, i) -> new MaturityShard.Key(rs.getString("run_id"), rs.getInt("shard_no")), staleBefore, free);
+		int claimed = 0;
+		for (MaturityShard.Key key : candidates) {
+			Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(CLAIM_SHARD, instanceId,
+					Timestamp.valueOf(now), Timestamp.valueOf(now), key.getRunId(), key.getShardNo(), staleBefore));
+			if (updated == null || updated == 0) {
+				continue; // Başka bir node kazandı
+			}
+			MaturityShard shard = shardRepository.findById(key).orElseThrow();
+			inFlight.incrementAndGet();
+			claimed++;
+			workers.submit(() -> {
+				try {
+					execute(shard);
+				} finally {
+					inFlight.decrementAndGet();
+				}
+			});
+		}
+		return claimed;
+	}
+
+	void execute(MaturityShard shard) {
+		String runId = shard.getRunId();
+		int shardNo = shard.getShardNo();
+		LocalDate maturityDate = LocalDate.parse(runId);
+		String cursor = shard.getLastAccountNo() != null ? shard.getLastAccountNo()
+				: shard.getLowerAccountNo() != null ? shard.getLowerAccountNo() : "";
+		log.info("Vade shard'ı işleniyor: tarih={}, shard={}, devamNoktası={}", runId, shardNo, cursor);
+		try {
+			while (true) {
+				long start = System.nanoTime();
+				String after = cursor;
+				ChunkResult chunk = inLedgerPause(() -> transactionTemplate
+						.execute(status -> processChunk(shard, maturityDate, after)));
+				if (chunk == null || chunk.accountCount == 0) {
+					break;
+				}
+				chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				accountsCounter.increment(chunk.accountCount);
+				evictCaches(chunk.touched);
+				cursor = chunk.lastAccountNo;
+			}
+			finish(runId, shardNo, MaturityStatus.COMPLETED);
+			log.info("Vade shard'ı tamamlandı: tarih={}, shard={}", runId, shardNo);
+		} catch (OwnershipLostException e) {
+			log.warn("Vade shard'ının sahipliği başka instance'a geçti, durduruluyor: tarih={}, shard={}", runId,
+					shardNo);
+		} catch (Exception e) {
+			log.error("Vade shard'ı hata ile durdu, checkpoint'ten devam ettirilebilir: tarih={}, shard={}, "
+					+ "sonHesap={}", runId, shardNo, cursor, e);
+			finish(runId, shardNo, MaturityStatus.FAILED);
+		}
+	}
+
+	/**
+	 * Ledger modunda chunk'ın hesapları önceden bilinmediği için tüm partition'lar chunk süresince durdurulur
+	 * (faiz tahakkuku ile aynı)
+	 */
+	private <T> T inLedgerPause(Supplier<T> action) {
+		LedgerEngine ledger = ledgerEngine.getIfAvailable();
+		return ledger == null ? action.get() : ledger.exclusiveAll(action);
+	}
+
+	private ChunkResult processChunk(MaturityShard shard, LocalDate maturityDate, String afterAccountNo) {
+		Date due = Date.valueOf(maturityDate);
+		List<MaturityRow> rows = shard.getUpperAccountNo() != null
+				? jdbcTemplate.query(SELECT_CHUNK, this::mapRow, due, afterAccountNo, shard.getUpperAccountNo(),
+						chunkSize)
+				: jdbcTemplate.query(SELECT_LAST_CHUNK, this::mapRow, due, afterAccountNo, chunkSize);
+		if (rows.isEmpty()) {
+			return ChunkResult.EMPTY;
+		}
+		rows.forEach(MaturityRow::settle);
+
+		int[][] counts = jdbcTemplate.batchUpdate(UPDATE_ACCOUNT, rows, rows.size(), (ps, row) -> {
+			ps.setBigDecimal(1, row.newAmount.toBigDecimal());
+			ps.setDate(2, Date.valueOf(row.nextMaturityDate));
+			ps.setString(3, row.accountNo);
+			ps.setLong(4, row.version);
+		});
+		// Satırlar FOR UPDATE ile kilitli olduğundan çakışma beklenmez; yine de version ile doğrulanır
+		if (Arrays.stream(counts).flatMapToInt(Arrays::stream).anyMatch(count -> count == 0)) {
+			throw new OptimisticLockingFailureException("Vade işleme sırasında hesap eşzamanlı güncellendi");
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<TransactionEvent> events = rows.stream().filter(row -> row.interest.isPositive())
+				.map(row -> new TransactionEvent(UUID.randomUUID().toString(), row.accountNo, row.customerId,
+						TransactionType.FAIZ_ISLEME, row.interest, row.amount, row.newAmount, true, now))
+				.toList();
+		transactionProducer.publishAll(events);
+		accountEventStore.appendAll(events);
+
+		BigDecimal totalInterest = rows.stream().map(row -> row.interest).reduce(Money.ZERO, Money::plus).toBigDecimal();
+		String last = rows.get(rows.size() - 1).accountNo;
+		int updated = jdbcTemplate.update(UPDATE_CHECKPOINT, last, rows.size(), totalInterest, Timestamp.valueOf(now),
+				shard.getRunId(), shard.getShardNo(), instanceId);
+		if (updated == 0) {
+			throw new OwnershipLostException();
+		}
+
+		Map<String, Long> touched = new HashMap<>();
+		rows.forEach(row -> touched.put(row.accountNo, row.customerId));
+		return new ChunkResult(rows.size(), last, touched);
+	}
+
+	private MaturityRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+		int maturityMonth = rs.getInt("maturity_month");
+		if (rs.wasNull() || maturityMonth <= 0) {
+			maturityMonth = DEFAULT_MATURITY_MONTH;
+		}
+		return new MaturityRow(rs.getString("account_no"), rs.getLong("customer_id"),
+				Money.of(rs.getBigDecimal("amount")), rs.getBigDecimal("interest_rate"), maturityMonth,
+				rs.getDate("maturity_date").toLocalDate(), rs.getLong("version"));
+	}
+
+	private void finish(String runId, int shardNo, MaturityStatus status) {
+		LocalDateTime now = LocalDateTime.now();
+		transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.update(UPDATE_STATUS, status.name(),
+				status == MaturityStatus.COMPLETED ? Timestamp.valueOf(now) : null, Timestamp.valueOf(now), runId,
+				shardNo, instanceId));
+	}
+
+	/**
+	 * İşlenen hesapların cache kayıtları chunk commit'inden sonra silinir
+	 */
+	private void evictCaches(Map<String, Long> touched) {
+		Cache accountCache = cacheManager.getCache("account");
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		touched.forEach((accountNo, customerId) -> {
+			if (accountCache != null) {
+				accountCache.evict(accountNo);
+			}
+			if (customerAccountsCache != null) {
+				customerAccountsCache.evict(customerId);
+			}
+		});
+	}
+
+	@Override
+	public Optional<MaturityRunStatusDto> status(LocalDate maturityDate) {
+		return runRepository.findById(maturityDate.toString())
+				.map(run -> toDto(run, shardRepository.findByRunIdOrderByShardNo(run.getRunId())));
+	}
+
+	private MaturityRunStatusDto toDto(MaturityRun run, List<MaturityShard> shards) {
+		MaturityRunStatusDto dto = new MaturityRunStatusDto();
+		dto.setRunId(run.getRunId());
+		dto.setMaturityDate(run.getMaturityDate());
+		dto.setTotalAccounts(run.getTotalAccounts());
+		dto.setShardCount(run.getShardCount());
+		dto.setCreatedAt(run.getCreatedAt());
+		List<MaturityShardStatusDto> shardDtos = shards.stream().map(this::toDto).toList();
+		dto.setShards(shardDtos);
+		dto.setProcessedAccounts(shardDtos.stream().mapToLong(MaturityShardStatusDto::getProcessedAccounts).sum());
+		dto.setCompletedShards(
+				(int) shardDtos.stream().filter(shard -> shard.getStatus() == MaturityStatus.COMPLETED).count());
+		dto.setTotalInterest(shardDtos.stream().map(MaturityShardStatusDto::getTotalInterest)
+				.reduce(BigDecimal.ZERO, BigDecimal::add));
+		dto.setAccountsPerSecond(shardDtos.stream().filter(shard -> shard.getStatus() == MaturityStatus.RUNNING)
+				.mapToDouble(MaturityShardStatusDto::getAccountsPerSecond).sum());
+		dto.setStatus(runStatus(shardDtos));
+		return dto;
+	}
+
+	private static MaturityStatus runStatus(List<MaturityShardStatusDto> shards) {
+		if (shards.stream().allMatch(shard -> shard.getStatus() == MaturityStatus.COMPLETED)) {
+			return MaturityStatus.COMPLETED;
+		}
+		if (shards.stream().anyMatch(shard -> shard.getStatus() == MaturityStatus.FAILED)) {
+			return MaturityStatus.FAILED;
+		}
+		if (shards.stream().allMatch(shard -> shard.getStatus() == MaturityStatus.PENDING)) {
+			return MaturityStatus.PENDING;
+		}
+		return MaturityStatus.RUNNING;
+	}
+
+	private MaturityShardStatusDto toDto(MaturityShard shard) {
+		MaturityShardStatusDto dto = new MaturityShardStatusDto();
+		dto.setShardNo(shard.getShardNo());
+		dto.setLowerAccountNo(shard.getLowerAccountNo());
+		dto.setUpperAccountNo(shard.getUpperAccountNo());
+		dto.setStatus(shard.getStatus());
+		dto.setOwner(shard.getOwner());
+		dto.setExpectedAccounts(shard.getExpectedAccounts());
+		dto.setProcessedAccounts(shard.getProcessedAccounts());
+		dto.setLastAccountNo(shard.getLastAccountNo());
+		dto.setTotalInterest(shard.getTotalInterest());
+		dto.setStartedAt(shard.getStartedAt());
+		dto.setUpdatedAt(shard.getUpdatedAt());
+		dto.setCompletedAt(shard.getCompletedAt());
+		if (shard.getStartedAt() != null) {
+			long millis = Duration.between(shard.getStartedAt(), shard.getUpdatedAt()).toMillis();
+			dto.setAccountsPerSecond(millis > 0 ? shard.getProcessedAccounts() * 1000d / millis : 0);
+		}
+		return dto;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		workers.shutdownNow();
+	}
+
+	private static final class MaturityRow {
+		private final String accountNo;
+		private final Long customerId;
+		private final Money amount;
+		private final BigDecimal interestRate;
+		private final int maturityMonth;
+		private final LocalDate maturityDate;
+		private final long version;
+		private Money interest;
+		private Money newAmount;
+		private LocalDate nextMaturityDate;
+
+		private MaturityRow(String accountNo, Long customerId, Money amount, BigDecimal interestRate,
+				int maturityMonth, LocalDate maturityDate, long version) {
+			this.accountNo = accountNo;
+			this.customerId = customerId;
+			this.amount = amount;
+			this.interestRate = interestRate;
+			this.maturityMonth = maturityMonth;
+			this.maturityDate = maturityDate;
+			this.version = version;
+		}
+
+		// Vade faizi tek hesap faiz işlemiyle aynı kuralla hesaplanır; yeni vade eski vadeden bir dönem sonradır
+		void settle() {
+			interest = interestRate != null ? FuturesAccount.interestFor(amount, interestRate) : Money.ZERO;
+			newAmount = amount.plus(interest);
+			nextMaturityDate = maturityDate.plusMonths(maturityMonth);
+		}
+	}
+
+	private static final class ChunkResult {
+		private static final ChunkResult EMPTY = new ChunkResult(0, null, Map.of());
+
+		private final int accountCount;
+		private final String lastAccountNo;
+		private final Map<String, Long> touched;
+
+		private ChunkResult(int accountCount, String lastAccountNo, Map<String, Long> touched) {
+			this.accountCount = accountCount;
+			this.lastAccountNo = lastAccountNo;
+			this.touched = touched;
+		}
+	}
+
+	private static final class OwnershipLostException extends RuntimeException {
+		private OwnershipLostException() {
+			super("Vade shard'ı sahipliği kaybedildi");
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.example.OnlineBankacilik.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.exception.InvalidAmountException;
+import com.example.OnlineBankacilik.exception.InvalidTransferException;
+import com.example.OnlineBankacilik.hotaccount.HotAccountBalances;
+import com.example.OnlineBankacilik.idempotency.IdempotencyStore;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.service.TransferService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hesaplar arası transfer
+ * Borç ve alacak tek transaction'da yazılır:
+ * 1. İki hesabın stripe kilitleri artan index sırasıyla alınır (AccountLockManager)
+ * 2. Sıcak hesapların slot'ları hesap satırına katılır; hesap satırları account_no sırasıyla SELECT ... FOR UPDATE
+ *    ile kilitlenir. Ters yönlü eşzamanlı transferler (A→B, B→A) kilitleri aynı sırayla istediği için birbirini
+ *    deadlock'a sokamaz
+ * 3. İki bakiye tek JDBC batch UPDATE ile (version kontrolüyle) yazılır
+ * 4. Outbox'a tek bir eşli TRANSFER event'i, her hesabın olay akışına kendi bacağı yazılır
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferServiceImpl implements TransferService {
+
+	private static final String SELECT_FOR_UPDATE = "SELECT account_no, customer_id, amount, active, version FROM accounts "
+			+ "WHERE account_no IN (:accountNos) ORDER BY account_no FOR UPDATE";
+	private static final String UPDATE_BALANCE = "UPDATE accounts SET amount = ?, version = version + 1 "
+			+ "WHERE account_no = ? AND version = ?";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final AccountLockManager accountLockManager;
+	private final TransactionProducer transactionProducer;
+	private final AccountEventStore accountEventStore;
+	private final IdempotencyStore idempotencyStore;
+	private final HotAccountBalances hotAccounts;
+	private final CacheManager cacheManager;
+
+	@Override
+	public TransferResponseDto transfer(TransferRequestDto request, String idempotencyKey) {
+		Money amount = request.getAmount();
+		if (amount == null || !amount.isPositive()) {
+			log.warn("Geçersiz transfer tutarı: kaynak={}, tutar={}", request.getFromAccountNo(), amount);
+			throw new InvalidAmountException();
+		}
+		if (request.getFromAccountNo().equals(request.getToAccountNo())) {
+			throw new InvalidTransferException("Kaynak ve hedef hesap aynı olamaz: " + request.getFromAccountNo());
+		}
+		TreeSet<String> accountNos = new TreeSet<>(List.of(request.getFromAccountNo(), request.getToAccountNo()));
+		TransferResponseDto response = accountLockManager.executeLocked(accountNos,
+				() -> doTransfer(request, accountNos, idempotencyKey));
+		evictCaches(response);
+		log.info("Transfer başarılı: id={}, kaynak={}, hedef={}, tutar={}", response.getTransferId(),
+				response.getFromAccountNo(), response.getToAccountNo(), amount);
+		return response;
+	}
+
+	private TransferResponseDto doTransfer(TransferRequestDto request, TreeSet<String> accountNos,
+			String idempotencyKey) {
+		hotAccounts.consolidate(accountNos);
+		Map<String, AccountBalance> accounts = loadForUpdate(accountNos);
+		AccountBalance from = require(accounts, request.getFromAccountNo());
+		AccountBalance to = require(accounts, request.getToAccountNo());
+		Money amount = request.getAmount();
+		if (from.amount.isLessThan(amount)) {
+			log.warn("Transfer için yetersiz bakiye: hesapNo={}, mevcut={}, istenen={}", from.accountNo, from.amount,
+					amount);
+			throw new InsufficientBalanceException(from.amount, amount);
+		}
+
+		Money fromNew = from.amount.minus(amount);
+		Money toNew = to.amount.plus(amount);
+		List<Object[]> updates = List.of(new Object[] { fromNew.toBigDecimal(), from.accountNo, from.version },
+				new Object[] { toNew.toBigDecimal(), to.accountNo, to.version });
+		int[] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_BALANCE, updates);
+		// Satırlar FOR UPDATE ile kilitli olduğundan çakışma beklenmez; yine de version ile doğrulanır
+		if (Arrays.stream(counts).anyMatch(count -> count == 0)) {
+			throw new OptimisticLockingFailureException("Transfer sırasında hesap eşzamanlı güncellendi");
+		}
+
+		String transferId = UUID.randomUUID().toString();
+		LocalDateTime now = LocalDateTime.now();
+		transactionProducer.publish(new TransactionEvent(transferId, from.accountNo, from.customerId,
+				TransactionType.TRANSFER, amount, from.amount, fromNew, true, now, to.accountNo, to.customerId,
+				to.amount, toNew));
+		accountEventStore.appendAll(List.of(
+				new TransactionEvent(transferId, from.accountNo, from.customerId, TransactionType.TRANSFER, amount,
+						from.amount, fromNew, true, now),
+				new TransactionEvent(transferId, to.accountNo, to.customerId, TransactionType.TRANSFER, amount,
+						to.amount, toNew, true, now)));
+
+		TransferResponseDto response = new TransferResponseDto();
+		response.setTransferId(transferId);
+		response.setFromAccountNo(from.accountNo);
+		response.setFromCustomerId(from.customerId);
+		response.setToAccountNo(to.accountNo);
+		response.setToCustomerId(to.customerId);
+		response.setAmount(amount.toBigDecimal());
+		response.setFromPreviousBalance(from.amount.toBigDecimal());
+		response.setFromNewBalance(fromNew.toBigDecimal());
+		response.setToPreviousBalance(to.amount.toBigDecimal());
+		response.setToNewBalance(toNew.toBigDecimal());
+		response.setExplanation(request.getExplanation());
+		response.setTransactionDate(now);
+		if (idempotencyKey != null) {
+			idempotencyStore.record(idempotencyKey, TransactionType.TRANSFER,
+					IdempotencyStore.transferScope(from.accountNo, to.accountNo), amount, response);
+		}
+		return response;
+	}
+
+	private Map<String, AccountBalance> loadForUpdate(TreeSet<String> accountNos) {
+		Map<String, AccountBalance> accounts = new TreeMap<>();
+		jdbcTemplate.query(SELECT_FOR_UPDATE, Map.of("accountNos", accountNos), rs -> {
+			AccountBalance account = new AccountBalance(rs.getString("account_no"), rs.getLong("customer_id"),
+					Money.of(rs.getBigDecimal("amount")), rs.getBoolean("active"), rs.getLong("version"));
+			accounts.put(account.accountNo, account);
+		});
+		return accounts;
+	}
+
+	private static AccountBalance require(Map<String, AccountBalance> accounts, String accountNo) {
+		AccountBalance account = accounts.get(accountNo);
+		if (account == null) {
+			throw new AccountNotFoundException(accountNo);
+		}
+		if (!account.active) {
+			log.warn("Kapalı hesapla transfer denemesi: hesapNo={}", accountNo);
+			throw new RuntimeException("Kapalı hesapta işlem yapılamaz");
+		}
+		return account;
+	}
+
+	/**
+	 * İki hesabın cache kayıtları commit sonrası silinir; sonraki okuma DB'den yükler
+	 */
+	private void evictCaches(TransferResponseDto response) {
+		Cache accountCache = cacheManager.getCache("account");
+		if (accountCache != null) {
+			accountCache.evict(response.getFromAccountNo());
+			accountCache.evict(response.getToAccountNo());
+		}
+		Cache customerAccountsCache = cacheManager.getCache("customerAccounts");
+		if (customerAccountsCache != null) {
+			customerAccountsCache.evict(response.getFromCustomerId());
+			customerAccountsCache.evict(response.getToCustomerId());
+		}
+	}
+
+	private record AccountBalance(String accountNo, Long customerId, Money amount, boolean active, long version) {
+	}
+}
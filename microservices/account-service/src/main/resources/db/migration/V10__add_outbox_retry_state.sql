@@ -0,0 +1,10 @@
+-- Outbox relay yeniden deneme durumu (OutboxRelay)
+-- next_attempt_at: kaydın en erken tekrar alınabileceği zaman; gönderim süresince claim lease'i olarak da kullanılır.
+-- parked_at: max-attempts'e ulaşan kayıt relay'den çıkarılır (dead letter); tekrar göndermek için
+--   UPDATE transaction_outbox SET parked_at = NULL, attempts = 0, next_attempt_at = NULL WHERE id = ...
+
+ALTER TABLE transaction_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
+ALTER TABLE transaction_outbox ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP(6);
+
+-- Hesap sırası kontrolü: aynı aggregate_id'nin daha küçük id'li bekleyen kaydı var mı (NOT EXISTS alt sorgusu)
+CREATE INDEX IF NOT EXISTS idx_transaction_outbox_aggregate ON transaction_outbox (aggregate_id, id);
@@ -0,0 +1,5 @@
+-- Ledger yolunda anahtar işlemden önce PENDING olarak ayrılır, journal onayından sonra cevapla COMPLETED olur
+-- (IdempotencyStore.reserve/complete). PENDING kaydın cevabı henüz yoktur.
+
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED';
+ALTER TABLE idempotency_keys ALTER COLUMN response DROP NOT NULL;
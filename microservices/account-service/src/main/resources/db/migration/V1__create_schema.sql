@@ -0,0 +1,40 @@
+-- account-service başlangıç şeması
+-- IF NOT EXISTS: ddl-auto: update ile oluşmuş mevcut veritabanları baseline (0) sonrası bu script'i sorunsuz çalıştırır
+
+CREATE TABLE IF NOT EXISTS accounts (
+    account_no     VARCHAR(50)    NOT NULL,
+    account_type   VARCHAR(20)    NOT NULL,
+    customer_id    BIGINT         NOT NULL,
+    amount         NUMERIC(19, 2) NOT NULL,
+    opening_date   TIMESTAMP(6)   NOT NULL,
+    active         BOOLEAN        NOT NULL,
+    version        BIGINT         NOT NULL DEFAULT 0,
+    interest_rate  NUMERIC(5, 4),
+    maturity_month INTEGER,
+    maturity_date  DATE,
+    CONSTRAINT pk_accounts PRIMARY KEY (account_no)
+);
+
+CREATE TABLE IF NOT EXISTS transaction_outbox (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aggregate_id VARCHAR(50)  NOT NULL,
+    topic        VARCHAR(100),
+    payload      BYTEA        NOT NULL,
+    attempts     INTEGER      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_transaction_outbox PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS interest_accrual_runs (
+    run_id             VARCHAR(20)    NOT NULL,
+    status             VARCHAR(20)    NOT NULL,
+    last_account_no    VARCHAR(50),
+    processed_accounts BIGINT         NOT NULL,
+    chunks             BIGINT         NOT NULL,
+    total_interest     NUMERIC(19, 2) NOT NULL,
+    owner              VARCHAR(100),
+    started_at         TIMESTAMP(6)   NOT NULL,
+    updated_at         TIMESTAMP(6)   NOT NULL,
+    completed_at       TIMESTAMP(6),
+    CONSTRAINT pk_interest_accrual_runs PRIMARY KEY (run_id)
+);
@@ -0,0 +1,16 @@
+-- ddl-auto: update döneminden kalan outbox tablosunu güncel entity ile hizalar:
+-- payload VARCHAR (JSON metni) -> BYTEA (TransactionEventCodecs çıktısı), topic kolonu (özet event'ler için)
+-- Mevcut JSON kayıtlar UTF-8 byte'larına çevrilir; codec decode sırasında formatı ilk byte'tan ayırt eder.
+
+ALTER TABLE transaction_outbox ADD COLUMN IF NOT EXISTS topic VARCHAR(100);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'transaction_outbox'
+                 AND column_name = 'payload' AND data_type <> 'bytea') THEN
+        ALTER TABLE transaction_outbox ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
+    END IF;
+END $$;
+
+ALTER TABLE accounts ALTER COLUMN version SET DEFAULT 0;
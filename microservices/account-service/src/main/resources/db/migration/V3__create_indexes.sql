@@ -0,0 +1,13 @@
+-- Sıcak sorguların indeksleri
+
+-- AccountRepository.findByCustomerId (GET /accounts/customer/{id}, hesap kapatma cache eviction'ı)
+CREATE INDEX IF NOT EXISTS idx_accounts_customer_id ON accounts (customer_id);
+
+-- Toplu faiz tahakkuku keyset taraması:
+-- WHERE account_type = 'VADELI' AND active AND interest_rate IS NOT NULL AND account_no > ? ORDER BY account_no
+-- Kısmi indeks yalnızca tahakkuka girecek satırları içerir; vadesiz hesaplar taranmaz.
+CREATE INDEX IF NOT EXISTS idx_accounts_accrual_scan ON accounts (account_no)
+    WHERE account_type = 'VADELI' AND active AND interest_rate IS NOT NULL;
+
+-- GET /accounts keyset sayfalama, dışa aktarım, posting/transfer kilit sırası ve outbox relay (ORDER BY id)
+-- birincil anahtar indekslerini kullanır; ek indeks gerekmez.
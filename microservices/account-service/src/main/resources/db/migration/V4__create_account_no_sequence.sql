@@ -0,0 +1,14 @@
+-- Hesap numarası hi/lo sequence'ı (AccountNumberGenerator)
+-- INCREMENT BY blok boyutuna eşit olmalıdır (app.account.number.block-size -> flyway placeholder).
+-- Sequence daha önce uygulama tarafından oluşturulmuşsa dokunulmaz; yoksa mevcut en büyük hesap numarasının üstünden başlar.
+
+DO $$
+DECLARE
+    start_value BIGINT;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.sequences
+                   WHERE sequence_schema = current_schema() AND sequence_name = 'account_no_seq') THEN
+        SELECT GREATEST(COALESCE(MAX(CAST(account_no AS BIGINT)) + 1, 1001), 1001) INTO start_value FROM accounts;
+        EXECUTE format('CREATE SEQUENCE account_no_seq START WITH %s INCREMENT BY %s', start_value, ${accountNoBlockSize});
+    END IF;
+END $$;
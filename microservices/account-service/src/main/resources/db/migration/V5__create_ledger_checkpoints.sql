@@ -0,0 +1,9 @@
+-- Bellek içi ledger motoru (app.account.ledger.enabled) partition checkpoint'leri
+-- applied_seq: partition journal'ının DB'ye uygulanmış son kaydı
+
+CREATE TABLE IF NOT EXISTS ledger_checkpoints (
+    partition_id INTEGER      NOT NULL,
+    applied_seq  BIGINT       NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_checkpoints PRIMARY KEY (partition_id)
+);
@@ -0,0 +1,29 @@
+-- Hesap olay akışı (AccountEventStore): bakiye değiştiren her işlem bir olay, her N olayda bir snapshot
+-- Bakiye sorgusu = snapshot + kuyruk; kuyruk en fazla app.account.events.snapshot-interval olaydır.
+
+CREATE TABLE IF NOT EXISTS account_events (
+    account_no     VARCHAR(50)    NOT NULL,
+    seq            BIGINT         NOT NULL,
+    event_type     VARCHAR(20)    NOT NULL,
+    delta          NUMERIC(19, 2) NOT NULL,
+    transaction_id VARCHAR(50),
+    occurred_at    TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_account_events PRIMARY KEY (account_no, seq)
+);
+
+CREATE TABLE IF NOT EXISTS account_snapshots (
+    account_no VARCHAR(50)    NOT NULL,
+    seq        BIGINT         NOT NULL,
+    balance    NUMERIC(19, 2) NOT NULL,
+    as_of      TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_account_snapshots PRIMARY KEY (account_no, seq)
+);
+
+-- Geçmiş tarihli bakiye: WHERE account_no = ? AND as_of <= ? ORDER BY as_of DESC LIMIT 1
+CREATE INDEX IF NOT EXISTS idx_account_snapshots_as_of ON account_snapshots (account_no, as_of);
+
+-- Mevcut hesaplar için başlangıç snapshot'ı: olay akışı bugünkü bakiyeden başlar
+INSERT INTO account_snapshots (account_no, seq, balance, as_of)
+SELECT a.account_no, 0, a.amount, CURRENT_TIMESTAMP
+FROM accounts a
+WHERE NOT EXISTS (SELECT 1 FROM account_snapshots s WHERE s.account_no = a.account_no);
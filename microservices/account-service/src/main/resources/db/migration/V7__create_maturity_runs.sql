@@ -0,0 +1,34 @@
+-- Vade işleme (MaturityService): vadesi gelen VADELI hesaplar shard'lara bölünür, shard'lar node'lar arasında paylaşılır
+
+-- Vadesi gelenlerin taraması: WHERE maturity_date <= ? AND account_no > ? AND account_no <= ?
+CREATE INDEX IF NOT EXISTS idx_accounts_maturity_date ON accounts (maturity_date, account_no)
+    WHERE account_type = 'VADELI' AND active = TRUE;
+
+CREATE TABLE IF NOT EXISTS maturity_runs (
+    run_id         VARCHAR(20)  NOT NULL,
+    maturity_date  DATE         NOT NULL,
+    shard_count    INTEGER      NOT NULL,
+    total_accounts BIGINT       NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_maturity_runs PRIMARY KEY (run_id)
+);
+
+CREATE TABLE IF NOT EXISTS maturity_shards (
+    run_id             VARCHAR(20)    NOT NULL,
+    shard_no           INTEGER        NOT NULL,
+    lower_account_no   VARCHAR(50),
+    upper_account_no   VARCHAR(50),
+    expected_accounts  BIGINT         NOT NULL,
+    status             VARCHAR(20)    NOT NULL,
+    owner              VARCHAR(100),
+    last_account_no    VARCHAR(50),
+    processed_accounts BIGINT         NOT NULL DEFAULT 0,
+    total_interest     NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    started_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6)   NOT NULL,
+    completed_at       TIMESTAMP(6),
+    CONSTRAINT pk_maturity_shards PRIMARY KEY (run_id, shard_no)
+);
+
+-- Sahiplenilecek shard araması: WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < ?)
+CREATE INDEX IF NOT EXISTS idx_maturity_shards_status ON maturity_shards (status, updated_at);
@@ -0,0 +1,15 @@
+-- Idempotency-Key ile yapılan yatırma/çekme işlemleri: tekrar gelen istek saklanan ilk cevabı alır
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key  VARCHAR(100)   NOT NULL,
+    transaction_type VARCHAR(20)    NOT NULL,
+    account_no       VARCHAR(50)    NOT NULL,
+    amount           NUMERIC(19, 2),
+    response         VARCHAR(4000)  NOT NULL,
+    created_at       TIMESTAMP(6)   NOT NULL,
+    expires_at       TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+-- Süresi dolan kayıtların temizliği: DELETE ... WHERE expires_at < ?
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
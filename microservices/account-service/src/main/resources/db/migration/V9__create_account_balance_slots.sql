@@ -0,0 +1,11 @@
+-- Sıcak hesapların bakiye slot'ları (HotAccountBalances)
+-- Hesabın toplam bakiyesi = accounts.amount + slot'ların toplamı; yatırmalar rastgele bir slot'a yazılır,
+-- çekme ve periyodik süpürme slot'ları accounts.amount'a katlar. deposits küme genelinde yatırma sayacıdır.
+
+CREATE TABLE IF NOT EXISTS account_balance_slots (
+    account_no VARCHAR(50)    NOT NULL,
+    slot       INTEGER        NOT NULL,
+    amount     NUMERIC(19, 2) NOT NULL,
+    deposits   BIGINT         NOT NULL,
+    CONSTRAINT pk_account_balance_slots PRIMARY KEY (account_no, slot)
+);
@@ -0,0 +1,156 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+@DisplayName("Notification Retry Consumer Unit Tests")
+class NotificationRetryConsumerTest {
+
+	private static final String TIER_5S = "transaction-events-retry-5s";
+	private static final String TIER_10M = "transaction-events-retry-10m";
+	private static final byte[] PAYLOAD = "payload".getBytes(StandardCharsets.UTF_8);
+
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+	private TransactionNotificationHandler handler;
+	private MessageListenerContainer container;
+	private ConsumerSeekCallback seekCallback;
+	private NotificationRetryConsumer consumer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		kafkaTemplate = mock(KafkaTemplate.class);
+		when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+		handler = mock(TransactionNotificationHandler.class);
+		container = mock(MessageListenerContainer.class);
+		KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+		when(registry.getListenerContainer(NotificationRetryConsumer.LISTENER_ID)).thenReturn(container);
+		ObjectProvider<KafkaListenerEndpointRegistry> registryProvider = mock(ObjectProvider.class);
+		when(registryProvider.getIfAvailable()).thenReturn(registry);
+
+		NotificationRetryRouter router = new NotificationRetryRouter(kafkaTemplate, "transaction-events",
+				"transaction-events-dlq", List.of("5s", "1m", "10m"));
+		consumer = new NotificationRetryConsumer(handler, router, registryProvider);
+		seekCallback = mock(ConsumerSeekCallback.class);
+		consumer.registerSeekCallback(seekCallback);
+		consumer.onPartitionsAssigned(Map.of(new TopicPartition(TIER_5S, 0), 0L), seekCallback);
+	}
+
+	@AfterEach
+	void tearDown() {
+		consumer.shutdown();
+	}
+
+	@Test
+	@DisplayName("Should pause partition and seek back when record is not yet due")
+	void testConsume_NotDue_PausesWithoutProcessing() throws Exception {
+		// Given
+		ConsumerRecord<String, byte[]> record = retryRecord(TIER_5S, 7, 1, System.currentTimeMillis() + 60_000);
+		ConsumerRecord<String, byte[]> next = retryRecord(TIER_5S, 8, 1, System.currentTimeMillis() + 60_000);
+		Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+		// When
+		consumer.consume(record, acknowledgment);
+		consumer.consume(next, acknowledgment);
+
+		// Then
+		TopicPartition partition = new TopicPartition(TIER_5S, 0);
+		verify(seekCallback, times(1)).seek(TIER_5S, 0, 7);
+		verify(container, times(1)).pausePartition(partition);
+		verify(handler, never()).handle(any());
+		verify(acknowledgment, never()).acknowledge();
+		assertTrue(consumer.isWaiting(partition));
+	}
+
+	@Test
+	@DisplayName("Should process due record and acknowledge it")
+	void testConsume_Due_ProcessesAndAcks() throws Exception {
+		// Given
+		ConsumerRecord<String, byte[]> record = retryRecord(TIER_5S, 3, 1, System.currentTimeMillis() - 1);
+		Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+		// When
+		consumer.consume(record, acknowledgment);
+
+		// Then
+		verify(handler, times(1)).handle(PAYLOAD);
+		verify(acknowledgment, times(1)).acknowledge();
+		verifyNoInteractions(kafkaTemplate);
+	}
+
+	@Test
+	@DisplayName("Should send to DLQ with failure headers after the last tier fails")
+	@SuppressWarnings("unchecked")
+	void testConsume_LastTierFails_SentToDlq() throws Exception {
+		// Given
+		ConsumerRecord<String, byte[]> record = retryRecord(TIER_10M, 0, 3, System.currentTimeMillis() - 1);
+		doThrow(new IllegalStateException("bildirim servisi yanıt vermedi")).when(handler).handle(any());
+		Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+		// When
+		consumer.consume(record, acknowledgment);
+
+		// Then
+		ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+		verify(kafkaTemplate, times(1)).send(sent.capture());
+		ProducerRecord<String, byte[]> dlq = sent.getValue();
+		assertEquals("transaction-events-dlq", dlq.topic());
+		assertEquals(4, NotificationRetryRouter.attempt(dlq.headers()));
+		assertEquals("transaction-events",
+				NotificationRetryRouter.header(dlq.headers(), NotificationRetryRouter.ORIGINAL_TOPIC_HEADER));
+		assertEquals(IllegalStateException.class.getName(),
+				NotificationRetryRouter.header(dlq.headers(), NotificationRetryRouter.EXCEPTION_CLASS_HEADER));
+		assertEquals("bildirim servisi yanıt vermedi",
+				NotificationRetryRouter.header(dlq.headers(), NotificationRetryRouter.EXCEPTION_MESSAGE_HEADER));
+		assertNull(dlq.headers().lastHeader(NotificationRetryRouter.NOT_BEFORE_HEADER));
+		verify(acknowledgment, times(1)).acknowledge();
+	}
+
+	@Test
+	@DisplayName("Should not acknowledge when routing to the next tier is not confirmed")
+	@SuppressWarnings("unchecked")
+	void testConsume_RouteSendFails_NotAcknowledged() throws Exception {
+		// Given
+		ConsumerRecord<String, byte[]> record = retryRecord(TIER_5S, 4, 1, System.currentTimeMillis() - 1);
+		doThrow(new IllegalStateException("bildirim servisi yanıt vermedi")).when(handler).handle(any());
+		when(kafkaTemplate.send(any(ProducerRecord.class)))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+		Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+		// When & Then: exception container'a çıkar, kayıt tekrar teslim edilir
+		assertThrows(IllegalStateException.class, () -> consumer.consume(record, acknowledgment));
+		verify(acknowledgment, never()).acknowledge();
+	}
+
+	private ConsumerRecord<String, byte[]> retryRecord(String topic, long offset, int attempt, long notBefore) {
+		ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(topic, 0, offset, "1001", PAYLOAD);
+		NotificationRetryRouter.putHeader(record.headers(), NotificationRetryRouter.ORIGINAL_TOPIC_HEADER,
+				"transaction-events");
+		NotificationRetryRouter.putHeader(record.headers(), NotificationRetryRouter.ATTEMPT_HEADER,
+				String.valueOf(attempt));
+		NotificationRetryRouter.putHeader(record.headers(), NotificationRetryRouter.NOT_BEFORE_HEADER,
+				String.valueOf(notBefore));
+		return record;
+	}
+}
@@ -0,0 +1,176 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.OnlineBankacilik.entity.OutboxEvent;
+import com.example.OnlineBankacilik.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Outbox Relay Unit Tests")
+class OutboxRelayTest {
+
+	private OutboxEventRepository outboxEventRepository;
+	private TransactionProducer transactionProducer;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository = mock(OutboxEventRepository.class);
+		transactionProducer = mock(TransactionProducer.class);
+		outboxRelay = new OutboxRelay(outboxEventRepository, transactionProducer, mock(PlatformTransactionManager.class),
+				new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(outboxRelay, "batchSize", 3);
+		ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+		ReflectionTestUtils.setField(outboxRelay, "retryBackoffMs", 1000L);
+		ReflectionTestUtils.setField(outboxRelay, "maxBackoffMs", 60000L);
+	}
+
+	@Test
+	@DisplayName("Should send batch and delete relayed events")
+	void testRelayBatch_AllSent_DeletesRows() {
+		// Given
+		OutboxEvent first = outboxEvent(1L, "1001");
+		OutboxEvent second = outboxEvent(2L, "1002");
+		when(outboxEventRepository.findBatchForRelay(any(LocalDateTime.class), anyInt())).thenReturn(List.of(first, second));
+		when(transactionProducer.send(any())).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+		// When
+		int relayed = outboxRelay.relayBatch();
+
+		// Then: kayıtlar gönderimden önce lease ile claim edilir, gönderilenler silinir
+		assertEquals(2, relayed);
+		verify(outboxEventRepository, times(1)).reschedule(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+		verify(transactionProducer, times(2)).send(any());
+		verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+	}
+
+	@Test
+	@DisplayName("Should keep failed events for the next poll")
+	void testRelayBatch_SendFails_KeepsRow() {
+		// Given
+		OutboxEvent first = outboxEvent(1L, "1001");
+		OutboxEvent second = outboxEvent(2L, "1002");
+		when(outboxEventRepository.findBatchForRelay(any(LocalDateTime.class), anyInt())).thenReturn(List.of(first, second));
+		when(transactionProducer.send(first)).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+		when(transactionProducer.send(second)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+		// When
+		int relayed = outboxRelay.relayBatch();
+
+		// Then: başarısız kayıt backoff ile beklemeye alınır, döngü bir sonraki poll'a kadar durur
+		assertEquals(0, relayed);
+		assertEquals(1, second.getAttempts());
+		verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+		verify(outboxEventRepository, times(1)).markFailed(eq(2L), eq(1), any(LocalDateTime.class));
+		verify(outboxEventRepository, never()).park(anyLong(), anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("Should not delete later events of an account whose earlier event failed")
+	void testRelayBatch_SendFails_KeepsLaterEventsOfSameAccount() {
+		// Given: 1001'in ilk event'i başarısız, ikinci event'i ve 1002'nin event'i gönderildi
+		OutboxEvent first = outboxEvent(1L, "1001");
+		OutboxEvent second = outboxEvent(2L, "1001");
+		OutboxEvent other = outboxEvent(3L, "1002");
+		when(outboxEventRepository.findBatchForRelay(any(LocalDateTime.class), anyInt()))
+				.thenReturn(List.of(first, second, other));
+		when(transactionProducer.send(first)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("timeout")));
+		when(transactionProducer.send(second)).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+		when(transactionProducer.send(other)).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+		// When
+		outboxRelay.relayBatch();
+
+		// Then: 1001'in ikinci event'i silinmez, lease'i kaldırılır; ilk event'ten sonra tekrar gönderilir
+		verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(3L));
+		verify(outboxEventRepository, times(1)).reschedule(List.of(2L), null);
+		verify(outboxEventRepository, times(1)).markFailed(eq(1L), eq(1), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("Should park an event after max attempts")
+	void testRelayBatch_MaxAttempts_ParksEvent() {
+		// Given
+		OutboxEvent poison = outboxEvent(1L, "1001");
+		poison.setAttempts(2);
+		when(outboxEventRepository.findBatchForRelay(any(LocalDateTime.class), anyInt())).thenReturn(List.of(poison));
+		when(transactionProducer.send(poison)).thenThrow(new IllegalStateException("record too large"));
+
+		// When
+		outboxRelay.relayBatch();
+
+		// Then
+		verify(outboxEventRepository, times(1)).park(eq(1L), eq(3), any(LocalDateTime.class));
+		verify(outboxEventRepository, never()).markFailed(anyLong(), anyInt(), any());
+		verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+	}
+
+	@Test
+	@DisplayName("Should back off exponentially up to the maximum")
+	void testBackoff_ExponentialWithCap() {
+		assertEquals(1000L, outboxRelay.backoffMs(1));
+		assertEquals(4000L, outboxRelay.backoffMs(3));
+		assertEquals(60000L, outboxRelay.backoffMs(10));
+	}
+
+	@Test
+	@DisplayName("Should do nothing when outbox is empty")
+	void testRelayBatch_Empty() {
+		// Given
+		when(outboxEventRepository.findBatchForRelay(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+		// When
+		int relayed = outboxRelay.relayBatch();
+
+		// Then
+		assertEquals(0, relayed);
+		verify(transactionProducer, never()).send(any());
+		verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+	}
+
+	@Test
+	@DisplayName("Should drop events whose earlier event was just claimed by another relay")
+	void testRelayBatch_EarlierEventLeasedByOtherRelay_SkipsAccount() {
+		// Given: 1001'in önceki kaydı, kilidi az önce bırakan başka bir relay tarafından claim edildi
+		OutboxEvent blocked = outboxEvent(2L, "1001");
+		OutboxEvent other = outboxEvent(3L, "1002");
+		when(outboxEventRepository.findBatchForRelay(any(LocalDateTime.class), anyInt()))
+				.thenReturn(List.of(blocked, other));
+		when(outboxEventRepository.findBlockedByEarlierLease(eq(List.of(2L, 3L)), any(LocalDateTime.class)))
+				.thenReturn(List.of(2L));
+		when(transactionProducer.send(any())).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+		// When
+		int relayed = outboxRelay.relayBatch();
+
+		// Then: 1001'in kaydı gönderilmez ve lease almaz; önceki kayıt gönderildikten sonra alınır
+		assertEquals(1, relayed);
+		verify(transactionProducer, never()).send(blocked);
+		verify(outboxEventRepository, times(1)).reschedule(eq(List.of(3L)), any(LocalDateTime.class));
+		verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(3L));
+	}
+
+	private OutboxEvent outboxEvent(Long id, String accountNo) {
+		OutboxEvent event = new OutboxEvent();
+		event.setId(id);
+		event.setAggregateId(accountNo);
+		event.setPayload(("{\"accountNo\":\"" + accountNo + "\"}").getBytes(StandardCharsets.UTF_8));
+		return event;
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.OnlineBankacilik.codec.TransactionEventCodecs;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Transaction Notification Consumer Unit Tests")
+class TransactionNotificationConsumerTest {
+
+	private static final String TOPIC = "transaction-events";
+
+	private ObjectMapper objectMapper;
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private TransactionNotificationConsumer consumer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		kafkaTemplate = mock(KafkaTemplate.class);
+		when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+		meterRegistry = new SimpleMeterRegistry();
+		NotificationRetryRouter router = new NotificationRetryRouter(kafkaTemplate, TOPIC, "transaction-events-dlq",
+				List.of("5s", "1m", "10m"));
+		consumer = spy(new TransactionNotificationConsumer(
+				new TransactionNotificationHandler(new TransactionEventCodecs(objectMapper, "json")), router,
+				meterRegistry));
+		ReflectionTestUtils.setField(consumer, "workerLanes", 4);
+	}
+
+	@Test
+	@DisplayName("Should process batch in per-account order and acknowledge once")
+	void testConsume_PerKeyOrder_AckAfterBatch() throws Exception {
+		// Given
+		List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+		long offset = 0;
+		for (int i = 0; i < 50; i++) {
+			for (String accountNo : List.of("1001", "1002", "1003", "1004", "1005")) {
+				records.add(new ConsumerRecord<>(TOPIC, 0, offset++, accountNo, json(accountNo)));
+			}
+		}
+		List<ConsumerRecord<String, byte[]>> processed = Collections.synchronizedList(new ArrayList<>());
+		doAnswer(invocation -> {
+			processed.add(invocation.getArgument(0));
+			return invocation.callRealMethod();
+		}).when(consumer).process(any());
+		Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+		// When
+		consumer.consume(records, acknowledgment, null);
+
+		// Then
+		assertEquals(records.size(), processed.size());
+		Map<String, List<Long>> offsetsByKey = processed.stream().collect(Collectors.groupingBy(ConsumerRecord::key,
+				Collectors.mapping(ConsumerRecord::offset, Collectors.toList())));
+		offsetsByKey.values().forEach(offsets -> {
+			List<Long> sorted = new ArrayList<>(offsets);
+			Collections.sort(sorted);
+			assertEquals(sorted, offsets);
+		});
+		verify(acknowledgment, times(1)).acknowledge();
+		assertEquals(1, meterRegistry.get("transaction.notifications.batch.duration").timer().count());
+	}
+
+	@Test
+	@DisplayName("Should route unparseable records to the first retry tier and still acknowledge the batch")
+	@SuppressWarnings("unchecked")
+	void testConsume_InvalidRecord_SentToRetryTopic() throws Exception {
+		// Given
+		List<ConsumerRecord<String, byte[]>> records = List.of(
+				new ConsumerRecord<>(TOPIC, 0, 0, "1001", json("1001")),
+				new ConsumerRecord<>(TOPIC, 0, 1, "1002", "not-json".getBytes(StandardCharsets.UTF_8)));
+		Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+		// When
+		consumer.consume(records, acknowledgment, null);
+
+		// Then
+		ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+		verify(kafkaTemplate, times(1)).send(sent.capture());
+		assertEquals("transaction-events-retry-5s", sent.getValue().topic());
+		assertEquals("1002", sent.getValue().key());
+		assertArrayEquals("not-json".getBytes(StandardCharsets.UTF_8), sent.getValue().value());
+		assertEquals(1, NotificationRetryRouter.attempt(sent.getValue().headers()));
+		assertEquals(TOPIC, NotificationRetryRouter.header(sent.getValue().headers(),
+				NotificationRetryRouter.ORIGINAL_TOPIC_HEADER));
+		verify(acknowledgment, times(1)).acknowledge();
+	}
+
+	private byte[] json(String accountNo) throws Exception {
+		return objectMapper.writeValueAsBytes(new TransactionEvent("TXN-" + accountNo, accountNo, 1L,
+				TransactionType.YATIRMA, Money.of("10.00"), Money.ZERO, Money.of("10.00"), true,
+				LocalDateTime.now()));
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.OnlineBankacilik.codec.TransactionEventCodecs;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.entity.OutboxEvent;
+import com.example.OnlineBankacilik.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Transaction Producer Unit Tests")
+class TransactionProducerTest {
+
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private TransactionProducer transactionProducer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		kafkaTemplate = mock(KafkaTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		transactionProducer = new TransactionProducer(kafkaTemplate, new TransactionEventCodecs(new ObjectMapper(), "json"),
+				mock(OutboxEventRepository.class), mock(JdbcTemplate.class), meterRegistry);
+		ReflectionTestUtils.setField(transactionProducer, "transactionTopic", "transaction-events");
+	}
+
+	@Test
+	@DisplayName("Should key records by account number and record success latency")
+	void testSend_KeyedByAccountNo_RecordsSuccess() {
+		// Given
+		OutboxEvent event = outboxEvent("1001");
+		RecordMetadata metadata = new RecordMetadata(new TopicPartition("transaction-events", 0), 0, 0, 0, 0, 0);
+		SendResult<String, byte[]> result = new SendResult<>(
+				new ProducerRecord<>("transaction-events", "1001", event.getPayload()), metadata);
+		when(kafkaTemplate.send("transaction-events", "1001", event.getPayload()))
+				.thenReturn(CompletableFuture.completedFuture(result));
+
+		// When
+		transactionProducer.send(event).join();
+
+		// Then
+		verify(kafkaTemplate, times(1)).send("transaction-events", "1001", event.getPayload());
+		assertEquals(1, meterRegistry.get("transaction.events.send").tag("result", "success").timer().count());
+		assertEquals(0, meterRegistry.get("transaction.events.send").tag("result", "failure").timer().count());
+	}
+
+	@Test
+	@DisplayName("Should record failure when broker rejects the send")
+	void testSend_Failure_RecordsFailure() {
+		// Given
+		OutboxEvent event = outboxEvent("1002");
+		when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+				.thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+		// When
+		CompletableFuture<SendResult<String, byte[]>> future = transactionProducer.send(event);
+
+		// Then
+		assertTrue(future.isCompletedExceptionally());
+		assertEquals(1, meterRegistry.get("transaction.events.send").tag("result", "failure").timer().count());
+	}
+
+	@Test
+	@DisplayName("Should propagate encoding failures so the business transaction rolls back")
+	void testPublish_EncodeFails_Propagates() {
+		// Given
+		TransactionEventCodecs codecs = mock(TransactionEventCodecs.class);
+		when(codecs.encoderName()).thenReturn("json");
+		when(codecs.encode(any())).thenThrow(new IllegalArgumentException("serileştirilemedi"));
+		OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+		TransactionProducer producer = new TransactionProducer(kafkaTemplate, codecs, outboxEventRepository,
+				mock(JdbcTemplate.class), meterRegistry);
+		TransactionEvent event = new TransactionEvent();
+		event.setAccountNo("1001");
+
+		// When / Then
+		assertThrows(IllegalArgumentException.class, () -> producer.publish(event));
+		verify(outboxEventRepository, never()).save(any());
+	}
+
+	private OutboxEvent outboxEvent(String accountNo) {
+		OutboxEvent event = new OutboxEvent();
+		event.setId(1L);
+		event.setAggregateId(accountNo);
+		event.setPayload(("{\"accountNo\":\"" + accountNo + "\"}").getBytes(StandardCharsets.UTF_8));
+		return event;
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.OnlineBankacilik.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Two Level Cache Manager Unit Tests")
+class TwoLevelCacheManagerTest {
+
+	private static final String CHANNEL = "account-cache-invalidation";
+
+	private ConcurrentMapCacheManager l2CacheManager;
+	private StringRedisTemplate redisTemplate;
+	private ObjectMapper objectMapper;
+	private TwoLevelCacheManager cacheManager;
+
+	@BeforeEach
+	void setUp() {
+		l2CacheManager = new ConcurrentMapCacheManager("account", "customerAccounts");
+		redisTemplate = mock(StringRedisTemplate.class);
+		objectMapper = new ObjectMapper();
+		cacheManager = new TwoLevelCacheManager(l2CacheManager, redisTemplate, objectMapper, CHANNEL, 100,
+				Duration.ofMinutes(1));
+		cacheManager.afterPropertiesSet();
+	}
+
+	@Test
+	@DisplayName("Should serve repeated reads from L1 after first L2 hit")
+	void testGet_PopulatesL1FromL2() {
+		// Given
+		l2CacheManager.getCache("account").put("1001", "dto-1001");
+		Cache cache = cacheManager.getCache("account");
+
+		// When
+		assertEquals("dto-1001", cache.get("1001").get());
+		l2CacheManager.getCache("account").clear();
+
+		// Then - L2 temizlense de değer L1'den gelir
+		assertEquals("dto-1001", cache.get("1001").get());
+	}
+
+	@Test
+	@DisplayName("Should write through to L2 and publish invalidation on put")
+	void testPut_WritesL2AndPublishes() throws Exception {
+		// Given
+		Cache cache = cacheManager.getCache("account");
+
+		// When
+		cache.put("1001", "dto-1001");
+
+		// Then
+		assertEquals("dto-1001", l2CacheManager.getCache("account").get("1001").get());
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(1)).convertAndSend(eq(CHANNEL), payload.capture());
+		CacheInvalidationMessage message = objectMapper.readValue(payload.getValue(), CacheInvalidationMessage.class);
+		assertEquals("account", message.getCacheName());
+		assertEquals("1001", message.getKey());
+	}
+
+	@Test
+	@DisplayName("Should evict L1 entry when another instance publishes invalidation")
+	void testOnMessage_FromOtherInstance_EvictsL1() throws Exception {
+		// Given
+		Cache cache = cacheManager.getCache("account");
+		cache.put("1001", "old");
+		l2CacheManager.getCache("account").put("1001", "new");
+
+		// When
+		String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage("other-node", "account", "1001"));
+		cacheManager.onMessage(message(payload), null);
+
+		// Then
+		assertEquals("new", cache.get("1001").get());
+	}
+
+	@Test
+	@DisplayName("Should ignore invalidation messages published by itself")
+	void testOnMessage_FromSelf_Ignored() throws Exception {
+		// Given
+		Cache cache = cacheManager.getCache("account");
+		cache.put("1001", "value");
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+		l2CacheManager.getCache("account").clear();
+
+		// When
+		cacheManager.onMessage(message(payload.getValue()), null);
+
+		// Then
+		assertEquals("value", cache.get("1001").get());
+	}
+
+	private DefaultMessage message(String payload) {
+		return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), payload.getBytes(StandardCharsets.UTF_8));
+	}
+}
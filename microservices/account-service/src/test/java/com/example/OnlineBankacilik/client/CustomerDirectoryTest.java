@@ -0,0 +1,114 @@
+package com.example.OnlineBankacilik.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.OnlineBankacilik.dto.CustomerChangedEvent;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.enums.CustomerEventType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Customer Directory Unit Tests")
+class CustomerDirectoryTest {
+
+	private CustomerServiceClient customerServiceClient;
+	private CustomerDirectory customerDirectory;
+
+	@BeforeEach
+	void setUp() {
+		customerServiceClient = mock(CustomerServiceClient.class);
+		customerDirectory = new CustomerDirectory(customerServiceClient, new SimpleMeterRegistry(), 1000,
+				Duration.ofHours(1), Duration.ofSeconds(30));
+	}
+
+	@Test
+	@DisplayName("Should call customer-service once and serve later lookups locally")
+	void testExists_PositiveEntryCached() {
+		// Given
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		when(customerServiceClient.getCustomerById(1L)).thenReturn(customer);
+
+		// When & Then
+		assertTrue(customerDirectory.exists(1L));
+		assertTrue(customerDirectory.exists(1L));
+		verify(customerServiceClient, times(1)).getCustomerById(1L);
+	}
+
+	@Test
+	@DisplayName("Should cache missing customer as negative entry until CREATED event arrives")
+	void testExists_NegativeEntryReplacedByCreatedEvent() {
+		// Given - customer-service 404 (dismiss404 -> null)
+		when(customerServiceClient.getCustomerById(2L)).thenReturn(null);
+		assertFalse(customerDirectory.exists(2L));
+		assertFalse(customerDirectory.exists(2L));
+
+		// When
+		customerDirectory.apply(new CustomerChangedEvent(CustomerEventType.CREATED, 2L, "Yeni Müşteri",
+				LocalDateTime.now()));
+
+		// Then
+		assertEquals("Yeni Müşteri", customerDirectory.find(2L).orElseThrow().getNameSurname());
+		verify(customerServiceClient, times(1)).getCustomerById(2L);
+	}
+
+	@Test
+	@DisplayName("Should report deleted customer as missing without remote call")
+	void testExists_DeletedEvent() {
+		// When
+		customerDirectory.apply(new CustomerChangedEvent(CustomerEventType.DELETED, 3L, null, LocalDateTime.now()));
+
+		// Then
+		assertFalse(customerDirectory.exists(3L));
+		verifyNoInteractions(customerServiceClient);
+	}
+
+	@Test
+	@DisplayName("Should not cache remote failures")
+	void testExists_RemoteFailureNotCached() {
+		// Given
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(4L);
+		when(customerServiceClient.getCustomerById(4L))
+				.thenThrow(new RuntimeException("Customer Service geçici olarak kullanılamıyor"))
+				.thenReturn(customer);
+
+		// When & Then
+		assertThrows(RuntimeException.class, () -> customerDirectory.exists(4L));
+		assertTrue(customerDirectory.exists(4L));
+		verify(customerServiceClient, times(2)).getCustomerById(4L);
+	}
+
+	@Test
+	@DisplayName("Should load only uncached customers in a single bulk call")
+	void testExisting_BulkLoadsMisses() {
+		// Given - 1 pozitif, 3 silinmiş olarak cache'te
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		when(customerServiceClient.getCustomerById(1L)).thenReturn(customer);
+		customerDirectory.exists(1L);
+		customerDirectory.apply(new CustomerChangedEvent(CustomerEventType.DELETED, 3L, null, LocalDateTime.now()));
+		when(customerServiceClient.existingCustomerIds(Set.of(4L, 5L))).thenReturn(List.of(4L));
+
+		// When
+		Set<Long> existing = customerDirectory.existing(List.of(1L, 3L, 4L, 5L));
+
+		// Then
+		assertEquals(Set.of(1L, 4L), existing);
+		assertTrue(customerDirectory.exists(4L));
+		assertFalse(customerDirectory.exists(5L));
+		verify(customerServiceClient, times(1)).existingCustomerIds(Set.of(4L, 5L));
+		verify(customerServiceClient, never()).getCustomerById(4L);
+		verify(customerServiceClient, never()).getCustomerById(5L);
+	}
+}
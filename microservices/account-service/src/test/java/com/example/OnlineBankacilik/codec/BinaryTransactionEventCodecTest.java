@@ -0,0 +1,138 @@
+package com.example.OnlineBankacilik.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@DisplayName("Transaction Event Codec Unit Tests")
+class BinaryTransactionEventCodecTest {
+
+	private ObjectMapper objectMapper;
+	private BinaryTransactionEventCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		codec = new BinaryTransactionEventCodec();
+	}
+
+	@Test
+	@DisplayName("Should round-trip all fields through the binary format")
+	void testEncodeDecode_RoundTrip() {
+		// Given
+		TransactionEvent event = event();
+
+		// When
+		TransactionEvent decoded = codec.decode(codec.encode(event));
+
+		// Then
+		assertEquals(event, decoded);
+		assertEquals(125075L, decoded.getAmount().minorUnits());
+	}
+
+	@Test
+	@DisplayName("Should round-trip paired transfer events in the v2 format")
+	void testEncodeDecode_TransferRoundTrip() {
+		// Given
+		TransactionEvent base = event();
+		TransactionEvent event = new TransactionEvent(base.getTransactionId(), base.getAccountNo(),
+				base.getCustomerId(), TransactionType.TRANSFER, base.getAmount(), base.getPreviousBalance(),
+				base.getNewBalance(), true, base.getTransactionDate(), "10018", 43L, Money.of("5.00"),
+				Money.of("1255.75"));
+
+		// When
+		byte[] payload = codec.encode(event);
+		TransactionEvent decoded = codec.decode(payload);
+
+		// Then
+		assertEquals(2, payload[0]);
+		assertEquals(event, decoded);
+		assertEquals(1, codec.encode(base)[0]);
+	}
+
+	@Test
+	@DisplayName("Should keep null fields null")
+	void testEncodeDecode_NullFields() {
+		// Given
+		TransactionEvent event = new TransactionEvent("TXN-1", "1001", null, TransactionType.CEKME,
+				Money.of("-5.50"), null, null, false, null);
+
+		// When
+		TransactionEvent decoded = codec.decode(codec.encode(event));
+
+		// Then
+		assertEquals(event, decoded);
+	}
+
+	@Test
+	@DisplayName("Should be considerably smaller than JSON")
+	void testEncode_SmallerThanJson() throws Exception {
+		// Given
+		TransactionEvent event = event();
+
+		// When
+		int binarySize = codec.encode(event).length;
+		int jsonSize = objectMapper.writeValueAsBytes(event).length;
+
+		// Then
+		assertTrue(binarySize * 3 < jsonSize, "binary=" + binarySize + ", json=" + jsonSize);
+	}
+
+	@Test
+	@DisplayName("Should reject unknown versions and sub-cent amounts")
+	void testEncodeDecode_RejectsInvalidInput() {
+		// Given
+		byte[] payload = codec.encode(event());
+		payload[0] = 9;
+		// version=1, presence=HAS_AMOUNT, flags=0, scale=3, zigzag(1)=2 -> 0.001
+		byte[] subCent = { 1, 1 << 4, 0, 3, 2 };
+
+		// When / Then
+		assertThrows(IllegalArgumentException.class, () -> codec.decode(payload));
+		assertThrows(IllegalArgumentException.class, () -> codec.decode(subCent));
+	}
+
+	@Test
+	@DisplayName("Should decode amounts written with a scale other than 2")
+	void testDecode_OtherScales() {
+		// Given - version=1, presence=HAS_AMOUNT, flags=0, scale=0, zigzag(15)=30 -> 15
+		byte[] payload = { 1, 1 << 4, 0, 0, 30 };
+
+		// When
+		TransactionEvent decoded = codec.decode(payload);
+
+		// Then
+		assertEquals(Money.of("15.00"), decoded.getAmount());
+	}
+
+	@Test
+	@DisplayName("Should decode both formats regardless of the configured encoder")
+	void testCodecs_DetectFormat() {
+		// Given
+		TransactionEventCodecs binary = new TransactionEventCodecs(objectMapper, "binary");
+		TransactionEventCodecs json = new TransactionEventCodecs(objectMapper, "json");
+		TransactionEvent event = event();
+
+		// When / Then
+		assertEquals(event, json.decode(binary.encode(event)));
+		assertEquals(event, binary.decode(json.encode(event)));
+		assertThrows(IllegalArgumentException.class, () -> new TransactionEventCodecs(objectMapper, "avro"));
+	}
+
+	private TransactionEvent event() {
+		// Binary format mikro saniye hassasiyetindedir
+		LocalDateTime date = LocalDateTime.of(2026, 3, 14, 10, 15, 30, 123_456_000);
+		return new TransactionEvent("TXN-20260314-000042", "10017", 42L, TransactionType.YATIRMA,
+				Money.of("1250.75"), Money.of("10000.00"), Money.of("11250.75"), true, date);
+	}
+}
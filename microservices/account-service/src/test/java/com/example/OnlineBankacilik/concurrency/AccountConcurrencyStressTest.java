@@ -0,0 +1,193 @@
+package com.example.OnlineBankacilik.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.AccountResponseDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.repository.AccountRepository;
+import com.example.OnlineBankacilik.service.AccountService;
+import com.example.OnlineBankacilik.money.Money;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Çok thread'li stres testi: aynı hesaba eşzamanlı yatırma/çekme işlemlerinde
+ * hiçbir güncellemenin kaybolmadığını doğrular ve thread sayısına göre throughput raporlar.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@DisplayName("Account Concurrency Stress Tests")
+class AccountConcurrencyStressTest {
+
+	private static final int OPERATIONS_PER_THREAD = 200;
+	private static final BigDecimal STEP = new BigDecimal("1.00");
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private TransactionProducer transactionProducer;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Stress Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+	}
+
+	@Test
+	@DisplayName("Aynı hesaba eşzamanlı yatırma işlemlerinde güncelleme kaybolmamalı")
+	void concurrentDepositsOnSameAccount_NoLostUpdates() throws Exception {
+		for (int threads : new int[] { 1, 2, 4, 8 }) {
+			String accountNo = openAccount("1000.00");
+
+			long elapsedNanos = runConcurrently(threads, accountNo, (no, i) -> accountService.deposit(no, request()));
+
+			BigDecimal expected = new BigDecimal("1000.00")
+					.add(STEP.multiply(BigDecimal.valueOf((long) threads * OPERATIONS_PER_THREAD)));
+			assertThat(accountRepository.findById(accountNo).orElseThrow().getAmount().toBigDecimal()).isEqualByComparingTo(expected);
+			report("deposit", threads, elapsedNanos);
+		}
+	}
+
+	@Test
+	@DisplayName("Karışık yatırma/çekme işlemlerinde bakiye tutarlı kalmalı")
+	void concurrentMixedOperationsOnSameAccount_BalanceConsistent() throws Exception {
+		int threads = 8;
+		String accountNo = openAccount("1000.00");
+
+		long elapsedNanos = runConcurrently(threads, accountNo, (no, i) -> {
+			if (i % 2 == 0) {
+				accountService.deposit(no, request());
+			} else {
+				accountService.withdraw(no, request());
+			}
+		});
+
+		assertThat(accountRepository.findById(accountNo).orElseThrow().getAmount().toBigDecimal()).isEqualByComparingTo("1000.00");
+		report("mixed", threads, elapsedNanos);
+	}
+
+	@Test
+	@DisplayName("Farklı hesaplardaki işlemler paralel ilerlemeli")
+	void concurrentDepositsOnDistinctAccounts_AllApplied() throws Exception {
+		int threads = 8;
+		List<String> accountNos = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			accountNos.add(openAccount("0.01"));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (String accountNo : accountNos) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					accountService.deposit(accountNo, request());
+				}
+				return null;
+			}));
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		long elapsedNanos = System.nanoTime() - begin;
+		executor.shutdown();
+
+		BigDecimal expected = new BigDecimal("0.01").add(STEP.multiply(BigDecimal.valueOf(OPERATIONS_PER_THREAD)));
+		for (String accountNo : accountNos) {
+			assertThat(accountRepository.findById(accountNo).orElseThrow().getAmount().toBigDecimal()).isEqualByComparingTo(expected);
+		}
+		report("distinct-accounts", threads, elapsedNanos);
+	}
+
+	private long runConcurrently(int threads, String accountNo, AccountOperation operation) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					operation.apply(accountNo, i);
+				}
+				return null;
+			}));
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		long elapsed = System.nanoTime() - begin;
+		executor.shutdown();
+		return elapsed;
+	}
+
+	private String openAccount(String firstAmount) {
+		AccountRequestDto dto = new AccountRequestDto();
+		dto.setCustomerId(1L);
+		dto.setAccountType(AccountType.VADESIZ);
+		dto.setFirstAmount(new BigDecimal(firstAmount));
+		AccountResponseDto opened = accountService.accountOpen(dto);
+		return opened.getAccountNo();
+	}
+
+	private TransactionRequestDto request() {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(Money.of(STEP));
+		request.setExplanation("stress");
+		return request;
+	}
+
+	private void report(String scenario, int threads, long elapsedNanos) {
+		long operations = (long) threads * OPERATIONS_PER_THREAD;
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		log.info("Stres testi: senaryo={}, thread={}, işlem={}, süre={}s, throughput={} işlem/s", scenario, threads,
+				operations, String.format("%.3f", seconds), String.format("%.1f", operations / seconds));
+	}
+
+	@FunctionalInterface
+	private interface AccountOperation {
+		void apply(String accountNo, int index);
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.OnlineBankacilik.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("Account Lock Manager Unit Tests")
+class AccountLockManagerTest {
+
+	@Test
+	@DisplayName("Should count waits behind the same account only, not behind accounts sharing the stripe")
+	void testDrainContention_CountsSameAccountWaitsOnly() throws Exception {
+		// Given - tek stripe: tüm hesaplar aynı kilidi paylaşır
+		AccountLockManager lockManager = lockManager();
+		lockManager.trackContention(true);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread holder = Thread.ofPlatform().start(() -> lockManager.executeLocked("1001", () -> {
+			entered.countDown();
+			await(release);
+			return null;
+		}));
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		// When - aynı hesap ve stripe'ı paylaşan başka bir hesap kilidi bekler
+		Thread sameAccount = Thread.ofPlatform().start(() -> lockManager.executeLocked("1001", () -> null));
+		Thread otherAccount = Thread.ofPlatform().start(() -> lockManager.executeLocked("2002", () -> null));
+		awaitWaiting(sameAccount);
+		awaitWaiting(otherAccount);
+		release.countDown();
+		for (Thread thread : new Thread[] { holder, sameAccount, otherAccount }) {
+			thread.join(5000);
+		}
+
+		// Then
+		assertEquals(Map.of("1001", 1L), lockManager.drainContention());
+		assertTrue(lockManager.drainContention().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should not record contention while tracking is disabled")
+	void testDrainContention_TrackingDisabled_RecordsNothing() throws Exception {
+		// Given
+		AccountLockManager lockManager = lockManager();
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread holder = Thread.ofPlatform().start(() -> lockManager.executeLocked("1001", () -> {
+			entered.countDown();
+			await(release);
+			return null;
+		}));
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		// When
+		Thread waiter = Thread.ofPlatform().start(() -> lockManager.executeLocked("1001", () -> null));
+		awaitWaiting(waiter);
+		release.countDown();
+		holder.join(5000);
+		waiter.join(5000);
+
+		// Then
+		assertTrue(lockManager.drainContention().isEmpty());
+	}
+
+	@SuppressWarnings("unchecked")
+	private AccountLockManager lockManager() {
+		return new AccountLockManager(mock(PlatformTransactionManager.class), 1, 0, true, mock(ObjectProvider.class));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(Thread.State.WAITING, thread.getState());
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.OnlineBankacilik.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Virtual Thread Pinning Monitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+	// Yorum satırları (// ve javadoc *) hariç
+	private static final Pattern SYNCHRONIZED = Pattern.compile("^(?!\\s*(//|\\*)).*\\bsynchronized\\b", Pattern.MULTILINE);
+
+	private final Object monitor = new Object();
+	private SimpleMeterRegistry meterRegistry;
+	private VirtualThreadPinningMonitor pinningMonitor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		pinningMonitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+		pinningMonitor.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		pinningMonitor.stop();
+	}
+
+	@Test
+	@DisplayName("Should count a virtual thread blocking inside a synchronized block")
+	void testOnPinned_CountsPinnedVirtualThread() throws Exception {
+		// Given
+		Runnable pinned = () -> {
+			synchronized (monitor) {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+
+		// When
+		Thread.ofVirtual().start(pinned).join();
+
+		// Then - JFR stream event'leri yaklaşık saniyede bir flush eder
+		long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+		while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertTrue(pinnedCount() >= 1, "pinning event'i sayılmadı");
+	}
+
+	@Test
+	@DisplayName("Main sources should not use synchronized (pins virtual threads on JDK 21)")
+	void testMainSources_NoSynchronized() throws IOException {
+		// Given
+		Path sources = Path.of("src/main/java");
+
+		// When
+		List<Path> offenders;
+		try (Stream<Path> files = Files.walk(sources)) {
+			offenders = files.filter(path -> path.toString().endsWith(".java"))
+					.filter(path -> SYNCHRONIZED.matcher(read(path)).find())
+					.toList();
+		}
+
+		// Then - bloklayan kritik bölgeler için ReentrantLock kullanılmalı
+		assertTrue(offenders.isEmpty(), "synchronized kullanan sınıflar: " + offenders);
+	}
+
+	private double pinnedCount() {
+		return meterRegistry.get("jvm.threads.virtual.pinned").counter().count();
+	}
+
+	private static String read(Path path) {
+		try {
+			return Files.readString(path);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
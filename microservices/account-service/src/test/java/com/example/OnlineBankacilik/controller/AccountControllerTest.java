@@ -19,12 +19,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.example.OnlineBankacilik.dto.AccountPageDto;
 import com.example.OnlineBankacilik.dto.AccountRequestDto;
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
 import com.example.OnlineBankacilik.enums.AccountType;
 import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.idempotency.IdempotencyStore;
 import com.example.OnlineBankacilik.service.AccountService;
+import com.example.OnlineBankacilik.money.Money;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(AccountController.class)
@@ -37,6 +40,9 @@ class AccountControllerTest {
 	@MockBean
 	private AccountService accountService;
 
+	@MockBean
+	private IdempotencyStore idempotencyStore;
+
 	@Autowired
 	private ObjectMapper objectMapper;
 
@@ -63,7 +69,7 @@ class AccountControllerTest {
 		testAccountResponse.setOpeningDate(testDate);
 
 		testTransactionRequest = new TransactionRequestDto();
-		testTransactionRequest.setAmount(new BigDecimal("500.00"));
+		testTransactionRequest.setAmount(Money.of("500.00"));
 		testTransactionRequest.setExplanation("Test transaction");
 	}
 
@@ -104,7 +110,7 @@ class AccountControllerTest {
 	}
 
 	@Test
-	@DisplayName("GET /accounts - Should return all accounts")
+	@DisplayName("GET /accounts - Should return keyset page")
 	void testGetAllAccounts_Success() throws Exception {
 		// Given
 		AccountResponseDto account2 = new AccountResponseDto();
@@ -116,17 +122,18 @@ class AccountControllerTest {
 		account2.setOpeningDate(testDate);
 
 		List<AccountResponseDto> accounts = Arrays.asList(testAccountResponse, account2);
-		when(accountService.allAccounts()).thenReturn(accounts);
+		when(accountService.accountsPage("1000", 2)).thenReturn(new AccountPageDto(accounts, "1002"));
 
 		// When & Then
-		mockMvc.perform(get("/accounts"))
+		mockMvc.perform(get("/accounts").param("after", "1000").param("limit", "2"))
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$").isArray())
-				.andExpect(jsonPath("$.length()").value(2))
-				.andExpect(jsonPath("$[0].accountNo").value("1001"))
-				.andExpect(jsonPath("$[1].accountNo").value("1002"));
+				.andExpect(jsonPath("$.items").isArray())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].accountNo").value("1001"))
+				.andExpect(jsonPath("$.items[1].accountNo").value("1002"))
+				.andExpect(jsonPath("$.nextCursor").value("1002"));
 
-		verify(accountService, times(1)).allAccounts();
+		verify(accountService, times(1)).accountsPage("1000", 2);
 	}
 
 	@Test
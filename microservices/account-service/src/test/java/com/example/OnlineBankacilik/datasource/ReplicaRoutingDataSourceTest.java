@@ -0,0 +1,127 @@
+package com.example.OnlineBankacilik.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate writeTx;
+	private TransactionTemplate readTx;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = database("primary");
+		DataSource replica = database("replica");
+		DataSource routing = routing(primary, replica, Duration.ofMinutes(1));
+		jdbcTemplate = new JdbcTemplate(routing);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+		writeTx = new TransactionTemplate(transactionManager);
+		readTx = new TransactionTemplate(transactionManager);
+		readTx.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWrites.clear();
+	}
+
+	@Test
+	@DisplayName("readOnly transaction replica'ya, yazma transaction'ı ve transaction dışı sorgu primary'ye gitmeli")
+	void routesByTransactionReadOnlyFlag() {
+		// When & Then
+		assertThat(nodeIn(readTx)).isEqualTo("replica");
+		assertThat(node()).isEqualTo("primary");
+		assertThat(count("replica", "read")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Aynı istekte yazmadan sonra okuma primary'ye düşmeli; istek bitince replica'ya dönmeli")
+	void readYourWrites_FallsBackToPrimaryAfterWrite() {
+		// Given
+		assertThat(nodeIn(writeTx)).isEqualTo("primary");
+
+		// When & Then
+		assertThat(nodeIn(readTx)).isEqualTo("primary");
+		assertThat(count("primary", "read-your-writes")).isEqualTo(1);
+
+		ReadYourWrites.clear(); // ReadYourWritesFilter istek sonunda
+		assertThat(nodeIn(readTx)).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("Cache'e yüklenen okuma readOnly transaction'da da primary'ye gitmeli")
+	void primaryReads_RoutesReadOnlyTransactionToPrimary() {
+		// When
+		String node = readTx.execute(status -> PrimaryReads.call(this::node));
+
+		// Then
+		assertThat(node).isEqualTo("primary");
+		assertThat(count("primary", "cache-load")).isEqualTo(1);
+		assertThat(nodeIn(readTx)).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("Read-your-writes penceresi dolunca okuma replica'ya dönmeli")
+	void readYourWrites_ExpiresAfterWindow() throws InterruptedException {
+		// Given
+		DataSource routing = routing(database("primary"), database("replica"), Duration.ofMillis(20));
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+		TransactionTemplate shortRead = new TransactionTemplate(transactionManager);
+		shortRead.setReadOnly(true);
+		JdbcTemplate shortJdbc = new JdbcTemplate(routing);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> shortJdbc.execute("SELECT 1"));
+
+		// When
+		Thread.sleep(50);
+
+		// Then
+		String node = shortRead.execute(status -> shortJdbc.queryForObject("SELECT name FROM node", String.class));
+		assertThat(node).isEqualTo("replica");
+	}
+
+	private String nodeIn(TransactionTemplate tx) {
+		return tx.execute(status -> node());
+	}
+
+	private String node() {
+		return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	private double count(String target, String reason) {
+		return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+	}
+
+	private DataSource routing(DataSource primary, DataSource replica, Duration window) {
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, window, meterRegistry);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+	private static DataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+		jdbc.update("DELETE FROM node");
+		jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+		return dataSource;
+	}
+}
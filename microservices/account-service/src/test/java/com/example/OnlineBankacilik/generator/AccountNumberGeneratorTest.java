@@ -0,0 +1,152 @@
+package com.example.OnlineBankacilik.generator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("Account Number Generator Unit Tests")
+class AccountNumberGeneratorTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	private JdbcTemplate jdbcTemplate;
+	private AtomicLong sequence;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		sequence = new AtomicLong(1001);
+		when(jdbcTemplate.queryForList(contains("information_schema.sequences"), eq(String.class), any()))
+				.thenReturn(List.of(String.valueOf(BLOCK_SIZE)));
+		// Sequence INCREMENT BY blockSize davranışını simüle et
+		when(jdbcTemplate.queryForObject(contains("nextval"), eq(Long.class)))
+				.thenAnswer(invocation -> sequence.getAndAdd(BLOCK_SIZE));
+	}
+
+	@Test
+	@DisplayName("Should hit the database once per block")
+	void testNextAccountNo_OneRoundTripPerBlock() {
+		// Given
+		AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, BLOCK_SIZE, false);
+
+		// When
+		List<String> numbers = new ArrayList<>();
+		for (int i = 0; i < BLOCK_SIZE * 3; i++) {
+			numbers.add(generator.nextAccountNo());
+		}
+
+		// Then
+		assertEquals("1001", numbers.get(0));
+		assertEquals("1030", numbers.get(numbers.size() - 1));
+		verify(jdbcTemplate, times(3)).queryForObject(contains("nextval"), eq(Long.class));
+	}
+
+	@Test
+	@DisplayName("Should reserve all blocks of a bulk allocation in one round trip")
+	void testNextAccountNos_ReservesBlocksInOneRoundTrip() {
+		// Given
+		when(jdbcTemplate.queryForList(contains("generate_series"), eq(Long.class), eq(3)))
+				.thenAnswer(invocation -> List.of(sequence.getAndAdd(BLOCK_SIZE), sequence.getAndAdd(BLOCK_SIZE),
+						sequence.getAndAdd(BLOCK_SIZE)));
+		AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, BLOCK_SIZE, false);
+		generator.nextAccountNo(); // 1001; mevcut blokta 9 numara kalır
+
+		// When
+		List<String> numbers = generator.nextAccountNos(32);
+
+		// Then: 9 numara mevcut bloktan, 23 numara tek sorguda alınan 3 bloktan
+		assertEquals(32, numbers.size());
+		assertEquals("1002", numbers.get(0));
+		assertEquals("1033", numbers.get(31));
+		verify(jdbcTemplate, times(1)).queryForList(contains("generate_series"), eq(Long.class), eq(3));
+		// Son bloğun artanı tekil açılışlarda kullanılır
+		assertEquals("1034", generator.nextAccountNo());
+		verify(jdbcTemplate, times(1)).queryForObject(contains("nextval"), eq(Long.class));
+	}
+
+	@Test
+	@DisplayName("Should append a valid Luhn check digit")
+	void testNextAccountNo_AppendsCheckDigit() {
+		// Given
+		AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, BLOCK_SIZE, true);
+
+		// When
+		String accountNo = generator.nextAccountNo();
+
+		// Then
+		assertEquals("10017", accountNo);
+		assertTrue(AccountNumberGenerator.isValid(accountNo));
+		assertFalse(AccountNumberGenerator.isValid("10016"));
+	}
+
+	@Test
+	@DisplayName("Should hand out unique numbers under concurrency")
+	void testNextAccountNo_UniqueUnderConcurrency() throws Exception {
+		// Given
+		AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, BLOCK_SIZE, true);
+		Set<String> numbers = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// When
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < 500; i++) {
+					numbers.add(generator.nextAccountNo());
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// Then
+		assertEquals(4000, numbers.size());
+		assertTrue(numbers.stream().allMatch(AccountNumberGenerator::isValid));
+	}
+
+	@Test
+	@DisplayName("Should create sequence above existing max account number when missing")
+	void testNextAccountNo_CreatesSequenceWhenMissing() {
+		// Given
+		when(jdbcTemplate.queryForList(contains("information_schema.sequences"), eq(String.class), any()))
+				.thenReturn(List.of());
+		when(jdbcTemplate.queryForObject(contains("MAX"), eq(Long.class))).thenReturn(5000L);
+		AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, BLOCK_SIZE, false);
+
+		// When
+		generator.nextAccountNo();
+
+		// Then
+		verify(jdbcTemplate, times(1)).execute("CREATE SEQUENCE IF NOT EXISTS account_no_seq START WITH 5001 INCREMENT BY 10");
+	}
+
+	@Test
+	@DisplayName("Should refuse to allocate when the sequence increment differs from the block size")
+	void testVerifySequence_RejectsIncrementMismatch() {
+		// Given: sequence eski blok boyutuyla (5) oluşturulmuş, konfigürasyon 10'a yükseltilmiş
+		when(jdbcTemplate.queryForList(contains("information_schema.sequences"), eq(String.class), any()))
+				.thenReturn(List.of("5"));
+		AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, BLOCK_SIZE, false);
+
+		// When & Then
+		assertThrows(IllegalStateException.class, generator::verifySequence);
+		verify(jdbcTemplate, never()).queryForObject(contains("nextval"), eq(Long.class));
+		verify(jdbcTemplate, never()).queryForObject(contains("MAX"), eq(Long.class));
+	}
+}
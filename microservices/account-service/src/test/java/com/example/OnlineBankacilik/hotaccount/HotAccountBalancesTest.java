@@ -0,0 +1,200 @@
+package com.example.OnlineBankacilik.hotaccount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.service.AccountService;
+
+/**
+ * Sıcak hesap testleri (H2): slot'lara eşzamanlı yatırma, çekmede tutarlı toplam, olay akışıyla tutarlılık
+ * ve kilit çekişmesine göre sıcak moda alma / normal moda döndürme.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"app.account.hot.enabled=true", "app.account.hot.slots=4", "app.account.hot.promote-threshold=3",
+		"app.account.hot.demote-threshold=5", "app.account.hot.evaluation-interval=1h",
+		"app.account.hot.sweep-interval=1h" })
+@ActiveProfiles("test")
+@DisplayName("Hot Account Balances Tests")
+class HotAccountBalancesTest {
+
+	@Autowired
+	private HotAccountBalances hotAccounts;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountLockManager accountLockManager;
+
+	@Autowired
+	private AccountEventStore accountEventStore;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Hot Account Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+		jdbcTemplate.update("DELETE FROM transaction_outbox");
+	}
+
+	@Test
+	@DisplayName("Sıcak hesaba yatırmalar slot'lara yazılmalı, çekme slot'ları katıp tutarlı toplamla kontrol etmeli")
+	void deposits_GoToSlots_WithdrawChecksConsolidatedBalance() throws Exception {
+		// Given
+		String accountNo = openAccount("100.00");
+		assertThat(hotAccounts.promote(accountNo)).isTrue();
+
+		// When
+		deposit(accountNo, 8, 25);
+
+		// Then - hesap satırına dokunulmaz, okumalar slot'ları toplar
+		assertThat(mainBalance(accountNo)).isEqualByComparingTo("100.00");
+		assertThat(slotTotal(accountNo)).isEqualByComparingTo("200.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_balance_slots WHERE account_no = ? "
+				+ "AND amount > 0", Integer.class, accountNo)).isGreaterThan(1);
+		// Sıcak yatırmalar account cache'ini güncellemez, siler; okuma toplamı tek sorguda yükler
+		assertThat(cacheManager.getCache("account").get(accountNo)).isNull();
+		assertThat(accountService.getAccount(accountNo).getAmount()).isEqualByComparingTo("300.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox", Integer.class))
+				.isEqualTo(200);
+
+		// Hesap satırındaki bakiyeden büyük, toplamdan küçük çekme
+		accountService.withdraw(accountNo, request("250.00"));
+		assertThat(mainBalance(accountNo)).isEqualByComparingTo("50.00");
+		assertThat(slotTotal(accountNo)).isEqualByComparingTo("0.00");
+		assertThatThrownBy(() -> accountService.withdraw(accountNo, request("60.00")))
+				.isInstanceOf(InsufficientBalanceException.class);
+		assertThat(accountEventStore.currentBalance(accountNo).orElseThrow().balance()).isEqualTo(Money.of("50.00"));
+	}
+
+	@Test
+	@DisplayName("Başka node'un sıcak moda aldığı hesapta okuma ve çekme slot'ları yerel görünümden bağımsız saymalı")
+	void slotsOfRemotelyPromotedAccount_AreCountedWithoutLocalView() {
+		// Given - slot'lar başka bir node'da açılıp yatırma aldı; bu node'un görünümü henüz yenilenmedi
+		String accountNo = openAccount("100.00");
+		for (int slot = 0; slot < 4; slot++) {
+			jdbcTemplate.update("INSERT INTO account_balance_slots (account_no, slot, amount, deposits) "
+					+ "VALUES (?, ?, 50.00, 1)", accountNo, slot);
+		}
+		cacheManager.getCache("account").evict(accountNo);
+
+		// When / Then
+		assertThat(hotAccounts.isHot(accountNo)).isFalse();
+		assertThat(accountService.getAccount(accountNo).getAmount()).isEqualByComparingTo("300.00");
+		accountService.withdraw(accountNo, request("250.00"));
+		assertThat(mainBalance(accountNo)).isEqualByComparingTo("50.00");
+		assertThat(slotTotal(accountNo)).isEqualByComparingTo("0.00");
+		assertThat(accountEventStore.currentBalance(accountNo).orElseThrow().balance()).isEqualTo(Money.of("50.00"));
+	}
+
+	@Test
+	@DisplayName("Kilit çekişmesi hesabı sıcak moda almalı, yatırması azalan hesap bakiyeyle normal moda dönmeli")
+	void evaluate_PromotesContendedAccount_DemotesQuietAccount() throws Exception {
+		// Given
+		String accountNo = openAccount("100.00");
+		accountLockManager.drainContention();
+		deposit(accountNo, 8, 20);
+
+		// When
+		hotAccounts.evaluate();
+
+		// Then
+		assertThat(hotAccounts.isHot(accountNo)).isTrue();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_balance_slots WHERE account_no = ?",
+				Integer.class, accountNo)).isEqualTo(4);
+
+		// When - sıcak modda az yatırma
+		deposit(accountNo, 1, 2);
+		hotAccounts.evaluate();
+
+		// Then
+		assertThat(hotAccounts.isHot(accountNo)).isFalse();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_balance_slots WHERE account_no = ?",
+				Integer.class, accountNo)).isZero();
+		assertThat(mainBalance(accountNo)).isEqualByComparingTo("262.00");
+		assertThat(accountEventStore.currentBalance(accountNo).orElseThrow().balance()).isEqualTo(Money.of("262.00"));
+	}
+
+	private void deposit(String accountNo, int threads, int perThread) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					accountService.deposit(accountNo, request("1.00"));
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+	}
+
+	private TransactionRequestDto request(String amount) {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(Money.of(amount));
+		return request;
+	}
+
+	private String openAccount(String firstAmount) {
+		AccountRequestDto request = new AccountRequestDto();
+		request.setCustomerId(1L);
+		request.setAccountType(AccountType.VADESIZ);
+		request.setFirstAmount(new BigDecimal(firstAmount));
+		return accountService.accountOpen(request).getAccountNo();
+	}
+
+	private BigDecimal mainBalance(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT amount FROM accounts WHERE account_no = ?", BigDecimal.class,
+				accountNo);
+	}
+
+	private BigDecimal slotTotal(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM account_balance_slots "
+				+ "WHERE account_no = ?", BigDecimal.class, accountNo);
+	}
+}
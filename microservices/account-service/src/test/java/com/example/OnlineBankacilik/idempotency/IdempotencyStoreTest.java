@@ -0,0 +1,156 @@
+package com.example.OnlineBankacilik.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.AccountResponseDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.exception.IdempotencyKeyConflictException;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.service.AccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Idempotency-Key testleri (H2): tekrar istekte saklanan cevap, farklı istekle anahtar kullanımı,
+ * sıcak katmanı boş bir node'da (restart) DB kaydından tekrar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@DisplayName("Idempotency Store Tests")
+class IdempotencyStoreTest {
+
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Idempotency Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+	}
+
+	@Test
+	@DisplayName("Aynı anahtarla tekrar istek işlemi yeniden yapmamalı, ilk cevabı dönmeli")
+	void execute_ReplaysOriginalResponse() {
+		// Given
+		String accountNo = openAccount("100.00");
+		TransactionRequestDto request = request("25.00");
+
+		// When
+		AccountResponseDto first = deposit("key-replay-1", accountNo, request);
+		AccountResponseDto second = deposit("key-replay-1", accountNo, request);
+
+		// Then
+		assertThat(first.getAmount()).isEqualByComparingTo("125.00");
+		assertThat(second.getAmount()).isEqualByComparingTo("125.00");
+		assertThat(balance(accountNo)).isEqualByComparingTo("125.00");
+		assertThat(eventCount(accountNo)).isEqualTo(1);
+
+		// Aynı anahtar farklı tutar ya da işlem tipiyle kullanılamaz
+		assertThatThrownBy(() -> deposit("key-replay-1", accountNo, request("30.00")))
+				.isInstanceOf(IdempotencyKeyConflictException.class);
+		assertThatThrownBy(() -> idempotencyStore.execute("key-replay-1", TransactionType.CEKME, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.withdraw(accountNo, request, "key-replay-1")))
+				.isInstanceOf(IdempotencyKeyConflictException.class);
+		assertThat(balance(accountNo)).isEqualByComparingTo("125.00");
+	}
+
+	@Test
+	@DisplayName("Sıcak katmanda olmayan tekrar istek DB kaydıyla yakalanmalı, işlem geri alınmalı")
+	void execute_ReplaysFromDatabaseOnColdNode() {
+		// Given
+		String accountNo = openAccount("100.00");
+		TransactionRequestDto request = request("40.00");
+		AccountResponseDto first = idempotencyStore.execute("key-cold-1", TransactionType.CEKME, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.withdraw(accountNo, request, "key-cold-1"));
+
+		// When: restart sonrası / başka node (boş sıcak katman)
+		IdempotencyStore coldNode = new IdempotencyStore(jdbcTemplate, objectMapper, new SimpleMeterRegistry(), 100,
+				Duration.ofHours(1));
+		AccountResponseDto replayed = coldNode.execute("key-cold-1", TransactionType.CEKME, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.withdraw(accountNo, request, "key-cold-1"));
+
+		// Then
+		assertThat(replayed.getAmount()).isEqualByComparingTo("60.00");
+		assertThat(replayed.getAccountNo()).isEqualTo(first.getAccountNo());
+		assertThat(replayed.getOpeningDate()).isEqualTo(first.getOpeningDate());
+		assertThat(balance(accountNo)).isEqualByComparingTo("60.00");
+		assertThat(eventCount(accountNo)).isEqualTo(1);
+		// Doğrudan servis çağrısında anahtar çakışması tüm işlemi geri alır
+		assertThatThrownBy(() -> accountService.withdraw(accountNo, request, "key-cold-1"))
+				.isInstanceOf(DuplicateKeyException.class);
+		assertThat(balance(accountNo)).isEqualByComparingTo("60.00");
+	}
+
+	private AccountResponseDto deposit(String key, String accountNo, TransactionRequestDto request) {
+		return idempotencyStore.execute(key, TransactionType.YATIRMA, accountNo, request.getAmount(),
+				AccountResponseDto.class, () -> accountService.deposit(accountNo, request, key));
+	}
+
+	private String openAccount(String amount) {
+		AccountRequestDto dto = new AccountRequestDto();
+		dto.setCustomerId(1L);
+		dto.setAccountType(AccountType.VADESIZ);
+		dto.setFirstAmount(new BigDecimal(amount));
+		return accountService.accountOpen(dto).getAccountNo();
+	}
+
+	private TransactionRequestDto request(String amount) {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(Money.of(amount));
+		request.setExplanation("idempotency");
+		return request;
+	}
+
+	private BigDecimal balance(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT amount FROM accounts WHERE account_no = ?", BigDecimal.class,
+				accountNo);
+	}
+
+	private int eventCount(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_events WHERE account_no = ?", Integer.class,
+				accountNo);
+	}
+}
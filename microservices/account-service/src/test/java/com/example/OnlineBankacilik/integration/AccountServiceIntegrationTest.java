@@ -7,6 +7,7 @@ import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.CustomerResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
 import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.money.Money;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,7 +53,7 @@ class AccountServiceIntegrationTest {
 
     // Kafka yok; consumer bean'i KafkaTemplate ister. Context yüklenirken patlamasın diye mock'luyoruz.
     @MockBean
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Test
     @DisplayName("Hesap aç + para yatır + hesabı getir - Tam uçtan uca akış")
@@ -93,7 +94,7 @@ class AccountServiceIntegrationTest {
 
         // 2) Para yatırma
         TransactionRequestDto depositRequest = new TransactionRequestDto();
-        depositRequest.setAmount(new BigDecimal("500.00"));
+        depositRequest.setAmount(Money.of("500.00"));
         depositRequest.setExplanation("Integration deposit");
 
         mockMvc.perform(post("/accounts/{accountNo}/deposit", accountNo)
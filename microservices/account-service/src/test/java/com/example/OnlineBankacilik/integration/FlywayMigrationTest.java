@@ -0,0 +1,89 @@
+package com.example.OnlineBankacilik.integration;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migration testi: şema Hibernate'ten değil Flyway'den (V1..Vn) gelir, entity eşlemesi ddl-auto: validate ile
+ * doğrulanır. Docker yoksa test atlanır.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.table=flyway_schema_history_account",
+        "spring.flyway.placeholders.accountNoBlockSize=100",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "app.account.number.block-size=100",
+        "app.account.maturity.scheduler.enabled=false"
+})
+@ActiveProfiles("integration")
+@DisplayName("Account Service Flyway Migration Test")
+class FlywayMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CustomerServiceClient customerServiceClient;
+
+    @MockBean
+    private TransactionProducer transactionProducer;
+
+    @MockBean
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Test
+    @DisplayName("Tüm migration'lar uygulanır ve şema entity'lerle uyumludur")
+    void migrate_AllVersionsApplied_SchemaValidates() {
+        // Given - context ayağa kalktı: Flyway migrate + Hibernate validate başarılı
+
+        // When
+        MigrationInfo[] applied = flyway.info().applied();
+        MigrationInfo[] pending = flyway.info().pending();
+
+        // Then
+        assertThat(pending).isEmpty();
+        assertThat(applied).isNotEmpty().allMatch(info -> info.getState().isApplied() && !info.getState().isFailed());
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .contains("1", "4", "9", "10", "11");
+    }
+
+    @Test
+    @DisplayName("V4 ${accountNoBlockSize} placeholder'ı çözülür, sequence blok boyutuyla artar")
+    void migrate_AccountNoSequence_UsesBlockSizePlaceholder() {
+        // Given - V4 sequence'i placeholder ile oluşturdu
+
+        // When
+        Long increment = jdbcTemplate.queryForObject(
+                "SELECT increment::bigint FROM information_schema.sequences WHERE sequence_name = 'account_no_seq'",
+                Long.class);
+
+        // Then
+        assertThat(increment).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.OnlineBankacilik.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+
+import com.example.OnlineBankacilik.Kafka.TransactionProducer;
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.AccountResponseDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.exception.IdempotencyKeyConflictException;
+import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.idempotency.IdempotencyStore;
+import com.example.OnlineBankacilik.money.Money;
+import com.example.OnlineBankacilik.repository.AccountRepository;
+import com.example.OnlineBankacilik.service.AccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Ledger modunda AccountService: yatırma/çekme ledger'dan geçer, DB journal'dan asenkron güncellenir,
+ * DB'ye doğrudan yazan yollar (kapatma) ledger'ı DB'ye işletip durdurduktan sonra çalışır.
+ * Idempotency-Key ledger yolunda işlemden önce ayrılır, journal onayından sonra tamamlanır.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"app.account.ledger.enabled=true",
+		"app.account.ledger.partitions=2",
+		"app.account.ledger.journal.fsync=false",
+		"app.account.ledger.journal.directory=target/ledger-journal-test/${random.uuid}" })
+@ActiveProfiles("test")
+@DisplayName("Ledger Mode AccountService Tests")
+class LedgerAccountServiceTest {
+
+	private static final int THREADS = 4;
+	private static final int OPERATIONS_PER_THREAD = 100;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@SpyBean
+	private IdempotencyStore idempotencyStore;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private TransactionProducer transactionProducer;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Ledger Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+	}
+
+	@Test
+	@DisplayName("Eşzamanlı işlemler ledger'da kaybolmamalı; kapatma öncesi DB ve event'ler yetişmeli")
+	@SuppressWarnings("unchecked")
+	void concurrentPostings_ThenClose_DbMatchesLedger() throws Exception {
+		// Given
+		String accountNo = openAccount("100.00");
+
+		// When
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					accountService.deposit(accountNo, request("2.00"));
+					accountService.withdraw(accountNo, request("1.00"));
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		// Then: okuma ledger'daki onaylanmış bakiyeyi görür
+		BigDecimal expected = new BigDecimal("100.00").add(BigDecimal.valueOf(THREADS * OPERATIONS_PER_THREAD));
+		assertThat(accountService.getAccount(accountNo).getAmount()).isEqualByComparingTo(expected);
+
+		// Kapatma partition'ı DB'ye işletir; kapanan hesabın DB bakiyesi ledger ile aynıdır
+		accountService.closeAccount(accountNo);
+		assertThat(accountRepository.findById(accountNo).orElseThrow().getAmount().toBigDecimal())
+				.isEqualByComparingTo(expected);
+		ArgumentCaptor<List<TransactionEvent>> events = ArgumentCaptor.forClass(List.class);
+		verify(transactionProducer, atLeastOnce()).publishAll(events.capture());
+		assertThat(events.getAllValues().stream().flatMap(List::stream)
+				.filter(event -> event.getAccountNo().equals(accountNo))).hasSize(THREADS * OPERATIONS_PER_THREAD * 2);
+
+		// Kapatmadan sonra ledger hesabı DB'den yeniden yükler
+		assertThatThrownBy(() -> accountService.deposit(accountNo, request("1.00")))
+				.hasMessage("Kapalı hesaba işlem yapılamaz");
+	}
+
+	@Test
+	@DisplayName("Anahtar tamamlanamazsa tekrar istek 409 almalı, ledger işlemi ikinci kez uygulamamalı")
+	void idempotencyKey_CompleteFails_RetryDoesNotPostTwice() {
+		// Given
+		String accountNo = openAccount("100.00");
+		TransactionRequestDto request = request("25.00");
+		IdempotencyStore target = AopTestUtils.getUltimateTargetObject(idempotencyStore);
+		doThrow(new DataAccessResourceFailureException("idempotency_keys yazılamadı")).when(target)
+				.complete(eq("ledger-key-1"), any());
+
+		// When: ilk istek journal'a işlenir, anahtar PENDING kalır
+		AccountResponseDto first = idempotencyStore.execute("ledger-key-1", TransactionType.YATIRMA, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.deposit(accountNo, request, "ledger-key-1"));
+
+		// Then: başka node'a düşen tekrar istek yeniden işlenmez
+		IdempotencyStore otherNode = new IdempotencyStore(jdbcTemplate, objectMapper, new SimpleMeterRegistry(), 100,
+				Duration.ofHours(1));
+		assertThatThrownBy(() -> otherNode.execute("ledger-key-1", TransactionType.YATIRMA, accountNo,
+				request.getAmount(), AccountResponseDto.class,
+				() -> accountService.deposit(accountNo, request, "ledger-key-1")))
+				.isInstanceOf(IdempotencyKeyConflictException.class);
+		assertThat(first.getAmount()).isEqualByComparingTo("125.00");
+		assertThat(accountService.getAccount(accountNo).getAmount()).isEqualByComparingTo("125.00");
+	}
+
+	@Test
+	@DisplayName("Ledger işlemi kesin başarısız olursa anahtar ayırması silinmeli")
+	void idempotencyKey_PostingRejected_ReleasesReservation() {
+		// Given
+		String accountNo = openAccount("100.00");
+
+		// When
+		assertThatThrownBy(() -> accountService.withdraw(accountNo, request("500.00"), "ledger-key-2"))
+				.isInstanceOf(InsufficientBalanceException.class);
+
+		// Then: aynı anahtarla düzeltilmiş istek işlenebilir
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = ?",
+				Integer.class, "ledger-key-2")).isZero();
+		assertThat(accountService.withdraw(accountNo, request("50.00"), "ledger-key-2").getAmount())
+				.isEqualByComparingTo("50.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT status FROM idempotency_keys WHERE idempotency_key = ?",
+				String.class, "ledger-key-2")).isEqualTo("COMPLETED");
+	}
+
+	private String openAccount(String firstAmount) {
+		AccountRequestDto dto = new AccountRequestDto();
+		dto.setCustomerId(1L);
+		dto.setAccountType(AccountType.VADESIZ);
+		dto.setFirstAmount(new BigDecimal(firstAmount));
+		return accountService.accountOpen(dto).getAccountNo();
+	}
+
+	private TransactionRequestDto request(String amount) {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(Money.of(amount));
+		request.setExplanation("ledger");
+		return request;
+	}
+}
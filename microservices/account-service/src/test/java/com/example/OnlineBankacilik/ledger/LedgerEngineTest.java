@@ -0,0 +1,280 @@
+package com.example.OnlineBankacilik.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.example.OnlineBankacilik.entity.Account;
+import com.example.OnlineBankacilik.entity.FixedDepositAccount;
+import com.example.OnlineBankacilik.exception.AccountNotFoundException;
+import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.money.Money;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Ledger Engine Tests")
+class LedgerEngineTest {
+
+	@TempDir
+	Path journalDir;
+
+	private final InMemoryLedgerStore store = new InMemoryLedgerStore();
+	private LedgerEngine engine;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (engine != null) {
+			engine.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("Partition'lara dağılan eşzamanlı işlemler kaybolmamalı, DB aynı bakiyeye ulaşmalı")
+	void concurrentPostings_MemoryAndDbConverge() throws Exception {
+		// Given
+		int accounts = 8;
+		for (int i = 0; i < accounts; i++) {
+			store.add(account(1000 + i, "100.00"));
+		}
+		start(4);
+		AtomicLongArray expected = new AtomicLongArray(accounts);
+		for (int i = 0; i < accounts; i++) {
+			expected.set(i, 10_000);
+		}
+
+		// When
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			futures.add(pool.submit(() -> {
+				for (int i = 0; i < 250; i++) {
+					int index = ThreadLocalRandom.current().nextInt(accounts);
+					String accountNo = String.valueOf(1000 + index);
+					if (i % 5 == 4) {
+						try {
+							engine.withdraw(accountNo, Money.ofMinor(150));
+							expected.addAndGet(index, -150);
+						} catch (InsufficientBalanceException e) {
+							// bakiye yetmediyse hiçbir etki olmamalı
+						}
+					} else {
+						engine.deposit(accountNo, Money.ofMinor(100));
+						expected.addAndGet(index, 100);
+					}
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		pool.shutdown();
+		engine.exclusiveAll(() -> null); // DB'nin journal'a yetişmesini bekler
+
+		// Then
+		for (int i = 0; i < accounts; i++) {
+			String accountNo = String.valueOf(1000 + i);
+			assertThat(store.balance(accountNo)).isEqualTo(expected.get(i));
+		}
+		assertThat(store.events.get()).isEqualTo(store.totalCheckpoint());
+	}
+
+	@Test
+	@DisplayName("Yetersiz bakiye, kapalı ve olmayan hesap reddedilmeli; bakiye değişmemeli")
+	void rejectedPostings_LeaveBalanceUnchanged() throws Exception {
+		// Given
+		store.add(account(2001, "10.00"));
+		Account closed = account(2002, "10.00");
+		closed.setActive(false);
+		store.add(closed);
+		start(2);
+
+		// When & Then
+		assertThatThrownBy(() -> engine.withdraw("2001", Money.of("10.01")))
+				.isInstanceOf(InsufficientBalanceException.class);
+		assertThatThrownBy(() -> engine.deposit("2002", Money.of("1.00"))).hasMessage("Kapalı hesaba işlem yapılamaz");
+		assertThatThrownBy(() -> engine.deposit("9999", Money.of("1.00"))).isInstanceOf(AccountNotFoundException.class);
+		assertThat(engine.supports("ACC-1")).isFalse();
+		assertThat(engine.supports("0123")).isFalse();
+
+		assertThat(engine.withdraw("2001", Money.of("10.00")).balance()).isEqualTo(Money.ZERO);
+		assertThat(engine.residentBalance("2001")).contains(Money.ZERO);
+		assertThat(engine.residentBalance("2002")).contains(Money.of("10.00"));
+		assertThat(engine.residentBalance("2003")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Onaylanmış ama DB'ye yazılamamış işlemler yeniden başlatmada journal'dan uygulanmalı")
+	void acknowledgedPostings_ReplayedFromJournalAfterRestart() throws Exception {
+		// Given: DB erişilemiyor, işlemler yalnızca journal'da
+		store.add(account(3001, "0.00"));
+		store.failing = true;
+		start(1);
+		for (int i = 0; i < 200; i++) {
+			engine.deposit("3001", Money.ofMinor(1));
+		}
+		engine.stop();
+		engine = null;
+		assertThat(store.balance("3001")).isZero();
+
+		// When
+		store.failing = false;
+		start(1);
+
+		// Then
+		assertThat(store.balance("3001")).isEqualTo(200);
+		assertThat(store.checkpoints.get(0)).isEqualTo(200);
+		assertThat(engine.deposit("3001", Money.ofMinor(1)).balance()).isEqualTo(Money.ofMinor(201));
+		engine.exclusiveAll(() -> null);
+		assertThat(store.checkpoints.get(0)).isEqualTo(201);
+		assertThat(segments(0)).hasSizeLessThanOrEqualTo(2); // uygulanmış segment'ler silinir
+	}
+
+	@Test
+	@DisplayName("Journal sonundaki yarım kayıt açılışta kesilmeli")
+	void tornJournalTail_TruncatedOnRecovery() throws Exception {
+		// Given
+		store.add(account(4001, "0.00"));
+		store.failing = true;
+		start(1);
+		for (int i = 0; i < 3; i++) {
+			engine.deposit("4001", Money.ofMinor(5));
+		}
+		engine.stop();
+		engine = null;
+		List<Path> files = segments(0);
+		Files.write(files.get(files.size() - 1), new byte[LedgerJournal.RECORD_SIZE - 7], StandardOpenOption.APPEND);
+
+		// When
+		store.failing = false;
+		start(1);
+
+		// Then
+		assertThat(store.balance("4001")).isEqualTo(15);
+		assertThat(engine.deposit("4001", Money.ofMinor(5)).balance()).isEqualTo(Money.ofMinor(20));
+		engine.exclusiveAll(() -> null);
+		assertThat(store.balance("4001")).isEqualTo(20);
+	}
+
+	@Test
+	@DisplayName("exclusive DB'yi güncelleyip hesabı defterden çıkarmalı; dış yazım sonraki işlemde görülmeli")
+	void exclusive_ReloadsAccountAfterExternalWrite() throws Exception {
+		// Given
+		store.add(account(5001, "1.00"));
+		start(2);
+		engine.deposit("5001", Money.of("1.00"));
+
+		// When: DB yolu (örn. faiz) hesabı doğrudan günceller
+		long seen = engine.exclusive(List.of("5001"), () -> {
+			long balance = store.balance("5001");
+			store.accounts.get("5001").setAmount(Money.ofMinor(balance + 1_000));
+			return balance;
+		});
+
+		// Then
+		assertThat(seen).isEqualTo(200);
+		assertThat(engine.deposit("5001", Money.of("1.00")).balance()).isEqualTo(Money.of("13.00"));
+	}
+
+	private void start(int partitions) throws IOException {
+		engine = new LedgerEngine(store, new SimpleMeterRegistry(), partitions, 1024, 64, Duration.ofSeconds(5),
+				journalDir.toString(), true, DataSize.ofBytes(LedgerJournal.RECORD_SIZE * 50L), 100);
+		engine.start();
+	}
+
+	private List<Path> segments(int partition) throws IOException {
+		try (Stream<Path> files = Files.list(journalDir.resolve("partition-" + partition))) {
+			return files.sorted().toList();
+		}
+	}
+
+	private static Account account(long accountNo, String amount) {
+		FixedDepositAccount account = new FixedDepositAccount();
+		account.setAccountNo(String.valueOf(accountNo));
+		account.setCustomerId(1L);
+		account.setAmount(Money.of(amount));
+		return account;
+	}
+
+	/**
+	 * JdbcLedgerStore sözleşmesini bellekte uygular; checkpoint kesintisiz ilerlemek zorundadır
+	 */
+	static class InMemoryLedgerStore implements LedgerStore {
+
+		final Map<String, Account> accounts = new ConcurrentHashMap<>();
+		final Map<Integer, Long> checkpoints = new ConcurrentHashMap<>();
+		final AtomicInteger events = new AtomicInteger();
+		volatile boolean failing;
+
+		void add(Account account) {
+			accounts.put(account.getAccountNo(), account);
+		}
+
+		long balance(String accountNo) {
+			return accounts.get(accountNo).getAmount().minorUnits();
+		}
+
+		long totalCheckpoint() {
+			return checkpoints.values().stream().mapToLong(Long::longValue).sum();
+		}
+
+		@Override
+		public Optional<Account> load(String accountNo) {
+			Account stored = accounts.get(accountNo);
+			if (stored == null) {
+				return Optional.empty();
+			}
+			FixedDepositAccount copy = new FixedDepositAccount();
+			copy.setAccountNo(stored.getAccountNo());
+			copy.setCustomerId(stored.getCustomerId());
+			copy.setAmount(stored.getAmount());
+			copy.setActive(stored.isActive());
+			return Optional.of(copy);
+		}
+
+		@Override
+		public long checkpoint(int partition) {
+			return checkpoints.computeIfAbsent(partition, p -> 0L);
+		}
+
+		@Override
+		public void apply(int partition, List<LedgerEntry> entries) {
+			if (failing) {
+				throw new IllegalStateException("DB erişilemiyor");
+			}
+			long applied = checkpoints.getOrDefault(partition, 0L);
+			if (entries.get(0).seq() != applied + 1) {
+				throw new IllegalStateException("Checkpoint sırası bozuk: " + applied + " -> " + entries.get(0).seq());
+			}
+			for (LedgerEntry entry : entries) {
+				Account account = accounts.get(entry.accountNo());
+				account.setAmount(Money.ofMinor(account.getAmount().minorUnits() + entry.delta()));
+			}
+			events.addAndGet(entries.size());
+			checkpoints.put(partition, entries.get(entries.size() - 1).seq());
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.OnlineBankacilik.money;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("Should add, subtract and compare in minor units")
+	void testArithmetic() {
+		// Given
+		Money balance = Money.of("1000.00");
+
+		// When
+		Money result = balance.plus(Money.of("250.75")).minus(Money.of("0.05"));
+
+		// Then
+		assertEquals(125070L, result.minorUnits());
+		assertEquals(new BigDecimal("1250.70"), result.toBigDecimal());
+		assertTrue(balance.isLessThan(result));
+		assertTrue(Money.ZERO.minus(Money.ofMinor(1)).isNegative());
+		assertEquals(Money.of(new BigDecimal("5")), Money.of("5.000"));
+	}
+
+	@Test
+	@DisplayName("Should reject sub-cent amounts and overflow instead of rounding or wrapping")
+	void testRejectsInvalidValues() {
+		// Given
+		Money max = Money.ofMinor(Long.MAX_VALUE);
+
+		// When / Then
+		assertThrows(ArithmeticException.class, () -> Money.of("10.005"));
+		assertThrows(ArithmeticException.class, () -> Money.of("123456789012345678901234.00"));
+		assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+		assertThrows(ArithmeticException.class, () -> Money.ofScaled(1, 3));
+		assertEquals(Money.of("15.00"), Money.ofScaled(15, 0));
+	}
+
+	@Test
+	@DisplayName("Should round rate products like BigDecimal setScale(2)")
+	void testMultiply_MatchesBigDecimal() {
+		// Given
+		String[] amounts = { "1000.00", "0.01", "0.05", "1234.57", "-1234.57", "99999999.99" };
+		String[] rates = { "0.05", "0.0375", "0.123456789", "1.5", "0" };
+
+		for (String amount : amounts) {
+			for (String rate : rates) {
+				for (RoundingMode rounding : new RoundingMode[] { RoundingMode.HALF_UP, RoundingMode.HALF_EVEN,
+						RoundingMode.DOWN, RoundingMode.FLOOR }) {
+					// When
+					Money result = Money.of(amount).multiply(new BigDecimal(rate), rounding);
+
+					// Then
+					BigDecimal expected = new BigDecimal(amount).multiply(new BigDecimal(rate)).setScale(2, rounding);
+					assertEquals(expected, result.toBigDecimal(), amount + " x " + rate + " " + rounding);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should fall back to BigDecimal when the product does not fit in a long")
+	void testMultiply_LargeProductFallback() {
+		// Given
+		Money amount = Money.ofMinor(Long.MAX_VALUE / 10);
+
+		// When
+		Money result = amount.multiply(new BigDecimal("0.5"), RoundingMode.HALF_UP);
+
+		// Then
+		assertEquals(amount.toBigDecimal().multiply(new BigDecimal("0.5")).setScale(2, RoundingMode.HALF_UP),
+				result.toBigDecimal());
+	}
+
+	@Test
+	@DisplayName("Should keep the JSON number format and reject sub-cent input")
+	void testJson_RoundTrip() throws Exception {
+		// Given
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(Money.of("1250.70"));
+
+		// When
+		String json = objectMapper.writeValueAsString(request);
+		TransactionRequestDto parsed = objectMapper.readValue("{\"amount\":\"99.9\"}", TransactionRequestDto.class);
+
+		// Then
+		assertTrue(json.contains("\"amount\":1250.70"), json);
+		assertEquals(request.getAmount(), objectMapper.readValue(json, TransactionRequestDto.class).getAmount());
+		assertEquals(Money.of("99.90"), parsed.getAmount());
+		assertThrows(InvalidFormatException.class,
+				() -> objectMapper.readValue("{\"amount\":10.005}", TransactionRequestDto.class));
+	}
+}
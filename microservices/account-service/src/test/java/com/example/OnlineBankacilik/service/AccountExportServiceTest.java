@@ -0,0 +1,89 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.AccountResponseDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON dışa aktarımı testi (H2): her hesap tek satır, account_no sırasıyla yazılmalı.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "app.account.export.fetch-size=2")
+@ActiveProfiles("test")
+@DisplayName("Account Export Service Tests")
+class AccountExportServiceTest {
+
+	@Autowired
+	private AccountExportService accountExportService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@Test
+	@DisplayName("Tüm hesaplar sıralı NDJSON satırları olarak yazılmalı")
+	void exportNdjson_WritesOneLinePerAccount() throws Exception {
+		// Given
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(7L);
+		customer.setNameSurname("Export Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+		for (int i = 0; i < 5; i++) {
+			AccountRequestDto request = new AccountRequestDto();
+			request.setCustomerId(7L);
+			request.setAccountType(i % 2 == 0 ? AccountType.VADESIZ : AccountType.VADELI);
+			request.setFirstAmount(new BigDecimal("100.00"));
+			request.setInterestRate(i % 2 == 0 ? null : new BigDecimal("0.10"));
+			accountService.accountOpen(request);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// When
+		long count = accountExportService.exportNdjson(out);
+
+		// Then
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).hasSize((int) count).hasSizeGreaterThanOrEqualTo(5);
+		List<AccountResponseDto> accounts = lines.stream().map(this::read).toList();
+		assertThat(accounts).extracting(AccountResponseDto::getAccountNo).isSorted();
+		assertThat(accounts).filteredOn(a -> a.getCustomerId() == 7L).hasSize(5)
+				.allSatisfy(a -> assertThat(a.getAmount()).isEqualByComparingTo("100.00"));
+		assertThat(accounts).filteredOn(a -> a.getAccountType() == AccountType.VADELI)
+				.allSatisfy(a -> assertThat(a.getInterestRate()).isNotNull());
+	}
+
+	private AccountResponseDto read(String line) {
+		try {
+			return objectMapper.readValue(line, AccountResponseDto.class);
+		} catch (Exception e) {
+			throw new AssertionError("Geçersiz NDJSON satırı: " + line, e);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountBalanceDto;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.BatchPostingRequestDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.PostingRequestDto;
+import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Hesap olay akışı testleri (H2): snapshot + kuyruktan güncel ve geçmiş tarihli bakiye,
+ * bozulan hesap bakiyesinin akıştan yeniden kurulması.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "app.account.events.snapshot-interval=3")
+@ActiveProfiles("test")
+@DisplayName("Account History Service Tests")
+class AccountHistoryServiceTest {
+
+	@Autowired
+	private AccountHistoryService accountHistoryService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private BatchPostingService batchPostingService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("History Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+	}
+
+	@Test
+	@DisplayName("Bakiye snapshot + kuyruktan hesaplanmalı; geçmiş tarihli sorgu o anki bakiyeyi dönmeli")
+	void balance_CurrentAndPointInTime() throws Exception {
+		// Given
+		LocalDateTime beforeOpening = LocalDateTime.now();
+		Thread.sleep(5);
+		String accountNo = openAccount("100.00");
+		for (int i = 0; i < 4; i++) {
+			accountService.deposit(accountNo, request("10.00"));
+		}
+		Thread.sleep(5);
+		LocalDateTime afterFourDeposits = LocalDateTime.now();
+		Thread.sleep(5);
+		accountService.withdraw(accountNo, request("25.00"));
+		accountService.deposit(accountNo, request("1.00"));
+		batchPostingService.post(batch(accountNo, "4.00"));
+
+		// When
+		AccountBalanceDto current = accountHistoryService.balance(accountNo, null).orElseThrow();
+		AccountBalanceDto past = accountHistoryService.balance(accountNo, afterFourDeposits).orElseThrow();
+
+		// Then: 7 olay, snapshot'lar seq 3 ve 6'da
+		assertThat(current.getBalance()).isEqualByComparingTo("120.00");
+		assertThat(current.getBalance()).isEqualByComparingTo(accountService.getAccount(accountNo).getAmount());
+		assertThat(current.getSnapshotSeq()).isEqualTo(6);
+		assertThat(current.getLastSeq()).isEqualTo(7);
+		assertThat(current.getReplayedEvents()).isEqualTo(1);
+
+		assertThat(past.getBalance()).isEqualByComparingTo("140.00");
+		assertThat(past.getSnapshotSeq()).isEqualTo(3);
+		assertThat(past.getLastSeq()).isEqualTo(4);
+		assertThat(accountHistoryService.balance(accountNo, beforeOpening)).isEmpty();
+		assertThat(snapshots(accountNo)).containsExactly(0L, 3L, 6L);
+	}
+
+	@Test
+	@DisplayName("Bozulan hesap bakiyesi olay akışından yeniden kurulmalı")
+	void rebuild_RestoresBalanceFromEvents() {
+		// Given
+		String accountNo = openAccount("50.00");
+		accountService.deposit(accountNo, request("5.00"));
+		accountService.withdraw(accountNo, request("2.50"));
+		jdbcTemplate.update("UPDATE accounts SET amount = 999.99 WHERE account_no = ?", accountNo);
+
+		// When
+		AccountBalanceDto rebuilt = accountHistoryService.rebuild(accountNo);
+		AccountBalanceDto again = accountHistoryService.rebuild(accountNo);
+
+		// Then
+		assertThat(rebuilt.getCorrected()).isTrue();
+		assertThat(rebuilt.getBalance()).isEqualByComparingTo("52.50");
+		assertThat(jdbcTemplate.queryForObject("SELECT amount FROM accounts WHERE account_no = ?", BigDecimal.class,
+				accountNo)).isEqualByComparingTo("52.50");
+		assertThat(again.getCorrected()).isFalse();
+	}
+
+	private List<Long> snapshots(String accountNo) {
+		return jdbcTemplate.queryForList("SELECT seq FROM account_snapshots WHERE account_no = ? ORDER BY seq",
+				Long.class, accountNo);
+	}
+
+	private String openAccount(String firstAmount) {
+		AccountRequestDto dto = new AccountRequestDto();
+		dto.setCustomerId(1L);
+		dto.setAccountType(AccountType.VADESIZ);
+		dto.setFirstAmount(new BigDecimal(firstAmount));
+		return accountService.accountOpen(dto).getAccountNo();
+	}
+
+	private TransactionRequestDto request(String amount) {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(Money.of(amount));
+		request.setExplanation("history");
+		return request;
+	}
+
+	private BatchPostingRequestDto batch(String accountNo, String amount) {
+		PostingRequestDto posting = new PostingRequestDto();
+		posting.setAccountNo(accountNo);
+		posting.setTransactionType(TransactionType.YATIRMA);
+		posting.setAmount(new BigDecimal(amount));
+		BatchPostingRequestDto request = new BatchPostingRequestDto();
+		request.setPostings(List.of(posting));
+		return request;
+	}
+}
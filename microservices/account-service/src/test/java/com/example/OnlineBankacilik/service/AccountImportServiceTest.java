@@ -0,0 +1,136 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountBalanceDto;
+import com.example.OnlineBankacilik.dto.AccountImportRejectDto;
+import com.example.OnlineBankacilik.dto.AccountImportReportDto;
+import com.example.OnlineBankacilik.generator.AccountNumberGenerator;
+
+/**
+ * CSV toplu hesap açma testleri (H2): JDBC batch INSERT yolu, satır bazlı redler, toplu müşteri doğrulaması
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = { "app.account.import.chunk-size=2", "app.account.import.max-rejects=3" })
+@ActiveProfiles("test")
+@DisplayName("Account Import Service Tests")
+class AccountImportServiceTest {
+
+	@Autowired
+	private AccountImportService accountImportService;
+
+	@Autowired
+	private AccountHistoryService accountHistoryService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		// 501 ve 502 mevcut, diğer müşteriler yok
+		when(customerServiceClient.existingCustomerIds(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().filter(id -> id == 501L || id == 502L).toList();
+		});
+	}
+
+	@Test
+	@DisplayName("Geçerli satırlar açılmalı, hatalı satırlar satır numarasıyla raporlanmalı")
+	void importCsv_ImportsValidRowsAndReportsRejects() throws Exception {
+		// Given
+		String csv = String.join("\n",
+				"customerId,accountType,firstAmount,interestRate,maturityMonth",
+				"501,VADESIZ,100.50",
+				"502,vadeli,2500.00,0.0750,6",
+				"",
+				"503,VADESIZ,10.00",
+				"501,VADESIZ,1.001",
+				"abc,VADESIZ,10.00",
+				"502,VADELI,300.00",
+				"501,KREDI,5.00");
+
+		// When
+		AccountImportReportDto report = accountImportService.importCsv(stream(csv));
+
+		// Then
+		assertThat(report.getTotal()).isEqualTo(7);
+		assertThat(report.getImported()).isEqualTo(3);
+		assertThat(report.getRejected()).isEqualTo(4);
+		assertThat(report.getLoadMethod()).isEqualTo("BATCH_INSERT");
+		assertThat(report.getRowsPerSecond()).isPositive();
+		// Müşteri redleri chunk işlendiğinde eklenir; max-rejects=3 ile dördüncü red sayılır ama listelenmez
+		assertThat(report.isRejectsTruncated()).isTrue();
+		assertThat(report.getRejects()).extracting(AccountImportRejectDto::getLine, AccountImportRejectDto::getError)
+				.containsExactly(tuple(6, "InvalidAmountException"), tuple(7, "InvalidFormat"),
+						tuple(5, "CustomerNotFound"));
+
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+				"SELECT account_no, account_type, customer_id, amount, interest_rate, maturity_month, maturity_date "
+						+ "FROM accounts WHERE customer_id IN (501, 502) ORDER BY amount");
+		assertThat(rows).hasSize(3);
+		assertThat(rows).extracting(row -> row.get("ACCOUNT_TYPE")).containsExactly("VADESIZ", "VADELI", "VADELI");
+		assertThat(rows.get(1).get("INTEREST_RATE").toString()).isEqualTo("0.0500");
+		assertThat(rows.get(2).get("INTEREST_RATE").toString()).isEqualTo("0.0750");
+		assertThat(rows.get(2).get("MATURITY_MONTH")).isEqualTo(6);
+		assertThat(rows).extracting(row -> (String) row.get("ACCOUNT_NO")).allMatch(AccountNumberGenerator::isValid);
+
+		// Olay akışı seq 0 snapshot'ı ile başlamış olmalı
+		String accountNo = (String) rows.get(2).get("ACCOUNT_NO");
+		AccountBalanceDto balance = accountHistoryService.balance(accountNo, null).orElseThrow();
+		assertThat(balance.getBalance()).isEqualByComparingTo("2500.00");
+		assertThat(balance.getSnapshotSeq()).isZero();
+	}
+
+	@Test
+	@DisplayName("Müşteriler chunk başına tek toplu çağrıyla doğrulanmalı, olmayan müşteri reddedilmeli")
+	void importCsv_ValidatesCustomersInBatches() throws Exception {
+		// Given: chunk-size=2 ile 4 geçerli satır iki chunk'a bölünür
+		String csv = String.join("\n", "601,VADESIZ,1.00", "602,VADESIZ,2.00", "603,VADESIZ,3.00",
+				"604,VADESIZ,4.00");
+
+		// When
+		AccountImportReportDto report = accountImportService.importCsv(stream(csv));
+
+		// Then
+		assertThat(report.getImported()).isZero();
+		assertThat(report.getRejected()).isEqualTo(4);
+		assertThat(report.getLoadMethod()).isNull();
+		assertThat(report.getRejects()).extracting(AccountImportRejectDto::getError).containsOnly("CustomerNotFound");
+		verify(customerServiceClient, times(2)).existingCustomerIds(anyCollection());
+		// Negatif sonuçlar cache'lenir; aynı müşteriler için tekrar uzak çağrı yapılmaz
+		accountImportService.importCsv(stream("601,VADESIZ,1.00"));
+		verify(customerServiceClient, times(2)).existingCustomerIds(anyCollection());
+	}
+
+	private static ByteArrayInputStream stream(String csv) {
+		return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -15,24 +15,37 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.example.OnlineBankacilik.Kafka.TransactionProducer;
-import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.client.CustomerDirectory;
+import com.example.OnlineBankacilik.concurrency.AccountLockManager;
+import com.example.OnlineBankacilik.dto.AccountPageDto;
 import com.example.OnlineBankacilik.dto.AccountRequestDto;
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
-import com.example.OnlineBankacilik.dto.CustomerResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
 import com.example.OnlineBankacilik.entity.FixedDepositAccount;
 import com.example.OnlineBankacilik.entity.FuturesAccount;
 import com.example.OnlineBankacilik.enums.AccountType;
 import com.example.OnlineBankacilik.exception.AccountNotFoundException;
 import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
 import com.example.OnlineBankacilik.exception.InvalidAmountException;
+import com.example.OnlineBankacilik.generator.AccountNumberGenerator;
+import com.example.OnlineBankacilik.hotaccount.HotAccountBalances;
+import com.example.OnlineBankacilik.ledger.LedgerEngine;
 import com.example.OnlineBankacilik.repository.AccountRepository;
 import com.example.OnlineBankacilik.service.impl.AccountServiceImpl;
+import com.example.OnlineBankacilik.money.Money;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Account Service Unit Tests")
@@ -42,15 +55,35 @@ class AccountServiceTest {
 	private AccountRepository accountRepository;
 
 	@Mock
-	private CustomerServiceClient customerServiceClient;
+	private CustomerDirectory customerDirectory;
 
 	@Mock
 	private TransactionProducer transactionProducer;
 
+	@Mock
+	private AccountEventStore accountEventStore;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private AccountNumberGenerator accountNumberGenerator;
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	@Spy
+	private AccountLockManager accountLockManager =
+			new AccountLockManager(transactionManager, 16, 3, true, mock(ObjectProvider.class));
+
+	@Mock
+	private ObjectProvider<LedgerEngine> ledgerEngine;
+
+	@Mock
+	private HotAccountBalances hotAccounts;
+
 	@InjectMocks
 	private AccountServiceImpl accountService;
 
-	private CustomerResponseDto testCustomer;
 	private AccountRequestDto testAccountRequest;
 	private FixedDepositAccount testAccount;
 	private LocalDateTime testDate;
@@ -59,12 +92,6 @@ class AccountServiceTest {
 	void setUp() {
 		testDate = LocalDateTime.now();
 
-		testCustomer = new CustomerResponseDto();
-		testCustomer.setCustomerId(1L);
-		testCustomer.setNameSurname("Ali Veli");
-		testCustomer.setTcKimlikNo("12345678901");
-		testCustomer.setEmail("ali.veli@example.com");
-
 		testAccountRequest = new AccountRequestDto();
 		testAccountRequest.setCustomerId(1L);
 		testAccountRequest.setAccountType(AccountType.VADESIZ);
@@ -73,7 +100,7 @@ class AccountServiceTest {
 		testAccount = new FixedDepositAccount();
 		testAccount.setAccountNo("1001");
 		testAccount.setCustomerId(1L);
-		testAccount.setAmount(new BigDecimal("1000.00"));
+		testAccount.setAmount(Money.of("1000.00"));
 		testAccount.setActive(true);
 		testAccount.setOpeningDate(testDate);
 	}
@@ -82,7 +109,7 @@ class AccountServiceTest {
 	@DisplayName("Should open VADESIZ account successfully")
 	void testAccountOpen_Vadesiz_Success() {
 		// Given
-		when(customerServiceClient.getCustomerById(1L)).thenReturn(testCustomer);
+		when(customerDirectory.exists(1L)).thenReturn(true);
 		when(accountRepository.save(any(FixedDepositAccount.class))).thenAnswer(invocation -> {
 			FixedDepositAccount account = invocation.getArgument(0);
 			account.setAccountNo("1001");
@@ -99,7 +126,7 @@ class AccountServiceTest {
 		assertEquals(AccountType.VADESIZ, result.getAccountType());
 		assertEquals(new BigDecimal("1000.00"), result.getAmount());
 		assertTrue(result.isActive());
-		verify(customerServiceClient, times(1)).getCustomerById(1L);
+		verify(customerDirectory, times(1)).exists(1L);
 		verify(accountRepository, times(1)).save(any(FixedDepositAccount.class));
 	}
 
@@ -114,7 +141,7 @@ class AccountServiceTest {
 		vadeliRequest.setInterestRate(new BigDecimal("0.06"));
 		vadeliRequest.setMaturityMonth(12);
 
-		when(customerServiceClient.getCustomerById(1L)).thenReturn(testCustomer);
+		when(customerDirectory.exists(1L)).thenReturn(true);
 		when(accountRepository.save(any(FuturesAccount.class))).thenAnswer(invocation -> {
 			FuturesAccount account = invocation.getArgument(0);
 			account.setAccountNo("1002");
@@ -130,19 +157,19 @@ class AccountServiceTest {
 		assertEquals(new BigDecimal("0.06"), result.getInterestRate());
 		assertEquals(12, result.getMaturityMonth());
 		assertNotNull(result.getMaturityDate());
-		verify(customerServiceClient, times(1)).getCustomerById(1L);
+		verify(customerDirectory, times(1)).exists(1L);
 		verify(accountRepository, times(1)).save(any(FuturesAccount.class));
 	}
 
 	@Test
 	@DisplayName("Should throw exception when customer not found")
 	void testAccountOpen_CustomerNotFound_ThrowsException() {
-		// Given - testAccountRequest 1L customer ID kullanıyor, bu yüzden 1L için null döndürmeliyiz
-		when(customerServiceClient.getCustomerById(1L)).thenReturn(null);
+		// Given - testAccountRequest 1L customer ID kullanıyor
+		when(customerDirectory.exists(1L)).thenReturn(false);
 
 		// When & Then
 		assertThrows(RuntimeException.class, () -> accountService.accountOpen(testAccountRequest));
-		verify(customerServiceClient, times(1)).getCustomerById(1L);
+		verify(customerDirectory, times(1)).exists(1L);
 		verify(accountRepository, never()).save(any());
 	}
 
@@ -178,13 +205,13 @@ class AccountServiceTest {
 	void testDeposit_Success() {
 		// Given
 		TransactionRequestDto depositRequest = new TransactionRequestDto();
-		depositRequest.setAmount(new BigDecimal("500.00"));
+		depositRequest.setAmount(Money.of("500.00"));
 		depositRequest.setExplanation("Test deposit");
 
 		FixedDepositAccount accountWithDeposit = new FixedDepositAccount();
 		accountWithDeposit.setAccountNo("1001");
 		accountWithDeposit.setCustomerId(1L);
-		accountWithDeposit.setAmount(new BigDecimal("1500.00"));
+		accountWithDeposit.setAmount(Money.of("1500.00"));
 		accountWithDeposit.setActive(true);
 		accountWithDeposit.setOpeningDate(testDate);
 
@@ -201,6 +228,7 @@ class AccountServiceTest {
 		verify(accountRepository, times(1)).findById("1001");
 		verify(accountRepository, times(1)).save(any(FixedDepositAccount.class));
 		verify(transactionProducer, times(1)).publish(any());
+		verify(accountEventStore, times(1)).append(any());
 	}
 
 	@Test
@@ -208,13 +236,13 @@ class AccountServiceTest {
 	void testWithdraw_Success() {
 		// Given
 		TransactionRequestDto withdrawRequest = new TransactionRequestDto();
-		withdrawRequest.setAmount(new BigDecimal("200.00"));
+		withdrawRequest.setAmount(Money.of("200.00"));
 		withdrawRequest.setExplanation("Test withdraw");
 
 		FixedDepositAccount accountAfterWithdraw = new FixedDepositAccount();
 		accountAfterWithdraw.setAccountNo("1001");
 		accountAfterWithdraw.setCustomerId(1L);
-		accountAfterWithdraw.setAmount(new BigDecimal("800.00"));
+		accountAfterWithdraw.setAmount(Money.of("800.00"));
 		accountAfterWithdraw.setActive(true);
 		accountAfterWithdraw.setOpeningDate(testDate);
 
@@ -231,6 +259,7 @@ class AccountServiceTest {
 		verify(accountRepository, times(1)).findById("1001");
 		verify(accountRepository, times(1)).save(any(FixedDepositAccount.class));
 		verify(transactionProducer, times(1)).publish(any());
+		verify(accountEventStore, times(1)).append(any());
 	}
 
 	@Test
@@ -238,7 +267,7 @@ class AccountServiceTest {
 	void testWithdraw_InsufficientBalance_ThrowsException() {
 		// Given
 		TransactionRequestDto withdrawRequest = new TransactionRequestDto();
-		withdrawRequest.setAmount(new BigDecimal("2000.00"));
+		withdrawRequest.setAmount(Money.of("2000.00"));
 		withdrawRequest.setExplanation("Test withdraw");
 
 		when(accountRepository.findById("1001")).thenReturn(Optional.of(testAccount));
@@ -250,35 +279,49 @@ class AccountServiceTest {
 	}
 
 	@Test
-	@DisplayName("Should get all accounts")
-	void testAllAccounts_Success() {
+	@DisplayName("Should return first keyset page with next cursor")
+	void testAccountsPage_FirstPage() {
 		// Given
 		FixedDepositAccount account2 = new FixedDepositAccount();
 		account2.setAccountNo("1002");
 		account2.setCustomerId(2L);
-		account2.setAmount(new BigDecimal("2000.00"));
+		account2.setAmount(Money.of("2000.00"));
 		account2.setActive(true);
 		account2.setOpeningDate(testDate);
 
 		List<com.example.OnlineBankacilik.entity.Account> accounts = Arrays.asList(testAccount, account2);
-		when(accountRepository.findAll()).thenReturn(accounts);
+		when(accountRepository.findAllByOrderByAccountNoAsc(Limit.of(2))).thenReturn(accounts);
+
+		// When
+		AccountPageDto result = accountService.accountsPage(null, 1);
+
+		// Then - limit + 1 satır okunur, fazlası sonraki sayfanın varlığını gösterir
+		assertEquals(1, result.getItems().size());
+		assertEquals("1001", result.getItems().get(0).getAccountNo());
+		assertEquals("1001", result.getNextCursor());
+		verify(accountRepository, never()).findAll();
+	}
+
+	@Test
+	@DisplayName("Should continue after cursor and end on last page")
+	void testAccountsPage_LastPage() {
+		// Given
+		when(accountRepository.findByAccountNoGreaterThanOrderByAccountNoAsc("1000", Limit.of(51)))
+				.thenReturn(List.of(testAccount));
 
 		// When
-		List<AccountResponseDto> result = accountService.allAccounts();
+		AccountPageDto result = accountService.accountsPage("1000", 50);
 
 		// Then
-		assertNotNull(result);
-		assertEquals(2, result.size());
-		assertEquals("1001", result.get(0).getAccountNo());
-		assertEquals("1002", result.get(1).getAccountNo());
-		verify(accountRepository, times(1)).findAll();
+		assertEquals(1, result.getItems().size());
+		assertNull(result.getNextCursor());
 	}
 
 	@Test
 	@DisplayName("Should get customer accounts")
 	void testCustomerAccounts_Success() {
 		// Given
-		when(customerServiceClient.getCustomerById(1L)).thenReturn(testCustomer);
+		when(customerDirectory.exists(1L)).thenReturn(true);
 		when(accountRepository.findByCustomerId(1L)).thenReturn(Arrays.asList(testAccount));
 
 		// When
@@ -288,7 +331,7 @@ class AccountServiceTest {
 		assertNotNull(result);
 		assertEquals(1, result.size());
 		assertEquals("1001", result.get(0).getAccountNo());
-		verify(customerServiceClient, times(1)).getCustomerById(1L);
+		verify(customerDirectory, times(1)).exists(1L);
 		verify(accountRepository, times(1)).findByCustomerId(1L);
 	}
 
@@ -300,7 +343,7 @@ class AccountServiceTest {
 		FixedDepositAccount closedAccount = new FixedDepositAccount();
 		closedAccount.setAccountNo("1001");
 		closedAccount.setCustomerId(1L);
-		closedAccount.setAmount(new BigDecimal("1000.00"));
+		closedAccount.setAmount(Money.of("1000.00"));
 		closedAccount.setActive(false); // Account is closed after operation
 		closedAccount.setOpeningDate(testDate);
 		
@@ -314,5 +357,49 @@ class AccountServiceTest {
 		verify(accountRepository, times(1)).findById("1001");
 		verify(accountRepository, times(1)).save(any(FixedDepositAccount.class));
 	}
-}
 
+	@Test
+	@DisplayName("Should write closed account to cache and evict only owner's customerAccounts entry")
+	void testCloseAccount_RefreshesOnlyAffectedCacheEntries() {
+		// Given
+		Cache accountCache = mock(Cache.class);
+		Cache customerAccountsCache = mock(Cache.class);
+		when(cacheManager.getCache("account")).thenReturn(accountCache);
+		when(cacheManager.getCache("customerAccounts")).thenReturn(customerAccountsCache);
+		when(accountRepository.findById("1001")).thenReturn(Optional.of(testAccount));
+		when(accountRepository.save(any(FixedDepositAccount.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// When
+		accountService.closeAccount("1001");
+
+		// Then
+		verify(accountCache, times(1)).put(eq("1001"), argThat(dto -> !((AccountResponseDto) dto).isActive()));
+		verify(customerAccountsCache, times(1)).evict(1L);
+		verify(accountCache, never()).clear();
+		verify(customerAccountsCache, never()).clear();
+	}
+
+	@Test
+	@DisplayName("Should write deposited balance to cache inside the locked transaction, before commit")
+	void testDeposit_WritesCacheBeforeCommit() {
+		// Given
+		Cache accountCache = mock(Cache.class);
+		Cache customerAccountsCache = mock(Cache.class);
+		when(cacheManager.getCache("account")).thenReturn(accountCache);
+		when(cacheManager.getCache("customerAccounts")).thenReturn(customerAccountsCache);
+		when(accountRepository.findById("1001")).thenReturn(Optional.of(testAccount));
+		when(accountRepository.save(any(FixedDepositAccount.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		TransactionRequestDto depositRequest = new TransactionRequestDto();
+		depositRequest.setAmount(Money.of("500.00"));
+
+		// When
+		accountService.deposit("1001", depositRequest);
+
+		// Then - transaction-aware cache yazmayı commit'e erteler; commit kilit bırakılmadan yapılır
+		InOrder inOrder = inOrder(accountCache, transactionManager);
+		inOrder.verify(accountCache).put(eq("1001"),
+				argThat(dto -> new BigDecimal("1500.00").equals(((AccountResponseDto) dto).getAmount())));
+		inOrder.verify(transactionManager).commit(any());
+		verify(customerAccountsCache, times(1)).evict(1L);
+	}
+}
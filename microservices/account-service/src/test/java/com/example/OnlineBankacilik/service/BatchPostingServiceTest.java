@@ -0,0 +1,209 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.BatchPostingRequestDto;
+import com.example.OnlineBankacilik.dto.BatchPostingResponseDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.PostingRequestDto;
+import com.example.OnlineBankacilik.dto.PostingResultDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.eventstore.AccountEventStore;
+import com.example.OnlineBankacilik.repository.AccountRepository;
+
+/**
+ * Toplu posting testleri (H2): JDBC batch yazımı, kalem bazlı sonuçlar, outbox event'leri
+ * çakışan hesap kümeleriyle eşzamanlı batch'lerde kilitlenme olmaması ve geri alınan chunk'ta kısmi sonuç.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "app.account.posting.chunk-size=3")
+@ActiveProfiles("test")
+@DisplayName("Batch Posting Service Tests")
+class BatchPostingServiceTest {
+
+	@Autowired
+	private BatchPostingService batchPostingService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@SpyBean
+	private AccountEventStore accountEventStore;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Batch Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+		jdbcTemplate.update("DELETE FROM transaction_outbox");
+	}
+
+	@Test
+	@DisplayName("Kalemler sırayla uygulanmalı, hatalı kalemler diğerlerini etkilememeli")
+	void postBatch_AppliesInOrder_WithPerItemResults() {
+		// Given
+		String first = openAccount("100.00");
+		String second = openAccount("50.00");
+		List<PostingRequestDto> postings = List.of(
+				posting(first, TransactionType.YATIRMA, "25.00"),
+				posting(second, TransactionType.CEKME, "80.00"),
+				posting("0000", TransactionType.YATIRMA, "10.00"),
+				posting(first, TransactionType.CEKME, "125.00"),
+				posting(second, TransactionType.YATIRMA, "-1"),
+				posting(second, TransactionType.YATIRMA, "30.00"),
+				posting(second, TransactionType.CEKME, "80.00"));
+
+		// When
+		BatchPostingResponseDto response = batchPostingService.post(request(postings));
+
+		// Then
+		assertThat(response.getTotal()).isEqualTo(7);
+		assertThat(response.getSucceeded()).isEqualTo(4);
+		assertThat(response.getResults()).extracting(PostingResultDto::isSuccess)
+				.containsExactly(true, false, false, true, false, true, true);
+		assertThat(response.getResults()).extracting(PostingResultDto::getError)
+				.containsExactly(null, "InsufficientBalanceException", "AccountNotFoundException", null,
+						"InvalidAmountException", null, null);
+		assertThat(balance(first)).isEqualByComparingTo("0.00");
+		assertThat(balance(second)).isEqualByComparingTo("0.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox", Integer.class)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("Çakışan hesap kümeleri üzerinde eşzamanlı batch'ler kilitlenmeden tamamlanmalı")
+	void concurrentBatches_OverlappingAccounts_NoDeadlockNoLostUpdates() throws Exception {
+		// Given
+		List<String> accounts = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			accounts.add(openAccount("1000.00"));
+		}
+		int batches = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		// When - her batch hesapları farklı sırada dolaşır
+		List<Future<BatchPostingResponseDto>> futures = new ArrayList<>();
+		for (int b = 0; b < batches; b++) {
+			int offset = b;
+			futures.add(executor.submit(() -> {
+				List<PostingRequestDto> postings = new ArrayList<>();
+				for (int i = 0; i < 10; i++) {
+					String accountNo = accounts.get((offset + i * (offset % 2 == 0 ? 1 : 4)) % accounts.size());
+					postings.add(posting(accountNo, TransactionType.YATIRMA, "1.00"));
+				}
+				return batchPostingService.post(request(postings));
+			}));
+		}
+		int succeeded = 0;
+		for (Future<BatchPostingResponseDto> future : futures) {
+			succeeded += future.get().getSucceeded();
+		}
+		executor.shutdown();
+
+		// Then
+		assertThat(succeeded).isEqualTo(batches * 10);
+		BigDecimal total = accounts.stream().map(this::balance).reduce(BigDecimal.ZERO, BigDecimal::add);
+		assertThat(total).isEqualByComparingTo(new BigDecimal(5000 + batches * 10));
+	}
+
+	@Test
+	@DisplayName("Geri alınan chunk'ta commit edilen chunk'ların sonucu dönmeli, cache'i silinmeli")
+	void postBatch_ChunkRolledBack_ReturnsPartialResults() {
+		// Given - ikinci chunk'ın olay akışı yazımı başarısız
+		String first = openAccount("100.00");
+		String second = openAccount("100.00");
+		accountService.getAccount(first);
+		AccountEventStore eventStoreSpy = AopTestUtils.getUltimateTargetObject(accountEventStore);
+		doCallRealMethod().doThrow(new DataAccessResourceFailureException("bağlantı koptu")).when(eventStoreSpy)
+				.appendAll(anyList());
+		List<PostingRequestDto> postings = List.of(
+				posting(first, TransactionType.YATIRMA, "10.00"),
+				posting(first, TransactionType.YATIRMA, "10.00"),
+				posting(second, TransactionType.CEKME, "10.00"),
+				posting(second, TransactionType.YATIRMA, "10.00"),
+				posting(first, TransactionType.CEKME, "10.00"),
+				posting(second, TransactionType.YATIRMA, "10.00"),
+				posting(first, TransactionType.YATIRMA, "10.00"));
+
+		// When
+		BatchPostingResponseDto response = batchPostingService.post(request(postings));
+
+		// Then - ilk chunk commit edildi, ikinci geri alındı, üçüncü işlenmedi
+		assertThat(response.getSucceeded()).isEqualTo(3);
+		assertThat(response.getResults()).extracting(PostingResultDto::getError).containsExactly(null, null, null,
+				"DataAccessResourceFailureException", "DataAccessResourceFailureException",
+				"DataAccessResourceFailureException", "NotProcessed");
+		assertThat(balance(first)).isEqualByComparingTo("120.00");
+		assertThat(balance(second)).isEqualByComparingTo("90.00");
+		assertThat(cacheManager.getCache("account").get(first)).isNull();
+		assertThat(accountService.getAccount(first).getAmount()).isEqualByComparingTo("120.00");
+	}
+
+	private BatchPostingRequestDto request(List<PostingRequestDto> postings) {
+		BatchPostingRequestDto request = new BatchPostingRequestDto();
+		request.setPostings(postings);
+		return request;
+	}
+
+	private PostingRequestDto posting(String accountNo, TransactionType type, String amount) {
+		PostingRequestDto posting = new PostingRequestDto();
+		posting.setAccountNo(accountNo);
+		posting.setTransactionType(type);
+		posting.setAmount(new BigDecimal(amount));
+		return posting;
+	}
+
+	private String openAccount(String firstAmount) {
+		AccountRequestDto request = new AccountRequestDto();
+		request.setCustomerId(1L);
+		request.setAccountType(AccountType.VADESIZ);
+		request.setFirstAmount(new BigDecimal(firstAmount));
+		return accountService.accountOpen(request).getAccountNo();
+	}
+
+	private BigDecimal balance(String accountNo) {
+		return accountRepository.findById(accountNo).orElseThrow().getAmount().toBigDecimal();
+	}
+}
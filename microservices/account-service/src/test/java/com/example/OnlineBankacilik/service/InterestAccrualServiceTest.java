@@ -0,0 +1,149 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.InterestAccrualStatusDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.AccrualStatus;
+import com.example.OnlineBankacilik.repository.AccountRepository;
+
+/**
+ * Toplu faiz tahakkuku testleri (H2): chunk'lı işleme, dönem bazlı tekrar koruması
+ * ve checkpoint'ten devam.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "app.account.interest-accrual.chunk-size=3")
+@ActiveProfiles("test")
+@DisplayName("Interest Accrual Service Tests")
+class InterestAccrualServiceTest {
+
+	@Autowired
+	private InterestAccrualService interestAccrualService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Accrual Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+	}
+
+	@Test
+	@DisplayName("Tüm vadeli hesaplara bir kez faiz işlenmeli, aynı dönem tekrar çalıştırılınca değişmemeli")
+	void accrue_AllFuturesAccountsOncePerPeriod() throws Exception {
+		// Given
+		List<String> accounts = openFuturesAccounts(7);
+		String currentAccount = openCurrentAccount();
+		int summaryEventsBefore = summaryEvents();
+
+		// When
+		InterestAccrualStatusDto status = awaitCompletion(YearMonth.of(2026, 1));
+		interestAccrualService.start(YearMonth.of(2026, 1));
+
+		// Then
+		assertThat(status.getStatus()).isEqualTo(AccrualStatus.COMPLETED);
+		assertThat(status.getProcessedAccounts()).isGreaterThanOrEqualTo(7);
+		assertThat(summaryEvents() - summaryEventsBefore).isEqualTo((int) status.getChunks());
+		accounts.forEach(accountNo -> assertThat(balance(accountNo)).isEqualByComparingTo("110.00"));
+		assertThat(balance(currentAccount)).isEqualByComparingTo("100.00");
+	}
+
+	@Test
+	@DisplayName("Yarıda kalan çalıştırma checkpoint'ten devam etmeli")
+	void accrue_ResumesFromCheckpoint() throws Exception {
+		// Given - ilk 3 hesap önceki (başarısız) çalıştırmada işlenmiş
+		List<String> accounts = openFuturesAccounts(6);
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update("INSERT INTO interest_accrual_runs (run_id, status, last_account_no, processed_accounts, "
+				+ "chunks, total_interest, owner, started_at, updated_at) VALUES (?, 'FAILED', ?, 3, 1, 30.00, 'x', ?, ?)",
+				"2026-02", accounts.get(2), now, now);
+
+		// When
+		InterestAccrualStatusDto status = awaitCompletion(YearMonth.of(2026, 2));
+
+		// Then
+		assertThat(status.getStatus()).isEqualTo(AccrualStatus.COMPLETED);
+		for (int i = 0; i < accounts.size(); i++) {
+			assertThat(balance(accounts.get(i))).isEqualByComparingTo(i < 3 ? "100.00" : "110.00");
+		}
+	}
+
+	private InterestAccrualStatusDto awaitCompletion(YearMonth period) throws InterruptedException {
+		interestAccrualService.start(period);
+		for (int i = 0; i < 200; i++) {
+			InterestAccrualStatusDto status = interestAccrualService.status(period.toString()).orElseThrow();
+			if (status.getStatus() != AccrualStatus.RUNNING) {
+				return status;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("Faiz tahakkuku zamanında tamamlanmadı: " + period);
+	}
+
+	private List<String> openFuturesAccounts(int count) {
+		List<String> accounts = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			AccountRequestDto request = new AccountRequestDto();
+			request.setCustomerId(1L);
+			request.setAccountType(AccountType.VADELI);
+			request.setFirstAmount(new BigDecimal("100.00"));
+			request.setInterestRate(new BigDecimal("0.10"));
+			accounts.add(accountService.accountOpen(request).getAccountNo());
+		}
+		accounts.sort(null);
+		return accounts;
+	}
+
+	private String openCurrentAccount() {
+		AccountRequestDto request = new AccountRequestDto();
+		request.setCustomerId(1L);
+		request.setAccountType(AccountType.VADESIZ);
+		request.setFirstAmount(new BigDecimal("100.00"));
+		return accountService.accountOpen(request).getAccountNo();
+	}
+
+	private int summaryEvents() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox WHERE topic = 'interest-accrual-events'",
+				Integer.class);
+	}
+
+	private BigDecimal balance(String accountNo) {
+		return accountRepository.findById(accountNo).orElseThrow().getAmount().toBigDecimal();
+	}
+}
@@ -0,0 +1,180 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.MaturityRunStatusDto;
+import com.example.OnlineBankacilik.dto.MaturityShardStatusDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.MaturityStatus;
+
+/**
+ * Vade işleme testleri (H2): shard planlama, paralel shard işleme, stale shard'ın devralınması
+ * ve checkpoint'ten devam.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"app.account.maturity.shard-size=3", "app.account.maturity.chunk-size=2", "app.account.maturity.workers=2" })
+@ActiveProfiles("test")
+@DisplayName("Maturity Service Tests")
+class MaturityServiceTest {
+
+	@Autowired
+	private MaturityService maturityService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Maturity Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+	}
+
+	@Test
+	@DisplayName("Vadesi gelen hesaplar shard'lara bölünmeli, her hesaba bir kez faiz işlenip vade yenilenmeli")
+	void plan_SettlesDueAccountsOncePerShard() throws Exception {
+		// Given
+		LocalDate date = LocalDate.of(2020, 3, 31);
+		List<String> due = openFuturesAccounts(7, date);
+		String notDue = openFuturesAccounts(1, date.plusDays(1)).get(0);
+		int outboxBefore = outboxCount(due);
+
+		// When
+		MaturityRunStatusDto status = await(date, run -> run.getStatus() != MaturityStatus.RUNNING
+				&& run.getStatus() != MaturityStatus.PENDING);
+		maturityService.plan(date);
+
+		// Then: 3 + 3 + 1 hesaplık üç shard
+		assertThat(status.getStatus()).isEqualTo(MaturityStatus.COMPLETED);
+		assertThat(status.getTotalAccounts()).isEqualTo(7);
+		assertThat(status.getProcessedAccounts()).isEqualTo(7);
+		assertThat(status.getShards()).extracting(MaturityShardStatusDto::getExpectedAccounts)
+				.containsExactly(3L, 3L, 1L);
+		assertThat(status.getShards()).allSatisfy(
+				shard -> assertThat(shard.getProcessedAccounts()).isEqualTo(shard.getExpectedAccounts()));
+		assertThat(status.getTotalInterest()).isEqualByComparingTo("70.00");
+		due.forEach(accountNo -> {
+			assertThat(balance(accountNo)).isEqualByComparingTo("110.00");
+			assertThat(maturityDate(accountNo)).isEqualTo(LocalDate.of(2020, 9, 30));
+		});
+		assertThat(balance(notDue)).isEqualByComparingTo("100.00");
+		// Her faiz işlemi bildirimi outbox'a yazılır
+		assertThat(outboxCount(due) - outboxBefore).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("Stale shard devralınıp checkpoint'ten devam etmeli, canlı sahipli shard'a dokunulmamalı")
+	void processAvailableShards_TakesOverStaleShardOnly() throws Exception {
+		// Given - shard 0 başka node'da çalışıyor, shard 1'in sahibi 1 saattir ilerlemiyor (1 hesabı işlenmiş)
+		LocalDate date = LocalDate.of(2020, 6, 30);
+		List<String> accounts = openFuturesAccounts(4, date);
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update("INSERT INTO maturity_runs (run_id, maturity_date, shard_count, total_accounts, "
+				+ "created_at) VALUES (?, ?, 2, 4, ?)", date.toString(), date, now);
+		insertShard(date, 0, null, accounts.get(1), "node-a", null, 0, now);
+		insertShard(date, 1, accounts.get(1), null, "node-b", accounts.get(2), 1, now.minusHours(1));
+
+		// When
+		MaturityRunStatusDto status = await(date,
+				run -> run.getShards().get(1).getStatus() == MaturityStatus.COMPLETED);
+
+		// Then
+		assertThat(status.getStatus()).isEqualTo(MaturityStatus.RUNNING);
+		assertThat(status.getShards().get(0).getOwner()).isEqualTo("node-a");
+		assertThat(status.getShards().get(1).getOwner()).isNotEqualTo("node-b");
+		assertThat(status.getShards().get(1).getProcessedAccounts()).isEqualTo(2);
+		assertThat(balance(accounts.get(0))).isEqualByComparingTo("100.00");
+		assertThat(balance(accounts.get(1))).isEqualByComparingTo("100.00");
+		assertThat(balance(accounts.get(2))).isEqualByComparingTo("100.00");
+		assertThat(balance(accounts.get(3))).isEqualByComparingTo("110.00");
+	}
+
+	private MaturityRunStatusDto await(LocalDate date, Predicate<MaturityRunStatusDto> done)
+			throws InterruptedException {
+		maturityService.plan(date);
+		for (int i = 0; i < 200; i++) {
+			MaturityRunStatusDto status = maturityService.status(date).orElseThrow();
+			if (done.test(status)) {
+				return status;
+			}
+			Thread.sleep(50);
+			// Zamanlayıcının sahiplenme turu (workers=2 iken üçüncü shard bir worker boşalınca alınır)
+			maturityService.processAvailableShards();
+		}
+		throw new AssertionError("Vade çalıştırması zamanında tamamlanmadı: " + date);
+	}
+
+	private int outboxCount(List<String> accountNos) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox WHERE aggregate_id IN ("
+				+ String.join(",", Collections.nCopies(accountNos.size(), "?")) + ")", Integer.class,
+				accountNos.toArray());
+	}
+
+	private void insertShard(LocalDate date, int shardNo, String lower, String upper, String owner, String last,
+			long processed, LocalDateTime updatedAt) {
+		jdbcTemplate.update("INSERT INTO maturity_shards (run_id, shard_no, lower_account_no, upper_account_no, "
+				+ "expected_accounts, status, owner, last_account_no, processed_accounts, total_interest, started_at, "
+				+ "updated_at) VALUES (?, ?, ?, ?, 2, 'RUNNING', ?, ?, ?, 0, ?, ?)", date.toString(), shardNo, lower,
+				upper, owner, last, processed, updatedAt, updatedAt);
+	}
+
+	private List<String> openFuturesAccounts(int count, LocalDate maturityDate) {
+		List<String> accounts = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			AccountRequestDto request = new AccountRequestDto();
+			request.setCustomerId(1L);
+			request.setAccountType(AccountType.VADELI);
+			request.setFirstAmount(new BigDecimal("100.00"));
+			request.setInterestRate(new BigDecimal("0.10"));
+			request.setMaturityMonth(6);
+			String accountNo = accountService.accountOpen(request).getAccountNo();
+			jdbcTemplate.update("UPDATE accounts SET maturity_date = ? WHERE account_no = ?", maturityDate, accountNo);
+			accounts.add(accountNo);
+		}
+		accounts.sort(null);
+		return accounts;
+	}
+
+	private BigDecimal balance(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT amount FROM accounts WHERE account_no = ?", BigDecimal.class,
+				accountNo);
+	}
+
+	private LocalDate maturityDate(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT maturity_date FROM accounts WHERE account_no = ?", LocalDate.class,
+				accountNo);
+	}
+}
@@ -0,0 +1,174 @@
+package com.example.OnlineBankacilik.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.OnlineBankacilik.client.CustomerServiceClient;
+import com.example.OnlineBankacilik.codec.TransactionEventCodecs;
+import com.example.OnlineBankacilik.dto.AccountRequestDto;
+import com.example.OnlineBankacilik.dto.CustomerResponseDto;
+import com.example.OnlineBankacilik.dto.TransactionEvent;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
+import com.example.OnlineBankacilik.enums.AccountType;
+import com.example.OnlineBankacilik.enums.TransactionType;
+import com.example.OnlineBankacilik.exception.InsufficientBalanceException;
+import com.example.OnlineBankacilik.exception.InvalidTransferException;
+import com.example.OnlineBankacilik.money.Money;
+
+/**
+ * Transfer testleri (H2): tek transaction'da borç/alacak, tek eşli outbox event'i, hesap başına olay kaydı
+ * ve ters yönlü eşzamanlı transferlerde kilitlenme olmaması.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@DisplayName("Transfer Service Tests")
+class TransferServiceTest {
+
+	@Autowired
+	private TransferService transferService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private TransactionEventCodecs codecs;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CustomerServiceClient customerServiceClient;
+
+	@MockBean
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CustomerResponseDto customer = new CustomerResponseDto();
+		customer.setCustomerId(1L);
+		customer.setNameSurname("Transfer Customer");
+		when(customerServiceClient.getCustomerById(anyLong())).thenReturn(customer);
+		jdbcTemplate.update("DELETE FROM transaction_outbox");
+	}
+
+	@Test
+	@DisplayName("Transfer iki bakiyeyi birlikte güncellemeli, tek eşli event ve iki olay kaydı yazmalı")
+	void transfer_DebitsAndCreditsWithSinglePairedEvent() {
+		// Given
+		String from = openAccount("100.00");
+		String to = openAccount("20.00");
+
+		// When
+		TransferResponseDto response = transferService.transfer(request(from, to, "30.00"), null);
+
+		// Then
+		assertThat(response.getFromNewBalance()).isEqualByComparingTo("70.00");
+		assertThat(response.getToNewBalance()).isEqualByComparingTo("50.00");
+		assertThat(balance(from)).isEqualByComparingTo("70.00");
+		assertThat(balance(to)).isEqualByComparingTo("50.00");
+
+		List<byte[]> payloads = jdbcTemplate.queryForList("SELECT payload FROM transaction_outbox", byte[].class);
+		assertThat(payloads).hasSize(1);
+		TransactionEvent event = codecs.decode(payloads.get(0));
+		assertThat(event.getTransactionId()).isEqualTo(response.getTransferId());
+		assertThat(event.getTransactionType()).isEqualTo(TransactionType.TRANSFER);
+		assertThat(event.getAccountNo()).isEqualTo(from);
+		assertThat(event.getCounterpartyAccountNo()).isEqualTo(to);
+		assertThat(event.getAmount()).isEqualTo(Money.of("30.00"));
+		assertThat(event.getCounterpartyNewBalance()).isEqualTo(Money.of("50.00"));
+
+		assertThat(jdbcTemplate.queryForObject("SELECT delta FROM account_events WHERE account_no = ? "
+				+ "AND transaction_id = ?", BigDecimal.class, from, response.getTransferId()))
+				.isEqualByComparingTo("-30.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT delta FROM account_events WHERE account_no = ? "
+				+ "AND transaction_id = ?", BigDecimal.class, to, response.getTransferId()))
+				.isEqualByComparingTo("30.00");
+	}
+
+	@Test
+	@DisplayName("Yetersiz bakiye ya da aynı hesap hiçbir bakiyeyi değiştirmemeli")
+	void transfer_RejectedTransferChangesNothing() {
+		// Given
+		String from = openAccount("10.00");
+		String to = openAccount("10.00");
+
+		// When / Then
+		assertThatThrownBy(() -> transferService.transfer(request(from, to, "10.01"), null))
+				.isInstanceOf(InsufficientBalanceException.class);
+		assertThatThrownBy(() -> transferService.transfer(request(from, from, "1.00"), null))
+				.isInstanceOf(InvalidTransferException.class);
+		assertThat(balance(from)).isEqualByComparingTo("10.00");
+		assertThat(balance(to)).isEqualByComparingTo("10.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox", Integer.class)).isZero();
+	}
+
+	@Test
+	@DisplayName("Ters yönlü eşzamanlı transferler kilitlenmeden tamamlanmalı, toplam bakiye korunmalı")
+	void concurrentOppositeTransfers_NoDeadlockTotalConserved() throws Exception {
+		// Given
+		String first = openAccount("1000.00");
+		String second = openAccount("1000.00");
+		int transfers = 40;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// When - yarısı A→B, yarısı B→A
+		List<Future<TransferResponseDto>> futures = new ArrayList<>();
+		for (int i = 0; i < transfers; i++) {
+			TransferRequestDto request = i % 2 == 0 ? request(first, second, "3.00") : request(second, first, "1.00");
+			futures.add(executor.submit(() -> transferService.transfer(request, null)));
+		}
+		for (Future<TransferResponseDto> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// Then
+		assertThat(balance(first)).isEqualByComparingTo("960.00");
+		assertThat(balance(second)).isEqualByComparingTo("1040.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox", Integer.class))
+				.isEqualTo(transfers);
+	}
+
+	private TransferRequestDto request(String from, String to, String amount) {
+		TransferRequestDto request = new TransferRequestDto();
+		request.setFromAccountNo(from);
+		request.setToAccountNo(to);
+		request.setAmount(Money.of(amount));
+		request.setExplanation("transfer");
+		return request;
+	}
+
+	private String openAccount(String firstAmount) {
+		AccountRequestDto request = new AccountRequestDto();
+		request.setCustomerId(1L);
+		request.setAccountType(AccountType.VADESIZ);
+		request.setFirstAmount(new BigDecimal(firstAmount));
+		return accountService.accountOpen(request).getAccountNo();
+	}
+
+	private BigDecimal balance(String accountNo) {
+		return jdbcTemplate.queryForObject("SELECT amount FROM accounts WHERE account_no = ?", BigDecimal.class,
+				accountNo);
+	}
+}
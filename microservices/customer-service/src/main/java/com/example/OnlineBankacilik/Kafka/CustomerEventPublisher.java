@@ -0,0 +1,57 @@
+package com.example.OnlineBankacilik.Kafka;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.OnlineBankacilik.dto.CustomerChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Müşteri değişikliklerini commit sonrası Kafka'ya yayınlar
+ * Rollback olan değişiklikler event üretmez. Anahtar customerId olduğu için aynı müşterinin
+ * event'leri tek partition'da sırayla tüketilir.
+ * Gönderim hatası isteği bozmaz; tüketici tarafında cache TTL'i olası kaybı süre ile sınırlar.
+ */
+@Slf4j
+@Component
+public class CustomerEventPublisher {
+
+	private final ObjectProvider<KafkaTemplate<String, String>> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${app.kafka.customer-topic:customer-events}")
+	private String customerTopic;
+
+	public CustomerEventPublisher(ObjectProvider<KafkaTemplate<String, String>> kafkaTemplate,
+			ObjectMapper objectMapper) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onCustomerChanged(CustomerChangedEvent event) {
+		KafkaTemplate<String, String> template = kafkaTemplate.getIfAvailable();
+		if (template == null) {
+			log.debug("Kafka yapılandırılmamış, müşteri event'i gönderilmedi: {}", event);
+			return;
+		}
+		try {
+			String payload = objectMapper.writeValueAsString(event);
+			template.send(customerTopic, String.valueOf(event.getCustomerId()), payload).whenComplete((result, ex) -> {
+				if (ex != null) {
+					log.warn("Müşteri event'i gönderilemedi: tip={}, müşteriId={}", event.getType(),
+							event.getCustomerId(), ex);
+				}
+			});
+		} catch (JsonProcessingException e) {
+			log.error("Müşteri event'i serileştirilemedi: {}", event, e);
+		}
+	}
+}
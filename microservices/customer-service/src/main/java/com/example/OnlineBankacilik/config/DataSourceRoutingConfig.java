@@ -0,0 +1,78 @@
+package com.example.OnlineBankacilik.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.OnlineBankacilik.datasource.ReadYourWritesFilter;
+import com.example.OnlineBankacilik.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read replica yönlendirmesi (app.datasource.replica.enabled=true)
+ * İki ayrı Hikari havuzu kurulur (pool=primary / pool=replica; hikaricp.connections.* metrikleri havuz bazında):
+ * spring.datasource.* primary'yi, app.datasource.replica.* replica'yı tanımlar. Uygulamanın gördüğü DataSource
+ * ReplicaRoutingDataSource'tur; JPA, JdbcTemplate ve Flyway aynı bean'i kullanır.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Value("${app.datasource.replica.url}") String url,
+			@Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+			@Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+		HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+				.driverClassName(properties.determineDriverClassName()).url(url).username(username).password(password)
+				.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, MeterRegistry meterRegistry,
+			@Value("${app.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, readYourWritesWindow,
+				meterRegistry);
+		routing.afterPropertiesSet();
+		log.info("Read replica yönlendirmesi açık: readYourWritesWindow={}", readYourWritesWindow);
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+	@Bean
+	public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+		FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
@@ -36,6 +36,12 @@ public class CustomerController {
 		return ResponseEntity.ok(customerService.allList());
 	}
 
+	// Toplu varlık kontrolü: gövdedeki id'lerden mevcut olanları döner
+	@PostMapping("/existing-ids")
+	public ResponseEntity<List<Long>> existingIds(@RequestBody List<Long> ids) {
+		return ResponseEntity.ok(customerService.existingIds(ids));
+	}
+
 	@GetMapping("/{customerId}")
 	public ResponseEntity<CustomerResponseDto> getByCustomerId(@PathVariable Long customerId) {
 		return ResponseEntity.ok(customerService.getById(customerId));
@@ -0,0 +1,30 @@
+package com.example.OnlineBankacilik.datasource;
+
+import java.time.Duration;
+
+/**
+ * Aynı istek (thread) içindeki son yazma zamanı
+ * Yazma transaction'ı primary bağlantısı aldığında işaretlenir; pencere içindeki readOnly okumalar replikasyon
+ * gecikmesine takılmasın diye primary'ye gider. HTTP isteği bitince ReadYourWritesFilter temizler;
+ * istek dışı thread'lerde işaret pencere dolunca kendiliğinden düşer.
+ */
+public final class ReadYourWrites {
+
+	private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+
+	private ReadYourWrites() {
+	}
+
+	public static void markWrite() {
+		LAST_WRITE.set(System.nanoTime());
+	}
+
+	public static boolean wroteWithin(Duration window) {
+		Long lastWrite = LAST_WRITE.get();
+		return lastWrite != null && System.nanoTime() - lastWrite < window.toNanos();
+	}
+
+	public static void clear() {
+		LAST_WRITE.remove();
+	}
+}
@@ -0,0 +1,26 @@
+package com.example.OnlineBankacilik.datasource;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * İstek bitince read-your-writes işaretini temizler; havuzlanmış thread'lerde sonraki istek replica'dan okur
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReadYourWrites.clear();
+		}
+	}
+}
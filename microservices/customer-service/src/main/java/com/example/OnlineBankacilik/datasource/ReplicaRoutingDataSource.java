@@ -0,0 +1,65 @@
+package com.example.OnlineBankacilik.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * readOnly transaction'ları replica havuzuna, diğer her şeyi primary'ye yönlendirir
+ * Karar bağlantı alınırken verilir; transaction'ın readOnly bayrağı bağlantıdan önce bilinsin diye
+ * LazyConnectionDataSourceProxy arkasında kullanılmalıdır (DataSourceRoutingConfig).
+ * Transaction dışındaki sorgular (migration vb.) primary'de kalır.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	static final String PRIMARY = "primary";
+	static final String REPLICA = "replica";
+
+	private final Duration readYourWritesWindow;
+	private final Counter writes;
+	private final Counter replicaReads;
+	private final Counter fallbackReads;
+
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow,
+			MeterRegistry meterRegistry) {
+		this.readYourWritesWindow = readYourWritesWindow;
+		this.writes = routingCounter(meterRegistry, PRIMARY, "write");
+		this.replicaReads = routingCounter(meterRegistry, REPLICA, "read");
+		this.fallbackReads = routingCounter(meterRegistry, PRIMARY, "read-your-writes");
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+		return Counter.builder("datasource.routing")
+				.description("Bağlantı yönlendirme kararları")
+				.tag("target", target)
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return PRIMARY;
+		}
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			ReadYourWrites.markWrite();
+			writes.increment();
+			return PRIMARY;
+		}
+		if (ReadYourWrites.wroteWithin(readYourWritesWindow)) {
+			fallbackReads.increment();
+			return PRIMARY;
+		}
+		replicaReads.increment();
+		return REPLICA;
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.OnlineBankacilik.enums.CustomerEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Müşteri değişiklik event'i (customer-events topic'i, anahtar: customerId)
+ * account-service yerel müşteri varlık cache'ini bu event'lerle güncel tutar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerChangedEvent {
+
+	private CustomerEventType type;
+	private Long customerId;
+	private String nameSurname;
+	private LocalDateTime occurredAt;
+}
@@ -1,10 +1,17 @@
 package com.example.OnlineBankacilik.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.OnlineBankacilik.entity.Customer;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
+	// Sadece id projeksiyonu; müşteri satırları yüklenmez
+	@Query("SELECT c.id FROM Customer c WHERE c.id IN :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
-
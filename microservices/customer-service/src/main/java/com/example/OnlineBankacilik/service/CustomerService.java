@@ -16,5 +16,7 @@ public interface CustomerService {
 	CustomerResponseDto update(Long id, CustomerRequestDto dto);
 
 	void delete(Long id);
+
+	List<Long> existingIds(List<Long> ids);
 }
 
@@ -1,17 +1,20 @@
 package com.example.OnlineBankacilik.service.impl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import com.example.OnlineBankacilik.dto.CustomerChangedEvent;
 import com.example.OnlineBankacilik.dto.CustomerRequestDto;
 import com.example.OnlineBankacilik.dto.CustomerResponseDto;
 import com.example.OnlineBankacilik.entity.Customer;
+import com.example.OnlineBankacilik.enums.CustomerEventType;
 import com.example.OnlineBankacilik.exception.CustomerNotFoundException;
 import com.example.OnlineBankacilik.repository.CustomerRepository;
 import com.example.OnlineBankacilik.service.CustomerService;
@@ -24,6 +27,7 @@ public class CustomerServiceImpl implements CustomerService {
 
 	
 	private final CustomerRepository customerRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private CustomerResponseDto toDto(Customer c) {
 		CustomerResponseDto crd = new CustomerResponseDto();
@@ -46,11 +50,14 @@ public class CustomerServiceImpl implements CustomerService {
 		customer.setEmail(dto.getEmail());
 		customer.setNumber(dto.getNumber());
 
-		return toDto(customerRepository.save(customer));
+		Customer saved = customerRepository.save(customer);
+		publish(CustomerEventType.CREATED, saved.getId(), saved.getNameSurname());
+		return toDto(saved);
 	}
 
 	@Override
 	@Cacheable(value = "customers") // tüm listeyi cache'le
+	@Transactional(readOnly = true)
 	public List<CustomerResponseDto> allList() {
 		System.out.println(">>> allList() METODU ÇALIŞTI – DB'YE GİDİYORUM");
 		List<Customer> customers = customerRepository.findAll();
@@ -62,6 +69,7 @@ public class CustomerServiceImpl implements CustomerService {
 
 	@Override
 	@Cacheable(value = "customerById", key = "#id") // id'ye göre cache'le
+	@Transactional(readOnly = true)
 	public CustomerResponseDto getById(Long id) {
 		return customerRepository.findById(id).map(this::toDto).orElseThrow(() -> new CustomerNotFoundException(id));
 	}
@@ -75,7 +83,9 @@ public class CustomerServiceImpl implements CustomerService {
 		customer.setNumber(dto.getNumber());
 		customer.setTcKimlikNo(dto.getTcKimlikNo());
 
-		return toDto(customerRepository.save(customer));
+		Customer saved = customerRepository.save(customer);
+		publish(CustomerEventType.UPDATED, saved.getId(), saved.getNameSurname());
+		return toDto(saved);
 	}
 
 	@Override
@@ -84,6 +94,24 @@ public class CustomerServiceImpl implements CustomerService {
 		if (!customerRepository.existsById(id))
 			throw new CustomerNotFoundException(id);
 		customerRepository.deleteById(id);
+		publish(CustomerEventType.DELETED, id, null);
+	}
+
+	/**
+	 * Verilen id'lerden mevcut olanlar (toplu hesap açma doğrulaması için tek sorgu)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> existingIds(List<Long> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return List.of();
+		}
+		return customerRepository.findExistingIds(ids.stream().distinct().toList());
+	}
+
+	// Kafka'ya gönderim commit sonrası CustomerEventPublisher'da yapılır
+	private void publish(CustomerEventType type, Long customerId, String nameSurname) {
+		eventPublisher.publishEvent(new CustomerChangedEvent(type, customerId, nameSurname, LocalDateTime.now()));
 	}
 
 }
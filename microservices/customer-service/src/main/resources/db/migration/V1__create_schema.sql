@@ -0,0 +1,14 @@
+-- customer-service başlangıç şeması
+-- IF NOT EXISTS: ddl-auto: update ile oluşmuş mevcut veritabanları baseline (0) sonrası bu script'i sorunsuz çalıştırır
+
+CREATE TABLE IF NOT EXISTS customers (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name_surname      VARCHAR(100) NOT NULL,
+    tc_kimlik_no      VARCHAR(11)  NOT NULL,
+    phone_number      VARCHAR(20),
+    email             VARCHAR(100),
+    registration_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_customers PRIMARY KEY (id),
+    CONSTRAINT uk_customers_tc_kimlik_no UNIQUE (tc_kimlik_no),
+    CONSTRAINT uk_customers_email UNIQUE (email)
+);
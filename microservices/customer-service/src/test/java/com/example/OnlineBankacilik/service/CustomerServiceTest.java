@@ -16,10 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.example.OnlineBankacilik.dto.CustomerChangedEvent;
 import com.example.OnlineBankacilik.dto.CustomerRequestDto;
 import com.example.OnlineBankacilik.dto.CustomerResponseDto;
 import com.example.OnlineBankacilik.entity.Customer;
+import com.example.OnlineBankacilik.enums.CustomerEventType;
 import com.example.OnlineBankacilik.exception.CustomerNotFoundException;
 import com.example.OnlineBankacilik.repository.CustomerRepository;
 import com.example.OnlineBankacilik.service.impl.CustomerServiceImpl;
@@ -31,6 +34,9 @@ class CustomerServiceTest {
 	@Mock
 	private CustomerRepository customerRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private CustomerServiceImpl customerService;
 
@@ -82,6 +88,8 @@ class CustomerServiceTest {
 		assertEquals("5551234567", result.getNumber());
 		assertEquals("ali.veli@example.com", result.getEmail());
 		verify(customerRepository, times(1)).save(any(Customer.class));
+		verify(eventPublisher, times(1)).publishEvent(argThat((Object e) -> e instanceof CustomerChangedEvent c
+				&& c.getType() == CustomerEventType.CREATED && c.getCustomerId() == 1L));
 	}
 
 	@Test
@@ -215,6 +223,8 @@ class CustomerServiceTest {
 		// Then
 		verify(customerRepository, times(1)).existsById(1L);
 		verify(customerRepository, times(1)).deleteById(1L);
+		verify(eventPublisher, times(1)).publishEvent(argThat((Object e) -> e instanceof CustomerChangedEvent c
+				&& c.getType() == CustomerEventType.DELETED && c.getCustomerId() == 1L));
 	}
 
 	@Test
@@ -227,6 +237,22 @@ class CustomerServiceTest {
 		assertThrows(CustomerNotFoundException.class, () -> customerService.delete(999L));
 		verify(customerRepository, times(1)).existsById(999L);
 		verify(customerRepository, never()).deleteById(anyLong());
+		verifyNoInteractions(eventPublisher);
 	}
-}
 
+	@Test
+	@DisplayName("Should return existing customer ids with a single deduplicated query")
+	void testExistingIds_Success() {
+		// Given
+		when(customerRepository.findExistingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+		// When
+		List<Long> result = customerService.existingIds(List.of(1L, 2L, 1L, 3L));
+
+		// Then
+		assertEquals(List.of(1L, 3L), result);
+		verify(customerRepository, times(1)).findExistingIds(List.of(1L, 2L, 3L));
+		assertTrue(customerService.existingIds(List.of()).isEmpty());
+		verifyNoMoreInteractions(customerRepository);
+	}
+}
@@ -5,15 +5,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
 
 /**
  * Account Service Feign Client
  * Doğrudan account-service ile iletişim kurar (Eureka service discovery kullanır)
  * Resilience4j ile Circuit Breaker, Retry ve Timeout desteği
  * Resilience4j yapılandırması application.yml'de tanımlıdır
+ * Yatırma/çekme/transfer Idempotency-Key ile gönderilir: retry aynı anahtarı taşıdığından, account-service commit
+ * ettikten sonra düşen timeout'un tekrarı parayı ikinci kez işlemez (ilk cevap döner).
  */
 @FeignClient(name = "account-service", fallback = AccountServiceClientFallback.class)
 public interface AccountServiceClient {
@@ -21,11 +26,19 @@ public interface AccountServiceClient {
     @GetMapping("/accounts/{accountNo}")
     AccountResponseDto getAccount(@PathVariable("accountNo") String accountNo);
 
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @PostMapping("/accounts/{accountNo}/deposit")
-    AccountResponseDto deposit(@PathVariable("accountNo") String accountNo, @RequestBody TransactionRequestDto request);
+    AccountResponseDto deposit(@PathVariable("accountNo") String accountNo,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey, @RequestBody TransactionRequestDto request);
 
     @PostMapping("/accounts/{accountNo}/withdraw")
-    AccountResponseDto withdraw(@PathVariable("accountNo") String accountNo, @RequestBody TransactionRequestDto request);
+    AccountResponseDto withdraw(@PathVariable("accountNo") String accountNo,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey, @RequestBody TransactionRequestDto request);
+
+    @PostMapping("/accounts/transfers")
+    TransferResponseDto transfer(@RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @RequestBody TransferRequestDto request);
 
     @PostMapping("/accounts/{accountNo}/interest")
     AccountResponseDto processInterest(@PathVariable("accountNo") String accountNo);
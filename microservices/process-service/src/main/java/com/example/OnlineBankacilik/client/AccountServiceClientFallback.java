@@ -4,6 +4,8 @@ import org.springframework.stereotype.Component;
 
 import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
 import com.example.OnlineBankacilik.exception.AccountNotFoundException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,17 +25,24 @@ public class AccountServiceClientFallback implements AccountServiceClient {
 	}
 
 	@Override
-	public AccountResponseDto deposit(String accountNo, TransactionRequestDto request) {
+	public AccountResponseDto deposit(String accountNo, String idempotencyKey, TransactionRequestDto request) {
 		log.error("Account Service fallback triggered for deposit - accountNo: {}", accountNo);
 		throw new RuntimeException("Account Service geçici olarak kullanılamıyor. Para yatırma işlemi gerçekleştirilemedi.");
 	}
 
 	@Override
-	public AccountResponseDto withdraw(String accountNo, TransactionRequestDto request) {
+	public AccountResponseDto withdraw(String accountNo, String idempotencyKey, TransactionRequestDto request) {
 		log.error("Account Service fallback triggered for withdraw - accountNo: {}", accountNo);
 		throw new RuntimeException("Account Service geçici olarak kullanılamıyor. Para çekme işlemi gerçekleştirilemedi.");
 	}
 
+	@Override
+	public TransferResponseDto transfer(String idempotencyKey, TransferRequestDto request) {
+		log.error("Account Service fallback triggered for transfer - from: {}, to: {}", request.getFromAccountNo(),
+				request.getToAccountNo());
+		throw new RuntimeException("Account Service geçici olarak kullanılamıyor. Transfer işlemi gerçekleştirilemedi.");
+	}
+
 	@Override
 	public AccountResponseDto processInterest(String accountNo) {
 		log.error("Account Service fallback triggered for processInterest - accountNo: {}", accountNo);
@@ -0,0 +1,98 @@
+package com.example.OnlineBankacilik.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual thread pinning koruması
+ * Virtual thread modu açıkken (spring.threads.virtual.enabled) JFR jdk.VirtualThreadPinned event'lerini dinler.
+ * JDK 21'de synchronized blok/metot içinde bloklanan bir virtual thread taşıyıcı (carrier) thread'i
+ * bırakamaz; bu süre eşiği aşarsa event üretilir.
+ * Her pinning sayılır (jvm.threads.virtual.pinned); aynı noktadan gelen tekrarlar log'u doldurmasın diye
+ * her farklı stack yalnızca ilk görüldüğünde WARN ile loglanır.
+ * Bulunan noktalar synchronized yerine ReentrantLock'a taşınmalıdır.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+	static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int MAX_LOGGED_STACKS = 256;
+	private static final int LOGGED_FRAMES = 8;
+
+	private final Duration threshold;
+	private final Counter pinnedCounter;
+	private final Timer pinnedTimer;
+	private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+			@Value("${app.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+		this.threshold = threshold;
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+				.description("Eşiği aşan virtual thread pinning sayısı")
+				.register(meterRegistry);
+		this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+				.description("Virtual thread'in taşıyıcıya sabitlendiği süre")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+		log.info("Virtual thread pinning izleme başladı: eşik={}", threshold);
+	}
+
+	void onPinned(RecordedEvent event) {
+		pinnedCounter.increment();
+		pinnedTimer.record(event.getDuration());
+		String stack = describe(event);
+		if (loggedStacks.size() < MAX_LOGGED_STACKS && loggedStacks.add(stack)) {
+			log.warn("Virtual thread pinning tespit edildi: süre={}ms, thread={}\n{}", event.getDuration().toMillis(),
+					event.getThread() != null ? event.getThread().getJavaName() : "?", stack);
+		}
+	}
+
+	private static String describe(RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return "\tat <stack yok>";
+		}
+		List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		return frames.stream()
+				.limit(LOGGED_FRAMES)
+				.map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+						+ ":" + frame.getLineNumber())
+				.collect(Collectors.joining("\n"));
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (stream != null) {
+			stream.close();
+		}
+	}
+}
@@ -7,11 +7,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.OnlineBankacilik.client.AccountServiceClient;
 import com.example.OnlineBankacilik.dto.ProcessRequestDto;
 import com.example.OnlineBankacilik.dto.ProcessResponseDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
 import com.example.OnlineBankacilik.service.ProcessService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,13 +27,24 @@ public class ProcessController {
 	private final ProcessService processService;
 
 	@PostMapping("/deposit-money")
-	public ResponseEntity<ProcessResponseDto> depositMoney(@Valid @RequestBody ProcessRequestDto dto) {
-		return ResponseEntity.ok(processService.deposit(dto));
+	public ResponseEntity<ProcessResponseDto> depositMoney(
+			@RequestHeader(name = AccountServiceClient.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@Valid @RequestBody ProcessRequestDto dto) {
+		return ResponseEntity.ok(processService.deposit(dto, idempotencyKey));
 	}
 
 	@PostMapping("/withdraw-money")
-	public ResponseEntity<ProcessResponseDto> withdrawMoney(@Valid @RequestBody ProcessRequestDto dto) {
-		return ResponseEntity.ok(processService.withdraw(dto));
+	public ResponseEntity<ProcessResponseDto> withdrawMoney(
+			@RequestHeader(name = AccountServiceClient.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@Valid @RequestBody ProcessRequestDto dto) {
+		return ResponseEntity.ok(processService.withdraw(dto, idempotencyKey));
+	}
+
+	@PostMapping("/transfer-money")
+	public ResponseEntity<ProcessResponseDto> transferMoney(
+			@RequestHeader(name = AccountServiceClient.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@Valid @RequestBody TransferRequestDto dto) {
+		return ResponseEntity.ok(processService.transfer(dto, idempotencyKey));
 	}
 
 	@GetMapping("/amount/{accountNo}")
@@ -19,6 +19,7 @@ public class ProcessResponseDto {
 	private boolean succesfull;
 	private java.math.BigDecimal interestRate;
 	private String numberOfAccount;
+	private String counterpartyAccountNo;
 	private LocalDateTime registrationDate;
 }
 
@@ -0,0 +1,21 @@
+package com.example.OnlineBankacilik.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class TransferRequestDto {
+
+	@NotBlank
+	private String fromAccountNo;
+	@NotBlank
+	private String toAccountNo;
+	@NotNull
+	@DecimalMin(value = "0.0", inclusive = false)
+	private BigDecimal amount;
+	private String explanation;
+}
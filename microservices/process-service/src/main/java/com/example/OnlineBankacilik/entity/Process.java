@@ -14,6 +14,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
@@ -21,7 +22,10 @@ import jakarta.persistence.Table;
 @Entity
 @Getter
 @Setter
-@Table(name = "processes")
+@Table(name = "processes",
+		indexes = { @Index(name = "idx_processes_account_no_date", columnList = "account_no, transaction_date"),
+				@Index(name = "idx_processes_counterparty_date",
+						columnList = "counterparty_account_no, transaction_date") })
 public class Process {
 
 	@Id
@@ -60,6 +64,19 @@ public class Process {
 	@Column(name = "successful", nullable = false)
 	private boolean successful = true;
 
+	// TRANSFER: yukarıdaki hesap ve bakiyeler borçlanan hesabın, aşağıdakiler alacaklanan hesabın
+	@Column(name = "counterparty_account_no", length = 50)
+	private String counterpartyAccountNo;
+
+	@Column(name = "counterparty_customer_id")
+	private Long counterpartyCustomerId;
+
+	@Column(name = "counterparty_previous_balance", precision = 19, scale = 2)
+	private BigDecimal counterpartyPreviousBalance;
+
+	@Column(name = "counterparty_new_balance", precision = 19, scale = 2)
+	private BigDecimal counterpartyNewBalance;
+
 	@PrePersist
 	protected void onCreate() {
 		if (transactionDate == null) {
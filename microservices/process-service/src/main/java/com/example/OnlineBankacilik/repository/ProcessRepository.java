@@ -3,11 +3,20 @@ package com.example.OnlineBankacilik.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProcessRepository extends JpaRepository<com.example.OnlineBankacilik.entity.Process, Long> {
 
 	long count();
 
 	List<com.example.OnlineBankacilik.entity.Process> findByAccountNo(String accountNo);
+
+	/**
+	 * Hesabın kendi işlemleri ve karşı hesap olduğu transferler, tarih sırasıyla
+	 */
+	@Query("SELECT p FROM Process p WHERE p.accountNo = :accountNo OR p.counterpartyAccountNo = :accountNo "
+			+ "ORDER BY p.transactionDate")
+	List<com.example.OnlineBankacilik.entity.Process> findHistory(@Param("accountNo") String accountNo);
 }
 
@@ -4,12 +4,21 @@ import java.util.List;
 
 import com.example.OnlineBankacilik.dto.ProcessRequestDto;
 import com.example.OnlineBankacilik.dto.ProcessResponseDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
 
 public interface ProcessService {
 
-	ProcessResponseDto deposit(ProcessRequestDto dto);
+	/**
+	 * idempotencyKey verilmezse istek başına üretilir; account-service'e yapılan çağrının tekrarları aynı anahtarı taşır
+	 */
+	ProcessResponseDto deposit(ProcessRequestDto dto, String idempotencyKey);
 
-	ProcessResponseDto withdraw(ProcessRequestDto dto);
+	ProcessResponseDto withdraw(ProcessRequestDto dto, String idempotencyKey);
+
+	/**
+	 * Transfer account-service'te tek transaction'da yapılır; geçmişe iki hesapta da görünen tek kayıt yazılır
+	 */
+	ProcessResponseDto transfer(TransferRequestDto dto, String idempotencyKey);
 
 	ProcessResponseDto amount(String accountNo);
 
@@ -2,6 +2,7 @@ package com.example.OnlineBankacilik.service.impl;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +12,8 @@ import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.ProcessRequestDto;
 import com.example.OnlineBankacilik.dto.ProcessResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
 import com.example.OnlineBankacilik.enums.AccountType;
 import com.example.OnlineBankacilik.enums.TransactionType;
 import com.example.OnlineBankacilik.entity.Process;
@@ -54,6 +57,11 @@ public class ProcessServiceImpl implements ProcessService {
 		}
 	}
 
+	// Anahtar Feign çağrısından önce belirlenir; Resilience4j retry'ı aynı argümanlarla tekrar çağırır
+	private static String idempotencyKeyOrNew(String idempotencyKey) {
+		return idempotencyKey == null || idempotencyKey.isBlank() ? UUID.randomUUID().toString() : idempotencyKey;
+	}
+
 	private String nextTxnCode() {
 		Long c = processRepository.count() + 1;
 		return String.format("TXN-%03d", c);
@@ -76,8 +84,27 @@ public class ProcessServiceImpl implements ProcessService {
 		return prd;
 	}
 
+	/**
+	 * Transfer kaydı, bakış açısı hesabına göre: alacaklanan hesabın geçmişinde kendi bakiyeleri görünür
+	 */
+	private ProcessResponseDto toDto(Process pr, String accountNo) {
+		boolean credited = accountNo.equals(pr.getCounterpartyAccountNo());
+		ProcessResponseDto prd = new ProcessResponseDto();
+		prd.setCustomerId(credited ? pr.getCounterpartyCustomerId() : pr.getCustomerId());
+		prd.setNumberOfAccount(accountNo);
+		prd.setCounterpartyAccountNo(credited ? pr.getAccountNo() : pr.getCounterpartyAccountNo());
+		prd.setTransactionType(pr.getTransactionType());
+		prd.setRegistrationDate(pr.getTransactionDate());
+		prd.setAmount(pr.getAmount());
+		prd.setPreviousBalance(credited ? pr.getCounterpartyPreviousBalance() : pr.getPreviousBalance());
+		prd.setNewBalance(credited ? pr.getCounterpartyNewBalance() : pr.getNewBalance());
+		prd.setExplanation(pr.getExplanation());
+		prd.setSuccesfull(pr.isSuccessful());
+		return prd;
+	}
+
 	@Override
-	public ProcessResponseDto deposit(ProcessRequestDto dto) {
+	public ProcessResponseDto deposit(ProcessRequestDto dto, String idempotencyKey) {
 		if (dto.getAmount().compareTo(BigDecimal.ZERO) <= 0)
 			throw new InvalidAmountException();
 		
@@ -93,7 +120,8 @@ public class ProcessServiceImpl implements ProcessService {
 		TransactionRequestDto transactionRequest = new TransactionRequestDto();
 		transactionRequest.setAmount(dto.getAmount());
 		transactionRequest.setExplanation(dto.getExplanation());
-		AccountResponseDto updatedAccount = accountServiceClient.deposit(dto.getAccountNo(), transactionRequest);
+		AccountResponseDto updatedAccount = accountServiceClient.deposit(dto.getAccountNo(),
+				idempotencyKeyOrNew(idempotencyKey), transactionRequest);
 		
 		Process process = new Process();
 		process.setTransactionCode(nextTxnCode());
@@ -111,7 +139,7 @@ public class ProcessServiceImpl implements ProcessService {
 	}
 
 	@Override
-	public ProcessResponseDto withdraw(ProcessRequestDto dto) {
+	public ProcessResponseDto withdraw(ProcessRequestDto dto, String idempotencyKey) {
 		if (dto.getAmount().compareTo(BigDecimal.ZERO) <= 0)
 			throw new InvalidAmountException();
 		
@@ -129,7 +157,8 @@ public class ProcessServiceImpl implements ProcessService {
 		TransactionRequestDto transactionRequest = new TransactionRequestDto();
 		transactionRequest.setAmount(dto.getAmount());
 		transactionRequest.setExplanation(dto.getExplanation());
-		AccountResponseDto updatedAccount = accountServiceClient.withdraw(dto.getAccountNo(), transactionRequest);
+		AccountResponseDto updatedAccount = accountServiceClient.withdraw(dto.getAccountNo(),
+				idempotencyKeyOrNew(idempotencyKey), transactionRequest);
 
 		Process process = new Process();
 		process.setTransactionCode(nextTxnCode());
@@ -146,6 +175,34 @@ public class ProcessServiceImpl implements ProcessService {
 		return toDto(saved, updatedAccount);
 	}
 
+	@Override
+	public ProcessResponseDto transfer(TransferRequestDto dto, String idempotencyKey) {
+		if (dto.getAmount().compareTo(BigDecimal.ZERO) <= 0)
+			throw new InvalidAmountException();
+
+		// Bakiye, aktiflik ve aynı hesap kontrolleri account-service'te kilit altında yapılır
+		TransferResponseDto transfer = accountServiceClient.transfer(idempotencyKeyOrNew(idempotencyKey), dto);
+
+		Process process = new Process();
+		process.setTransactionCode(nextTxnCode());
+		process.setAccountNo(transfer.getFromAccountNo());
+		process.setCustomerId(transfer.getFromCustomerId());
+		process.setAmount(transfer.getAmount());
+		process.setTransactionType(TransactionType.TRANSFER);
+		process.setPreviousBalance(transfer.getFromPreviousBalance());
+		process.setNewBalance(transfer.getFromNewBalance());
+		process.setCounterpartyAccountNo(transfer.getToAccountNo());
+		process.setCounterpartyCustomerId(transfer.getToCustomerId());
+		process.setCounterpartyPreviousBalance(transfer.getToPreviousBalance());
+		process.setCounterpartyNewBalance(transfer.getToNewBalance());
+		process.setExplanation(dto.getExplanation());
+		process.setTransactionDate(transfer.getTransactionDate());
+		process.setSuccessful(true);
+		Process saved = processRepository.save(process);
+
+		return toDto(saved, saved.getAccountNo());
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public ProcessResponseDto amount(String accountNo) {
@@ -191,8 +248,8 @@ public class ProcessServiceImpl implements ProcessService {
 	@Override
 	public List<ProcessResponseDto> accountHistory(String accountNo) {
 		AccountResponseDto account = getAccount(accountNo);
-		return processRepository.findByAccountNo(accountNo).stream()
-				.map(pr -> toDto(pr, account))
+		return processRepository.findHistory(accountNo).stream()
+				.map(pr -> pr.getTransactionType() == TransactionType.TRANSFER ? toDto(pr, accountNo) : toDto(pr, account))
 				.toList();
 	}
 
@@ -0,0 +1,18 @@
+-- process-service başlangıç şeması
+-- IF NOT EXISTS: ddl-auto: update ile oluşmuş mevcut veritabanları baseline (0) sonrası bu script'i sorunsuz çalıştırır
+
+CREATE TABLE IF NOT EXISTS processes (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    transaction_code VARCHAR(50)    NOT NULL,
+    account_no       VARCHAR(50)    NOT NULL,
+    customer_id      BIGINT,
+    transaction_type VARCHAR(20)    NOT NULL,
+    amount           NUMERIC(19, 2) NOT NULL,
+    previous_balance NUMERIC(19, 2) NOT NULL,
+    new_balance      NUMERIC(19, 2) NOT NULL,
+    explanation      VARCHAR(500),
+    transaction_date TIMESTAMP(6)   NOT NULL,
+    successful       BOOLEAN        NOT NULL,
+    CONSTRAINT pk_processes PRIMARY KEY (id),
+    CONSTRAINT uk_processes_transaction_code UNIQUE (transaction_code)
+);
@@ -0,0 +1,3 @@
+-- ProcessRepository.findByAccountNo (hesap hareket geçmişi)
+-- transaction_date ikinci kolon: geçmiş tarih sırasıyla indeksten okunur, ayrı sıralama gerekmez
+CREATE INDEX IF NOT EXISTS idx_processes_account_no_date ON processes (account_no, transaction_date);
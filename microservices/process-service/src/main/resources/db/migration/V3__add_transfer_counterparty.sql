@@ -0,0 +1,8 @@
+-- Transfer: tek kayıt, karşı (alacaklanan) hesabın bilgileriyle
+-- ProcessRepository.findHistory hesabın karşı hesap olduğu transferleri de okur
+ALTER TABLE processes ADD COLUMN IF NOT EXISTS counterparty_account_no VARCHAR(50);
+ALTER TABLE processes ADD COLUMN IF NOT EXISTS counterparty_customer_id BIGINT;
+ALTER TABLE processes ADD COLUMN IF NOT EXISTS counterparty_previous_balance NUMERIC(19, 2);
+ALTER TABLE processes ADD COLUMN IF NOT EXISTS counterparty_new_balance NUMERIC(19, 2);
+
+CREATE INDEX IF NOT EXISTS idx_processes_counterparty_date ON processes (counterparty_account_no, transaction_date);
@@ -0,0 +1,189 @@
+package com.example.OnlineBankacilik.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.OnlineBankacilik.ProcessServiceApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Platform thread / virtual thread istek modu yük testi
+ * process-service aynı JVM'de (dolayısıyla aynı heap ile) sırayla iki modda ayağa kaldırılır:
+ * spring.threads.virtual.enabled=false ve true. account-service yerine her isteğe sabit gecikmeyle cevap veren
+ * bir stub kullanılır; ölçülen yol GET /processes/account-history/{accountNo} (Feign çağrısı + JDBC sorgusu).
+ * Her mod için throughput (istek/sn), p50/p99 gecikme, hata sayısı ve tepe thread sayısı loglanır.
+ * Çalıştırma (heap'i sabitlemek için MAVEN_OPTS ile):
+ * MAVEN_OPTS=-Xmx512m mvn test-compile exec:java -Dexec.mainClass=com.example.OnlineBankacilik.benchmark.ThreadModeLoadBenchmark -Dexec.classpathScope=test -Dexec.args="1000 20 50"
+ * Argümanlar: eşzamanlı istemci sayısı, ölçüm süresi (sn), account-service stub gecikmesi (ms)
+ * Yük üreteci de aynı JVM'de çalıştığından anlamlı sonuç için en az 4 çekirdek önerilir
+ * (virtual thread taşıyıcı sayısı çekirdek sayısı kadardır).
+ */
+@Slf4j
+public class ThreadModeLoadBenchmark {
+
+	private static final Duration WARMUP = Duration.ofSeconds(5);
+
+	public static void main(String[] args) throws Exception {
+		int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 20);
+		long downstreamLatencyMs = args.length > 2 ? Long.parseLong(args[2]) : 50;
+		// devtools restart classloader'ı iki context'i ayrı classloader'larda başlatmasın
+		System.setProperty("spring.devtools.restart.enabled", "false");
+
+		HttpServer accountStub = startAccountStub(downstreamLatencyMs);
+		try {
+			log.info("Yük testi: heap={}MB, istemci={}, süre={}s, account-service gecikmesi={}ms",
+					Runtime.getRuntime().maxMemory() / (1024 * 1024), clients, duration.toSeconds(), downstreamLatencyMs);
+			for (boolean virtual : new boolean[] { false, true }) {
+				run(virtual, clients, duration, accountStub.getAddress().getPort());
+			}
+		} finally {
+			accountStub.stop(0);
+		}
+	}
+
+	private static void run(boolean virtual, int clients, Duration duration, int stubPort) throws Exception {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(ProcessServiceApplication.class)
+				.profiles("test")
+				.properties("server.port=0",
+						"spring.threads.virtual.enabled=" + virtual,
+						"spring.cloud.openfeign.client.config.account-service.url=http://localhost:" + stubPort,
+						"spring.datasource.url=jdbc:h2:mem:loaddb-" + virtual + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+						// config-repo/process-service.yml ile aynı: bağlantı Feign çağrısı boyunca tutulmaz
+						"spring.datasource.hikari.auto-commit=false",
+						"spring.jpa.properties.hibernate.connection.provider_disables_autocommit=true",
+						"spring.jpa.open-in-view=false",
+						"spring.jpa.show-sql=false",
+						"logging.level.root=WARN",
+						// Sonuç satırları root WARN iken de yazılsın
+						"logging.level.com.example.OnlineBankacilik.benchmark=INFO")
+				.run();
+		ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+		try {
+			int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+			Result result = drive(URI.create("http://localhost:" + port + "/processes/account-history/"), clients,
+					duration);
+			log.info("Yük testi sonucu: mod={}, throughput={} istek/sn, p50={}ms, p99={}ms, hata={}, tepe thread={}",
+					virtual ? "virtual" : "platform", String.format("%.1f", result.throughput(duration)),
+					String.format("%.1f", result.percentileMillis(0.50)),
+					String.format("%.1f", result.percentileMillis(0.99)), result.errors,
+					ManagementFactory.getThreadMXBean().getPeakThreadCount());
+		} finally {
+			context.close();
+		}
+	}
+
+	private static Result drive(URI baseUri, int clients, Duration duration) throws Exception {
+		ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(executor)
+				.connectTimeout(Duration.ofSeconds(10))
+				.build();
+		long measureFrom = System.nanoTime() + WARMUP.toNanos();
+		long measureUntil = measureFrom + duration.toNanos();
+		AtomicLong errors = new AtomicLong();
+
+		List<Future<long[]>> futures = new ArrayList<>(clients);
+		for (int c = 0; c < clients; c++) {
+			HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(String.valueOf(1000 + c % 100)))
+					.timeout(Duration.ofSeconds(30))
+					.GET()
+					.build();
+			futures.add(executor.submit(() -> {
+				long[] latencies = new long[1024];
+				int count = 0;
+				long now;
+				while ((now = System.nanoTime()) < measureUntil) {
+					boolean ok;
+					try {
+						ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+					} catch (IOException e) {
+						ok = false;
+					}
+					long end = System.nanoTime();
+					if (now < measureFrom || end > measureUntil) {
+						continue;
+					}
+					if (!ok) {
+						errors.incrementAndGet();
+						continue;
+					}
+					if (count == latencies.length) {
+						latencies = Arrays.copyOf(latencies, count * 2);
+					}
+					latencies[count++] = end - now;
+				}
+				return Arrays.copyOf(latencies, count);
+			}));
+		}
+
+		List<long[]> perClient = new ArrayList<>(clients);
+		for (Future<long[]> future : futures) {
+			perClient.add(future.get());
+		}
+		executor.shutdown();
+		long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+		return new Result(all, errors.get());
+	}
+
+	private static HttpServer startAccountStub(long latencyMs) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/accounts/", exchange -> respond(exchange, latencyMs));
+		server.start();
+		return server;
+	}
+
+	private static void respond(HttpExchange exchange, long latencyMs) throws IOException {
+		try {
+			Thread.sleep(latencyMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		String accountNo = exchange.getRequestURI().getPath().substring("/accounts/".length());
+		byte[] body = ("{\"accountNo\":\"" + accountNo + "\",\"customerId\":1,\"accountType\":\"VADESIZ\","
+				+ "\"amount\":1000.00,\"active\":true}").getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private record Result(long[] sortedLatencies, long errors) {
+
+		double throughput(Duration duration) {
+			return sortedLatencies.length / (double) duration.toSeconds();
+		}
+
+		double percentileMillis(double percentile) {
+			if (sortedLatencies.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+			return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+		}
+	}
+}
@@ -21,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.OnlineBankacilik.dto.ProcessRequestDto;
 import com.example.OnlineBankacilik.dto.ProcessResponseDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
 import com.example.OnlineBankacilik.enums.TransactionType;
 import com.example.OnlineBankacilik.exception.AccountNotFoundException;
 import com.example.OnlineBankacilik.service.ProcessService;
@@ -86,7 +87,7 @@ class ProcessControllerTest {
 	@DisplayName("POST /processes/deposit-money - Should deposit money successfully")
 	void testDepositMoney_Success() throws Exception {
 		// Given
-		when(processService.deposit(any(ProcessRequestDto.class))).thenReturn(testDepositResponse);
+		when(processService.deposit(any(ProcessRequestDto.class), isNull())).thenReturn(testDepositResponse);
 
 		// When & Then
 		mockMvc.perform(post("/processes/deposit-money")
@@ -98,7 +99,50 @@ class ProcessControllerTest {
 				.andExpect(jsonPath("$.newBalance").value(1500.00))
 				.andExpect(jsonPath("$.succesfull").value(true));
 
-		verify(processService, times(1)).deposit(any(ProcessRequestDto.class));
+		verify(processService, times(1)).deposit(any(ProcessRequestDto.class), isNull());
+	}
+
+	@Test
+	@DisplayName("POST /processes/deposit-money - Should pass Idempotency-Key header to the service")
+	void testDepositMoney_WithIdempotencyKey() throws Exception {
+		// Given
+		when(processService.deposit(any(ProcessRequestDto.class), eq("client-key-1"))).thenReturn(testDepositResponse);
+
+		// When & Then
+		mockMvc.perform(post("/processes/deposit-money")
+				.header("Idempotency-Key", "client-key-1")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(testDepositRequest)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.transactionType").value("YATIRMA"));
+
+		verify(processService, times(1)).deposit(any(ProcessRequestDto.class), eq("client-key-1"));
+	}
+
+	@Test
+	@DisplayName("POST /processes/transfer-money - Should transfer money with the caller's Idempotency-Key")
+	void testTransferMoney_Success() throws Exception {
+		// Given
+		TransferRequestDto request = new TransferRequestDto();
+		request.setFromAccountNo("1001");
+		request.setToAccountNo("1002");
+		request.setAmount(new BigDecimal("300.00"));
+		ProcessResponseDto response = new ProcessResponseDto();
+		response.setNumberOfAccount("1001");
+		response.setCounterpartyAccountNo("1002");
+		response.setTransactionType(TransactionType.TRANSFER);
+		when(processService.transfer(any(TransferRequestDto.class), eq("client-key-2"))).thenReturn(response);
+
+		// When & Then
+		mockMvc.perform(post("/processes/transfer-money")
+				.header("Idempotency-Key", "client-key-2")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.transactionType").value("TRANSFER"))
+				.andExpect(jsonPath("$.counterpartyAccountNo").value("1002"));
+
+		verify(processService, times(1)).transfer(any(TransferRequestDto.class), eq("client-key-2"));
 	}
 
 	@Test
@@ -115,14 +159,14 @@ class ProcessControllerTest {
 				.content(objectMapper.writeValueAsString(invalidDto)))
 				.andExpect(status().isBadRequest());
 
-		verify(processService, never()).deposit(any(ProcessRequestDto.class));
+		verify(processService, never()).deposit(any(ProcessRequestDto.class), isNull());
 	}
 
 	@Test
 	@DisplayName("POST /processes/withdraw-money - Should withdraw money successfully")
 	void testWithdrawMoney_Success() throws Exception {
 		// Given
-		when(processService.withdraw(any(ProcessRequestDto.class))).thenReturn(testWithdrawResponse);
+		when(processService.withdraw(any(ProcessRequestDto.class), isNull())).thenReturn(testWithdrawResponse);
 
 		// When & Then
 		mockMvc.perform(post("/processes/withdraw-money")
@@ -134,7 +178,7 @@ class ProcessControllerTest {
 				.andExpect(jsonPath("$.newBalance").value(800.00))
 				.andExpect(jsonPath("$.succesfull").value(true));
 
-		verify(processService, times(1)).withdraw(any(ProcessRequestDto.class));
+		verify(processService, times(1)).withdraw(any(ProcessRequestDto.class), isNull());
 	}
 
 	@Test
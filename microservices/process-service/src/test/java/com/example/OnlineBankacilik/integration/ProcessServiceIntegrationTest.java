@@ -23,6 +23,7 @@ import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -65,7 +66,7 @@ class ProcessServiceIntegrationTest {
         afterDeposit.setActive(true);
 
         when(accountServiceClient.getAccount(accountNo)).thenReturn(beforeDeposit);
-        when(accountServiceClient.deposit(eq(accountNo), any(TransactionRequestDto.class)))
+        when(accountServiceClient.deposit(eq(accountNo), anyString(), any(TransactionRequestDto.class)))
                 .thenReturn(afterDeposit);
 
         // 1) Process isteği
@@ -22,6 +22,8 @@ import com.example.OnlineBankacilik.dto.AccountResponseDto;
 import com.example.OnlineBankacilik.dto.ProcessRequestDto;
 import com.example.OnlineBankacilik.dto.ProcessResponseDto;
 import com.example.OnlineBankacilik.dto.TransactionRequestDto;
+import com.example.OnlineBankacilik.dto.TransferRequestDto;
+import com.example.OnlineBankacilik.dto.TransferResponseDto;
 import com.example.OnlineBankacilik.entity.Process;
 import com.example.OnlineBankacilik.enums.AccountType;
 import com.example.OnlineBankacilik.enums.TransactionType;
@@ -89,11 +91,11 @@ class ProcessServiceTest {
 		when(accountServiceClient.getAccount("1001")).thenReturn(testAccount);
 		when(processRepository.count()).thenReturn(0L);
 		when(processRepository.save(any(Process.class))).thenReturn(testProcess);
-		when(accountServiceClient.deposit(eq("1001"), any(TransactionRequestDto.class)))
+		when(accountServiceClient.deposit(eq("1001"), anyString(), any(TransactionRequestDto.class)))
 				.thenReturn(testAccount);
 
 		// When
-		ProcessResponseDto result = processService.deposit(testDepositRequest);
+		ProcessResponseDto result = processService.deposit(testDepositRequest, null);
 
 		// Then
 		assertNotNull(result);
@@ -103,10 +105,30 @@ class ProcessServiceTest {
 		assertEquals(new BigDecimal("500.00"), result.getAmount());
 		assertTrue(result.isSuccesfull());
 		verify(accountServiceClient, times(1)).getAccount("1001");
-		verify(accountServiceClient, times(1)).deposit(eq("1001"), any(TransactionRequestDto.class));
+		verify(accountServiceClient, times(1)).deposit(eq("1001"), anyString(), any(TransactionRequestDto.class));
 		verify(processRepository, times(1)).save(any(Process.class));
 	}
 
+	@Test
+	@DisplayName("Should forward the caller's Idempotency-Key, or generate one when absent")
+	void testDeposit_ForwardsIdempotencyKey() {
+		// Given
+		when(accountServiceClient.getAccount("1001")).thenReturn(testAccount);
+		when(processRepository.save(any(Process.class))).thenReturn(testProcess);
+		when(accountServiceClient.deposit(eq("1001"), anyString(), any(TransactionRequestDto.class)))
+				.thenReturn(testAccount);
+
+		// When
+		processService.deposit(testDepositRequest, "client-key-1");
+		processService.deposit(testDepositRequest, null);
+
+		// Then
+		verify(accountServiceClient, times(1)).deposit(eq("1001"), eq("client-key-1"), any(TransactionRequestDto.class));
+		verify(accountServiceClient, times(1)).deposit(eq("1001"),
+				argThat(key -> key != null && !key.isBlank() && !key.equals("client-key-1")),
+				any(TransactionRequestDto.class));
+	}
+
 	@Test
 	@DisplayName("Should throw exception when account not found for deposit")
 	void testDeposit_AccountNotFound_ThrowsException() {
@@ -114,9 +136,9 @@ class ProcessServiceTest {
 		when(accountServiceClient.getAccount("9999")).thenReturn(null);
 
 		// When & Then
-		assertThrows(AccountNotFoundException.class, () -> processService.deposit(testDepositRequest));
+		assertThrows(AccountNotFoundException.class, () -> processService.deposit(testDepositRequest, null));
 		verify(accountServiceClient, times(1)).getAccount("1001");
-		verify(accountServiceClient, never()).deposit(anyString(), any(TransactionRequestDto.class));
+		verify(accountServiceClient, never()).deposit(anyString(), anyString(), any(TransactionRequestDto.class));
 		verify(processRepository, never()).save(any(Process.class));
 	}
 
@@ -143,11 +165,11 @@ class ProcessServiceTest {
 		when(accountServiceClient.getAccount("1001")).thenReturn(testAccount);
 		when(processRepository.count()).thenReturn(1L);
 		when(processRepository.save(any(Process.class))).thenReturn(withdrawProcess);
-		when(accountServiceClient.withdraw(eq("1001"), any(TransactionRequestDto.class)))
+		when(accountServiceClient.withdraw(eq("1001"), anyString(), any(TransactionRequestDto.class)))
 				.thenReturn(updatedAccount);
 
 		// When
-		ProcessResponseDto result = processService.withdraw(testWithdrawRequest);
+		ProcessResponseDto result = processService.withdraw(testWithdrawRequest, null);
 
 		// Then
 		assertNotNull(result);
@@ -156,7 +178,7 @@ class ProcessServiceTest {
 		assertEquals(new BigDecimal("800.00"), result.getNewBalance());
 		assertTrue(result.isSuccesfull());
 		verify(accountServiceClient, times(1)).getAccount("1001");
-		verify(accountServiceClient, times(1)).withdraw(eq("1001"), any(TransactionRequestDto.class));
+		verify(accountServiceClient, times(1)).withdraw(eq("1001"), anyString(), any(TransactionRequestDto.class));
 		verify(processRepository, times(1)).save(any(Process.class));
 	}
 
@@ -175,10 +197,10 @@ class ProcessServiceTest {
 		// When & Then
 		// ProcessServiceImpl'de bakiye kontrolü yapılıyor: former.compareTo(dto.getAmount()) < 0
 		// Bu durumda InsufficientBalanceException fırlatılıyor
-		assertThrows(InsufficientBalanceException.class, () -> processService.withdraw(largeWithdrawRequest));
+		assertThrows(InsufficientBalanceException.class, () -> processService.withdraw(largeWithdrawRequest, null));
 		verify(accountServiceClient, times(1)).getAccount("1001");
 		// withdraw() çağrılmıyor çünkü bakiye kontrolü önce yapılıyor ve exception fırlatılıyor
-		verify(accountServiceClient, never()).withdraw(anyString(), any(TransactionRequestDto.class));
+		verify(accountServiceClient, never()).withdraw(anyString(), anyString(), any(TransactionRequestDto.class));
 	}
 
 	@Test
@@ -229,7 +251,7 @@ class ProcessServiceTest {
 		process2.setTransactionDate(testDate);
 
 		List<Process> processes = Arrays.asList(process1, process2);
-		when(processRepository.findByAccountNo("1001")).thenReturn(processes);
+		when(processRepository.findHistory("1001")).thenReturn(processes);
 		when(accountServiceClient.getAccount("1001")).thenReturn(testAccount);
 
 		// When
@@ -240,9 +262,70 @@ class ProcessServiceTest {
 		assertEquals(2, result.size());
 		assertEquals(TransactionType.YATIRMA, result.get(0).getTransactionType());
 		assertEquals(TransactionType.CEKME, result.get(1).getTransactionType());
-		verify(processRepository, times(1)).findByAccountNo("1001");
+		verify(processRepository, times(1)).findHistory("1001");
 		// accountHistory() metodu getAccount'u sadece 1 kez çağırıyor (başta), sonra toDto kullanıyor
 		verify(accountServiceClient, times(1)).getAccount("1001");
 	}
-}
 
+	@Test
+	@DisplayName("Should record a transfer once and show it from both accounts' point of view")
+	void testTransfer_SingleHistoryEntryForBothAccounts() {
+		// Given
+		TransferRequestDto request = new TransferRequestDto();
+		request.setFromAccountNo("1001");
+		request.setToAccountNo("1002");
+		request.setAmount(new BigDecimal("300.00"));
+		request.setExplanation("Kira");
+
+		TransferResponseDto transfer = new TransferResponseDto();
+		transfer.setTransferId("TRF-1");
+		transfer.setFromAccountNo("1001");
+		transfer.setFromCustomerId(1L);
+		transfer.setToAccountNo("1002");
+		transfer.setToCustomerId(2L);
+		transfer.setAmount(new BigDecimal("300.00"));
+		transfer.setFromPreviousBalance(new BigDecimal("1000.00"));
+		transfer.setFromNewBalance(new BigDecimal("700.00"));
+		transfer.setToPreviousBalance(new BigDecimal("50.00"));
+		transfer.setToNewBalance(new BigDecimal("350.00"));
+		transfer.setTransactionDate(testDate);
+		when(accountServiceClient.transfer(eq("client-key-1"), any(TransferRequestDto.class))).thenReturn(transfer);
+		when(processRepository.save(any(Process.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// When
+		ProcessResponseDto result = processService.transfer(request, "client-key-1");
+
+		// Then - tek kayıt, alacaklanan hesabın geçmişinde kendi bakiyeleriyle
+		assertEquals(TransactionType.TRANSFER, result.getTransactionType());
+		assertEquals("1002", result.getCounterpartyAccountNo());
+		assertEquals(new BigDecimal("700.00"), result.getNewBalance());
+		verify(processRepository, times(1)).save(any(Process.class));
+		verify(accountServiceClient, never()).getAccount(anyString());
+
+		Process saved = new Process();
+		saved.setAccountNo("1001");
+		saved.setCustomerId(1L);
+		saved.setTransactionType(TransactionType.TRANSFER);
+		saved.setAmount(new BigDecimal("300.00"));
+		saved.setPreviousBalance(new BigDecimal("1000.00"));
+		saved.setNewBalance(new BigDecimal("700.00"));
+		saved.setCounterpartyAccountNo("1002");
+		saved.setCounterpartyCustomerId(2L);
+		saved.setCounterpartyPreviousBalance(new BigDecimal("50.00"));
+		saved.setCounterpartyNewBalance(new BigDecimal("350.00"));
+		AccountResponseDto creditedAccount = new AccountResponseDto();
+		creditedAccount.setAccountNo("1002");
+		creditedAccount.setCustomerId(2L);
+		when(accountServiceClient.getAccount("1002")).thenReturn(creditedAccount);
+		when(processRepository.findHistory("1002")).thenReturn(List.of(saved));
+
+		List<ProcessResponseDto> history = processService.accountHistory("1002");
+
+		assertEquals(1, history.size());
+		assertEquals("1002", history.get(0).getNumberOfAccount());
+		assertEquals("1001", history.get(0).getCounterpartyAccountNo());
+		assertEquals(2L, history.get(0).getCustomerId());
+		assertEquals(new BigDecimal("50.00"), history.get(0).getPreviousBalance());
+		assertEquals(new BigDecimal("350.00"), history.get(0).getNewBalance());
+	}
+}